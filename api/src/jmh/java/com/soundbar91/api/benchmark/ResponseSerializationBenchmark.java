@@ -0,0 +1,96 @@
+package com.soundbar91.api.benchmark;
+
+import com.soundbar91.order.api.dto.response.OrderResponse;
+import com.soundbar91.order.api.dto.response.OrderResponseSerializer;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.api.dto.response.PaymentResponse;
+import com.soundbar91.payment.api.dto.response.PaymentResponseSerializer;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.shop.api.dto.response.ShopResponse;
+import com.soundbar91.shop.api.dto.response.ShopResponseSerializer;
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.user.api.dto.response.UserResponse;
+import com.soundbar91.user.api.dto.response.UserResponseSerializer;
+import com.soundbar91.user.domain.vo.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 DTO 직렬화 벤치마크: 리플렉션 기반 기본 경로 vs 스트리밍 직렬화기
+ *
+ * 실행: ./gradlew :api:jmh
+ * 각 타입별로 size개 원소의 목록을 byte[]로 직렬화합니다. (HTTP 메시지 컨버터와 같은 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"order", "payment", "shop", "user"})
+    private String type;
+
+    @Param({"1", "100"})
+    private int size;
+
+    private JsonMapper reflective;
+    private JsonMapper streaming;
+    private List<?> payload;
+
+    @Setup
+    public void setUp() {
+        reflective = JsonMapper.builder().build();
+        streaming = JsonMapper.builder()
+                .addModule(new SimpleModule()
+                        .addSerializer(OrderResponse.class, new OrderResponseSerializer())
+                        .addSerializer(PaymentResponse.class, new PaymentResponseSerializer())
+                        .addSerializer(ShopResponse.class, new ShopResponseSerializer())
+                        .addSerializer(UserResponse.class, new UserResponseSerializer()))
+                .build();
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        payload = IntStream.range(0, size)
+                .mapToObj(i -> create(type, i, base.plusSeconds(random.nextInt(86_400)).plusNanos(random.nextInt(1_000_000) * 1_000L)))
+                .toList();
+    }
+
+    private static Object create(String type, long id, LocalDateTime at) {
+        return switch (type) {
+            case "order" -> new OrderResponse(id, id % 1_000, id % 50, "아메리카노", 2,
+                    BigDecimal.valueOf(900_050, 2), OrderStatus.CONFIRMED, "서울시 강남구 테헤란로 123", at, at);
+            case "payment" -> new PaymentResponse(id, id, id % 1_000, BigDecimal.valueOf(900_050, 2),
+                    PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED, "TX-" + id, null, at, at, at, null);
+            case "shop" -> new ShopResponse(id, "테스트 상점 " + id, ShopCategory.CAFE, "분위기 좋은 카페",
+                    "서울시 마포구 카페로 456", "02-2345-6789", id % 100, true, at, at);
+            case "user" -> new UserResponse(id, "사용자" + id, "user" + id + "@example.com", "010-1234-5678",
+                    UserRole.USER, at, at);
+            default -> throw new IllegalArgumentException("Unknown type: " + type);
+        };
+    }
+
+    @Benchmark
+    public byte[] reflective() {
+        return reflective.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] streaming() {
+        return streaming.writeValueAsBytes(payload);
+    }
+}
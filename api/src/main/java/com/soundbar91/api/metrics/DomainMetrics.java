@@ -0,0 +1,113 @@
+package com.soundbar91.api.metrics;
+
+import com.soundbar91.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 도메인 계층 메트릭 레지스트리
+ *
+ * 호출마다 Timer.builder로 태그를 조립하지 않도록 (domain, layer, operation) 단위로 미터를 캐시합니다.
+ *
+ * - nuga.operation.duration : 서비스/리포지토리 메서드 지연 시간 (tags: domain, layer, operation, outcome)
+ * - nuga.operation.errors   : 예외 발생 횟수 (tags: domain, layer, operation, error_code, exception)
+ * - nuga.event.publish      : 이벤트 발행 (동기 리스너 처리 포함) 시간 (tags: domain, event)
+ * - nuga.event.handle       : 리스너별 이벤트 처리 시간 (tags: domain, event, listener, outcome)
+ */
+public class DomainMetrics {
+
+    public static final String OPERATION_DURATION = "nuga.operation.duration";
+    public static final String OPERATION_ERRORS = "nuga.operation.errors";
+    public static final String EVENT_PUBLISH = "nuga.event.publish";
+    public static final String EVENT_HANDLE = "nuga.event.handle";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_ERROR_CODE = "NONE";
+    private static final String BASE_PACKAGE = "com.soundbar91.";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public DomainMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer operationTimer(String layer, Class<?> type, String method, boolean success) {
+        String outcome = success ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+        return timers.computeIfAbsent(new MeterKey(OPERATION_DURATION, type, method, outcome), key ->
+                histogram(Timer.builder(OPERATION_DURATION))
+                        .tag("domain", domainOf(type))
+                        .tag("layer", layer)
+                        .tag("operation", type.getSimpleName() + "." + method)
+                        .tag("outcome", outcome)
+                        .register(registry));
+    }
+
+    public void recordError(String layer, Class<?> type, String method, Throwable error) {
+        String errorCode = error instanceof BusinessException be ? be.getErrorCode().name() : NO_ERROR_CODE;
+        counters.computeIfAbsent(new MeterKey(OPERATION_ERRORS, type, method, errorCode + "/" + error.getClass().getName()), key ->
+                Counter.builder(OPERATION_ERRORS)
+                        .tag("domain", domainOf(type))
+                        .tag("layer", layer)
+                        .tag("operation", type.getSimpleName() + "." + method)
+                        .tag("error_code", errorCode)
+                        .tag("exception", error.getClass().getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+
+    public Timer publishTimer(Class<?> eventType) {
+        return timers.computeIfAbsent(new MeterKey(EVENT_PUBLISH, eventType, "", ""), key ->
+                histogram(Timer.builder(EVENT_PUBLISH))
+                        .tag("domain", domainOf(eventType))
+                        .tag("event", eventType.getSimpleName())
+                        .register(registry));
+    }
+
+    public Timer handleTimer(Class<?> eventType, String listener, boolean success) {
+        String outcome = success ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+        return timers.computeIfAbsent(new MeterKey(EVENT_HANDLE, eventType, listener, outcome), key ->
+                histogram(Timer.builder(EVENT_HANDLE))
+                        .tag("domain", domainOf(eventType))
+                        .tag("event", eventType.getSimpleName())
+                        .tag("listener", listener)
+                        .tag("outcome", outcome)
+                        .register(registry));
+    }
+
+    /**
+     * 패키지 이름에서 도메인 태그를 추출
+     * com.soundbar91.order.service → order
+     */
+    static String domainOf(Class<?> type) {
+        String packageName = type.getPackageName();
+        if (!packageName.startsWith(BASE_PACKAGE)) {
+            return "unknown";
+        }
+        return packageName.substring(BASE_PACKAGE.length()).split("\\.")[0];
+    }
+
+    static boolean isDomainType(Class<?> type) {
+        return type.getName().startsWith(BASE_PACKAGE);
+    }
+
+    private static Timer.Builder histogram(Timer.Builder builder) {
+        return builder
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED);
+    }
+
+    private record MeterKey(String name, Class<?> type, String operation, String qualifier) {
+    }
+}
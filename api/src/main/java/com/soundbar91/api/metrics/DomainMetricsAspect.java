@@ -0,0 +1,52 @@
+package com.soundbar91.api.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 서비스와 리포지토리 구현체의 public 메서드 실행 시간을 기록하는 Aspect
+ * 이벤트 리스너는 InstrumentedEventMulticaster에서 이벤트 타입별로 측정합니다.
+ */
+@Aspect
+public class DomainMetricsAspect {
+
+    static final String LAYER_SERVICE = "service";
+    static final String LAYER_REPOSITORY = "repository";
+
+    private final DomainMetrics metrics;
+
+    public DomainMetricsAspect(DomainMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Around("execution(public * com.soundbar91..service.*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(LAYER_SERVICE, joinPoint);
+    }
+
+    @Around("execution(public * com.soundbar91..repository.*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(LAYER_REPOSITORY, joinPoint);
+    }
+
+    private Object record(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = AopUtils.getTargetClass(joinPoint.getTarget());
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } catch (Throwable e) {
+            metrics.recordError(layer, type, method, e);
+            throw e;
+        } finally {
+            metrics.operationTimer(layer, type, method, success).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.soundbar91.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * 도메인 메트릭 설정
+ * nuga.metrics.enabled=false 로 비활성화할 수 있습니다. (기본값: 활성화)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "nuga.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DomainMetricsConfig {
+
+    @Bean
+    public DomainMetrics domainMetrics(MeterRegistry meterRegistry) {
+        return new DomainMetrics(meterRegistry);
+    }
+
+    @Bean
+    public DomainMetricsAspect domainMetricsAspect(DomainMetrics domainMetrics) {
+        return new DomainMetricsAspect(domainMetrics);
+    }
+
+    /**
+     * 컨텍스트가 기본 멀티캐스터 대신 사용하도록 정해진 이름으로 등록
+     * 다른 빈보다 먼저 생성되므로 설정 클래스 인스턴스를 끌어오지 않게 static으로 선언합니다.
+     */
+    @Bean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public static InstrumentedEventMulticaster applicationEventMulticaster(ObjectProvider<DomainMetrics> domainMetrics) {
+        return new InstrumentedEventMulticaster(domainMetrics);
+    }
+}
@@ -0,0 +1,96 @@
+package com.soundbar91.api.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 이벤트의 발행/처리 시간을 기록하는 이벤트 멀티캐스터
+ *
+ * com.soundbar91 패키지의 페이로드 이벤트(OrderCreatedEvent 등)만 측정하고,
+ * 프레임워크 이벤트는 그대로 전달합니다.
+ * 컨텍스트 초기화 초기에 생성되므로 DomainMetrics는 첫 도메인 이벤트 시점에 조회합니다.
+ */
+public class InstrumentedEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final ObjectProvider<DomainMetrics> metricsProvider;
+    private volatile DomainMetrics metrics;
+
+    public InstrumentedEventMulticaster(ObjectProvider<DomainMetrics> metricsProvider) {
+        this.metricsProvider = metricsProvider;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        Class<?> domainEventType = domainEventType(event);
+        DomainMetrics metrics = domainEventType != null ? metrics() : null;
+        if (metrics == null) {
+            super.multicastEvent(event, eventType);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.multicastEvent(event, eventType);
+        } finally {
+            metrics.publishTimer(domainEventType).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+        Class<?> domainEventType = domainEventType(event);
+        DomainMetrics metrics = domainEventType != null ? metrics() : null;
+        if (metrics == null) {
+            super.invokeListener(listener, event);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            super.invokeListener(listener, event);
+            success = true;
+        } finally {
+            metrics.handleTimer(domainEventType, listenerName(listener), success)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private DomainMetrics metrics() {
+        DomainMetrics current = metrics;
+        if (current == null) {
+            current = metricsProvider.getIfAvailable();
+            metrics = current;
+        }
+        return current;
+    }
+
+    private static Class<?> domainEventType(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                && DomainMetrics.isDomainType(payloadEvent.getPayload().getClass())) {
+            return payloadEvent.getPayload().getClass();
+        }
+        return null;
+    }
+
+    /**
+     * @EventListener 메서드는 "ShopEventListener.handleShopCreatedEvent" 형태로 표시
+     */
+    private static String listenerName(ApplicationListener<?> listener) {
+        if (listener instanceof SmartApplicationListener smartListener && !smartListener.getListenerId().isEmpty()) {
+            String id = smartListener.getListenerId();
+            int paramsStart = id.indexOf('(');
+            String qualified = paramsStart > 0 ? id.substring(0, paramsStart) : id;
+            int methodStart = qualified.lastIndexOf('.');
+            int classStart = qualified.lastIndexOf('.', methodStart - 1);
+            return qualified.substring(classStart + 1);
+        }
+        return ClassUtils.getUserClass(listener).getSimpleName();
+    }
+}
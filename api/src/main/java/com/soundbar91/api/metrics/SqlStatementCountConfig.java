@@ -0,0 +1,21 @@
+package com.soundbar91.api.metrics;
+
+import com.soundbar91.datasource.statement.StatementCountProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계 설정
+ * datasource.statement-count.enabled=true 일 때만 활성화됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.statement-count", name = "enabled", havingValue = "true")
+public class SqlStatementCountConfig {
+
+    @Bean
+    public SqlStatementCountFilter sqlStatementCountFilter(StatementCountProperties properties, MeterRegistry meterRegistry) {
+        return new SqlStatementCountFilter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.soundbar91.api.metrics;
+
+import com.soundbar91.datasource.statement.SqlStatementCounter;
+import com.soundbar91.datasource.statement.StatementCountProperties;
+import com.soundbar91.datasource.statement.StatementCounts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계 필터
+ *
+ * sample-rate 비율의 요청만 집계하며, 집계한 요청은 URI 패턴별 분포(datasource.statements.per.request)로 기록하고
+ * warn-threshold를 넘으면 N+1 의심 요청으로 WARN 로그를 남깁니다.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    static final String STATEMENTS_PER_REQUEST = "datasource.statements.per.request";
+
+    private final StatementCountProperties properties;
+    private final MeterRegistry meterRegistry;
+    // (method, uri) 별 DistributionSummary 캐시: 요청마다 빌더로 레지스트리를 조회하지 않음
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlStatementCountFilter(StatementCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (properties.sampleRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            filterChain.doFilter(request, response);
+            record(request, scope.counts());
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        summaries.computeIfAbsent(method + ' ' + uri, key -> DistributionSummary.builder(STATEMENTS_PER_REQUEST)
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(counts.total());
+        if (counts.total() > properties.warnThreshold()) {
+            log.warn("[SQL] 요청당 SQL 실행 횟수 초과 - {} {}, threshold: {}, {}",
+                    method, request.getRequestURI(), properties.warnThreshold(), counts);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.soundbar91.api.order.controller;
 
-import com.soundbar91.domain.order.entity.Order;
-import com.soundbar91.domain.order.service.OrderService;
 import com.soundbar91.api.order.dto.request.CreateOrderRequest;
 import com.soundbar91.api.order.dto.response.OrderResponse;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.service.OrderService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,6 +12,8 @@ import java.util.stream.Collectors;
 
 /**
  * 주문 API Controller
+ *
+ * v1 경로와 응답 형식을 유지하면서 주문 도메인 모듈의 OrderService(/api/v2/orders와 같은 서비스)로 처리합니다.
  */
 @RestController
 @RequestMapping("/api/orders")
@@ -1,7 +1,7 @@
 package com.soundbar91.api.order.dto.response;
 
-import com.soundbar91.domain.order.entity.Order;
-import com.soundbar91.domain.order.vo.OrderStatus;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -1,10 +1,11 @@
 package com.soundbar91.api.shop.controller;
 
-import com.soundbar91.domain.shop.entity.Shop;
-import com.soundbar91.domain.shop.service.ShopService;
+import com.soundbar91.api.shop.dto.LegacyShopCategory;
 import com.soundbar91.api.shop.dto.request.CreateShopRequest;
 import com.soundbar91.api.shop.dto.request.UpdateShopRequest;
 import com.soundbar91.api.shop.dto.response.ShopResponse;
+import com.soundbar91.shop.domain.entity.Shop;
+import com.soundbar91.shop.service.ShopService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +14,9 @@ import java.util.stream.Collectors;
 
 /**
  * 상점 API Controller
+ *
+ * v1 경로와 응답 형식을 유지하면서 상점 도메인 모듈의 ShopService(/api/v2/shops와 같은 서비스)로 처리합니다.
+ * 카테고리는 LegacyShopCategory로 변환합니다.
  */
 @RestController
 @RequestMapping("/api/shops")
@@ -32,7 +36,7 @@ public class ShopController {
     public ShopResponse createShop(@RequestBody CreateShopRequest request) {
         Shop shop = shopService.createShop(
                 request.getName(),
-                request.getCategory(),
+                LegacyShopCategory.toDomain(request.getCategory()),
                 request.getDescription(),
                 request.getAddress(),
                 request.getPhoneNumber(),
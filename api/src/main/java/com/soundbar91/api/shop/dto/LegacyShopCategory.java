@@ -0,0 +1,49 @@
+package com.soundbar91.api.shop.dto;
+
+import com.soundbar91.shop.domain.vo.ShopCategory;
+
+/**
+ * v1 API 상점 카테고리
+ *
+ * v1 클라이언트가 주고받던 값을 유지하면서 상점 도메인의 ShopCategory로 변환합니다.
+ * 같은 카테고리의 v1 이름인 FOOD만 RESTAURANT로 바꿔 저장하고(기존 데이터는 V3_8 마이그레이션으로 변환) FOOD로 응답하며,
+ * 나머지는 같은 이름으로 주고받습니다.
+ */
+public enum LegacyShopCategory {
+    FOOD(ShopCategory.RESTAURANT),
+    CAFE(ShopCategory.CAFE),
+    RETAIL(ShopCategory.RETAIL),
+    SERVICE(ShopCategory.SERVICE),
+    ENTERTAINMENT(ShopCategory.ENTERTAINMENT),
+    FASHION(ShopCategory.FASHION),
+    ELECTRONICS(ShopCategory.ELECTRONICS),
+    GROCERY(ShopCategory.GROCERY),
+    OTHER(ShopCategory.OTHER);
+
+    private final ShopCategory category;
+
+    LegacyShopCategory(ShopCategory category) {
+        this.category = category;
+    }
+
+    public static ShopCategory toDomain(LegacyShopCategory legacy) {
+        return legacy == null ? null : legacy.category;
+    }
+
+    public static LegacyShopCategory from(ShopCategory category) {
+        if (category == null) {
+            return null;
+        }
+        return switch (category) {
+            case RESTAURANT -> FOOD;
+            case CAFE -> CAFE;
+            case RETAIL -> RETAIL;
+            case FASHION -> FASHION;
+            case ELECTRONICS -> ELECTRONICS;
+            case GROCERY -> GROCERY;
+            case SERVICE -> SERVICE;
+            case ENTERTAINMENT -> ENTERTAINMENT;
+            case OTHER -> OTHER;
+        };
+    }
+}
@@ -1,6 +1,6 @@
 package com.soundbar91.api.shop.dto.request;
 
-import com.soundbar91.domain.shop.vo.ShopCategory;
+import com.soundbar91.api.shop.dto.LegacyShopCategory;
 
 /**
  * 상점 생성 요청 DTO
@@ -8,7 +8,7 @@ import com.soundbar91.domain.shop.vo.ShopCategory;
 public class CreateShopRequest {
 
     private String name;
-    private ShopCategory category;
+    private LegacyShopCategory category;
     private String description;
     private String address;
     private String phoneNumber;
@@ -17,7 +17,7 @@ public class CreateShopRequest {
     public CreateShopRequest() {
     }
 
-    public CreateShopRequest(String name, ShopCategory category, String description, String address, String phoneNumber, Long ownerId) {
+    public CreateShopRequest(String name, LegacyShopCategory category, String description, String address, String phoneNumber, Long ownerId) {
         this.name = name;
         this.category = category;
         this.description = description;
@@ -34,11 +34,11 @@ public class CreateShopRequest {
         this.name = name;
     }
 
-    public ShopCategory getCategory() {
+    public LegacyShopCategory getCategory() {
         return category;
     }
 
-    public void setCategory(ShopCategory category) {
+    public void setCategory(LegacyShopCategory category) {
         this.category = category;
     }
 
@@ -1,7 +1,7 @@
 package com.soundbar91.api.shop.dto.response;
 
-import com.soundbar91.domain.shop.entity.Shop;
-import com.soundbar91.domain.shop.vo.ShopCategory;
+import com.soundbar91.api.shop.dto.LegacyShopCategory;
+import com.soundbar91.shop.domain.entity.Shop;
 
 import java.time.LocalDateTime;
 
@@ -12,7 +12,7 @@ public class ShopResponse {
 
     private Long id;
     private String name;
-    private ShopCategory category;
+    private LegacyShopCategory category;
     private String description;
     private String address;
     private String phoneNumber;
@@ -24,7 +24,7 @@ public class ShopResponse {
     public ShopResponse() {
     }
 
-    public ShopResponse(Long id, String name, ShopCategory category, String description, String address, String phoneNumber, Long ownerId, Boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public ShopResponse(Long id, String name, LegacyShopCategory category, String description, String address, String phoneNumber, Long ownerId, Boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.category = category;
@@ -41,7 +41,7 @@ public class ShopResponse {
         return new ShopResponse(
                 shop.getId(),
                 shop.getName(),
-                shop.getCategory(),
+                LegacyShopCategory.from(shop.getCategory()),
                 shop.getDescription(),
                 shop.getAddress(),
                 shop.getPhoneNumber(),
@@ -69,11 +69,11 @@ public class ShopResponse {
         this.name = name;
     }
 
-    public ShopCategory getCategory() {
+    public LegacyShopCategory getCategory() {
         return category;
     }
 
-    public void setCategory(ShopCategory category) {
+    public void setCategory(LegacyShopCategory category) {
         this.category = category;
     }
 
@@ -1,10 +1,11 @@
 package com.soundbar91.api.user.controller;
 
-import com.soundbar91.domain.user.entity.User;
-import com.soundbar91.domain.user.service.UserService;
+import com.soundbar91.api.user.dto.LegacyUserRole;
 import com.soundbar91.api.user.dto.request.CreateUserRequest;
 import com.soundbar91.api.user.dto.request.UpdateUserRequest;
 import com.soundbar91.api.user.dto.response.UserResponse;
+import com.soundbar91.user.domain.entity.User;
+import com.soundbar91.user.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +14,9 @@ import java.util.stream.Collectors;
 
 /**
  * 사용자 API Controller
+ *
+ * v1 경로와 응답 형식을 유지하면서 사용자 도메인 모듈의 UserService(/api/v2/users와 같은 서비스)로 처리합니다.
+ * 역할은 LegacyUserRole로 변환합니다.
  */
 @RestController
 @RequestMapping("/api/users")
@@ -34,7 +38,7 @@ public class UserController {
                 request.getName(),
                 request.getEmail(),
                 request.getPhoneNumber(),
-                request.getRole()
+                LegacyUserRole.toDomain(request.getRole())
         );
         return UserResponse.from(user);
     }
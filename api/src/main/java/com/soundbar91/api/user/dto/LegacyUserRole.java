@@ -0,0 +1,38 @@
+package com.soundbar91.api.user.dto;
+
+import com.soundbar91.user.domain.vo.UserRole;
+
+/**
+ * v1 API 사용자 역할
+ *
+ * v1 클라이언트가 주고받던 값을 유지하면서 사용자 도메인의 UserRole로 변환합니다.
+ * 모든 v1 역할이 도메인에 같은 이름으로 있으므로 권한을 바꾸지 않고 그대로 주고받습니다.
+ */
+public enum LegacyUserRole {
+    USER(UserRole.USER),
+    ADMIN(UserRole.ADMIN),
+    MANAGER(UserRole.MANAGER),
+    SELLER(UserRole.SELLER);
+
+    private final UserRole role;
+
+    LegacyUserRole(UserRole role) {
+        this.role = role;
+    }
+
+    public static UserRole toDomain(LegacyUserRole legacy) {
+        return legacy == null ? null : legacy.role;
+    }
+
+    public static LegacyUserRole from(UserRole role) {
+        if (role == null) {
+            return null;
+        }
+        return switch (role) {
+            case ADMIN -> ADMIN;
+            case USER -> USER;
+            case SELLER -> SELLER;
+            case MANAGER -> MANAGER;
+        };
+    }
+}
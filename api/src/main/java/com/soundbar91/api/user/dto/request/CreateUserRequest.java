@@ -1,6 +1,6 @@
 package com.soundbar91.api.user.dto.request;
 
-import com.soundbar91.domain.user.vo.UserRole;
+import com.soundbar91.api.user.dto.LegacyUserRole;
 
 /**
  * 사용자 생성 요청 DTO
@@ -10,12 +10,12 @@ public class CreateUserRequest {
     private String name;
     private String email;
     private String phoneNumber;
-    private UserRole role;
+    private LegacyUserRole role;
 
     public CreateUserRequest() {
     }
 
-    public CreateUserRequest(String name, String email, String phoneNumber, UserRole role) {
+    public CreateUserRequest(String name, String email, String phoneNumber, LegacyUserRole role) {
         this.name = name;
         this.email = email;
         this.phoneNumber = phoneNumber;
@@ -46,11 +46,11 @@ public class CreateUserRequest {
         this.phoneNumber = phoneNumber;
     }
 
-    public UserRole getRole() {
+    public LegacyUserRole getRole() {
         return role;
     }
 
-    public void setRole(UserRole role) {
+    public void setRole(LegacyUserRole role) {
         this.role = role;
     }
 }
@@ -1,7 +1,7 @@
 package com.soundbar91.api.user.dto.response;
 
-import com.soundbar91.domain.user.entity.User;
-import com.soundbar91.domain.user.vo.UserRole;
+import com.soundbar91.api.user.dto.LegacyUserRole;
+import com.soundbar91.user.domain.entity.User;
 
 import java.time.LocalDateTime;
 
@@ -14,14 +14,14 @@ public class UserResponse {
     private String name;
     private String email;
     private String phoneNumber;
-    private UserRole role;
+    private LegacyUserRole role;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public UserResponse() {
     }
 
-    public UserResponse(Long id, String name, String email, String phoneNumber, UserRole role, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public UserResponse(Long id, String name, String email, String phoneNumber, LegacyUserRole role, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.email = email;
@@ -37,7 +37,7 @@ public class UserResponse {
                 user.getName(),
                 user.getEmail(),
                 user.getPhoneNumber(),
-                user.getRole(),
+                LegacyUserRole.from(user.getRole()),
                 user.getCreatedAt(),
                 user.getUpdatedAt()
         );
@@ -75,11 +75,11 @@ public class UserResponse {
         this.phoneNumber = phoneNumber;
     }
 
-    public UserRole getRole() {
+    public LegacyUserRole getRole() {
         return role;
     }
 
-    public void setRole(UserRole role) {
+    public void setRole(LegacyUserRole role) {
         this.role = role;
     }
 
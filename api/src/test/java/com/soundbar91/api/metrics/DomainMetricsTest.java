@@ -0,0 +1,133 @@
+package com.soundbar91.api.metrics;
+
+import com.soundbar91.api.metrics.fixture.service.SampleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DomainMetrics 테스트")
+class DomainMetricsTest {
+
+    private MeterRegistry registry;
+    private DomainMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new DomainMetrics(registry);
+    }
+
+    @Nested
+    @DisplayName("DomainMetricsAspect")
+    class Aspect {
+
+        private SampleService proxy() {
+            AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+            factory.setProxyTargetClass(true);
+            factory.addAspect(new DomainMetricsAspect(metrics));
+            return factory.getProxy();
+        }
+
+        @Test
+        @DisplayName("서비스 메서드 실행 시간을 operation 태그와 함께 기록한다")
+        void service_RecordsLatency() {
+            // given
+            SampleService service = proxy();
+
+            // when
+            service.find(1L);
+            service.find(2L);
+
+            // then
+            Timer timer = registry.find(DomainMetrics.OPERATION_DURATION)
+                    .tags("layer", "service", "operation", "SampleService.find", "outcome", "success")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("BusinessException 발생 시 ErrorCode별 에러 카운터를 증가시킨다")
+        void service_BusinessException_CountsByErrorCode() {
+            // given
+            SampleService service = proxy();
+
+            // when & then
+            assertThatThrownBy(() -> service.find(null)).hasMessage("없음");
+            assertThat(registry.get(DomainMetrics.OPERATION_ERRORS)
+                    .tags("operation", "SampleService.find", "error_code", "NOT_FOUND")
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(DomainMetrics.OPERATION_DURATION)
+                    .tags("outcome", "error")
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("InstrumentedEventMulticaster")
+    class Multicaster {
+
+        record SampleEvent(Long id) {
+        }
+
+        @Test
+        @DisplayName("도메인 이벤트의 발행 및 리스너 처리 시간을 이벤트 타입별로 기록한다")
+        void multicast_DomainEvent_RecordsPublishAndHandle() {
+            // given
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+            beanFactory.addBean("domainMetrics", metrics);
+            InstrumentedEventMulticaster multicaster =
+                    new InstrumentedEventMulticaster(beanFactory.getBeanProvider(DomainMetrics.class));
+            multicaster.addApplicationListener((ApplicationListener<PayloadApplicationEvent<SampleEvent>>) event -> { });
+
+            // when
+            multicaster.multicastEvent(new PayloadApplicationEvent<>(this, new SampleEvent(1L)));
+
+            // then
+            assertThat(registry.get(DomainMetrics.EVENT_PUBLISH)
+                    .tags("domain", "api", "event", "SampleEvent")
+                    .timer().count()).isEqualTo(1);
+            assertThat(registry.get(DomainMetrics.EVENT_HANDLE)
+                    .tags("event", "SampleEvent", "outcome", "success")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("프레임워크 이벤트는 측정하지 않는다")
+        void multicast_FrameworkEvent_NotRecorded() {
+            // given
+            InstrumentedEventMulticaster multicaster =
+                    new InstrumentedEventMulticaster(new StaticListableBeanFactory().getBeanProvider(DomainMetrics.class));
+
+            // when
+            multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "plain string"));
+
+            // then
+            assertThat(registry.find(DomainMetrics.EVENT_PUBLISH).timers()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("domainOf 메서드")
+    class DomainOf {
+
+        @Test
+        @DisplayName("패키지 이름에서 도메인을 추출한다")
+        void domainOf_ExtractsDomainFromPackage() {
+            assertThat(DomainMetrics.domainOf(com.soundbar91.order.service.OrderService.class)).isEqualTo("order");
+            assertThat(DomainMetrics.domainOf(com.soundbar91.user.service.UserService.class)).isEqualTo("user");
+            assertThat(DomainMetrics.domainOf(String.class)).isEqualTo("unknown");
+        }
+    }
+}
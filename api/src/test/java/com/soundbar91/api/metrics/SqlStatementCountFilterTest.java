@@ -0,0 +1,50 @@
+package com.soundbar91.api.metrics;
+
+import com.soundbar91.datasource.statement.StatementCountProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementCountFilter 테스트")
+class SqlStatementCountFilterTest {
+
+    private MeterRegistry registry;
+    private SqlStatementCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new SqlStatementCountFilter(new StatementCountProperties(true, 1.0, 20), registry);
+    }
+
+    private void request(String method, String pattern) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v2/orders/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    @DisplayName("같은 method, URI 패턴의 요청은 하나의 분포에 누적한다")
+    void sameTags_ReusesSummary() throws Exception {
+        // when
+        request("GET", "/api/v2/orders/{id}");
+        request("GET", "/api/v2/orders/{id}");
+        request("DELETE", "/api/v2/orders/{id}");
+
+        // then
+        DistributionSummary get = registry.get(SqlStatementCountFilter.STATEMENTS_PER_REQUEST)
+                .tags("method", "GET", "uri", "/api/v2/orders/{id}")
+                .summary();
+        assertThat(get.count()).isEqualTo(2);
+        assertThat(registry.get(SqlStatementCountFilter.STATEMENTS_PER_REQUEST).summaries()).hasSize(2);
+    }
+}
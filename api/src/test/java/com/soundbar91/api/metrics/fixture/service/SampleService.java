@@ -0,0 +1,13 @@
+package com.soundbar91.api.metrics.fixture.service;
+
+import com.soundbar91.common.exception.NotFoundException;
+
+public class SampleService {
+
+    public String find(Long id) {
+        if (id == null) {
+            throw new NotFoundException("없음");
+        }
+        return "sample-" + id;
+    }
+}
@@ -0,0 +1,38 @@
+package com.soundbar91.api.shop.dto;
+
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LegacyShopCategory 테스트")
+class LegacyShopCategoryTest {
+
+    @Test
+    @DisplayName("도메인 카테고리는 v1 값으로 응답했다가 같은 카테고리로 다시 변환된다")
+    void from_AndToDomain_RoundTrip() {
+        for (ShopCategory category : ShopCategory.values()) {
+            assertThat(LegacyShopCategory.toDomain(LegacyShopCategory.from(category))).isEqualTo(category);
+        }
+        assertThat(LegacyShopCategory.toDomain(null)).isNull();
+        assertThat(LegacyShopCategory.from(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("FOOD는 RESTAURANT로, RESTAURANT는 FOOD로 주고받는다")
+    void food_MapsToRestaurant() {
+        assertThat(LegacyShopCategory.toDomain(LegacyShopCategory.FOOD)).isEqualTo(ShopCategory.RESTAURANT);
+        assertThat(LegacyShopCategory.from(ShopCategory.RESTAURANT)).isEqualTo(LegacyShopCategory.FOOD);
+    }
+
+    @Test
+    @DisplayName("v1 카테고리는 도메인 카테고리로 변환했다가 같은 v1 카테고리로 응답한다")
+    void toDomain_AndFrom_RoundTripsLegacyCategories() {
+        for (LegacyShopCategory legacy : LegacyShopCategory.values()) {
+            assertThat(LegacyShopCategory.from(LegacyShopCategory.toDomain(legacy))).isEqualTo(legacy);
+        }
+        assertThat(LegacyShopCategory.toDomain(LegacyShopCategory.SERVICE)).isEqualTo(ShopCategory.SERVICE);
+        assertThat(LegacyShopCategory.toDomain(LegacyShopCategory.ENTERTAINMENT)).isEqualTo(ShopCategory.ENTERTAINMENT);
+    }
+}
@@ -0,0 +1,29 @@
+package com.soundbar91.api.user.dto;
+
+import com.soundbar91.user.domain.vo.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LegacyUserRole 테스트")
+class LegacyUserRoleTest {
+
+    @Test
+    @DisplayName("도메인 역할과 같은 이름으로 주고받는다")
+    void toDomain_AndFrom_RoundTrip() {
+        for (UserRole role : UserRole.values()) {
+            assertThat(LegacyUserRole.toDomain(LegacyUserRole.from(role))).isEqualTo(role);
+        }
+        assertThat(LegacyUserRole.toDomain(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("v1 역할은 도메인 역할로 변환했다가 같은 v1 역할로 응답한다")
+    void fromToDomain_RoundTripsLegacyRoles() {
+        for (LegacyUserRole legacy : LegacyUserRole.values()) {
+            assertThat(LegacyUserRole.from(LegacyUserRole.toDomain(legacy))).isEqualTo(legacy);
+        }
+        assertThat(LegacyUserRole.toDomain(LegacyUserRole.MANAGER)).isEqualTo(UserRole.MANAGER);
+    }
+}
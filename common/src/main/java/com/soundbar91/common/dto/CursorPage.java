@@ -0,0 +1,45 @@
+package com.soundbar91.common.dto;
+
+import com.soundbar91.common.constant.AppConstants;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이징 응답 DTO
+ *
+ * 전체 건수를 세지 않고, 마지막 행의 정렬 키를 nextCursor로 전달해 다음 페이지를 이어서 조회합니다.
+ * 다음 페이지가 없으면 nextCursor는 null입니다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지가 있는 것으로 판단)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, size, null, false);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorPage<>(List.copyOf(content), size, cursorOf.apply(content.get(size - 1)), true);
+    }
+
+    /**
+     * 요청 페이지 크기 보정 (기본 20, 최대 100)
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size < AppConstants.MIN_PAGE_SIZE) {
+            return AppConstants.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, AppConstants.MAX_PAGE_SIZE);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), size, nextCursor, hasNext);
+    }
+}
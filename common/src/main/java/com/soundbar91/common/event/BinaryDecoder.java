@@ -0,0 +1,100 @@
+package com.soundbar91.common.event;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * BinaryEncoder로 기록한 이벤트 페이로드 디코더
+ *
+ * 주어진 ByteBuffer의 현재 위치부터 읽으며, 버퍼 위치를 읽은 만큼 이동시킵니다.
+ */
+public final class BinaryDecoder {
+
+    private final ByteBuffer buffer;
+
+    public BinaryDecoder(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    public int readByte() {
+        return buffer.get();
+    }
+
+    public boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public long readLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readInt() {
+        return Math.toIntExact(readLong());
+    }
+
+    public Long readNullableLong() {
+        return buffer.get() == 0 ? null : readLong();
+    }
+
+    public String readString() {
+        long length = readUnsignedVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = Math.toIntExact(length - 1);
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), size, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + size);
+            return value;
+        }
+        byte[] bytes = new byte[size];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public BigDecimal readDecimal() {
+        return switch (buffer.get()) {
+            case 0 -> null;
+            case 1 -> {
+                int scale = readInt();
+                yield BigDecimal.valueOf(readLong(), scale);
+            }
+            case 2 -> new BigDecimal(readString());
+            default -> throw new IllegalStateException("알 수 없는 decimal 형식입니다. position: " + (buffer.position() - 1));
+        };
+    }
+
+    public LocalDateTime readDateTime() {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        long micros = readLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 varint 입니다. position: " + buffer.position());
+    }
+}
@@ -0,0 +1,142 @@
+package com.soundbar91.common.event;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 이벤트 페이로드 바이너리 인코더
+ *
+ * 정수는 ZigZag 가변 길이(varint)로, 문자열은 길이 접두 UTF-8로 기록합니다.
+ * null 허용 값은 길이/존재 표시를 함께 기록하므로 BinaryDecoder의 같은 이름 메서드로 읽어야 합니다.
+ * 버퍼를 재사용하도록 설계되어 스레드 간에 공유하지 않습니다.
+ */
+public final class BinaryEncoder {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEncoder() {
+        this(256);
+    }
+
+    public BinaryEncoder(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public BinaryEncoder reset() {
+        position = 0;
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] array() {
+        return buffer;
+    }
+
+    public void writeTo(ByteBuffer target) {
+        target.put(buffer, 0, position);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public BinaryEncoder writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEncoder writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public BinaryEncoder writeLong(long value) {
+        return writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEncoder writeInt(int value) {
+        return writeLong(value);
+    }
+
+    /**
+     * null이면 0, 아니면 1 다음에 값을 기록
+     */
+    public BinaryEncoder writeNullableLong(Long value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        return writeLong(value);
+    }
+
+    /**
+     * 길이 + 1을 먼저 기록하며 null은 길이 0으로 표현
+     */
+    public BinaryEncoder writeString(String value) {
+        if (value == null) {
+            return writeUnsignedVarLong(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    /**
+     * scale과 unscaled 값을 기록 (unscaled 값이 long 범위를 넘으면 문자열로 기록)
+     */
+    public BinaryEncoder writeDecimal(BigDecimal value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        if (value.unscaledValue().bitLength() < Long.SIZE) {
+            writeByte(1);
+            writeInt(value.scale());
+            return writeLong(value.unscaledValue().longValueExact());
+        }
+        writeByte(2);
+        return writeString(value.toPlainString());
+    }
+
+    /**
+     * UTC 기준 epoch 마이크로초로 기록
+     */
+    public BinaryEncoder writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        return writeLong(seconds * 1_000_000L + value.getNano() / 1_000);
+    }
+
+    public <E extends Enum<E>> BinaryEncoder writeEnum(E value) {
+        return writeString(value == null ? null : value.name());
+    }
+
+    private BinaryEncoder writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
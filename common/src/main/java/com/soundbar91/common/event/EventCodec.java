@@ -0,0 +1,29 @@
+package com.soundbar91.common.event;
+
+/**
+ * 도메인 이벤트 바이너리 코덱
+ *
+ * 이벤트 저널이 이벤트를 타입 ID와 압축된 바이너리 페이로드로 기록하고 다시 복원할 때 사용합니다.
+ * 타입 ID는 저널 파일에 영구히 남으므로 한 번 정한 값은 바꾸지 않고,
+ * 필드를 추가할 때는 페이로드 끝에 덧붙여 이전 레코드도 읽을 수 있게 유지합니다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface EventCodec<T> {
+
+    /**
+     * 저널 레코드 헤더에 기록되는 이벤트 타입 ID (1 ~ 32767)
+     */
+    int typeId();
+
+    Class<T> eventType();
+
+    /**
+     * 이벤트가 속한 집합체 ID (재생 시 같은 값의 이벤트는 같은 파티션에서 순서대로 처리)
+     */
+    long aggregateId(T event);
+
+    void encode(T event, BinaryEncoder out);
+
+    T decode(BinaryDecoder in);
+}
@@ -0,0 +1,11 @@
+package com.soundbar91.common.event;
+
+/**
+ * 재생 대상 이벤트
+ *
+ * @param position    이 이벤트까지 처리했을 때 저장할 체크포인트 위치
+ * @param aggregateId 파티션 키 (주문/결제 이벤트는 주문 ID)
+ * @param event       도메인 이벤트 객체 (null이면 처리 없이 위치만 전진시키는 표시)
+ */
+public record ReplayEvent(long position, long aggregateId, Object event) {
+}
@@ -0,0 +1,25 @@
+package com.soundbar91.common.event;
+
+import java.util.List;
+
+/**
+ * 재생할 과거 도메인 이벤트 공급자
+ *
+ * 이벤트 저널을 읽거나 orders/payments 같은 원천 테이블에서 이벤트를 다시 만들어 냅니다.
+ * 위치(position)는 소스마다 의미가 다르지만(저널 오프셋, 행 ID) 단조 증가해야 하며,
+ * 재생 엔진은 배치를 모두 처리한 뒤 마지막 이벤트의 위치를 체크포인트로 저장하고 거기서부터 이어 읽습니다.
+ */
+public interface ReplaySource {
+
+    /**
+     * 체크포인트 키로 사용하는 소스 이름
+     */
+    String name();
+
+    /**
+     * position 이후의 이벤트를 순서대로 읽음 (더 없으면 빈 목록)
+     * 한 원천 행에서 나온 이벤트들은 같은 위치를 가지며 배치 경계에서 나뉘지 않습니다.
+     * 읽은 범위에 재생할 이벤트가 하나도 없으면 event가 null인 위치 표시를 반환해 빈 목록(끝)과 구분합니다.
+     */
+    List<ReplayEvent> read(long position, int limit);
+}
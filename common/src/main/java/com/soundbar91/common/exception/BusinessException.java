@@ -2,27 +2,41 @@ package com.soundbar91.common.exception;
 
 /**
  * 비즈니스 로직 예외
+ *
+ * 흐름 제어용 예외이므로 기본적으로 스택 트레이스를 기록하지 않습니다(생성 비용 절감).
+ * 디버깅이 필요하면 web.error.stack-trace=true 또는 -Dnuga.exception.stack-trace=true로 켭니다.
  */
 public class BusinessException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = Boolean.getBoolean("nuga.exception.stack-trace");
+
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), null);
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
-        this.errorCode = errorCode;
+        this(errorCode, message, null);
     }
 
     public BusinessException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, stackTraceEnabled);
         this.errorCode = errorCode;
     }
 
     public ErrorCode getErrorCode() {
         return errorCode;
     }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * 이후 생성되는 비즈니스 예외의 스택 트레이스 기록 여부 설정
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
 }
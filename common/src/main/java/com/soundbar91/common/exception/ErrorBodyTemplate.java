@@ -0,0 +1,149 @@
+package com.soundbar91.common.exception;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode별로 미리 직렬화한 JSON 에러 응답 본문
+ *
+ * {"status":404,"code":"E002","error":"Not Found","message":"...","path":"...","timestamp":"..."}
+ * 고정 부분과 기본 메시지는 바이트 배열로 한 번만 만들어 두고, 요청마다 메시지(기본값과 다를 때)와
+ * 경로만 이스케이프해 이어 붙입니다. timestamp는 초 단위로 캐시합니다.
+ */
+public final class ErrorBodyTemplate {
+
+    private static final Map<ErrorCode, ErrorBodyTemplate> TEMPLATES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            TEMPLATES.put(errorCode, new ErrorBodyTemplate(errorCode));
+        }
+    }
+
+    private static final byte[] PATH = bytes("\",\"path\":\"");
+    private static final byte[] TIMESTAMP = bytes("\",\"timestamp\":\"");
+    private static final byte[] END = bytes("\"}");
+
+    private static volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    private final ErrorCode errorCode;
+    private final byte[] head;
+    private final byte[] defaultMessage;
+
+    private ErrorBodyTemplate(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.head = bytes("{\"status\":" + errorCode.getStatus()
+                + ",\"code\":\"" + errorCode.getCode()
+                + "\",\"error\":\"" + reasonPhrase(errorCode.getStatus())
+                + "\",\"message\":\"");
+        this.defaultMessage = escape(errorCode.getMessage());
+    }
+
+    public static ErrorBodyTemplate of(ErrorCode errorCode) {
+        return TEMPLATES.get(errorCode);
+    }
+
+    public ErrorCode errorCode() {
+        return errorCode;
+    }
+
+    public int status() {
+        return errorCode.getStatus();
+    }
+
+    /**
+     * 응답 본문 생성
+     *
+     * @param message null이거나 기본 메시지와 같으면 미리 직렬화한 기본 메시지 사용
+     * @param path    요청 URI
+     */
+    public byte[] render(String message, String path) {
+        byte[] messageBytes = message == null || message.equals(errorCode.getMessage()) ? defaultMessage : escape(message);
+        byte[] pathBytes = escape(path == null ? "" : path);
+        byte[] timestamp = timestamp();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(head.length + messageBytes.length + PATH.length
+                + pathBytes.length + TIMESTAMP.length + timestamp.length + END.length);
+        out.writeBytes(head);
+        out.writeBytes(messageBytes);
+        out.writeBytes(PATH);
+        out.writeBytes(pathBytes);
+        out.writeBytes(TIMESTAMP);
+        out.writeBytes(timestamp);
+        out.writeBytes(END);
+        return out.toByteArray();
+    }
+
+    private static byte[] timestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.epochSecond() != second) {
+            cached = new CachedTimestamp(second, bytes(LocalDateTime.now().withNano(0).toString()));
+            cachedTimestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    /**
+     * JSON 문자열 이스케이프 (이스케이프할 문자가 없으면 그대로 UTF-8 변환)
+     */
+    static byte[] escape(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return bytes(value);
+        }
+
+        StringBuilder escaped = new StringBuilder(length + 16).append(value, 0, i);
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return bytes(escaped.toString());
+    }
+
+    private static String reasonPhrase(int status) {
+        return switch (status) {
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 405 -> "Method Not Allowed";
+            case 409 -> "Conflict";
+            case 415 -> "Unsupported Media Type";
+            case 429 -> "Too Many Requests";
+            case 500 -> "Internal Server Error";
+            default -> "Error";
+        };
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record CachedTimestamp(long epochSecond, byte[] bytes) {
+    }
+}
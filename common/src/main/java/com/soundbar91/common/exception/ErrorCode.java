@@ -2,28 +2,34 @@ package com.soundbar91.common.exception;
 
 /**
  * 공통 에러 코드 정의
+ * status는 응답에 사용할 HTTP 상태 코드입니다.
  */
 public enum ErrorCode {
 
     // 공통 에러
-    INVALID_INPUT("E001", "잘못된 입력입니다."),
-    NOT_FOUND("E002", "리소스를 찾을 수 없습니다."),
-    INTERNAL_SERVER_ERROR("E003", "서버 내부 오류가 발생했습니다."),
+    INVALID_INPUT("E001", "잘못된 입력입니다.", 400),
+    NOT_FOUND("E002", "리소스를 찾을 수 없습니다.", 404),
+    INTERNAL_SERVER_ERROR("E003", "서버 내부 오류가 발생했습니다.", 500),
+    METHOD_NOT_ALLOWED("E004", "지원하지 않는 HTTP 메서드입니다.", 405),
+    UNSUPPORTED_MEDIA_TYPE("E005", "지원하지 않는 미디어 타입입니다.", 415),
 
     // 인증/인가 에러
-    UNAUTHORIZED("E101", "인증이 필요합니다."),
-    FORBIDDEN("E102", "접근 권한이 없습니다."),
+    UNAUTHORIZED("E101", "인증이 필요합니다.", 401),
+    FORBIDDEN("E102", "접근 권한이 없습니다.", 403),
+    TOO_MANY_REQUESTS("E103", "요청 한도를 초과했습니다.", 429),
 
     // 비즈니스 로직 에러
-    DUPLICATE_RESOURCE("E201", "중복된 리소스가 존재합니다."),
-    INVALID_STATE("E202", "유효하지 않은 상태입니다.");
+    DUPLICATE_RESOURCE("E201", "중복된 리소스가 존재합니다.", 409),
+    INVALID_STATE("E202", "유효하지 않은 상태입니다.", 409);
 
     private final String code;
     private final String message;
+    private final int status;
 
-    ErrorCode(String code, String message) {
+    ErrorCode(String code, String message, int status) {
         this.code = code;
         this.message = message;
+        this.status = status;
     }
 
     public String getCode() {
@@ -33,4 +39,8 @@ public enum ErrorCode {
     public String getMessage() {
         return message;
     }
+
+    public int getStatus() {
+        return status;
+    }
 }
@@ -0,0 +1,25 @@
+package com.soundbar91.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Snowflake ID 생성 전략 지정 어노테이션
+ * {@code @Id} 필드에 선언하면 INSERT 전에 애플리케이션에서 ID를 발급하므로
+ * IDENTITY와 달리 Hibernate JDBC 배치 INSERT가 가능합니다.
+ *
+ * 노드 ID는 Hibernate 설정 'nuga.id.node-id'로 지정합니다.
+ * spring:
+ *   jpa:
+ *     properties:
+ *       nuga.id.node-id: ${NODE_ID:0}
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,133 @@
+package com.soundbar91.common.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64비트 시간 순서 ID 생성기
+ *
+ * 비트 구성 (부호 비트 제외 63비트):
+ * | 41bit timestamp (EPOCH 기준 ms) | 10bit node | 12bit sequence |
+ *
+ * 타임스탬프와 시퀀스를 하나의 AtomicLong에 담아 CAS로 갱신하므로 락 없이 동작합니다.
+ * 시퀀스가 넘치면 타임스탬프 비트로 자연스럽게 올림되어 다음 밀리초를 미리 사용합니다.
+ * 시계가 뒤로 가면 허용 범위 내에서는 마지막 타임스탬프를 계속 사용하고,
+ * 그보다 크면 시계가 따라올 때까지 대기하며, 최대 허용치를 넘으면 예외를 던집니다.
+ */
+public final class SnowflakeIdGenerator {
+
+    /**
+     * 기준 시각 (2024-01-01T00:00:00Z)
+     */
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    /**
+     * 마지막 타임스탬프를 그대로 이어 쓰는 시계 역행 허용치 (ms)
+     */
+    static final long BORROW_TOLERANCE_MILLIS = 5;
+
+    /**
+     * 대기로 흡수하는 최대 시계 역행 (ms), 초과 시 ID 발급을 거부합니다.
+     */
+    static final long MAX_CLOCK_SKEW_MILLIS = 2_000;
+
+    private static final Map<Long, SnowflakeIdGenerator> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    /**
+     * (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | sequence
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다. nodeId: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별 공유 인스턴스 조회
+     * 같은 노드 ID를 쓰는 모든 엔티티가 하나의 시퀀스를 공유해야 충돌이 없습니다.
+     */
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return INSTANCES.computeIfAbsent(nodeId, id -> new SnowflakeIdGenerator(id, System::currentTimeMillis));
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                long skew = lastTimestamp - now;
+                if (skew > MAX_CLOCK_SKEW_MILLIS) {
+                    throw new IllegalStateException("시계가 허용 범위 이상 역행했습니다. skew: " + skew + "ms");
+                }
+                if (skew > BORROW_TOLERANCE_MILLIS) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(skew - BORROW_TOLERANCE_MILLIS));
+                    continue;
+                }
+                // 시퀀스 오버플로우는 타임스탬프 비트로 올림된다
+                next = current + 1;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return compose(next);
+            }
+        }
+    }
+
+    private long compose(long packed) {
+        long timestamp = packed >>> SEQUENCE_BITS;
+        long sequence = packed & SEQUENCE_MASK;
+        return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * ID에서 생성 시각(epoch ms) 추출
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    /**
+     * 해당 시각(epoch ms)에 생성될 수 있는 가장 작은 ID (시간 구간을 ID 범위 조건으로 바꿀 때 사용)
+     */
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0, epochMillis - EPOCH) << TIMESTAMP_SHIFT;
+    }
+
+    /**
+     * ID에서 노드 ID 추출
+     */
+    public static long extractNodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,100 @@
+package com.soundbar91.common.projection;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 선택 조회할 필드 집합 (fields= 쿼리 파라미터)
+ *
+ * 필드는 enum 선언 순서로 정렬되며, 첫 번째 상수(식별자)는 요청과 무관하게 항상 포함됩니다.
+ * 파라미터가 없으면 모든 필드를 선택합니다.
+ */
+public final class FieldSelection<F extends Enum<F> & SelectableField> {
+
+    private final List<F> fields;
+    private final String[] attributes;
+    private final boolean all;
+
+    private FieldSelection(Class<F> type, EnumSet<F> selected) {
+        this.fields = List.copyOf(selected);
+        this.attributes = fields.stream().map(SelectableField::attribute).toArray(String[]::new);
+        this.all = selected.size() == type.getEnumConstants().length;
+    }
+
+    public static <F extends Enum<F> & SelectableField> FieldSelection<F> all(Class<F> type) {
+        return new FieldSelection<>(type, EnumSet.allOf(type));
+    }
+
+    /**
+     * 콤마로 구분된 필드명 파싱 (예: "id,status,totalAmount")
+     *
+     * @throws BusinessException 선택할 수 없는 필드명이 포함된 경우 (INVALID_INPUT)
+     */
+    public static <F extends Enum<F> & SelectableField> FieldSelection<F> parse(Class<F> type, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return all(type);
+        }
+        F[] constants = type.getEnumConstants();
+        EnumSet<F> selected = EnumSet.of(constants[0]);
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(constants)
+                    .filter(constant -> constant.attribute().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT,
+                            "선택할 수 없는 필드입니다: " + name + " (가능한 필드: "
+                                    + Arrays.stream(constants).map(SelectableField::attribute).toList() + ")")));
+        }
+        return new FieldSelection<>(type, selected);
+    }
+
+    public List<F> fields() {
+        return fields;
+    }
+
+    /**
+     * 선택한 엔티티 속성명 (fields() 순서)
+     */
+    public String[] attributes() {
+        return attributes.clone();
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public boolean contains(F field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 프로젝션 쿼리 결과(attributes() 순서의 Object[])를 행으로 변환
+     */
+    public List<ProjectedRow> toRows(List<Object[]> tuples) {
+        List<ProjectedRow> rows = new ArrayList<>(tuples.size());
+        for (Object[] tuple : tuples) {
+            rows.add(new ProjectedRow(fields, tuple));
+        }
+        return rows;
+    }
+
+    /**
+     * 필드별 값 추출 함수로 행 생성 (이미 로드된 엔티티를 변환할 때 사용)
+     */
+    public ProjectedRow toRow(Function<F, Object> reader) {
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = reader.apply(fields.get(i));
+        }
+        return new ProjectedRow(fields, values);
+    }
+}
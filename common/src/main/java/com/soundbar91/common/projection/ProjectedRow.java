@@ -0,0 +1,41 @@
+package com.soundbar91.common.projection;
+
+import java.util.List;
+
+/**
+ * 선택한 필드만 담은 조회 결과 행
+ * values는 fields와 같은 순서로 정렬되어 있습니다.
+ */
+public final class ProjectedRow {
+
+    private final List<? extends SelectableField> fields;
+    private final Object[] values;
+
+    public ProjectedRow(List<? extends SelectableField> fields, Object[] values) {
+        if (fields.size() != values.length) {
+            throw new IllegalArgumentException("필드 수와 값의 수가 다릅니다: " + fields.size() + " != " + values.length);
+        }
+        this.fields = fields;
+        this.values = values;
+    }
+
+    public List<? extends SelectableField> fields() {
+        return fields;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public Object get(int index) {
+        return values[index];
+    }
+
+    public Object get(SelectableField field) {
+        int index = fields.indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException("선택되지 않은 필드입니다: " + field.attribute());
+        }
+        return values[index];
+    }
+}
@@ -0,0 +1,10 @@
+package com.soundbar91.common.projection;
+
+/**
+ * 선택 조회(sparse fieldset) 가능한 필드
+ * 도메인별 enum이 구현하며, attribute()는 엔티티 속성명이자 응답 JSON 필드명입니다.
+ */
+public interface SelectableField {
+
+    String attribute();
+}
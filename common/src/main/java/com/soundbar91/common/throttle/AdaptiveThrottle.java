@@ -0,0 +1,55 @@
+package com.soundbar91.common.throttle;
+
+import java.time.Duration;
+
+/**
+ * DB 응답 시간에 맞춰 배치 작업의 chunk 사이 휴지 시간을 조절하는 스로틀
+ *
+ * chunk 처리 시간이 targetLatency를 넘으면 휴지 시간을 두 배로 늘리되 최소한 그 chunk 처리 시간만큼은 쉬고
+ * (DB가 느릴 때 작업 점유율을 절반 이하로 낮춤), 목표 이내로 돌아오면 절반씩 줄여 0까지 회복합니다.
+ * 휴지 시간은 maxPause를 넘지 않습니다. 한 작업 스레드에서 사용하는 것을 전제로 하며 스레드 안전하지 않습니다.
+ */
+public class AdaptiveThrottle {
+
+    private static final long MIN_PAUSE_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final long targetLatencyNanos;
+    private final long maxPauseNanos;
+
+    private long pauseNanos;
+
+    public AdaptiveThrottle(Duration targetLatency, Duration maxPause) {
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.maxPauseNanos = maxPause.toNanos();
+    }
+
+    /**
+     * chunk 처리 시간을 반영해 다음 chunk 전에 쉴 시간을 계산
+     */
+    public Duration record(Duration latency) {
+        long latencyNanos = latency.toNanos();
+        if (latencyNanos > targetLatencyNanos) {
+            pauseNanos = Math.min(maxPauseNanos, Math.max(pauseNanos * 2, latencyNanos));
+        } else {
+            pauseNanos = pauseNanos / 2 < MIN_PAUSE_NANOS ? 0 : pauseNanos / 2;
+        }
+        return Duration.ofNanos(pauseNanos);
+    }
+
+    /**
+     * chunk 처리 시간을 반영하고 계산한 시간만큼 대기
+     *
+     * @return 대기한 시간
+     */
+    public Duration pause(Duration latency) throws InterruptedException {
+        Duration pause = record(latency);
+        if (!pause.isZero()) {
+            Thread.sleep(pause.toMillis(), (int) (pause.toNanos() % 1_000_000));
+        }
+        return pause;
+    }
+
+    public Duration getPause() {
+        return Duration.ofNanos(pauseNanos);
+    }
+}
@@ -0,0 +1,129 @@
+package com.soundbar91.common.throttle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 대상 행을 keyset 순서로 chunk-size개씩 나눠 처리하는 정리 작업
+ *
+ * chunk 하나는 호출자가 넘긴 Chunk가 자체 트랜잭션에서 처리하며, 마지막으로 처리한 행을 다음 chunk의 keyset 기준으로 넘깁니다.
+ * chunk가 chunk-size보다 적으면 끝난 것으로 보고, chunk 처리 시간이 target-latency를 넘으면 AdaptiveThrottle로 chunk 사이에 쉽니다.
+ *
+ * chunk 처리 후 작업(이벤트 발행 등)은 chunk가 커밋된 뒤 afterChunkExecutor에서 실행하므로, 후속 처리가 느려도
+ * 다음 chunk의 잠금과 처리 시간에 영향을 주지 않습니다. 전용 실행기(afterChunkExecutor(name))는 스레드 하나로 chunk 순서를 지키고,
+ * 대기열이 가득 차면 작업 스레드에서 직접 실행해 속도를 맞춥니다.
+ *
+ * @param <T> 처리 대상 행 (keyset 기준 값을 가진 엔티티)
+ */
+public class ChunkedSweeper<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedSweeper.class);
+
+    private static final int AFTER_CHUNK_QUEUE_CAPACITY = 16;
+
+    /**
+     * chunk 하나 처리 (자체 트랜잭션에서 실행)
+     */
+    @FunctionalInterface
+    public interface Chunk<T> {
+
+        /**
+         * @param after 이전 chunk의 마지막 행 (첫 chunk이면 null)
+         * @param limit 최대 처리 행 수
+         * @return keyset 순서로 처리한 행 (없으면 빈 목록)
+         */
+        List<T> process(T after, int limit);
+    }
+
+    private final String name;
+    private final SweepProperties properties;
+    private final Executor afterChunkExecutor;
+
+    public ChunkedSweeper(String name, SweepProperties properties, Executor afterChunkExecutor) {
+        this.name = name;
+        this.properties = properties;
+        this.afterChunkExecutor = afterChunkExecutor;
+    }
+
+    /**
+     * chunk 후속 작업 전용 실행기 (스레드 하나, 대기열이 가득 차면 호출 스레드에서 실행)
+     */
+    public static ExecutorService afterChunkExecutor(String name) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(AFTER_CHUNK_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-after-chunk");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 대상이 없을 때까지 chunk 단위로 처리
+     *
+     * @param chunk      chunk 하나를 처리하는 작업
+     * @param afterChunk chunk 커밋 후 처리한 행으로 실행할 작업
+     * @return 처리한 행 수
+     */
+    public long sweep(Chunk<T> chunk, Consumer<List<T>> afterChunk) {
+        AdaptiveThrottle throttle = new AdaptiveThrottle(properties.targetLatency(), properties.maxPause());
+        T after = null;
+        long processed = 0;
+        long chunks = 0;
+        long startedAt = System.nanoTime();
+        try {
+            while (true) {
+                long chunkStartedAt = System.nanoTime();
+                List<T> rows = chunk.process(after, properties.chunkSize());
+                Duration latency = Duration.ofNanos(System.nanoTime() - chunkStartedAt);
+                if (rows == null || rows.isEmpty()) {
+                    break;
+                }
+                after = rows.get(rows.size() - 1);
+                afterChunkExecutor.execute(() -> runAfterChunk(afterChunk, rows));
+                processed += rows.size();
+                chunks++;
+                if (rows.size() < properties.chunkSize()) {
+                    break;
+                }
+                throttle.pause(latency);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[{}] 작업 중단 - processed: {}", name, processed);
+            return processed;
+        }
+        if (processed > 0) {
+            log.info("[{}] 완료 - processed: {}, chunks: {}, elapsed: {}ms",
+                    name, processed, chunks, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        }
+        return processed;
+    }
+
+    /**
+     * 후속 작업 실행기가 ExecutorService이면 대기 중인 작업을 마친 뒤 종료
+     */
+    public void shutdown() {
+        if (afterChunkExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void runAfterChunk(Consumer<List<T>> afterChunk, List<T> rows) {
+        try {
+            afterChunk.accept(rows);
+        } catch (RuntimeException e) {
+            log.warn("[{}] chunk 후속 작업 실패 - rows: {}", name, rows.size(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.soundbar91.common.throttle;
+
+import java.time.Duration;
+
+/**
+ * chunk 단위 정리 작업(ChunkedSweeper) 설정
+ * 작업마다 prefix만 달리해 바인딩합니다. (예: order.expiry, payment.expiry)
+ *
+ * 사용 예시:
+ * order:
+ *   expiry:
+ *     enabled: true
+ *     ttl: 24h                 # 이 시간보다 오래된 행이 대상
+ *     chunk-size: 200          # 한 트랜잭션에서 잠그고 변경하는 행 수
+ *     target-latency: 100ms    # chunk 처리 시간이 이보다 길면 chunk 사이에 쉼
+ *     max-pause: 5s            # chunk 사이 최대 휴지 시간
+ *     interval: 5m             # 작업 실행 간격 (@Scheduled에서 직접 참조)
+ */
+public record SweepProperties(
+        boolean enabled,
+        Duration ttl,
+        int chunkSize,
+        Duration targetLatency,
+        Duration maxPause
+) {
+
+    public SweepProperties {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = Duration.ofHours(24);
+        }
+        if (chunkSize <= 0) {
+            chunkSize = 200;
+        }
+        if (targetLatency == null || targetLatency.isNegative() || targetLatency.isZero()) {
+            targetLatency = Duration.ofMillis(100);
+        }
+        if (maxPause == null || maxPause.isNegative()) {
+            maxPause = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.soundbar91.common.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorBodyTemplate 테스트")
+class ErrorBodyTemplateTest {
+
+    private static String render(ErrorCode errorCode, String message, String path) {
+        return new String(ErrorBodyTemplate.of(errorCode).render(message, path), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("본문 생성")
+    class Render {
+
+        @Test
+        @DisplayName("메시지가 없으면 ErrorCode의 상태, 코드, 기본 메시지로 본문을 만든다")
+        void render_WithoutMessage_UsesDefaultMessage() {
+            // when
+            String body = render(ErrorCode.NOT_FOUND, null, "/api/v2/shops/1");
+
+            // then
+            assertThat(body).startsWith("{\"status\":404,\"code\":\"E002\",\"error\":\"Not Found\","
+                    + "\"message\":\"리소스를 찾을 수 없습니다.\",\"path\":\"/api/v2/shops/1\",\"timestamp\":\"");
+            assertThat(body).endsWith("\"}");
+        }
+
+        @Test
+        @DisplayName("메시지와 경로의 따옴표, 역슬래시, 제어 문자를 이스케이프한다")
+        void render_EscapesMessageAndPath() {
+            // when
+            String body = render(ErrorCode.INVALID_INPUT, "잘못된 \"값\"\n\\", "/a\"b");
+
+            // then
+            assertThat(body).contains("\"message\":\"잘못된 \\\"값\\\"\\n\\\\\"");
+            assertThat(body).contains("\"path\":\"/a\\\"b\"");
+        }
+
+        @Test
+        @DisplayName("모든 ErrorCode에 대해 템플릿이 존재한다")
+        void of_ReturnsTemplateForEveryErrorCode() {
+            for (ErrorCode errorCode : ErrorCode.values()) {
+                assertThat(ErrorBodyTemplate.of(errorCode).status()).isEqualTo(errorCode.getStatus());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("비즈니스 예외 스택 트레이스")
+    class StackTrace {
+
+        @AfterEach
+        void tearDown() {
+            BusinessException.setStackTraceEnabled(false);
+        }
+
+        @Test
+        @DisplayName("기본적으로 스택 트레이스를 기록하지 않는다")
+        void businessException_ByDefault_IsStackless() {
+            // given
+            BusinessException.setStackTraceEnabled(false);
+
+            // when
+            NotFoundException exception = new NotFoundException("없음");
+
+            // then
+            assertThat(exception.getStackTrace()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("디버그 모드를 켜면 스택 트레이스를 기록한다")
+        void businessException_WhenEnabled_RecordsStackTrace() {
+            // given
+            BusinessException.setStackTraceEnabled(true);
+
+            // when
+            BusinessException exception = new BusinessException(ErrorCode.INVALID_STATE);
+
+            // then
+            assertThat(exception.getStackTrace()).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.soundbar91.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000L;
+
+    @Nested
+    @DisplayName("ID 구성")
+    class Layout {
+
+        @Test
+        @DisplayName("ID에는 노드 ID와 생성 시각이 포함된다")
+        void nextId_ContainsNodeAndTimestamp() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7L, () -> NOW);
+
+            // when
+            long id = generator.nextId();
+
+            // then
+            assertThat(SnowflakeIdGenerator.extractNodeId(id)).isEqualTo(7L);
+            assertThat(SnowflakeIdGenerator.extractTimestamp(id)).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 노드 ID는 예외가 발생한다")
+        void constructor_WithInvalidNodeId_ThrowsException() {
+            assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("순서 보장")
+    class Ordering {
+
+        @Test
+        @DisplayName("같은 밀리초 안에서도 ID는 증가한다")
+        void nextId_WithinSameMillis_Increases() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, () -> NOW);
+
+            // when
+            long first = generator.nextId();
+            long second = generator.nextId();
+
+            // then
+            assertThat(second).isGreaterThan(first);
+        }
+
+        @Test
+        @DisplayName("시퀀스가 넘치면 다음 밀리초를 사용한다")
+        void nextId_SequenceOverflow_BorrowsNextMillis() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, () -> NOW);
+            long last = 0;
+
+            // when
+            for (int i = 0; i <= 1 << SnowflakeIdGenerator.SEQUENCE_BITS; i++) {
+                long id = generator.nextId();
+                assertThat(id).isGreaterThan(last);
+                last = id;
+            }
+
+            // then
+            assertThat(SnowflakeIdGenerator.extractTimestamp(last)).isEqualTo(NOW + 1);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 발급해도 ID가 중복되지 않는다")
+        void nextId_Concurrent_IsUnique() throws InterruptedException {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, System::currentTimeMillis);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(ids).hasSize(80_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("시계 역행")
+    class ClockSkew {
+
+        @Test
+        @DisplayName("허용 범위 내 역행은 마지막 타임스탬프를 이어서 사용한다")
+        void nextId_SmallBackwardSkew_KeepsIncreasing() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, clock::get);
+            long before = generator.nextId();
+
+            // when
+            clock.set(NOW - SnowflakeIdGenerator.BORROW_TOLERANCE_MILLIS);
+            long after = generator.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+            assertThat(SnowflakeIdGenerator.extractTimestamp(after)).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("최대 허용치를 넘는 역행은 예외가 발생한다")
+        void nextId_LargeBackwardSkew_ThrowsException() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, clock::get);
+            generator.nextId();
+
+            // when
+            clock.set(NOW - SnowflakeIdGenerator.MAX_CLOCK_SKEW_MILLIS - 1);
+
+            // then
+            assertThatThrownBy(generator::nextId)
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
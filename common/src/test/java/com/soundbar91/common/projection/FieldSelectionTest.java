@@ -0,0 +1,93 @@
+package com.soundbar91.common.projection;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldSelection 테스트")
+class FieldSelectionTest {
+
+    enum SampleField implements SelectableField {
+        ID("id"),
+        NAME("name"),
+        STATUS("status"),
+        CREATED_AT("createdAt");
+
+        private final String attribute;
+
+        SampleField(String attribute) {
+            this.attribute = attribute;
+        }
+
+        @Override
+        public String attribute() {
+            return attribute;
+        }
+    }
+
+    @Nested
+    @DisplayName("필드 파싱")
+    class Parse {
+
+        @Test
+        @DisplayName("fields가 없으면 모든 필드를 선택한다")
+        void parse_WithBlank_SelectsAll() {
+            // when
+            FieldSelection<SampleField> selection = FieldSelection.parse(SampleField.class, " ");
+
+            // then
+            assertThat(selection.isAll()).isTrue();
+            assertThat(selection.fields()).containsExactly(SampleField.values());
+        }
+
+        @Test
+        @DisplayName("식별자는 요청하지 않아도 항상 포함되고 필드는 선언 순서로 정렬된다")
+        void parse_AlwaysIncludesIdInDeclarationOrder() {
+            // when
+            FieldSelection<SampleField> selection = FieldSelection.parse(SampleField.class, "createdAt, status,,status");
+
+            // then
+            assertThat(selection.isAll()).isFalse();
+            assertThat(selection.fields()).containsExactly(SampleField.ID, SampleField.STATUS, SampleField.CREATED_AT);
+            assertThat(selection.attributes()).containsExactly("id", "status", "createdAt");
+        }
+
+        @Test
+        @DisplayName("선택할 수 없는 필드명은 INVALID_INPUT 예외가 발생한다")
+        void parse_WithUnknownField_ThrowsException() {
+            assertThatThrownBy(() -> FieldSelection.parse(SampleField.class, "id,password"))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT))
+                    .hasMessageContaining("password");
+        }
+    }
+
+    @Nested
+    @DisplayName("행 변환")
+    class Rows {
+
+        @Test
+        @DisplayName("쿼리 결과 튜플을 선택한 필드 순서의 행으로 변환한다")
+        void toRows_MapsTuplesByField() {
+            // given
+            FieldSelection<SampleField> selection = FieldSelection.parse(SampleField.class, "status");
+
+            // when
+            List<ProjectedRow> rows = selection.toRows(List.<Object[]>of(new Object[]{1L, "ACTIVE"}));
+
+            // then
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).get(SampleField.ID)).isEqualTo(1L);
+            assertThat(rows.get(0).get(SampleField.STATUS)).isEqualTo("ACTIVE");
+            assertThatThrownBy(() -> rows.get(0).get(SampleField.NAME))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
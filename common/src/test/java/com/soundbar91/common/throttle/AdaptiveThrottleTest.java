@@ -0,0 +1,53 @@
+package com.soundbar91.common.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveThrottle 테스트")
+class AdaptiveThrottleTest {
+
+    private final AdaptiveThrottle throttle = new AdaptiveThrottle(Duration.ofMillis(100), Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("목표 응답 시간 이내면 쉬지 않는다")
+    void record_WithinTarget_DoesNotPause() {
+        assertThat(throttle.record(Duration.ofMillis(80))).isZero();
+    }
+
+    @Test
+    @DisplayName("목표를 넘으면 최소 chunk 처리 시간만큼 쉬고, 계속 느리면 최대 휴지 시간까지 두 배씩 늘린다")
+    void record_OverTarget_BacksOffUpToMaxPause() {
+        // when
+        Duration first = throttle.record(Duration.ofMillis(300));
+        Duration second = throttle.record(Duration.ofMillis(300));
+        throttle.record(Duration.ofMillis(300));
+        throttle.record(Duration.ofMillis(300));
+        Duration capped = throttle.record(Duration.ofMillis(300));
+
+        // then
+        assertThat(first).isEqualTo(Duration.ofMillis(300));
+        assertThat(second).isEqualTo(Duration.ofMillis(600));
+        assertThat(capped).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("응답 시간이 회복되면 휴지 시간을 절반씩 줄여 0으로 돌아간다")
+    void record_AfterRecovery_DecaysToZero() {
+        // given
+        throttle.record(Duration.ofMillis(400));
+
+        // when
+        Duration half = throttle.record(Duration.ofMillis(10));
+        for (int i = 0; i < 10; i++) {
+            throttle.record(Duration.ofMillis(10));
+        }
+
+        // then
+        assertThat(half).isEqualTo(Duration.ofMillis(200));
+        assertThat(throttle.getPause()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.soundbar91.common.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChunkedSweeper 테스트")
+class ChunkedSweeperTest {
+
+    private static final SweepProperties PROPERTIES =
+            new SweepProperties(true, Duration.ofHours(1), 2, Duration.ofSeconds(1), Duration.ZERO);
+
+    @Test
+    @DisplayName("이전 chunk의 마지막 행을 keyset 기준으로 넘기고, chunk-size보다 적게 처리되면 끝낸다")
+    void sweep_PassesLastRowAsCursorUntilShortChunk() {
+        // given
+        ChunkedSweeper<Integer> sweeper = new ChunkedSweeper<>("test", PROPERTIES, Runnable::run);
+        List<Integer> cursors = new ArrayList<>();
+        List<List<Integer>> chunks = List.of(List.of(1, 2), List.of(3, 4), List.of(5));
+
+        // when
+        long processed = sweeper.sweep((after, limit) -> {
+            cursors.add(after);
+            return chunks.get(cursors.size() - 1);
+        }, rows -> { });
+
+        // then
+        assertThat(processed).isEqualTo(5);
+        assertThat(cursors).containsExactly(null, 2, 4);
+    }
+
+    @Test
+    @DisplayName("chunk 후속 작업은 작업 스레드에서 직접 실행하지 않고 실행기에 넘긴다")
+    void sweep_HandsAfterChunkToExecutor() {
+        // given
+        List<Runnable> queued = new ArrayList<>();
+        ChunkedSweeper<Integer> sweeper = new ChunkedSweeper<>("test", PROPERTIES, queued::add);
+        List<List<Integer>> published = new ArrayList<>();
+
+        // when
+        sweeper.sweep((after, limit) -> after == null ? List.of(1, 2) : List.of(), published::add);
+
+        // then
+        assertThat(published).isEmpty();
+        assertThat(queued).hasSize(1);
+        queued.forEach(Runnable::run);
+        assertThat(published).containsExactly(List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("chunk 후속 작업이 실패해도 다음 chunk를 계속 처리한다")
+    void sweep_WhenAfterChunkFails_ContinuesSweeping() {
+        // given
+        ChunkedSweeper<Integer> sweeper = new ChunkedSweeper<>("test", PROPERTIES, Runnable::run);
+
+        // when
+        long processed = sweeper.sweep((after, limit) -> after == null ? List.of(1, 2) : List.of(3),
+                rows -> {
+                    throw new IllegalStateException("publish failed");
+                });
+
+        // then
+        assertThat(processed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 후속 작업을 실행하지 않는다")
+    void sweep_WithoutRows_DoesNotRunAfterChunk() {
+        // given
+        List<Runnable> queued = new ArrayList<>();
+        ChunkedSweeper<Integer> sweeper = new ChunkedSweeper<>("test", PROPERTIES, queued::add);
+
+        // when
+        long processed = sweeper.sweep((after, limit) -> List.of(), rows -> { });
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(queued).isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.soundbar91.config;
 
 import com.soundbar91.config.properties.AppProperties;
 import com.soundbar91.config.properties.DatabaseProperties;
+import com.soundbar91.config.properties.DomainDataSourceProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,12 +13,13 @@ import org.springframework.context.annotation.Configuration;
  * 사용법:
  * 1. 다른 모듈에서 config 모듈을 의존성으로 추가
  * 2. @Import(CommonConfig.class) 또는 ComponentScan으로 이 설정을 로드
- * 3. AppProperties, DatabaseProperties를 주입받아 사용
+ * 3. AppProperties, DatabaseProperties, DomainDataSourceProperties를 주입받아 사용
  */
 @Configuration
 @EnableConfigurationProperties({
         AppProperties.class,
-        DatabaseProperties.class
+        DatabaseProperties.class,
+        DomainDataSourceProperties.class
 })
 public class CommonConfig {
 
@@ -0,0 +1,74 @@
+package com.soundbar91.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 도메인별 DataSource(커넥션 풀) 설정 속성
+ * application.yml에서 'datasource.domains' 하위 설정을 바인딩합니다.
+ *
+ * isolated=true 인 도메인은 전용 커넥션 풀, EntityManagerFactory, 트랜잭션 매니저를 사용합니다.
+ * url을 생략하면 spring.datasource.url과 같은 DB에 별도 풀만 분리합니다.
+ *
+ * 사용 예시:
+ * datasource:
+ *   domains:
+ *     payment:
+ *       isolated: true
+ *       maximum-pool-size: 10
+ *     order:
+ *       isolated: true
+ *       url: jdbc:postgresql://order-db:5432/nuga_order
+ *       maximum-pool-size: 30
+ */
+@ConfigurationProperties(prefix = "datasource")
+public record DomainDataSourceProperties(
+        Map<String, Domain> domains
+) {
+
+    public record Domain(
+            boolean isolated,
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            int maximumPoolSize,
+            int minimumIdle,
+            long connectionTimeout,
+            String ddlAuto
+    ) {
+        public Domain {
+            if (maximumPoolSize <= 0) {
+                maximumPoolSize = 10;
+            }
+            if (minimumIdle <= 0) {
+                minimumIdle = Math.min(2, maximumPoolSize);
+            }
+            if (connectionTimeout <= 0) {
+                connectionTimeout = 30000;
+            }
+        }
+    }
+
+    public DomainDataSourceProperties {
+        if (domains == null) {
+            domains = Map.of();
+        }
+    }
+
+    /**
+     * 도메인 설정 조회 (설정이 없으면 공용 풀을 사용하는 기본값)
+     */
+    public Domain domain(String name) {
+        Domain domain = domains.get(name);
+        return domain != null ? domain : new Domain(false, null, null, null, null, 0, 0, 0, null);
+    }
+
+    /**
+     * 전용 풀을 사용하는 도메인이 하나라도 있는지 확인
+     */
+    public boolean anyIsolated() {
+        return domains.values().stream().anyMatch(Domain::isolated);
+    }
+}
@@ -0,0 +1,85 @@
+package com.soundbar91.datasource.config;
+
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicaLagGuardFilter;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.soundbar91.datasource.routing.RoutingDataSourceMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 자동 설정
+ * datasource.routing.enabled=true 일 때만 활성화되며,
+ * 비활성화 시에는 Spring Boot 기본 DataSource 설정이 그대로 사용됩니다.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceRoutingProperties.class, DataSourceProperties.class})
+public class DataSourceRoutingAutoConfiguration {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String ROUTING_DATA_SOURCE = "routingDataSource";
+
+    @Bean(PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(ROUTING_DATA_SOURCE)
+    public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                         DataSourceRoutingProperties properties) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = properties.replicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            replicas.add(ReplicationRoutingDataSource.createReplicaPool(primaryDataSource, replica,
+                    primaryDataSource.getPoolName() + "-" + ReplicationRoutingDataSource.REPLICA_PREFIX + i,
+                    replica.maximumPoolSize()));
+        }
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, properties.writeStickiness());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class RoutingWebConfiguration {
+
+        @Bean
+        public ReplicaLagGuardFilter replicaLagGuardFilter() {
+            return new ReplicaLagGuardFilter();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class RoutingMetricsConfiguration {
+
+        @Bean
+        public RoutingDataSourceMetrics routingDataSourceMetrics(ReplicationRoutingDataSource routingDataSource) {
+            return new RoutingDataSourceMetrics(routingDataSource);
+        }
+    }
+}
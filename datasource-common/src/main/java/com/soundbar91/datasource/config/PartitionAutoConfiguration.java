@@ -0,0 +1,32 @@
+package com.soundbar91.datasource.config;
+
+import com.soundbar91.datasource.partition.MonthlyPartitionManager;
+import com.soundbar91.datasource.partition.PartitionProperties;
+import com.soundbar91.datasource.partition.PartitionedTable;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * 월 단위 테이블 파티션 관리 자동 설정
+ * PostgreSQL 전용 기능이므로 datasource.partitioning.enabled=true 일 때만 활성화됩니다.
+ */
+@AutoConfiguration(after = {DataSourceRoutingAutoConfiguration.class, SharedPersistenceAutoConfiguration.class})
+@ConditionalOnProperty(prefix = "datasource.partitioning", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitionProperties.class)
+@EnableScheduling
+public class PartitionAutoConfiguration {
+
+    @Bean
+    public MonthlyPartitionManager monthlyPartitionManager(DataSource dataSource, List<PartitionedTable> tables,
+                                                           PartitionProperties properties) {
+        return new MonthlyPartitionManager(new JdbcTemplate(dataSource), tables, properties, Clock.systemDefaultZone());
+    }
+}
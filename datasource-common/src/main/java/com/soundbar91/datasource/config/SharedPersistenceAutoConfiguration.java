@@ -0,0 +1,60 @@
+package com.soundbar91.datasource.config;
+
+import com.soundbar91.datasource.isolation.DomainPersistenceFactory;
+import com.soundbar91.datasource.isolation.OnDomainIsolationCondition;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.persistence.autoconfigure.EntityScanPackages;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * 도메인 전용 풀 사용 시 공용 영속성 구성 자동 설정
+ *
+ * 도메인 하나라도 전용 DataSource/EntityManagerFactory를 선언하면 Spring Boot 기본 구성이 물러나므로,
+ * 전용 풀을 쓰지 않는 도메인을 위한 공용 DataSource, EntityManagerFactory, 트랜잭션 매니저를 대신 등록합니다.
+ */
+@AutoConfiguration(after = DataSourceRoutingAutoConfiguration.class, before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(LocalContainerEntityManagerFactoryBean.class)
+@Conditional(OnDomainIsolationCondition.class)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class SharedPersistenceAutoConfiguration {
+
+    @Bean
+    @Primary
+    @ConditionalOnMissingBean(name = "dataSource")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, Environment environment,
+                                                                       BeanFactory beanFactory) {
+        String[] packages = EntityScanPackages.get(beanFactory).getPackageNames().toArray(String[]::new);
+        return DomainPersistenceFactory.createSharedEntityManagerFactory(dataSource, environment, packages);
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return DomainPersistenceFactory.createTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,29 @@
+package com.soundbar91.datasource.config;
+
+import com.soundbar91.datasource.statement.StatementCountProperties;
+import com.soundbar91.datasource.statement.StatementCountingDataSourcePostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Set;
+
+/**
+ * SQL 실행 횟수 집계 자동 설정
+ * datasource.statement-count.enabled=true 일 때 DataSource 빈을 datasource-proxy로 감쌉니다.
+ * 집계 구간은 SqlStatementCounter.open()으로 지정합니다. (요청 필터, 테스트 등)
+ */
+@AutoConfiguration
+@ConditionalOnClass(name = "net.ttddyy.dsproxy.support.ProxyDataSourceBuilder")
+@ConditionalOnProperty(prefix = "datasource.statement-count", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(StatementCountProperties.class)
+public class StatementCountAutoConfiguration {
+
+    @Bean
+    public static StatementCountingDataSourcePostProcessor statementCountingDataSourcePostProcessor() {
+        return new StatementCountingDataSourcePostProcessor(Set.of(DataSourceRoutingAutoConfiguration.PRIMARY_DATA_SOURCE,
+                DataSourceRoutingAutoConfiguration.ROUTING_DATA_SOURCE));
+    }
+}
@@ -0,0 +1,130 @@
+package com.soundbar91.datasource.isolation;
+
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인 전용 DataSource, EntityManagerFactory, 트랜잭션 매니저 생성 도우미
+ * 각 도메인 infrastructure 모듈의 JpaConfig에서 사용합니다.
+ */
+public final class DomainPersistenceFactory {
+
+    private static final String POOL_NAME_PREFIX = "NugaHikariPool-";
+    private static final String PHYSICAL_NAMING_STRATEGY =
+            "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy";
+
+    private DomainPersistenceFactory() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 도메인 전용 커넥션 풀 생성
+     * 접속 정보가 없으면 spring.datasource 설정을 그대로 사용해 풀만 분리합니다.
+     */
+    public static HikariDataSource createDataSource(String domain, DomainDataSourceProperties.Domain properties,
+                                                    Environment environment) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(POOL_NAME_PREFIX + domain);
+        dataSource.setJdbcUrl(orDefault(properties.url(), environment, "spring.datasource.url"));
+        dataSource.setUsername(orDefault(properties.username(), environment, "spring.datasource.username"));
+        dataSource.setPassword(orDefault(properties.password(), environment, "spring.datasource.password"));
+        String driverClassName = orDefault(properties.driverClassName(), environment, "spring.datasource.driver-class-name");
+        if (driverClassName != null) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        dataSource.setMinimumIdle(properties.minimumIdle());
+        dataSource.setConnectionTimeout(properties.connectionTimeout());
+        return dataSource;
+    }
+
+    /**
+     * 도메인 전용 풀을 Primary로 하는 읽기/쓰기 라우팅 DataSource 생성
+     *
+     * datasource.routing이 켜져 있으면 읽기 전용 트랜잭션을 Replica로 보내며, Replica 풀도 도메인별로 따로 만들어
+     * 격리를 유지합니다. 라우팅이 꺼져 있거나 도메인이 별도 DB(url)를 쓰면 공용 Replica가 그 DB의 복제본이 아니므로
+     * Replica 없이 Primary로만 보냅니다.
+     * 트랜잭션 속성을 보고 라우팅하므로 EntityManagerFactory에는 LazyConnectionDataSourceProxy로 감싸 전달합니다.
+     */
+    public static ReplicationRoutingDataSource createRoutingDataSource(String domain, HikariDataSource dataSource,
+                                                                       DomainDataSourceProperties.Domain properties,
+                                                                       DataSourceRoutingProperties routingProperties) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        Duration writeStickiness = Duration.ZERO;
+        if (routingProperties != null && routingProperties.enabled() && properties.url() == null) {
+            List<DataSourceRoutingProperties.Replica> replicaProperties = routingProperties.replicas();
+            for (int i = 0; i < replicaProperties.size(); i++) {
+                replicas.add(ReplicationRoutingDataSource.createReplicaPool(dataSource, replicaProperties.get(i),
+                        POOL_NAME_PREFIX + domain + "-" + ReplicationRoutingDataSource.REPLICA_PREFIX + i,
+                        properties.maximumPoolSize()));
+            }
+            writeStickiness = routingProperties.writeStickiness();
+        }
+        return new ReplicationRoutingDataSource(dataSource, replicas, writeStickiness);
+    }
+
+    /**
+     * 도메인 전용 EntityManagerFactory 생성
+     * spring.jpa.properties 공통 설정을 이어받고 DDL 정책만 도메인별로 지정합니다.
+     */
+    public static LocalContainerEntityManagerFactoryBean createEntityManagerFactory(
+            String domain, DataSource dataSource, DomainDataSourceProperties.Domain properties,
+            Environment environment, String... packagesToScan) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName(domain);
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(packagesToScan);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(jpaProperties(properties.ddlAuto(), environment));
+        return factory;
+    }
+
+    /**
+     * 공용 EntityManagerFactory 생성 (전용 풀을 쓰지 않는 도메인용)
+     */
+    public static LocalContainerEntityManagerFactoryBean createSharedEntityManagerFactory(
+            DataSource dataSource, Environment environment, String... packagesToScan) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName("default");
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(packagesToScan);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(jpaProperties(null, environment));
+        return factory;
+    }
+
+    public static JpaTransactionManager createTransactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    private static Map<String, Object> jpaProperties(String ddlAuto, Environment environment) {
+        Map<String, Object> properties = new HashMap<>(Binder.get(environment)
+                .bind("spring.jpa.properties", Bindable.mapOf(String.class, String.class))
+                .orElseGet(Map::of));
+        properties.putIfAbsent("hibernate.physical_naming_strategy", PHYSICAL_NAMING_STRATEGY);
+        properties.put("hibernate.hbm2ddl.auto",
+                ddlAuto != null ? ddlAuto : environment.getProperty("spring.jpa.hibernate.ddl-auto", "none"));
+        properties.put("hibernate.show_sql", environment.getProperty("spring.jpa.show-sql", "false"));
+        return properties;
+    }
+
+    private static String orDefault(String value, Environment environment, String key) {
+        return value != null ? value : environment.getProperty(key);
+    }
+}
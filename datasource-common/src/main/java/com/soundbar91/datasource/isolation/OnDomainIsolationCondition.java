@@ -0,0 +1,21 @@
+package com.soundbar91.datasource.isolation;
+
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 전용 풀을 사용하는 도메인이 하나 이상 설정되었는지 확인하는 조건
+ */
+public class OnDomainIsolationCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return Binder.get(context.getEnvironment())
+                .bind("datasource", DomainDataSourceProperties.class)
+                .map(DomainDataSourceProperties::anyIsolated)
+                .orElse(false);
+    }
+}
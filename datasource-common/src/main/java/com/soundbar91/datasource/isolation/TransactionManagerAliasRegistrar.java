@@ -0,0 +1,33 @@
+package com.soundbar91.datasource.isolation;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+
+/**
+ * 공용 풀을 사용하는 도메인의 트랜잭션 매니저 이름을 공용 매니저의 별칭으로 등록
+ *
+ * 서비스는 항상 도메인 트랜잭션 매니저 이름(예: orderTransactionManager)으로 트랜잭션을 선언하고,
+ * 전용 풀을 쓰지 않을 때는 이 별칭을 통해 공용 'transactionManager'에 참여합니다.
+ */
+public class TransactionManagerAliasRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+    public static final String SHARED_TRANSACTION_MANAGER = "transactionManager";
+
+    private final String alias;
+
+    public TransactionManagerAliasRegistrar(String alias) {
+        this.alias = alias;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+        if (!registry.isAlias(alias) && !registry.containsBeanDefinition(alias)) {
+            registry.registerAlias(SHARED_TRANSACTION_MANAGER, alias);
+        }
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    }
+}
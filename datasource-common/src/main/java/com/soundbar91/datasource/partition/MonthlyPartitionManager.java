@@ -0,0 +1,120 @@
+package com.soundbar91.datasource.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * PostgreSQL 월 단위 범위 파티션 관리자
+ *
+ * - 현재 월부터 monthsAhead 개월 뒤까지의 파티션을 미리 생성합니다.
+ * - retentionMonths 보다 오래된 파티션은 부모 테이블에서 분리(DETACH)합니다.
+ *   분리된 테이블은 삭제하지 않으므로 백업/아카이브 후 별도로 정리합니다.
+ *
+ * 부모 테이블은 db/migration 의 전환 스크립트로 'PARTITION BY RANGE (created_at)' 형태가 되어 있어야 합니다.
+ * 아직 일반 테이블이면 PARTITION OF 가 실패하므로 경고만 남기고 건너뜁니다.
+ */
+public class MonthlyPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyPartitionManager.class);
+
+    private static final DateTimeFormatter SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_SUFFIX = "_p";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PartitionedTable> tables;
+    private final PartitionProperties properties;
+    private final Clock clock;
+
+    public MonthlyPartitionManager(JdbcTemplate jdbcTemplate, List<PartitionedTable> tables,
+                                   PartitionProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = List.copyOf(tables);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 시작 시 현재 월 파티션이 없어서 INSERT가 실패하지 않도록 즉시 한 번 수행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${datasource.partitioning.cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        for (PartitionedTable table : tables) {
+            try {
+                if (!isPartitioned(table)) {
+                    log.warn("[Partition] 파티션 테이블이 아니어서 건너뜀 - table: {} (db/migration 전환 스크립트 적용 필요)",
+                            table.tableName());
+                    continue;
+                }
+                createFuturePartitions(table, current);
+                detachExpiredPartitions(table, current);
+            } catch (RuntimeException e) {
+                log.error("[Partition] 파티션 관리 실패 - table: {}", table.tableName(), e);
+            }
+        }
+    }
+
+    void createFuturePartitions(PartitionedTable table, YearMonth current) {
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            String partition = partitionName(table, month);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition
+                    + " PARTITION OF " + table.tableName()
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        log.info("[Partition] 파티션 생성 확인 - table: {}, until: {}", table.tableName(), current.plusMonths(properties.monthsAhead()));
+    }
+
+    void detachExpiredPartitions(PartitionedTable table, YearMonth current) {
+        YearMonth oldestRetained = current.minusMonths(properties.retentionMonths());
+        for (String partition : findAttachedPartitions(table)) {
+            YearMonth month = parseMonth(table, partition);
+            if (month != null && month.isBefore(oldestRetained)) {
+                jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " DETACH PARTITION " + partition);
+                log.info("[Partition] 보존 기간 경과 파티션 분리 - table: {}, partition: {}", table.tableName(), partition);
+            }
+        }
+    }
+
+    boolean isPartitioned(PartitionedTable table) {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, table.tableName());
+        return kinds.contains("p");
+    }
+
+    private List<String> findAttachedPartitions(PartitionedTable table) {
+        return jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits i
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                JOIN pg_class child ON child.oid = i.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, table.tableName());
+    }
+
+    static String partitionName(PartitionedTable table, YearMonth month) {
+        return table.tableName() + PARTITION_SUFFIX + month.format(SUFFIX_FORMATTER);
+    }
+
+    static YearMonth parseMonth(PartitionedTable table, String partition) {
+        String prefix = table.tableName() + PARTITION_SUFFIX;
+        if (!partition.startsWith(prefix) || partition.length() != prefix.length() + 6) {
+            return null;
+        }
+        return YearMonth.parse(partition.substring(prefix.length()), SUFFIX_FORMATTER);
+    }
+}
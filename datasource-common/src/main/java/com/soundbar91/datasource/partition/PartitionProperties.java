@@ -0,0 +1,32 @@
+package com.soundbar91.datasource.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 월 단위 테이블 파티션 관리 설정 속성
+ * application.yml에서 'datasource.partitioning' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * datasource:
+ *   partitioning:
+ *     enabled: true
+ *     months-ahead: 3
+ *     retention-months: 24
+ *     cron: "0 0 3 * * *"   # 관리 작업 실행 주기 (@Scheduled에서 직접 참조)
+ */
+@ConfigurationProperties(prefix = "datasource.partitioning")
+public record PartitionProperties(
+        boolean enabled,
+        int monthsAhead,
+        int retentionMonths
+) {
+
+    public PartitionProperties {
+        if (monthsAhead <= 0) {
+            monthsAhead = 3;
+        }
+        if (retentionMonths <= 0) {
+            retentionMonths = 24;
+        }
+    }
+}
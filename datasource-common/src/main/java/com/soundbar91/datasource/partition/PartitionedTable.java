@@ -0,0 +1,23 @@
+package com.soundbar91.datasource.partition;
+
+/**
+ * 월 단위 범위 파티션으로 관리할 테이블
+ * 각 도메인 infrastructure 모듈이 빈으로 등록하면 {@link MonthlyPartitionManager}가 관리합니다.
+ *
+ * @param tableName    파티션 부모 테이블 이름 (예: orders)
+ * @param partitionKey 파티션 키 컬럼 이름 (예: created_at)
+ */
+public record PartitionedTable(
+        String tableName,
+        String partitionKey
+) {
+
+    public PartitionedTable {
+        if (tableName == null || !tableName.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("유효하지 않은 테이블 이름입니다: " + tableName);
+        }
+        if (partitionKey == null) {
+            partitionKey = "created_at";
+        }
+    }
+}
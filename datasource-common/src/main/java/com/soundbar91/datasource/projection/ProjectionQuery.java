@@ -0,0 +1,56 @@
+package com.soundbar91.datasource.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선택한 컬럼만 조회하는 JPQL 프로젝션 쿼리
+ *
+ * SELECT 절에 지정한 속성만 나열하므로 엔티티 전체를 로드하지 않고, 영속성 컨텍스트에도 올리지 않습니다.
+ * 속성명은 도메인 enum(SelectableField)에서 오는 고정 값이어야 하며, 조건 값은 모두 바인딩 파라미터로 전달합니다.
+ */
+public class ProjectionQuery<T> {
+
+    private final EntityManager entityManager;
+    private final String entityName;
+
+    public ProjectionQuery(Class<T> entityType, EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.entityName = entityManager.getMetamodel().entity(entityType).getName();
+    }
+
+    /**
+     * 동등 조건(속성 = 값, AND 결합)으로 선택 속성 조회
+     *
+     * @return attributes 순서의 Object[] 행 목록
+     */
+    public List<Object[]> select(String[] attributes, Map<String, ?> equalities) {
+        if (attributes.length == 0) {
+            throw new IllegalArgumentException("조회할 속성이 없습니다.");
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append("e.").append(attributes[i]);
+        }
+        jpql.append(" FROM ").append(entityName).append(" e");
+
+        int index = 0;
+        for (String attribute : equalities.keySet()) {
+            jpql.append(index == 0 ? " WHERE " : " AND ")
+                    .append("e.").append(attribute).append(" = :p").append(index++);
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        index = 0;
+        for (Object value : equalities.values()) {
+            query.setParameter("p" + index++, value);
+        }
+        return query.getResultList();
+    }
+}
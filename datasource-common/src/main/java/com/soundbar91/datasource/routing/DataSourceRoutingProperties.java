@@ -0,0 +1,52 @@
+package com.soundbar91.datasource.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 속성
+ * application.yml에서 'datasource.routing' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * datasource:
+ *   routing:
+ *     enabled: true
+ *     write-stickiness: 2s
+ *     replicas:
+ *       - url: jdbc:postgresql://replica-1:5432/nuga_prod
+ *         username: nuga
+ *         password: secret
+ *         maximum-pool-size: 20
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        Duration writeStickiness,
+        List<Replica> replicas
+) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            int maximumPoolSize
+    ) {
+        public Replica {
+            if (maximumPoolSize <= 0) {
+                maximumPoolSize = 10;
+            }
+        }
+    }
+
+    public DataSourceRoutingProperties {
+        if (writeStickiness == null) {
+            writeStickiness = Duration.ofSeconds(2);
+        }
+        if (replicas == null) {
+            replicas = List.of();
+        }
+    }
+}
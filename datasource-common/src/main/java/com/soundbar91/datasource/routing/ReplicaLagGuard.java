@@ -0,0 +1,43 @@
+package com.soundbar91.datasource.routing;
+
+import java.time.Duration;
+
+/**
+ * 복제 지연을 고려한 읽기 라우팅 가드
+ *
+ * 같은 스레드(요청)에서 쓰기 트랜잭션이 커넥션을 얻은 뒤 일정 시간 동안은
+ * 읽기 전용 트랜잭션도 Primary로 보내 방금 쓴 데이터를 읽을 수 있게 합니다.
+ * 풀링된 스레드가 다음 요청까지 기록을 끌고 가지 않도록 요청이 끝나면 ReplicaLagGuardFilter가 clear()를 호출합니다.
+ */
+public final class ReplicaLagGuard {
+
+    private static final long NOT_WRITTEN = Long.MIN_VALUE;
+
+    private static final ThreadLocal<long[]> LAST_WRITE_NANOS = ThreadLocal.withInitial(() -> new long[]{NOT_WRITTEN});
+
+    private ReplicaLagGuard() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 현재 스레드에서 쓰기가 발생했음을 기록
+     */
+    public static void markWrite() {
+        LAST_WRITE_NANOS.get()[0] = System.nanoTime();
+    }
+
+    /**
+     * 지정한 시간 안에 쓰기가 있었는지 확인
+     */
+    public static boolean wroteWithin(Duration window) {
+        long lastWrite = LAST_WRITE_NANOS.get()[0];
+        return lastWrite != NOT_WRITTEN && System.nanoTime() - lastWrite < window.toNanos();
+    }
+
+    /**
+     * 현재 스레드의 쓰기 기록 초기화
+     */
+    public static void clear() {
+        LAST_WRITE_NANOS.remove();
+    }
+}
@@ -0,0 +1,28 @@
+package com.soundbar91.datasource.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 끝나면 현재 스레드의 쓰기 기록을 지우는 필터
+ *
+ * 쓰기 고정(write-stickiness)은 같은 요청 안에서만 유효해야 하므로,
+ * 요청 처리 스레드가 풀로 돌아가기 전에 ReplicaLagGuard를 초기화합니다.
+ */
+public class ReplicaLagGuardFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaLagGuard.clear();
+        }
+    }
+}
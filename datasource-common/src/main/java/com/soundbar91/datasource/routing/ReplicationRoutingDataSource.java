@@ -0,0 +1,141 @@
+package com.soundbar91.datasource.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * 읽기 전용 트랜잭션을 Replica로 보내는 라우팅 DataSource
+ *
+ * 트랜잭션 속성은 커넥션을 실제로 얻는 시점에 확인하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<String> replicaKeys;
+    private final List<DataSource> replicas;
+    private final Duration writeStickiness;
+    private final AtomicInteger replicaCursor = new AtomicInteger();
+    private final Map<String, LongAdder> lookupCounts;
+
+    public ReplicationRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration writeStickiness) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.writeStickiness = writeStickiness;
+
+        Map<Object, Object> targets = new HashMap<>();
+        Map<String, LongAdder> counts = new LinkedHashMap<>();
+        List<String> keys = new ArrayList<>();
+        targets.put(PRIMARY, primary);
+        counts.put(PRIMARY, new LongAdder());
+        for (int i = 0; i < this.replicas.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            targets.put(key, this.replicas.get(i));
+            counts.put(key, new LongAdder());
+            keys.add(key);
+        }
+        this.replicaKeys = List.copyOf(keys);
+        this.lookupCounts = Collections.unmodifiableMap(counts);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = resolveKey();
+        lookupCounts.get(key).increment();
+        return key;
+    }
+
+    private String resolveKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReplicaLagGuard.markWrite();
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || ReplicaLagGuard.wroteWithin(writeStickiness)) {
+            return PRIMARY;
+        }
+        int index = Math.floorMod(replicaCursor.getAndIncrement(), replicaKeys.size());
+        return replicaKeys.get(index);
+    }
+
+    /**
+     * Primary 풀의 접속 정보와 타임아웃을 이어받는 읽기 전용 Replica 풀 생성
+     */
+    public static HikariDataSource createReplicaPool(HikariDataSource primary, DataSourceRoutingProperties.Replica replica,
+                                                     String poolName, int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username() != null ? replica.username() : primary.getUsername());
+        dataSource.setPassword(replica.password() != null ? replica.password() : primary.getPassword());
+        dataSource.setDriverClassName(replica.driverClassName() != null ? replica.driverClassName() : primary.getDriverClassName());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Replica 풀을 decorator로 감싼 새 라우팅 DataSource (Primary와 쓰기 고정 시간은 그대로)
+     * decorator에는 라우팅 키(replica-N)와 Replica 풀을 넘깁니다. Replica가 없으면 자신을 그대로 돌려줍니다.
+     */
+    public ReplicationRoutingDataSource decorateReplicas(BiFunction<String, DataSource, DataSource> decorator) {
+        if (replicas.isEmpty()) {
+            return this;
+        }
+        List<DataSource> decorated = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            decorated.add(decorator.apply(replicaKeys.get(i), replicas.get(i)));
+        }
+        return new ReplicationRoutingDataSource(primary, decorated, writeStickiness);
+    }
+
+    /**
+     * 라우팅 대상별 커넥션 조회 횟수
+     */
+    public Map<String, LongAdder> getLookupCounts() {
+        return lookupCounts;
+    }
+
+    /**
+     * 라우팅 대상 DataSource (Primary 포함)
+     */
+    public Map<Object, DataSource> getTargets() {
+        return getResolvedDataSources();
+    }
+
+    /**
+     * Replica 풀은 빈으로 등록되지 않으므로 직접 정리한다.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
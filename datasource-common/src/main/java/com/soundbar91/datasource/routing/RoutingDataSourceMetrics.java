@@ -0,0 +1,59 @@
+package com.soundbar91.datasource.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * 라우팅 대상별 커넥션 풀 메트릭
+ *
+ * datasource.routing.lookups{target}           대상별 커넥션 획득 횟수
+ * datasource.routing.connections.*{target}    대상별 풀 상태 (active, idle, pending, total)
+ */
+public class RoutingDataSourceMetrics implements MeterBinder {
+
+    private final ReplicationRoutingDataSource routingDataSource;
+
+    public RoutingDataSourceMetrics(ReplicationRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<String, LongAdder> entry : routingDataSource.getLookupCounts().entrySet()) {
+            FunctionCounter.builder("datasource.routing.lookups", entry.getValue(), LongAdder::sum)
+                    .description("라우팅 대상별 커넥션 획득 횟수")
+                    .tag("target", entry.getKey())
+                    .register(registry);
+        }
+
+        for (Map.Entry<Object, DataSource> entry : routingDataSource.getTargets().entrySet()) {
+            if (entry.getValue() instanceof HikariDataSource hikari) {
+                String target = entry.getKey().toString();
+                registerPoolGauge(registry, "active", target, hikari, HikariPoolMXBean::getActiveConnections);
+                registerPoolGauge(registry, "idle", target, hikari, HikariPoolMXBean::getIdleConnections);
+                registerPoolGauge(registry, "pending", target, hikari, HikariPoolMXBean::getThreadsAwaitingConnection);
+                registerPoolGauge(registry, "total", target, hikari, HikariPoolMXBean::getTotalConnections);
+            }
+        }
+    }
+
+    private void registerPoolGauge(MeterRegistry registry, String name, String target,
+                                   HikariDataSource hikari, ToIntFunction<HikariPoolMXBean> value) {
+        Gauge.builder("datasource.routing.connections." + name, hikari, ds -> {
+                    HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+                    return pool == null ? 0 : value.applyAsInt(pool);
+                })
+                .tag("target", target)
+                .tag("pool", hikari.getPoolName())
+                .register(registry);
+    }
+}
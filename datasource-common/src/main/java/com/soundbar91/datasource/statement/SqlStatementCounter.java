@@ -0,0 +1,100 @@
+package com.soundbar91.datasource.statement;
+
+import net.ttddyy.dsproxy.QueryType;
+
+/**
+ * 스레드 단위 SQL 실행 횟수 카운터
+ *
+ * 열린 Scope가 있는 스레드에서만 집계하므로, 샘플링되지 않은 요청은 카운터 조회 한 번의 비용만 듭니다.
+ * Scope는 중첩할 수 있으며 각 Scope는 자신이 열린 이후의 실행 횟수만 반환합니다.
+ *
+ * 사용 예시:
+ * try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+ *     orderService.createOrder(...);
+ *     log.info("statements: {}", scope.counts());
+ * }
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     */
+    public static Scope open() {
+        Counter counter = CURRENT.get();
+        boolean owner = counter == null;
+        if (owner) {
+            counter = new Counter();
+            CURRENT.set(counter);
+        }
+        return new Scope(counter, counter.snapshot(), owner);
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(QueryType type, long elapsedMillis) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.record(type, elapsedMillis);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Counter counter;
+        private final StatementCounts baseline;
+        private final boolean owner;
+
+        private Scope(Counter counter, StatementCounts baseline, boolean owner) {
+            this.counter = counter;
+            this.baseline = baseline;
+            this.owner = owner;
+        }
+
+        /**
+         * Scope가 열린 이후 실행된 SQL 횟수
+         */
+        public StatementCounts counts() {
+            return counter.snapshot().minus(baseline);
+        }
+
+        @Override
+        public void close() {
+            if (owner) {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        private long select;
+        private long insert;
+        private long update;
+        private long delete;
+        private long other;
+        private long elapsedMillis;
+
+        void record(QueryType type, long elapsed) {
+            switch (type) {
+                case SELECT -> select++;
+                case INSERT -> insert++;
+                case UPDATE -> update++;
+                case DELETE -> delete++;
+                default -> other++;
+            }
+            elapsedMillis += elapsed;
+        }
+
+        StatementCounts snapshot() {
+            return new StatementCounts(select, insert, update, delete, other, elapsedMillis);
+        }
+    }
+}
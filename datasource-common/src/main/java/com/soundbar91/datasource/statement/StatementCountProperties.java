@@ -0,0 +1,31 @@
+package com.soundbar91.datasource.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQL 실행 횟수 집계 설정 속성
+ * application.yml에서 'datasource.statement-count' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * datasource:
+ *   statement-count:
+ *     enabled: true
+ *     sample-rate: 0.05      # 요청 단위 집계 비율 (0.0 ~ 1.0)
+ *     warn-threshold: 20     # 요청당 SQL 수가 이 값을 넘으면 WARN 로그
+ */
+@ConfigurationProperties(prefix = "datasource.statement-count")
+public record StatementCountProperties(
+        boolean enabled,
+        double sampleRate,
+        int warnThreshold
+) {
+
+    public StatementCountProperties {
+        if (sampleRate <= 0 || sampleRate > 1) {
+            sampleRate = 1.0;
+        }
+        if (warnThreshold <= 0) {
+            warnThreshold = 20;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.soundbar91.datasource.statement;
+
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * DataSource 빈을 datasource-proxy로 감싸 SQL 실행 횟수를 집계하는 BeanPostProcessor
+ *
+ * 빈을 ProxyDataSource로 바꾸지 않고 원래 클래스의 프록시로 장식해 getConnection()만 가로챕니다.
+ * HikariDataSource 타입 주입, 풀 설정, 풀 메트릭(HikariCP MeterBinder)은 원본 객체로 그대로 위임됩니다.
+ *
+ * 라우팅 구성에서는 애플리케이션이 사용하는 최상위 'dataSource'만 감싸고,
+ * 라우팅 DataSource와 그 대상 풀(primaryDataSource)은 제외해 같은 SQL이 두 번 집계되지 않게 합니다.
+ *
+ * 도메인 전용 풀 구성에서는 EntityManagerFactory에 넘기는 LazyConnectionDataSourceProxy가 빈이 아니므로,
+ * Primary인 도메인 풀 빈(예: orderDataSource)을 감싸고 도메인 라우팅 DataSource 빈은 빈이 아닌 Replica 풀만 감쌉니다.
+ */
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final Set<String> excludedBeanNames;
+    private final StatementCountingListener listener = new StatementCountingListener();
+
+    public StatementCountingDataSourcePostProcessor(Set<String> excludedBeanNames) {
+        this.excludedBeanNames = Set.copyOf(excludedBeanNames);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)
+                || bean instanceof ProxyDataSource
+                || excludedBeanNames.contains(beanName)) {
+            return bean;
+        }
+        if (bean instanceof ReplicationRoutingDataSource routingDataSource) {
+            return routingDataSource.decorateReplicas((key, replica) -> decorate(replica, beanName + "-" + key));
+        }
+        if (bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+        return decorate(dataSource, beanName);
+    }
+
+    private DataSource decorate(DataSource dataSource, String name) {
+        DataSource counting = ProxyDataSourceBuilder.create(dataSource)
+                .name(name)
+                .listener(listener)
+                .build();
+
+        ProxyFactory proxyFactory = new ProxyFactory(dataSource);
+        // final 클래스는 상속 프록시를 만들 수 없으므로 DataSource 인터페이스 프록시로 대체
+        proxyFactory.setProxyTargetClass(!Modifier.isFinal(dataSource.getClass().getModifiers()));
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!"getConnection".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            Object[] args = invocation.getArguments();
+            return args.length == 0
+                    ? counting.getConnection()
+                    : counting.getConnection((String) args[0], (String) args[1]);
+        });
+        return (DataSource) proxyFactory.getProxy(dataSource.getClass().getClassLoader());
+    }
+}
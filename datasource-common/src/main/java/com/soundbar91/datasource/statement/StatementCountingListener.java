@@ -0,0 +1,32 @@
+package com.soundbar91.datasource.statement;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 실행 리스너
+ * 실행된 SQL을 종류별로 분류해 현재 스레드의 SqlStatementCounter에 기록합니다.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!SqlStatementCounter.isActive()) {
+            return;
+        }
+        // Statement 배치에 여러 SQL이 담긴 경우에도 실행 시간은 한 번만 더한다
+        long elapsed = execInfo.getElapsedTime();
+        for (QueryInfo queryInfo : queryInfoList) {
+            SqlStatementCounter.record(QueryUtils.getQueryType(queryInfo.getQuery()), elapsed);
+            elapsed = 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.soundbar91.datasource.statement;
+
+/**
+ * SQL 실행 횟수 스냅샷
+ * JDBC 배치는 왕복 한 번이므로 1회로 셉니다.
+ */
+public record StatementCounts(
+        long select,
+        long insert,
+        long update,
+        long delete,
+        long other,
+        long elapsedMillis
+) {
+
+    public static final StatementCounts EMPTY = new StatementCounts(0, 0, 0, 0, 0, 0);
+
+    public long total() {
+        return select + insert + update + delete + other;
+    }
+
+    StatementCounts minus(StatementCounts baseline) {
+        return new StatementCounts(
+                select - baseline.select,
+                insert - baseline.insert,
+                update - baseline.update,
+                delete - baseline.delete,
+                other - baseline.other,
+                elapsedMillis - baseline.elapsedMillis
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + total() + " (select=" + select + ", insert=" + insert + ", update=" + update
+                + ", delete=" + delete + ", other=" + other + ", elapsed=" + elapsedMillis + "ms)";
+    }
+}
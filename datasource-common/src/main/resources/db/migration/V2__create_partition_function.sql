@@ -0,0 +1,63 @@
+-- 일반 테이블을 월 단위 범위 파티션 테이블로 전환하는 함수 (PostgreSQL 11+)
+--
+-- CREATE TABLE IF NOT EXISTS ... PARTITION BY 는 이미 있는 테이블을 바꾸지 못하므로
+-- 새 파티션 테이블을 만들고 행을 복사한 뒤 이름을 맞바꿉니다.
+--   1. 기존 테이블과 인덱스를 <table>_unpartitioned 로 이름 변경
+--   2. 같은 컬럼 구성으로 PARTITION BY RANGE (p_column) 테이블 생성 (기본키에 파티션 키 포함)
+--   3. 가장 오래된 행의 월부터 현재 + p_months_ahead 개월까지 월 파티션과 기본 파티션 생성
+--   4. 행 복사
+-- 이미 파티션 테이블이거나 테이블이 없으면 아무것도 하지 않습니다.
+-- 전환하는 동안 원본 테이블에 ACCESS EXCLUSIVE 잠금이 걸리므로 점검 시간에 배포합니다.
+-- <table>_unpartitioned 는 검증 후 수동으로 DROP 합니다.
+
+CREATE OR REPLACE FUNCTION nuga_partition_by_month(p_table TEXT, p_column TEXT, p_months_ahead INTEGER)
+    RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_kind   "char";
+    v_legacy TEXT := p_table || '_unpartitioned';
+    v_index  TEXT;
+    v_month  DATE;
+    v_until  DATE;
+BEGIN
+    SELECT c.relkind INTO v_kind FROM pg_class c WHERE c.oid = to_regclass(p_table);
+    IF v_kind IS NULL THEN
+        RAISE NOTICE '[Partition] % 테이블이 없어 전환을 건너뜁니다', p_table;
+        RETURN;
+    END IF;
+    IF v_kind = 'p' THEN
+        RAISE NOTICE '[Partition] % 테이블은 이미 파티션 테이블입니다', p_table;
+        RETURN;
+    END IF;
+
+    EXECUTE format('LOCK TABLE %I IN ACCESS EXCLUSIVE MODE', p_table);
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, v_legacy);
+    FOR v_index IN
+        SELECT i.relname
+        FROM pg_index x
+        JOIN pg_class i ON i.oid = x.indexrelid
+        WHERE x.indrelid = to_regclass(v_legacy)
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', v_index, left(v_index, 49) || '_unpartitioned');
+    END LOOP;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS, PRIMARY KEY (id, %I))'
+                       || ' PARTITION BY RANGE (%I)', p_table, v_legacy, p_column, p_column);
+
+    EXECUTE format('SELECT date_trunc(''month'', min(%I))::date FROM %I', p_column, v_legacy) INTO v_month;
+    v_month := COALESCE(v_month, date_trunc('month', now())::date);
+    v_until := (date_trunc('month', now()) + make_interval(months => p_months_ahead))::date;
+    WHILE v_month <= v_until LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       p_table || '_p' || to_char(v_month, 'YYYYMM'), p_table,
+                       v_month, (v_month + INTERVAL '1 month')::date);
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I', p_table, v_legacy);
+    RAISE NOTICE '[Partition] % 테이블 파티션 전환 완료 (기존 테이블: %)', p_table, v_legacy;
+END;
+$$;
@@ -0,0 +1,92 @@
+package com.soundbar91.datasource.isolation;
+
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 풀은 커넥션을 요청하기 전까지 DB에 접속하지 않으므로 구성만 검증합니다.
+ */
+@DisplayName("DomainPersistenceFactory 테스트")
+class DomainPersistenceFactoryTest {
+
+    private static final DataSourceRoutingProperties ROUTING = new DataSourceRoutingProperties(true, Duration.ofSeconds(2),
+            List.of(new DataSourceRoutingProperties.Replica("jdbc:h2:mem:replica", null, null, null, 20)));
+
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable closeable : closeables) {
+            closeable.close();
+        }
+    }
+
+    private static DomainDataSourceProperties.Domain domain(String url) {
+        return new DomainDataSourceProperties.Domain(true, url, null, null, null, 5, 1, 1000, null);
+    }
+
+    private HikariDataSource pool() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("NugaHikariPool-payment");
+        pool.setJdbcUrl("jdbc:h2:mem:primary");
+        pool.setUsername("sa");
+        closeables.add(pool);
+        return pool;
+    }
+
+    private ReplicationRoutingDataSource routing(DomainDataSourceProperties.Domain properties,
+                                                 DataSourceRoutingProperties routingProperties) {
+        ReplicationRoutingDataSource routingDataSource = DomainPersistenceFactory.createRoutingDataSource(
+                "payment", pool(), properties, routingProperties);
+        closeables.add(routingDataSource::destroy);
+        return routingDataSource;
+    }
+
+    @Test
+    @DisplayName("라우팅이 켜져 있으면 전용 풀에도 도메인 전용 Replica 풀을 붙인다")
+    void createRoutingDataSource_WithRouting_AddsDomainReplicaPool() {
+        // when
+        ReplicationRoutingDataSource routingDataSource = routing(domain(null), ROUTING);
+
+        // then
+        DataSource replica = routingDataSource.getTargets().get("replica-0");
+        assertThat(replica).isInstanceOf(HikariDataSource.class);
+        HikariDataSource replicaPool = (HikariDataSource) replica;
+        assertThat(replicaPool.getPoolName()).isEqualTo("NugaHikariPool-payment-replica-0");
+        assertThat(replicaPool.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(replicaPool.getUsername()).isEqualTo("sa");
+        assertThat(replicaPool.isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("라우팅이 꺼져 있으면 Primary로만 보낸다")
+    void createRoutingDataSource_WithoutRouting_UsesPrimaryOnly() {
+        // when
+        ReplicationRoutingDataSource routingDataSource = routing(domain(null), null);
+
+        // then
+        assertThat(routingDataSource.getTargets()).containsOnlyKeys(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("도메인이 별도 DB를 쓰면 공용 Replica를 붙이지 않는다")
+    void createRoutingDataSource_WithOwnDatabase_UsesPrimaryOnly() {
+        // when
+        ReplicationRoutingDataSource routingDataSource = routing(domain("jdbc:h2:mem:payment"), ROUTING);
+
+        // then
+        assertThat(routingDataSource.getTargets()).containsOnlyKeys(ReplicationRoutingDataSource.PRIMARY);
+    }
+}
@@ -0,0 +1,132 @@
+package com.soundbar91.datasource.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyPartitionManager 테스트")
+class MonthlyPartitionManagerTest {
+
+    private static final PartitionedTable ORDERS = new PartitionedTable("orders", "created_at");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneId.of("UTC"));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MonthlyPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new MonthlyPartitionManager(jdbcTemplate, List.of(ORDERS), new PartitionProperties(true, 2, 12), CLOCK);
+    }
+
+    @Nested
+    @DisplayName("파티션 생성")
+    class CreatePartitions {
+
+        @Test
+        @DisplayName("현재 월부터 monthsAhead 개월 뒤까지의 파티션을 생성한다")
+        void maintain_CreatesFuturePartitions() {
+            // given
+            givenPartitioned();
+            given(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("orders"))).willReturn(List.of());
+
+            // when
+            partitionManager.maintain();
+
+            // then
+            then(jdbcTemplate).should().execute(
+                    "CREATE TABLE IF NOT EXISTS orders_p202603 PARTITION OF orders FOR VALUES FROM ('2026-03-01') TO ('2026-04-01')");
+            then(jdbcTemplate).should().execute(
+                    "CREATE TABLE IF NOT EXISTS orders_p202605 PARTITION OF orders FOR VALUES FROM ('2026-05-01') TO ('2026-06-01')");
+            then(jdbcTemplate).should(times(3)).execute(startsWith("CREATE TABLE"));
+        }
+    }
+
+    @Nested
+    @DisplayName("파티션 분리")
+    class DetachPartitions {
+
+        @Test
+        @DisplayName("보존 기간이 지난 파티션만 분리한다")
+        void maintain_DetachesExpiredPartitions() {
+            // given
+            givenPartitioned();
+            given(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("orders")))
+                    .willReturn(List.of("orders_p202502", "orders_p202503", "orders_default"));
+
+            // when
+            partitionManager.maintain();
+
+            // then
+            then(jdbcTemplate).should().execute("ALTER TABLE orders DETACH PARTITION orders_p202502");
+            then(jdbcTemplate).should(never()).execute("ALTER TABLE orders DETACH PARTITION orders_p202503");
+            then(jdbcTemplate).should(never()).execute("ALTER TABLE orders DETACH PARTITION orders_default");
+        }
+    }
+
+    @Nested
+    @DisplayName("파티션 테이블 확인")
+    class CheckPartitioned {
+
+        @Test
+        @DisplayName("아직 일반 테이블이면 파티션을 만들거나 분리하지 않고 건너뛴다")
+        void maintain_SkipsNonPartitionedTable() {
+            // given
+            given(jdbcTemplate.queryForList(contains("relkind"), eq(String.class), eq("orders"))).willReturn(List.of("r"));
+
+            // when
+            partitionManager.maintain();
+
+            // then
+            then(jdbcTemplate).should(never()).execute(anyString());
+            then(jdbcTemplate).should(never()).queryForList(contains("pg_inherits"), eq(String.class), eq("orders"));
+        }
+
+        @Test
+        @DisplayName("테이블이 없으면 건너뛴다")
+        void maintain_SkipsMissingTable() {
+            // given
+            given(jdbcTemplate.queryForList(contains("relkind"), eq(String.class), eq("orders"))).willReturn(List.of());
+
+            // when
+            partitionManager.maintain();
+
+            // then
+            then(jdbcTemplate).should(never()).execute(anyString());
+        }
+    }
+
+    private void givenPartitioned() {
+        given(jdbcTemplate.queryForList(contains("relkind"), eq(String.class), eq("orders"))).willReturn(List.of("p"));
+    }
+
+    @Test
+    @DisplayName("파티션 이름에서 월을 해석한다")
+    void parseMonth_ParsesSuffix() {
+        assertThat(MonthlyPartitionManager.parseMonth(ORDERS, "orders_p202612")).isEqualTo(YearMonth.of(2026, 12));
+        assertThat(MonthlyPartitionManager.parseMonth(ORDERS, "orders_default")).isNull();
+    }
+}
@@ -0,0 +1,166 @@
+package com.soundbar91.datasource.routing;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB를 Primary/Replica 대역으로 사용하는 라우팅 테스트
+ */
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = markedDataSource("routing_primary", "primary");
+        DataSource replica = markedDataSource("routing_replica", "replica");
+
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+
+        ReplicaLagGuard.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaLagGuard.clear();
+    }
+
+    @Nested
+    @DisplayName("라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 Replica로 라우팅된다")
+        void readOnlyTransaction_RoutesToReplica() {
+            // when
+            String target = readOnlyTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(target).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션은 Primary로 라우팅된다")
+        void readWriteTransaction_RoutesToPrimary() {
+            // when
+            String target = readWriteTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(target).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖의 조회는 Primary로 라우팅된다")
+        void withoutTransaction_RoutesToPrimary() {
+            // when
+            String target = currentTarget();
+
+            // then
+            assertThat(target).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연 대응")
+    class ReplicaLag {
+
+        @Test
+        @DisplayName("같은 요청에서 쓰기 직후의 읽기 전용 트랜잭션은 Primary로 라우팅된다")
+        void readAfterWrite_RoutesToPrimary() {
+            // given
+            readWriteTx.execute(status -> currentTarget());
+
+            // when
+            String target = readOnlyTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(target).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("쓰기 기록을 초기화하면 다시 Replica로 라우팅된다")
+        void readAfterClear_RoutesToReplica() {
+            // given
+            readWriteTx.execute(status -> currentTarget());
+            ReplicaLagGuard.clear();
+
+            // when
+            String target = readOnlyTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(target).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("요청이 끝나면 필터가 쓰기 기록을 지워 다음 요청은 Replica로 라우팅된다")
+        void readInNextRequest_AfterFilter_RoutesToReplica() throws Exception {
+            // given
+            FilterChain writingChain = (request, response) -> readWriteTx.execute(status -> currentTarget());
+            new ReplicaLagGuardFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), writingChain);
+
+            // when
+            String target = readOnlyTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(target).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭")
+    class Metrics {
+
+        @Test
+        @DisplayName("라우팅 대상별 커넥션 획득 횟수가 집계된다")
+        void lookupCounts_AreRecordedPerTarget() {
+            // when
+            readOnlyTx.execute(status -> currentTarget());
+            readOnlyTx.execute(status -> currentTarget());
+
+            // then
+            assertThat(routingDataSource.getLookupCounts().get("replica-0").sum()).isEqualTo(2);
+        }
+    }
+
+    private String currentTarget() {
+        return jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class);
+    }
+
+    private static DataSource markedDataSource(String database, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM routing_marker");
+        jdbc.update("INSERT INTO routing_marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
@@ -0,0 +1,101 @@
+package com.soundbar91.datasource.statement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementCounter 테스트")
+class SqlStatementCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource target = new DriverManagerDataSource("jdbc:h2:mem:statement_count;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource dataSource = (DataSource) new StatementCountingDataSourcePostProcessor(Set.of())
+                .postProcessAfterInitialization(target, "dataSource");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items");
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+    }
+
+    @Nested
+    @DisplayName("Scope")
+    class ScopeCounting {
+
+        @Test
+        @DisplayName("Scope 안에서 실행된 SQL을 종류별로 센다")
+        void open_CountsByType() {
+            // when
+            StatementCounts counts;
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+                jdbcTemplate.update("INSERT INTO items VALUES (1, 'a')");
+                jdbcTemplate.update("UPDATE items SET name = 'b' WHERE id = 1");
+                jdbcTemplate.queryForList("SELECT * FROM items");
+                jdbcTemplate.queryForList("SELECT * FROM items WHERE id = 1");
+                counts = scope.counts();
+            }
+
+            // then
+            assertThat(counts.select()).isEqualTo(2);
+            assertThat(counts.insert()).isEqualTo(1);
+            assertThat(counts.update()).isEqualTo(1);
+            assertThat(counts.total()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("JDBC 배치는 한 번으로 센다")
+        void batch_CountsOnce() {
+            // when
+            StatementCounts counts;
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+                jdbcTemplate.batchUpdate("INSERT INTO items VALUES (?, ?)",
+                        List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"}));
+                counts = scope.counts();
+            }
+
+            // then
+            assertThat(counts.insert()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("중첩 Scope는 자신이 열린 이후의 SQL만 반환한다")
+        void nestedScope_CountsOwnStatements() {
+            // when
+            try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+                jdbcTemplate.queryForList("SELECT * FROM items");
+                try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                    jdbcTemplate.queryForList("SELECT * FROM items");
+
+                    // then
+                    assertThat(inner.counts().total()).isEqualTo(1);
+                }
+                assertThat(outer.counts().total()).isEqualTo(2);
+                assertThat(SqlStatementCounter.isActive()).isTrue();
+            }
+            assertThat(SqlStatementCounter.isActive()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Scope 밖의 SQL은 집계하지 않는다")
+        void outsideScope_NotCounted() {
+            // given
+            jdbcTemplate.queryForList("SELECT * FROM items");
+
+            // when
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+                // then
+                assertThat(scope.counts()).isEqualTo(StatementCounts.EMPTY);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.soundbar91.datasource.statement;
+
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.isolation.DomainPersistenceFactory;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicaLagGuard;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementCountingDataSourcePostProcessor 테스트")
+class StatementCountingDataSourcePostProcessorTest {
+
+    private final StatementCountingDataSourcePostProcessor postProcessor =
+            new StatementCountingDataSourcePostProcessor(Set.of("primaryDataSource"));
+
+    private HikariDataSource hikari;
+
+    @BeforeEach
+    void setUp() {
+        hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:mem:statement_count_pool;DB_CLOSE_DELAY=-1");
+        hikari.setUsername("sa");
+        hikari.setPoolName("NugaHikariPool-order");
+        hikari.setMaximumPoolSize(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hikari.close();
+        ReplicaLagGuard.clear();
+    }
+
+    @Test
+    @DisplayName("Hikari 빈을 교체하지 않고 HikariDataSource 타입과 풀 설정을 유지한 채 장식한다")
+    void decoratesHikariDataSource_KeepsTypeAndPoolConfig() {
+        // when
+        Object decorated = postProcessor.postProcessAfterInitialization(hikari, "orderDataSource");
+
+        // then
+        assertThat(decorated).isNotSameAs(hikari).isInstanceOf(HikariDataSource.class);
+        HikariDataSource pool = (HikariDataSource) decorated;
+        assertThat(pool.getPoolName()).isEqualTo("NugaHikariPool-order");
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("장식된 DataSource로 실행한 SQL을 집계한다")
+    void decoratedDataSource_CountsStatements() {
+        // given
+        DataSource decorated = (DataSource) postProcessor.postProcessAfterInitialization(hikari, "orderDataSource");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(decorated);
+
+        // when
+        StatementCounts counts;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            counts = scope.counts();
+        }
+
+        // then
+        assertThat(counts.select()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제외된 빈 이름은 그대로 반환한다")
+    void excludedBean_ReturnsAsIs() {
+        // when & then
+        assertThat(postProcessor.postProcessAfterInitialization(hikari, "primaryDataSource")).isSameAs(hikari);
+    }
+
+    @Test
+    @DisplayName("도메인 전용 풀과 라우팅을 함께 쓰면 빈이 아닌 도메인 Replica 풀에서 실행한 SQL도 집계한다")
+    void isolatedRoutingDataSource_CountsReplicaStatements() throws Exception {
+        // given
+        DataSourceRoutingProperties routingProperties = new DataSourceRoutingProperties(true, Duration.ZERO,
+                List.of(new DataSourceRoutingProperties.Replica(
+                        "jdbc:h2:mem:statement_count_replica;DB_CLOSE_DELAY=-1", null, null, null, 3)));
+        DomainDataSourceProperties.Domain domain =
+                new DomainDataSourceProperties.Domain(true, null, null, null, null, 3, 1, 1000, null);
+
+        HikariDataSource domainPool = (HikariDataSource) postProcessor.postProcessAfterInitialization(hikari, "orderDataSource");
+        ReplicationRoutingDataSource routing = (ReplicationRoutingDataSource) postProcessor.postProcessAfterInitialization(
+                DomainPersistenceFactory.createRoutingDataSource("order", domainPool, domain, routingProperties),
+                "orderRoutingDataSource");
+        // EntityManagerFactory에 넘기는 것과 같은 빈이 아닌 LazyConnectionDataSourceProxy
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransactionTemplate readWriteTx = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        // when
+        StatementCounts counts;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            readWriteTx.execute(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+            readOnlyTx.execute(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+            counts = scope.counts();
+        } finally {
+            routing.destroy();
+        }
+
+        // then
+        assertThat(routing.getLookupCounts().get(ReplicationRoutingDataSource.PRIMARY).sum()).isEqualTo(1);
+        assertThat(routing.getLookupCounts().get(ReplicationRoutingDataSource.REPLICA_PREFIX + 0).sum()).isEqualTo(1);
+        assertThat(counts.select()).isEqualTo(2);
+    }
+}
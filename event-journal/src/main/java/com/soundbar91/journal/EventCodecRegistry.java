@@ -0,0 +1,54 @@
+package com.soundbar91.journal;
+
+import com.soundbar91.common.event.EventCodec;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 타입별 코덱 조회
+ *
+ * 등록 이후 변경되지 않으므로 조회는 락 없이 수행됩니다.
+ * 타입 ID나 이벤트 클래스가 중복되면 저널을 읽을 수 없게 되므로 생성 시점에 거부합니다.
+ */
+public class EventCodecRegistry {
+
+    private final Map<Class<?>, EventCodec<?>> byType = new HashMap<>();
+    private final EventCodec<?>[] byTypeId = new EventCodec<?>[Short.MAX_VALUE + 1];
+
+    public EventCodecRegistry(Collection<? extends EventCodec<?>> codecs) {
+        for (EventCodec<?> codec : codecs) {
+            int typeId = codec.typeId();
+            if (typeId <= 0 || typeId > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("이벤트 타입 ID는 1 ~ " + Short.MAX_VALUE + " 범위여야 합니다. codec: "
+                        + codec.getClass().getName() + ", typeId: " + typeId);
+            }
+            if (byTypeId[typeId] != null) {
+                throw new IllegalStateException("이벤트 타입 ID가 중복됩니다. typeId: " + typeId + ", codecs: "
+                        + byTypeId[typeId].getClass().getName() + ", " + codec.getClass().getName());
+            }
+            if (byType.putIfAbsent(codec.eventType(), codec) != null) {
+                throw new IllegalStateException("이벤트 타입에 코덱이 중복 등록되었습니다. eventType: " + codec.eventType().getName());
+            }
+            byTypeId[typeId] = codec;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> EventCodec<T> forType(Class<T> eventType) {
+        return (EventCodec<T>) byType.get(eventType);
+    }
+
+    public EventCodec<?> forTypeId(int typeId) {
+        return typeId > 0 && typeId < byTypeId.length ? byTypeId[typeId] : null;
+    }
+
+    public boolean supports(Class<?> eventType) {
+        return byType.containsKey(eventType);
+    }
+
+    public int size() {
+        return byType.size();
+    }
+}
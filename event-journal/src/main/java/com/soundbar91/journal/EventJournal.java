@@ -0,0 +1,321 @@
+package com.soundbar91.journal;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 추가 전용(append-only) 도메인 이벤트 저널
+ *
+ * 이벤트를 EventCodec으로 인코딩해 memory-mapped 세그먼트 파일에 순서대로 기록합니다.
+ * 인코딩과 CRC 계산은 호출 스레드에서 락 밖에서 수행하고, 락 안에서는 매핑 영역에 복사만 합니다.
+ * fsync는 전용 flusher 스레드가 flush-interval마다 그동안 쌓인 구간을 한 번에 반영(group commit)하며,
+ * 같은 스레드가 retention-check-interval마다 보존 한도를 넘은 세그먼트를 삭제합니다.
+ *
+ * 오프셋은 저널 전체에서 연속된 바이트 위치이고, 세그먼트가 바뀌어도 끊기지 않습니다.
+ * endOffset(volatile)을 기록 후에 갱신하므로 같은 프로세스의 JournalReader는 그 이전까지 안전하게 읽습니다.
+ */
+public class EventJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventJournal.class);
+
+    static final int HEADER_SIZE = 4 + 4 + 2 + 8;
+    static final int END_OF_SEGMENT = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long retentionBytes;
+    private final long retentionMillis;
+    private final long flushIntervalNanos;
+    private final long retentionCheckIntervalNanos;
+    private final EventCodecRegistry codecs;
+    private final LongSupplier clock;
+
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final ThreadLocal<BinaryEncoder> encoders = ThreadLocal.withInitial(BinaryEncoder::new);
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object flushLock = new Object();
+    private final Object durableMonitor = new Object();
+    private final Thread flusher;
+
+    /**
+     * 현재 기록 중인 세그먼트 (appendLock 아래에서만 변경)
+     */
+    private volatile JournalSegment active;
+
+    private volatile long endOffset;
+    private volatile long durableOffset;
+    private volatile boolean closed;
+
+    public EventJournal(JournalProperties properties, EventCodecRegistry codecs) {
+        this(properties, codecs, System::currentTimeMillis);
+    }
+
+    EventJournal(JournalProperties properties, EventCodecRegistry codecs, LongSupplier clock) {
+        this.directory = Path.of(properties.directory()).toAbsolutePath();
+        this.segmentSize = (int) properties.segmentSize().toBytes();
+        this.retentionBytes = properties.retentionSize().toBytes();
+        this.retentionMillis = properties.retentionAge().toMillis();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+        this.retentionCheckIntervalNanos = properties.retentionCheckInterval().toNanos();
+        this.codecs = codecs;
+        this.clock = clock;
+
+        open();
+        this.flusher = new Thread(this::runFlusher, "event-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        log.info("[EventJournal] 시작 - directory: {}, segments: {}, offsets: [{}, {}), codecs: {}",
+                directory, segments.size(), startOffset(), endOffset, codecs.size());
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+            for (int i = 0; i < files.size() - 1; i++) {
+                Path path = files.get(i);
+                JournalSegment segment = JournalSegment.map(path, 0, false, Files.getLastModifiedTime(path).toMillis());
+                segments.put(segment.baseOffset(), segment);
+            }
+            if (files.isEmpty()) {
+                active = createSegment(0);
+            } else {
+                Path last = files.get(files.size() - 1);
+                active = JournalSegment.map(last, segmentSize, true, Files.getLastModifiedTime(last).toMillis());
+                segments.put(active.baseOffset(), active);
+                if (active.recover()) {
+                    active = createSegment(active.baseOffset() + active.writePosition());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 열 수 없습니다. directory: " + directory, e);
+        }
+        endOffset = active.baseOffset() + active.writePosition();
+        durableOffset = endOffset;
+    }
+
+    private JournalSegment createSegment(long baseOffset) {
+        JournalSegment segment = JournalSegment.map(JournalSegment.pathOf(directory, baseOffset), segmentSize, true,
+                clock.getAsLong());
+        segments.put(baseOffset, segment);
+        return segment;
+    }
+
+    /**
+     * 이벤트를 기록하고 레코드 오프셋을 반환 (코덱이 없는 이벤트는 기록하지 않고 -1)
+     */
+    public <T> long append(T event) {
+        @SuppressWarnings("unchecked")
+        EventCodec<T> codec = (EventCodec<T>) codecs.forType(event.getClass());
+        if (codec == null) {
+            return -1;
+        }
+        BinaryEncoder encoder = encoders.get().reset();
+        codec.encode(event, encoder);
+        return append(codec.typeId(), clock.getAsLong(), encoder.array(), encoder.size());
+    }
+
+    long append(int typeId, long timestamp, byte[] payload, int payloadLength) {
+        if (HEADER_SIZE + payloadLength > segmentSize - Integer.BYTES) {
+            throw new IllegalArgumentException("레코드가 세그먼트 크기보다 큽니다. typeId: " + typeId
+                    + ", payload: " + payloadLength + "B, segmentSize: " + segmentSize + "B");
+        }
+        int crc = JournalSegment.checksum(typeId, timestamp, payload, payloadLength);
+
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 저널에는 기록할 수 없습니다.");
+            }
+            if (!active.append(typeId, timestamp, payload, payloadLength, crc)) {
+                roll();
+                active.append(typeId, timestamp, payload, payloadLength, crc);
+            }
+            long offset = endOffset;
+            endOffset = active.baseOffset() + active.writePosition();
+            return offset;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 다음 세그먼트로 전환
+     * 세그먼트당 한 번이므로 닫는 세그먼트의 fsync는 락 안에서 동기로 수행합니다.
+     */
+    private void roll() {
+        JournalSegment sealed = active;
+        sealed.seal(clock.getAsLong());
+        active = createSegment(sealed.baseOffset() + sealed.writePosition());
+    }
+
+    public JournalReader reader(long offset) {
+        return new JournalReader(this, offset);
+    }
+
+    /**
+     * 보존 정책으로 삭제되지 않은 가장 오래된 오프셋
+     */
+    public long startOffset() {
+        return segments.firstKey();
+    }
+
+    /**
+     * 다음 레코드가 기록될 오프셋 (여기까지 읽을 수 있음)
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * 디스크 반영이 끝난 오프셋
+     */
+    public long durableOffset() {
+        return durableOffset;
+    }
+
+    /**
+     * offset까지 디스크에 반영될 때까지 대기 (다음 group commit을 바로 수행하도록 flusher를 깨움)
+     *
+     * @return 제한 시간 안에 반영되면 true
+     */
+    public boolean awaitDurable(long offset, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        LockSupport.unpark(flusher);
+        synchronized (durableMonitor) {
+            while (durableOffset < offset) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || closed) {
+                    return durableOffset >= offset;
+                }
+                TimeUnit.NANOSECONDS.timedWait(durableMonitor, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 레코드 페이로드를 이벤트 객체로 복원 (코덱이 없는 타입이면 null)
+     */
+    public Object decode(JournalRecord record) {
+        EventCodec<?> codec = codecs.forTypeId(record.typeId());
+        return codec == null ? null : codec.decode(new BinaryDecoder(record.payload().duplicate()));
+    }
+
+    JournalSegment segmentAt(long offset) {
+        Map.Entry<Long, JournalSegment> entry = segments.floorEntry(offset);
+        return entry == null ? null : entry.getValue();
+    }
+
+    private void runFlusher() {
+        long nextRetentionCheck = System.nanoTime() + retentionCheckIntervalNanos;
+        while (!closed) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flush();
+                if (System.nanoTime() - nextRetentionCheck >= 0) {
+                    enforceRetention();
+                    nextRetentionCheck = System.nanoTime() + retentionCheckIntervalNanos;
+                }
+            } catch (RuntimeException e) {
+                log.warn("[EventJournal] flush 실패 - durableOffset: {}, endOffset: {}", durableOffset, endOffset, e);
+            }
+        }
+    }
+
+    /**
+     * 마지막 fsync 이후 기록된 구간을 디스크에 반영 (group commit)
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            JournalSegment segment;
+            long end;
+            appendLock.lock();
+            try {
+                segment = active;
+                end = endOffset;
+            } finally {
+                appendLock.unlock();
+            }
+            if (end <= durableOffset) {
+                return;
+            }
+            // 이전 세그먼트는 전환 시점에 이미 반영되었으므로 현재 세그먼트 구간만 반영
+            int from = (int) Math.max(0, durableOffset - segment.baseOffset());
+            segment.force(from, (int) (end - segment.baseOffset()));
+            durableOffset = end;
+        }
+        synchronized (durableMonitor) {
+            durableMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * 크기/기간 보존 한도를 넘은 세그먼트를 오래된 것부터 삭제 (기록 중인 세그먼트는 제외)
+     * 삭제된 구간을 읽던 JournalReader는 다음 poll에서 startOffset으로 건너뜁니다.
+     */
+    public void enforceRetention() {
+        long totalBytes = segments.values().stream().mapToLong(JournalSegment::capacity).sum();
+        long expiredBefore = clock.getAsLong() - retentionMillis;
+        for (JournalSegment segment : segments.values()) {
+            if (segment == active) {
+                break;
+            }
+            if (totalBytes <= retentionBytes && segment.lastModified() >= expiredBefore) {
+                break;
+            }
+            segments.remove(segment.baseOffset());
+            segment.delete();
+            totalBytes -= segment.capacity();
+            log.info("[EventJournal] 세그먼트 삭제 - path: {}, totalBytes: {}", segment.path(), totalBytes);
+        }
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("[EventJournal] 종료 - endOffset: {}", endOffset);
+    }
+}
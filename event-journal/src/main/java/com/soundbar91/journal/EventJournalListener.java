@@ -0,0 +1,44 @@
+package com.soundbar91.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발행된 도메인 이벤트를 저널에 기록하는 리스너
+ *
+ * 트랜잭션 안에서 발행된 이벤트는 커밋 후에만 기록해 롤백된 이벤트가 남지 않게 하고,
+ * 트랜잭션 밖에서 발행된 이벤트는 즉시 기록합니다.
+ * 코덱이 등록된 이벤트 타입만 기록하며, 기록 실패가 비즈니스 흐름을 깨지 않도록 예외는 로그로만 남깁니다.
+ */
+public class EventJournalListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EventJournalListener.class);
+
+    private final EventJournal journal;
+    private final EventCodecRegistry codecs;
+    private final AtomicLong failures = new AtomicLong();
+
+    public EventJournalListener(EventJournal journal, EventCodecRegistry codecs) {
+        this.journal = journal;
+        this.codecs = codecs;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(Object event) {
+        if (!codecs.supports(event.getClass())) {
+            return;
+        }
+        try {
+            journal.append(event);
+        } catch (RuntimeException e) {
+            log.warn("[EventJournal] 이벤트 기록 실패 (누적 {}건) - event: {}", failures.incrementAndGet(), event, e);
+        }
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+}
@@ -0,0 +1,54 @@
+package com.soundbar91.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 도메인 이벤트 저널 설정 속성
+ * application.yml에서 'nuga.journal' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * nuga:
+ *   journal:
+ *     enabled: true
+ *     directory: /var/lib/nuga/journal
+ *     segment-size: 64MB           # 세그먼트 파일 크기, 가득 차면 다음 파일로 넘어감
+ *     flush-interval: 10ms         # group commit 주기 (이 간격마다 모아서 fsync)
+ *     retention-size: 10GB         # 전체 세그먼트 크기 상한, 넘으면 오래된 세그먼트부터 삭제
+ *     retention-age: 7d            # 마지막 기록 후 이 기간이 지난 세그먼트 삭제
+ */
+@ConfigurationProperties(prefix = "nuga.journal")
+public record JournalProperties(
+        boolean enabled,
+        String directory,
+        DataSize segmentSize,
+        Duration flushInterval,
+        DataSize retentionSize,
+        Duration retentionAge,
+        Duration retentionCheckInterval
+) {
+
+    public JournalProperties {
+        if (directory == null || directory.isBlank()) {
+            directory = "./data/journal";
+        }
+        if (segmentSize == null || segmentSize.toBytes() < DataSize.ofKilobytes(64).toBytes()
+                || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            segmentSize = DataSize.ofMegabytes(64);
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            flushInterval = Duration.ofMillis(10);
+        }
+        if (retentionSize == null || retentionSize.toBytes() <= 0) {
+            retentionSize = DataSize.ofGigabytes(10);
+        }
+        if (retentionAge == null || retentionAge.isNegative() || retentionAge.isZero()) {
+            retentionAge = Duration.ofDays(7);
+        }
+        if (retentionCheckInterval == null || retentionCheckInterval.isNegative() || retentionCheckInterval.isZero()) {
+            retentionCheckInterval = Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.soundbar91.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * 오프셋 기반 저널 리더 (tailing)
+ *
+ * poll을 반복 호출하면 기록된 레코드를 순서대로 읽고, 끝에 도달하면 0을 반환합니다.
+ * 읽을 위치는 position()으로 얻어 저장해 두었다가 seek 또는 EventJournal.reader(offset)로 이어 읽을 수 있습니다.
+ * 한 리더는 한 스레드에서만 사용하며, 여러 리더가 같은 저널을 동시에 읽는 것은 안전합니다.
+ */
+public class JournalReader {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReader.class);
+
+    private final EventJournal journal;
+    private long position;
+    private JournalSegment segment;
+
+    JournalReader(EventJournal journal, long offset) {
+        this.journal = journal;
+        this.position = offset;
+    }
+
+    /**
+     * 최대 maxRecords개의 레코드를 읽어 consumer에 전달
+     *
+     * @return 읽은 레코드 수 (새 레코드가 없으면 0)
+     */
+    public int poll(int maxRecords, Consumer<JournalRecord> consumer) {
+        long end = journal.endOffset();
+        int count = 0;
+        while (count < maxRecords && position < end) {
+            long start = journal.startOffset();
+            if (position < start) {
+                log.warn("[EventJournal] 보존 기간이 지나 삭제된 구간을 건너뜁니다. position: {}, startOffset: {}",
+                        position, start);
+                position = start;
+                segment = null;
+                continue;
+            }
+            if (segment == null) {
+                segment = journal.segmentAt(position);
+                if (segment == null) {
+                    continue;
+                }
+            }
+            int local = (int) (position - segment.baseOffset());
+            int length = segment.lengthAt(local);
+            if (length == EventJournal.END_OF_SEGMENT) {
+                // 다음 세그먼트는 종료 표시 위치를 시작 오프셋으로 사용
+                JournalSegment next = journal.segmentAt(position);
+                if (next == segment) {
+                    throw new IllegalStateException("다음 세그먼트를 찾을 수 없습니다. position: " + position);
+                }
+                segment = next;
+                continue;
+            }
+            consumer.accept(segment.recordAt(local, length));
+            position += length;
+            count++;
+        }
+        return count;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public void seek(long offset) {
+        this.position = offset;
+        this.segment = null;
+    }
+
+    /**
+     * 아직 읽지 않은 바이트 수 (리더 지연 모니터링용)
+     */
+    public long lag() {
+        return Math.max(0, journal.endOffset() - position);
+    }
+}
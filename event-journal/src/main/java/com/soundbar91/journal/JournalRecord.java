@@ -0,0 +1,21 @@
+package com.soundbar91.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 저널 레코드
+ *
+ * payload는 세그먼트 매핑을 그대로 가리키는 읽기 전용 버퍼이므로 콜백 안에서만 사용하고,
+ * 보관이 필요하면 EventJournal.decode로 이벤트 객체를 만들거나 복사합니다.
+ *
+ * @param offset     레코드 시작 오프셋 (저널 전체에서 단조 증가)
+ * @param typeId     EventCodec 타입 ID
+ * @param timestamp  기록 시각 (epoch ms)
+ * @param payload    인코딩된 이벤트
+ */
+public record JournalRecord(long offset, int typeId, long timestamp, ByteBuffer payload) {
+
+    public long nextOffset() {
+        return offset + EventJournal.HEADER_SIZE + payload.capacity();
+    }
+}
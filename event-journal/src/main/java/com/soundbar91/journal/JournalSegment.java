@@ -0,0 +1,193 @@
+package com.soundbar91.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 세그먼트 파일 (고정 크기 memory-mapped 파일)
+ *
+ * 레코드 구성: | 4B 레코드 길이(헤더 포함) | 4B CRC32C | 2B 타입 ID | 8B 기록 시각 | 페이로드 |
+ * 길이 0은 아직 기록되지 않은 영역, -1은 세그먼트 종료 표시이며 다음 세그먼트는 그 오프셋에서 시작합니다.
+ * 파일명은 세그먼트 시작 오프셋(20자리)이므로 파일 목록만으로 오프셋 구간을 알 수 있습니다.
+ */
+final class JournalSegment {
+
+    static final String SUFFIX = ".journal";
+
+    private final Path path;
+    private final long baseOffset;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    /**
+     * 기록 위치 (EventJournal의 append 락 아래에서만 변경)
+     */
+    private int writePosition;
+
+    /**
+     * 마지막 기록 시각 (보존 기간 판단용, epoch ms)
+     */
+    private volatile long lastModified;
+
+    private JournalSegment(Path path, long baseOffset, MappedByteBuffer buffer, long lastModified) {
+        this.path = path;
+        this.baseOffset = baseOffset;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.lastModified = lastModified;
+    }
+
+    static Path pathOf(Path directory, long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SUFFIX));
+    }
+
+    static long baseOffsetOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 세그먼트 파일을 매핑 (쓰기용이면 size까지 파일을 늘림)
+     * 매핑은 채널을 닫아도 유지되므로 파일 핸들을 들고 있지 않습니다.
+     */
+    static JournalSegment map(Path path, int size, boolean writable, long lastModified) {
+        try (FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = writable ? Math.max(size, channel.size()) : channel.size();
+            MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    0, length);
+            return new JournalSegment(path, baseOffsetOf(path), buffer, lastModified);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 열 수 없습니다. path: " + path, e);
+        }
+    }
+
+    /**
+     * 재시작 시 마지막 세그먼트의 유효한 끝 위치를 찾고, 깨진 꼬리 레코드는 0으로 지움
+     *
+     * @return 세그먼트 종료 표시가 있으면 true
+     */
+    boolean recover() {
+        int position = 0;
+        boolean sealed = false;
+        while (position + EventJournal.HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length == EventJournal.END_OF_SEGMENT) {
+                sealed = true;
+                break;
+            }
+            if (length < EventJournal.HEADER_SIZE || length > capacity - position
+                    || buffer.getInt(position + 4) != checksum(position, length)) {
+                break;
+            }
+            position += length;
+        }
+        if (!sealed && position + Integer.BYTES <= capacity && buffer.getInt(position) != 0) {
+            for (int i = position; i < capacity; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        writePosition = position;
+        return sealed;
+    }
+
+    /**
+     * 레코드 기록 (다음 레코드를 위한 종료 표시 공간까지 남지 않으면 false)
+     */
+    boolean append(int typeId, long timestamp, byte[] payload, int payloadLength, int crc) {
+        int length = EventJournal.HEADER_SIZE + payloadLength;
+        if (length > capacity - writePosition - Integer.BYTES) {
+            return false;
+        }
+        int position = writePosition;
+        buffer.putInt(position + 4, crc);
+        buffer.putShort(position + 8, (short) typeId);
+        buffer.putLong(position + 10, timestamp);
+        buffer.put(position + EventJournal.HEADER_SIZE, payload, 0, payloadLength);
+        buffer.putInt(position, length);
+        writePosition = position + length;
+        lastModified = timestamp;
+        return true;
+    }
+
+    /**
+     * 세그먼트 종료 표시를 기록하고 전체를 디스크에 반영
+     */
+    void seal(long now) {
+        buffer.putInt(writePosition, EventJournal.END_OF_SEGMENT);
+        buffer.force();
+        lastModified = now;
+    }
+
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    int lengthAt(int position) {
+        return position + Integer.BYTES <= capacity ? buffer.getInt(position) : EventJournal.END_OF_SEGMENT;
+    }
+
+    JournalRecord recordAt(int position, int length) {
+        int typeId = buffer.getShort(position + 8);
+        long timestamp = buffer.getLong(position + 10);
+        ByteBuffer payload = buffer.slice(position + EventJournal.HEADER_SIZE, length - EventJournal.HEADER_SIZE)
+                .asReadOnlyBuffer();
+        return new JournalRecord(baseOffset + position, typeId, timestamp, payload);
+    }
+
+    private int checksum(int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + 8, length - 8));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 타입 ID, 기록 시각, 페이로드에 대한 CRC32C (락 밖에서 미리 계산)
+     */
+    static int checksum(int typeId, long timestamp, byte[] payload, int payloadLength) {
+        ByteBuffer header = ByteBuffer.allocate(10).putShort((short) typeId).putLong(timestamp).flip();
+        CRC32C crc = new CRC32C();
+        crc.update(header);
+        crc.update(payload, 0, payloadLength);
+        return (int) crc.getValue();
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 삭제할 수 없습니다. path: " + path, e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long lastModified() {
+        return lastModified;
+    }
+}
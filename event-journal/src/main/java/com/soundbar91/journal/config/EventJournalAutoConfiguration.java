@@ -0,0 +1,40 @@
+package com.soundbar91.journal.config;
+
+import com.soundbar91.common.event.EventCodec;
+import com.soundbar91.journal.EventCodecRegistry;
+import com.soundbar91.journal.EventJournal;
+import com.soundbar91.journal.EventJournalListener;
+import com.soundbar91.journal.JournalProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 도메인 이벤트 저널 자동 설정
+ * nuga.journal.enabled=true 일 때만 등록되며, 각 도메인 모듈이 등록한 EventCodec 빈을 모아 사용합니다.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "nuga.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JournalProperties.class)
+public class EventJournalAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventCodecRegistry eventCodecRegistry(ObjectProvider<EventCodec<?>> codecs) {
+        return new EventCodecRegistry(codecs.orderedStream().toList());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public EventJournal eventJournal(JournalProperties properties, EventCodecRegistry eventCodecRegistry) {
+        return new EventJournal(properties, eventCodecRegistry);
+    }
+
+    @Bean
+    public EventJournalListener eventJournalListener(EventJournal eventJournal, EventCodecRegistry eventCodecRegistry) {
+        return new EventJournalListener(eventJournal, eventCodecRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.soundbar91.journal.config;
+
+import com.soundbar91.common.event.ReplaySource;
+import com.soundbar91.journal.EventCodecRegistry;
+import com.soundbar91.journal.EventJournal;
+import com.soundbar91.journal.replay.JournalReplaySource;
+import com.soundbar91.journal.replay.ReplayCheckpointStore;
+import com.soundbar91.journal.replay.ReplayEngine;
+import com.soundbar91.journal.replay.ReplayProperties;
+import com.soundbar91.journal.replay.ReplayRunner;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 이벤트 재생 자동 설정
+ * nuga.replay.enabled=true 일 때만 등록되며, 저널이 켜져 있으면 journal 소스를 등록합니다.
+ * 도메인 모듈이 등록한 ReplaySource 빈(orders, payments)과 함께 후보가 되고, 그중 nuga.replay.sources로 지정한 하나를 재생합니다.
+ */
+@AutoConfiguration(after = EventJournalAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "nuga.replay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplayProperties.class)
+public class EventReplayAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(EventJournal.class)
+    public JournalReplaySource journalReplaySource(EventJournal eventJournal, EventCodecRegistry eventCodecRegistry) {
+        return new JournalReplaySource(eventJournal, eventCodecRegistry);
+    }
+
+    @Bean
+    public ReplayCheckpointStore replayCheckpointStore(ReplayProperties properties) {
+        return new ReplayCheckpointStore(Path.of(properties.checkpointDirectory()));
+    }
+
+    @Bean
+    public ReplayEngine replayEngine(ReplayProperties properties, ReplayCheckpointStore replayCheckpointStore) {
+        return new ReplayEngine(replayCheckpointStore, properties.partitions(), properties.batchSize());
+    }
+
+    @Bean
+    public ReplayRunner replayRunner(ReplayProperties properties, ReplayEngine replayEngine,
+                                     ReplayCheckpointStore replayCheckpointStore, List<ReplaySource> replaySources,
+                                     BeanFactory beanFactory) {
+        return new ReplayRunner(properties, replayEngine, replayCheckpointStore, replaySources, beanFactory);
+    }
+}
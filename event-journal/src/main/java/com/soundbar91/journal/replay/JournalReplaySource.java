@@ -0,0 +1,58 @@
+package com.soundbar91.journal.replay;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.EventCodec;
+import com.soundbar91.common.event.ReplayEvent;
+import com.soundbar91.common.event.ReplaySource;
+import com.soundbar91.journal.EventCodecRegistry;
+import com.soundbar91.journal.EventJournal;
+import com.soundbar91.journal.JournalReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 저널을 읽는 재생 소스 (위치: 다음 레코드 오프셋)
+ *
+ * 읽기 시작 시점의 저널 끝까지 재생하며, 보존 정책으로 삭제된 구간은 건너뜁니다.
+ * 코덱이 없는 타입의 레코드는 위치만 전진시킵니다.
+ */
+public class JournalReplaySource implements ReplaySource {
+
+    public static final String NAME = "journal";
+
+    private final EventJournal journal;
+    private final EventCodecRegistry codecs;
+    private JournalReader reader;
+
+    public JournalReplaySource(EventJournal journal, EventCodecRegistry codecs) {
+        this.journal = journal;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<ReplayEvent> read(long position, int limit) {
+        if (reader == null) {
+            reader = journal.reader(position);
+        } else if (reader.position() != position) {
+            reader.seek(position);
+        }
+        List<ReplayEvent> events = new ArrayList<>(limit);
+        reader.poll(limit, record -> {
+            EventCodec codec = codecs.forTypeId(record.typeId());
+            if (codec == null) {
+                events.add(new ReplayEvent(record.nextOffset(), 0, null));
+                return;
+            }
+            Object event = codec.decode(new BinaryDecoder(record.payload()));
+            events.add(new ReplayEvent(record.nextOffset(), codec.aggregateId(event), event));
+        });
+        return events;
+    }
+}
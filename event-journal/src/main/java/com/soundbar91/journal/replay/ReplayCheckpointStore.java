@@ -0,0 +1,60 @@
+package com.soundbar91.journal.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.OptionalLong;
+
+/**
+ * 재생 체크포인트 파일 저장소
+ *
+ * (작업 이름, 소스 이름)마다 마지막으로 처리를 마친 위치를 파일 하나에 기록합니다.
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로 중단 시점과 관계없이 이전 값 또는 새 값만 남습니다.
+ */
+public class ReplayCheckpointStore {
+
+    private final Path directory;
+
+    public ReplayCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public OptionalLong load(String jobName, String sourceName) {
+        Path file = fileOf(jobName, sourceName);
+        if (!Files.exists(file)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 읽을 수 없습니다. file: " + file, e);
+        }
+    }
+
+    public void save(String jobName, String sourceName, long position) {
+        Path file = fileOf(jobName, sourceName);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.writeString(file.resolveSibling(file.getFileName() + ".tmp"), Long.toString(position),
+                    StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 저장할 수 없습니다. file: " + file, e);
+        }
+    }
+
+    public void reset(String jobName, String sourceName) {
+        try {
+            Files.deleteIfExists(fileOf(jobName, sourceName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 삭제할 수 없습니다. job: " + jobName + ", source: " + sourceName, e);
+        }
+    }
+
+    private Path fileOf(String jobName, String sourceName) {
+        return directory.resolve(jobName + "." + sourceName + ".checkpoint");
+    }
+}
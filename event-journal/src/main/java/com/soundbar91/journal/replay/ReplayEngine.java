@@ -0,0 +1,152 @@
+package com.soundbar91.journal.replay;
+
+import com.soundbar91.common.event.ReplayEvent;
+import com.soundbar91.common.event.ReplaySource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 과거 도메인 이벤트를 읽어 리스너에 다시 전달하는 재생 엔진
+ *
+ * 소스에서 batch-size만큼 읽어 집합체 ID 해시로 파티션을 나누고, 파티션마다 한 스레드가 순서대로 처리합니다.
+ * 같은 집합체의 이벤트는 항상 같은 파티션에 배치 순서대로 들어가므로 집합체 내 순서가 유지됩니다.
+ * 배치의 모든 파티션이 끝나면 마지막 위치를 체크포인트로 저장하고, 그동안 다음 배치를 미리 읽어 둡니다.
+ * 처리 중 예외가 나거나 stop()이 호출되면 마지막 체크포인트에서 멈추며, 다시 실행하면 그 위치부터 이어서 재생합니다.
+ * 체크포인트 이후 배치는 다시 전달될 수 있으므로 리스너는 같은 이벤트를 두 번 받아도 결과가 같아야 합니다.
+ */
+public class ReplayEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayEngine.class);
+
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ReplayCheckpointStore checkpointStore;
+    private final int partitions;
+    private final int batchSize;
+
+    private volatile boolean stopped;
+
+    public ReplayEngine(ReplayCheckpointStore checkpointStore, int partitions, int batchSize) {
+        this.checkpointStore = checkpointStore;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+    }
+
+    public ReplayResult replay(String jobName, ReplaySource source, Consumer<Object> listener) {
+        long from = checkpointStore.load(jobName, source.name()).orElse(0L);
+        long position = from;
+        long events = 0;
+        long startedAt = System.nanoTime();
+        long nextProgressLog = startedAt + PROGRESS_LOG_INTERVAL_NANOS;
+        log.info("[Replay] 시작 - job: {}, source: {}, from: {}, partitions: {}", jobName, source.name(), from, partitions);
+
+        ExecutorService reader = Executors.newSingleThreadExecutor(daemon("replay-reader"));
+        ExecutorService workers = Executors.newFixedThreadPool(partitions, daemon("replay-partition"));
+        try {
+            long readFrom = position;
+            CompletableFuture<List<ReplayEvent>> next = CompletableFuture.supplyAsync(
+                    () -> source.read(readFrom, batchSize), reader);
+            while (!stopped) {
+                List<ReplayEvent> batch = join(next);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                long batchEnd = batch.get(batch.size() - 1).position();
+                next = CompletableFuture.supplyAsync(() -> source.read(batchEnd, batchSize), reader);
+
+                events += dispatch(batch, listener, workers);
+                checkpointStore.save(jobName, source.name(), batchEnd);
+                position = batchEnd;
+
+                if (System.nanoTime() - nextProgressLog >= 0) {
+                    nextProgressLog = System.nanoTime() + PROGRESS_LOG_INTERVAL_NANOS;
+                    log.info("[Replay] 진행 - job: {}, source: {}, position: {}, events: {}",
+                            jobName, source.name(), position, events);
+                }
+            }
+            next.cancel(false);
+        } finally {
+            reader.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        ReplayResult result = new ReplayResult(jobName, source.name(), from, position, events,
+                Duration.ofNanos(System.nanoTime() - startedAt), !stopped);
+        log.info("[Replay] {} - job: {}, source: {}, position: {} -> {}, events: {}, elapsed: {}, rate: {}/s",
+                result.completed() ? "완료" : "중단", jobName, source.name(), from, position, events,
+                result.elapsed(), Math.round(result.eventsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 배치를 파티션별로 나눠 병렬 처리하고 모두 끝날 때까지 대기
+     */
+    private long dispatch(List<ReplayEvent> batch, Consumer<Object> listener, ExecutorService workers) {
+        List<List<Object>> parts = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            parts.add(new ArrayList<>(batch.size() / partitions + 1));
+        }
+        long count = 0;
+        for (ReplayEvent event : batch) {
+            if (event.event() != null) {
+                parts.get(partitionOf(event.aggregateId())).add(event.event());
+                count++;
+            }
+        }
+        CompletableFuture<?>[] futures = parts.stream()
+                .filter(part -> !part.isEmpty())
+                .map(part -> CompletableFuture.runAsync(() -> part.forEach(listener), workers))
+                .toArray(CompletableFuture[]::new);
+        join(CompletableFuture.allOf(futures));
+        return count;
+    }
+
+    /**
+     * Snowflake ID는 하위 비트(시퀀스)가 자주 0이므로 곱셈 해시의 상위 비트로 파티션을 고름
+     */
+    int partitionOf(long aggregateId) {
+        return (int) (((aggregateId * 0x9E3779B97F4A7C15L) >>> 32) % partitions);
+    }
+
+    /**
+     * 진행 중인 배치를 마친 뒤 체크포인트를 저장하고 멈춤
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        return new ThreadFactory() {
+            private int sequence;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + "-" + sequence++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
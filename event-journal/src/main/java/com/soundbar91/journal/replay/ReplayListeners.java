@@ -0,0 +1,86 @@
+package com.soundbar91.journal.replay;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 재생 이벤트를 선택한 리스너 빈의 @EventListener 메서드에 직접 전달
+ *
+ * ApplicationEventPublisher로 다시 발행하지 않으므로 선택하지 않은 리스너(결제 생성 등)나 이벤트 저널은
+ * 재생 이벤트를 받지 않습니다. @TransactionalEventListener 메서드도 트랜잭션 단계와 무관하게 바로 호출되며,
+ * condition 속성은 평가하지 않습니다.
+ * 프록시 빈이면 프록시의 메서드를 호출하므로 @Transactional 등 부가 기능은 그대로 적용됩니다.
+ */
+public class ReplayListeners implements Consumer<Object> {
+
+    private record Invoker(String beanName, Object bean, Method method, Class<?> eventType) {
+    }
+
+    private final List<Invoker> invokers;
+    private final Map<Class<?>, List<Invoker>> invokersByEventType = new ConcurrentHashMap<>();
+
+    private ReplayListeners(List<Invoker> invokers) {
+        this.invokers = invokers;
+    }
+
+    public static ReplayListeners resolve(BeanFactory beanFactory, List<String> beanNames) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        beanNames.forEach(name -> beans.put(name, beanFactory.getBean(name)));
+        return of(beans);
+    }
+
+    static ReplayListeners of(Map<String, Object> beans) {
+        List<Invoker> invokers = new ArrayList<>();
+        beans.forEach((beanName, bean) -> {
+            Class<?> targetClass = AopUtils.getTargetClass(bean);
+            Map<Method, EventListener> methods = MethodIntrospector.selectMethods(targetClass,
+                    (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+            methods.keySet().stream()
+                    .filter(method -> method.getParameterCount() == 1)
+                    .forEach(method -> {
+                        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+                        ReflectionUtils.makeAccessible(invocable);
+                        invokers.add(new Invoker(beanName, bean, invocable, method.getParameterTypes()[0]));
+                    });
+        });
+        if (invokers.isEmpty()) {
+            throw new IllegalArgumentException("재생 이벤트를 받을 @EventListener 메서드가 없습니다. beans: " + beans.keySet());
+        }
+        return new ReplayListeners(List.copyOf(invokers));
+    }
+
+    @Override
+    public void accept(Object event) {
+        for (Invoker invoker : invokersByEventType.computeIfAbsent(event.getClass(), this::matching)) {
+            ReflectionUtils.invokeMethod(invoker.method(), invoker.bean(), event);
+        }
+    }
+
+    public boolean supports(Class<?> eventType) {
+        return !invokersByEventType.computeIfAbsent(eventType, this::matching).isEmpty();
+    }
+
+    private List<Invoker> matching(Class<?> eventType) {
+        return invokers.stream().filter(invoker -> invoker.eventType().isAssignableFrom(eventType)).toList();
+    }
+
+    public List<String> describe() {
+        return invokers.stream()
+                .map(invoker -> invoker.beanName() + "." + invoker.method().getName()
+                        + "(" + invoker.eventType().getSimpleName() + ")")
+                .toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.soundbar91.journal.replay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 이벤트 재생(읽기 모델 재구축) 설정 속성
+ * application.yml에서 'nuga.replay' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * nuga:
+ *   replay:
+ *     enabled: true
+ *     job-name: order-history-v2       # 체크포인트 키, 바꾸면 처음부터 다시 재생
+ *     sources: journal                 # journal | orders | payments 중 하나
+ *     listeners:                       # 이벤트를 전달할 리스너 빈 이름
+ *       - orderHistoryProjector
+ *       - orderHistoryPaymentListener
+ *     partitions: 8                    # 집합체 ID 기준 병렬 파티션 수
+ *     batch-size: 10000                # 체크포인트 단위
+ *     checkpoint-directory: /var/lib/nuga/replay
+ *     restart: false                   # true면 저장된 체크포인트를 무시하고 처음부터
+ *
+ * 소스는 하나만 지정할 수 있습니다. 여러 소스를 차례로 재생하면 한 주문의 주문 이벤트가 모두 전달된 뒤에야
+ * 결제 이벤트가 전달되어 집합체 내 순서가 깨지므로, 여러 도메인 이벤트가 필요한 읽기 모델은 journal로 재생합니다.
+ * orders/payments 소스는 해당 도메인 이벤트만으로 만들 수 있는 읽기 모델에 사용합니다.
+ */
+@ConfigurationProperties(prefix = "nuga.replay")
+public record ReplayProperties(
+        boolean enabled,
+        String jobName,
+        List<String> sources,
+        List<String> listeners,
+        int partitions,
+        int batchSize,
+        String checkpointDirectory,
+        boolean restart
+) {
+
+    public ReplayProperties {
+        if (jobName == null || jobName.isBlank()) {
+            jobName = "default";
+        }
+        if (sources == null || sources.isEmpty()) {
+            sources = List.of(JournalReplaySource.NAME);
+        }
+        if (sources.size() > 1) {
+            throw new IllegalArgumentException("nuga.replay.sources는 하나만 지정할 수 있습니다. "
+                    + "여러 도메인 이벤트가 필요하면 journal 소스를 사용하세요. sources: " + sources);
+        }
+        if (listeners == null) {
+            listeners = List.of();
+        }
+        if (partitions <= 0) {
+            partitions = Runtime.getRuntime().availableProcessors();
+        }
+        if (batchSize <= 0) {
+            batchSize = 10_000;
+        }
+        if (checkpointDirectory == null || checkpointDirectory.isBlank()) {
+            checkpointDirectory = "./data/replay";
+        }
+    }
+
+    /**
+     * 재생할 소스 이름
+     */
+    public String source() {
+        return sources.get(0);
+    }
+}
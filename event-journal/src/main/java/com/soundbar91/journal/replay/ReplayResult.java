@@ -0,0 +1,25 @@
+package com.soundbar91.journal.replay;
+
+import java.time.Duration;
+
+/**
+ * 소스 하나의 재생 결과
+ *
+ * @param fromPosition 시작 위치 (이전 체크포인트)
+ * @param toPosition   마지막으로 체크포인트에 저장한 위치
+ * @param completed    소스 끝까지 재생했으면 true, 중단되었으면 false
+ */
+public record ReplayResult(
+        String jobName,
+        String sourceName,
+        long fromPosition,
+        long toPosition,
+        long events,
+        Duration elapsed,
+        boolean completed
+) {
+
+    public double eventsPerSecond() {
+        return elapsed.isZero() ? events : events * 1_000.0 / Math.max(1, elapsed.toMillis());
+    }
+}
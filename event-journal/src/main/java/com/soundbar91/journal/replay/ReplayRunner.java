@@ -0,0 +1,118 @@
+package com.soundbar91.journal.replay;
+
+import com.soundbar91.common.event.ReplaySource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 설정된 재생 작업을 애플리케이션 기동 후 백그라운드 스레드에서 실행
+ *
+ * 설정한 소스 하나를 재생하고, 종료 시에는 진행 중인 배치를 마친 뒤 체크포인트를 남기고 멈춥니다.
+ * (소스를 하나로 제한하는 이유는 ReplayProperties 참고)
+ * 재생 전용 인스턴스를 nuga.replay.enabled=true로 띄워 읽기 모델을 재구축하는 용도입니다.
+ */
+public class ReplayRunner implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayRunner.class);
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReplayProperties properties;
+    private final ReplayEngine engine;
+    private final ReplayCheckpointStore checkpointStore;
+    private final ReplaySource source;
+    private final BeanFactory beanFactory;
+
+    private final List<ReplayResult> results = new ArrayList<>();
+
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    public ReplayRunner(ReplayProperties properties, ReplayEngine engine, ReplayCheckpointStore checkpointStore,
+                        List<ReplaySource> sources, BeanFactory beanFactory) {
+        this.properties = properties;
+        this.engine = engine;
+        this.checkpointStore = checkpointStore;
+        Map<String, ReplaySource> byName = sources.stream()
+                .collect(Collectors.toMap(ReplaySource::name, Function.identity()));
+        this.source = byName.get(properties.source());
+        this.beanFactory = beanFactory;
+        if (this.source == null) {
+            throw new IllegalArgumentException("알 수 없는 재생 소스입니다. source: " + properties.source()
+                    + ", available: " + byName.keySet());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.listeners().isEmpty()) {
+            log.warn("[Replay] nuga.replay.listeners가 비어 있어 재생하지 않습니다.");
+            return;
+        }
+        ReplayListeners listeners = ReplayListeners.resolve(beanFactory, properties.listeners());
+        log.info("[Replay] 대상 리스너: {}", listeners.describe());
+        Thread worker = new Thread(() -> run(listeners), "event-replay");
+        worker.setDaemon(true);
+        thread = worker;
+        worker.start();
+    }
+
+    private void run(ReplayListeners listeners) {
+        if (!running) {
+            return;
+        }
+        if (properties.restart()) {
+            checkpointStore.reset(properties.jobName(), source.name());
+        }
+        try {
+            ReplayResult result = engine.replay(properties.jobName(), source, listeners);
+            synchronized (results) {
+                results.add(result);
+            }
+        } catch (RuntimeException e) {
+            log.error("[Replay] 실패, 마지막 체크포인트에서 다시 실행할 수 있습니다. job: {}, source: {}",
+                    properties.jobName(), source.name(), e);
+        }
+    }
+
+    public List<ReplayResult> getResults() {
+        synchronized (results) {
+            return List.copyOf(results);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        engine.stop();
+        Thread current = thread;
+        if (current != null) {
+            try {
+                current.join(STOP_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,278 @@
+package com.soundbar91.journal;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventJournal 테스트")
+class EventJournalTest {
+
+    record SampleEvent(Long id, String name, BigDecimal amount, LocalDateTime occurredAt) {
+    }
+
+    static class SampleEventCodec implements EventCodec<SampleEvent> {
+
+        @Override
+        public int typeId() {
+            return 7;
+        }
+
+        @Override
+        public Class<SampleEvent> eventType() {
+            return SampleEvent.class;
+        }
+
+        @Override
+        public long aggregateId(SampleEvent event) {
+            return event.id();
+        }
+
+        @Override
+        public void encode(SampleEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.id())
+                    .writeString(event.name())
+                    .writeDecimal(event.amount())
+                    .writeDateTime(event.occurredAt());
+        }
+
+        @Override
+        public SampleEvent decode(BinaryDecoder in) {
+            return new SampleEvent(in.readNullableLong(), in.readString(), in.readDecimal(), in.readDateTime());
+        }
+    }
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final List<EventJournal> journals = new ArrayList<>();
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(EventJournal::close);
+    }
+
+    private EventJournal journal(DataSize segmentSize, DataSize retentionSize) {
+        JournalProperties properties = new JournalProperties(true, directory.toString(), segmentSize,
+                Duration.ofMillis(1), retentionSize, Duration.ofHours(1), Duration.ofHours(1));
+        EventJournal journal = new EventJournal(properties, new EventCodecRegistry(List.of(new SampleEventCodec())),
+                clock::get);
+        journals.add(journal);
+        return journal;
+    }
+
+    private EventJournal journal() {
+        return journal(DataSize.ofKilobytes(64), DataSize.ofGigabytes(1));
+    }
+
+    private static SampleEvent event(long id) {
+        return new SampleEvent(id, "이벤트-" + id, new BigDecimal("1234.50"), LocalDateTime.of(2026, 1, 2, 3, 4, 5, 678_000));
+    }
+
+    private static List<Object> readAll(EventJournal journal, JournalReader reader) {
+        List<Object> events = new ArrayList<>();
+        while (reader.poll(100, record -> events.add(journal.decode(record))) > 0) {
+        }
+        return events;
+    }
+
+    @Nested
+    @DisplayName("기록과 읽기")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("기록한 이벤트를 같은 순서와 값으로 복원한다")
+        void append_ThenRead_RestoresEventsInOrder() {
+            // given
+            EventJournal journal = journal();
+            long first = journal.append(event(1));
+            journal.append(event(2));
+
+            // when
+            List<Object> events = readAll(journal, journal.reader(journal.startOffset()));
+
+            // then
+            assertThat(first).isZero();
+            assertThat(events).containsExactly(event(1), event(2));
+        }
+
+        @Test
+        @DisplayName("코덱이 없는 이벤트는 기록하지 않는다")
+        void append_WithoutCodec_Skips() {
+            EventJournal journal = journal();
+
+            assertThat(journal.append("unknown")).isEqualTo(-1);
+            assertThat(journal.endOffset()).isZero();
+        }
+
+        @Test
+        @DisplayName("리더는 마지막 위치부터 새로 기록된 이벤트만 이어서 읽는다")
+        void poll_TailsNewRecords() {
+            // given
+            EventJournal journal = journal();
+            journal.append(event(1));
+            JournalReader reader = journal.reader(0);
+            readAll(journal, reader);
+
+            // when
+            int empty = reader.poll(100, record -> { });
+            journal.append(event(2));
+            List<Object> events = readAll(journal, reader);
+
+            // then
+            assertThat(empty).isZero();
+            assertThat(events).containsExactly(event(2));
+            assertThat(reader.lag()).isZero();
+        }
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고 오프셋은 끊기지 않는다")
+        void append_WhenSegmentFull_RollsOver() {
+            // given
+            EventJournal journal = journal();
+
+            // when
+            for (long id = 1; id <= 3_000; id++) {
+                journal.append(event(id));
+            }
+
+            // then
+            assertThat(journal.getSegmentCount()).isGreaterThan(1);
+            assertThat(readAll(journal, journal.reader(0))).hasSize(3_000).endsWith(event(3_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("내구성")
+    class Durability {
+
+        @Test
+        @DisplayName("group commit 이후 durableOffset이 기록 위치까지 올라간다")
+        void awaitDurable_AfterAppend_ReturnsTrue() throws InterruptedException {
+            // given
+            EventJournal journal = journal();
+            journal.append(event(1));
+
+            // when
+            boolean durable = journal.awaitDurable(journal.endOffset(), Duration.ofSeconds(5));
+
+            // then
+            assertThat(durable).isTrue();
+            assertThat(journal.durableOffset()).isEqualTo(journal.endOffset());
+        }
+
+        @Test
+        @DisplayName("재시작하면 기존 레코드 뒤에 이어서 기록한다")
+        void reopen_ContinuesAfterExistingRecords() {
+            // given
+            EventJournal journal = journal();
+            for (long id = 1; id <= 2_000; id++) {
+                journal.append(event(id));
+            }
+            long end = journal.endOffset();
+            journal.close();
+
+            // when
+            EventJournal reopened = journal();
+            reopened.append(event(2_001));
+
+            // then
+            assertThat(reopened.endOffset()).isGreaterThan(end);
+            assertThat(readAll(reopened, reopened.reader(0))).hasSize(2_001).endsWith(event(2_001));
+        }
+
+        @Test
+        @DisplayName("재시작 시 CRC가 맞지 않는 꼬리 레코드는 버린다")
+        void reopen_TruncatesTornRecord() throws IOException {
+            // given
+            EventJournal journal = journal();
+            journal.append(event(1));
+            long torn = journal.append(event(2));
+            journal.close();
+            try (FileChannel channel = FileChannel.open(JournalSegment.pathOf(directory, 0), StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), torn + EventJournal.HEADER_SIZE);
+            }
+
+            // when
+            EventJournal reopened = journal();
+
+            // then
+            assertThat(reopened.endOffset()).isEqualTo(torn);
+            assertThat(readAll(reopened, reopened.reader(0))).containsExactly(event(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("보존 정책")
+    class Retention {
+
+        @Test
+        @DisplayName("크기 한도를 넘으면 오래된 세그먼트부터 삭제하고 리더는 남은 구간부터 읽는다")
+        void enforceRetention_BySize_DeletesOldestSegments() {
+            // given
+            EventJournal journal = journal(DataSize.ofKilobytes(64), DataSize.ofKilobytes(128));
+            JournalReader reader = journal.reader(0);
+            for (long id = 1; id <= 10_000; id++) {
+                journal.append(event(id));
+            }
+
+            // when
+            journal.enforceRetention();
+
+            // then
+            assertThat(journal.getSegmentCount()).isEqualTo(2);
+            assertThat(journal.startOffset()).isPositive();
+            List<Object> events = readAll(journal, reader);
+            assertThat(events).isNotEmpty().endsWith(event(10_000));
+            assertThat(events.get(0)).isNotEqualTo(event(1));
+        }
+
+        @Test
+        @DisplayName("기간 한도를 넘은 세그먼트는 삭제하되 기록 중인 세그먼트는 남긴다")
+        void enforceRetention_ByAge_KeepsActiveSegment() {
+            // given
+            EventJournal journal = journal();
+            for (long id = 1; id <= 3_000; id++) {
+                journal.append(event(id));
+            }
+
+            // when
+            clock.addAndGet(Duration.ofHours(2).toMillis());
+            journal.enforceRetention();
+
+            // then
+            assertThat(journal.getSegmentCount()).isEqualTo(1);
+            assertThat(journal.startOffset()).isLessThan(journal.endOffset());
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트보다 큰 레코드는 거부한다")
+    void append_WithOversizedRecord_ThrowsException() {
+        EventJournal journal = journal();
+
+        assertThatThrownBy(() -> journal.append(new SampleEvent(1L, "x".repeat(70_000), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
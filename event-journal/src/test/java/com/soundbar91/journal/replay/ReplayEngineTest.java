@@ -0,0 +1,204 @@
+package com.soundbar91.journal.replay;
+
+import com.soundbar91.common.event.ReplayEvent;
+import com.soundbar91.common.event.ReplaySource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.event.EventListener;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReplayEngine 테스트")
+class ReplayEngineTest {
+
+    record SampleEvent(long aggregateId, int sequence) {
+    }
+
+    record OtherEvent(long id) {
+    }
+
+    static class InMemorySource implements ReplaySource {
+
+        private final List<ReplayEvent> events = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "memory";
+        }
+
+        @Override
+        public List<ReplayEvent> read(long position, int limit) {
+            return events.stream().filter(event -> event.position() > position).limit(limit).toList();
+        }
+    }
+
+    @TempDir
+    private Path checkpointDirectory;
+
+    private ReplayEngine engine() {
+        return new ReplayEngine(new ReplayCheckpointStore(checkpointDirectory), 4, 100);
+    }
+
+    private static InMemorySource source(int aggregates, int eventsPerAggregate) {
+        InMemorySource source = new InMemorySource();
+        long position = 0;
+        for (int sequence = 0; sequence < eventsPerAggregate; sequence++) {
+            for (long aggregateId = 1; aggregateId <= aggregates; aggregateId++) {
+                source.events.add(new ReplayEvent(++position, aggregateId, new SampleEvent(aggregateId, sequence)));
+            }
+        }
+        return source;
+    }
+
+    @Nested
+    @DisplayName("파티션 처리")
+    class Partitioning {
+
+        @Test
+        @DisplayName("모든 이벤트를 전달하고 같은 집합체의 이벤트는 발생 순서대로 처리한다")
+        void replay_PreservesPerAggregateOrder() {
+            // given
+            InMemorySource source = source(50, 200);
+            Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+            Consumer<Object> listener = event -> {
+                SampleEvent sample = (SampleEvent) event;
+                received.computeIfAbsent(sample.aggregateId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(sample.sequence());
+            };
+
+            // when
+            ReplayResult result = engine().replay("job", source, listener);
+
+            // then
+            assertThat(result.completed()).isTrue();
+            assertThat(result.events()).isEqualTo(10_000);
+            assertThat(result.toPosition()).isEqualTo(10_000);
+            assertThat(received).hasSize(50);
+            received.values().forEach(sequences -> assertThat(sequences).hasSize(200).isSorted());
+        }
+
+        @Test
+        @DisplayName("곱셈 해시로 연속된 집합체 ID를 여러 파티션에 고르게 나눈다")
+        void partitionOf_SpreadsSequentialIds() {
+            ReplayEngine engine = engine();
+            int[] counts = new int[4];
+            for (long id = 0; id < 4_096; id++) {
+                counts[engine.partitionOf(id << 12)]++;
+            }
+
+            assertThat(counts).allSatisfy(count -> assertThat(count).isBetween(800, 1_250));
+        }
+
+        @Test
+        @DisplayName("event가 null인 위치 표시는 전달하지 않고 체크포인트만 전진시킨다")
+        void replay_WithPositionMarker_SkipsDelivery() {
+            // given
+            InMemorySource source = new InMemorySource();
+            source.events.add(new ReplayEvent(7, 0, null));
+            AtomicInteger delivered = new AtomicInteger();
+
+            // when
+            ReplayResult result = engine().replay("job", source, event -> delivered.incrementAndGet());
+
+            // then
+            assertThat(delivered).hasValue(0);
+            assertThat(result.toPosition()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("체크포인트")
+    class Checkpoint {
+
+        @Test
+        @DisplayName("처리 중 실패하면 마지막으로 완료한 배치에서 멈추고 다시 실행하면 그 위치부터 이어서 재생한다")
+        void replay_AfterFailure_ResumesFromCheckpoint() {
+            // given
+            InMemorySource source = source(10, 100);
+            List<SampleEvent> firstRun = Collections.synchronizedList(new ArrayList<>());
+            Consumer<Object> failing = event -> {
+                SampleEvent sample = (SampleEvent) event;
+                if (sample.sequence() == 45 && sample.aggregateId() == 3) {
+                    throw new IllegalStateException("listener failure");
+                }
+                firstRun.add(sample);
+            };
+            assertThatThrownBy(() -> engine().replay("job", source, failing))
+                    .isInstanceOf(IllegalStateException.class);
+            long checkpoint = new ReplayCheckpointStore(checkpointDirectory).load("job", "memory").orElseThrow();
+
+            // when
+            List<SampleEvent> secondRun = Collections.synchronizedList(new ArrayList<>());
+            ReplayResult result = engine().replay("job", source, event -> secondRun.add((SampleEvent) event));
+
+            // then
+            assertThat(checkpoint).isEqualTo(400);
+            assertThat(result.fromPosition()).isEqualTo(400);
+            assertThat(result.events()).isEqualTo(600);
+            assertThat(secondRun).allSatisfy(event -> assertThat(event.sequence()).isGreaterThanOrEqualTo(40));
+        }
+
+        @Test
+        @DisplayName("작업 이름이 다르면 체크포인트를 공유하지 않는다")
+        void replay_WithOtherJobName_StartsFromBeginning() {
+            // given
+            InMemorySource source = source(1, 10);
+            engine().replay("job-a", source, event -> { });
+
+            // when
+            ReplayResult result = engine().replay("job-b", source, event -> { });
+
+            // then
+            assertThat(result.fromPosition()).isZero();
+            assertThat(result.events()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("리스너 선택")
+    class Listeners {
+
+        static class SampleListener {
+
+            final List<Object> received = new ArrayList<>();
+
+            @EventListener
+            public void onSample(SampleEvent event) {
+                received.add(event);
+            }
+
+            public void notListener(OtherEvent event) {
+                received.add(event);
+            }
+        }
+
+        @Test
+        @DisplayName("선택한 빈의 @EventListener 메서드 중 이벤트 타입이 맞는 메서드만 호출한다")
+        void accept_InvokesMatchingEventListenerMethods() {
+            // given
+            SampleListener bean = new SampleListener();
+            ReplayListeners listeners = ReplayListeners.of(Map.of("sampleListener", bean));
+
+            // when
+            listeners.accept(new SampleEvent(1, 1));
+            listeners.accept(new OtherEvent(1));
+
+            // then
+            assertThat(bean.received).containsExactly(new SampleEvent(1, 1));
+            assertThat(listeners.supports(OtherEvent.class)).isFalse();
+            assertThat(listeners.describe()).containsExactly("sampleListener.onSample(SampleEvent)");
+        }
+    }
+}
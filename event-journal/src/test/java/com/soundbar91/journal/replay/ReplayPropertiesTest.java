@@ -0,0 +1,32 @@
+package com.soundbar91.journal.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReplayProperties 테스트")
+class ReplayPropertiesTest {
+
+    @Test
+    @DisplayName("소스를 지정하지 않으면 저널을 재생한다")
+    void source_WithoutSources_DefaultsToJournal() {
+        // when
+        ReplayProperties properties = new ReplayProperties(true, null, null, null, 0, 0, null, false);
+
+        // then
+        assertThat(properties.source()).isEqualTo(JournalReplaySource.NAME);
+    }
+
+    @Test
+    @DisplayName("여러 소스를 지정하면 집합체 내 순서가 깨지므로 거부한다")
+    void constructor_WithMultipleSources_Throws() {
+        // when & then
+        assertThatThrownBy(() -> new ReplayProperties(true, null, List.of("orders", "payments"), null, 0, 0, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("journal");
+    }
+}
@@ -38,6 +38,6 @@ public abstract class IntegrationTestBase {
             "com.soundbar91.order.infrastructure.repository",
             "com.soundbar91.payment.infrastructure.repository"
     })
-    static class IntegrationTestConfig {
+    public static class IntegrationTestConfig {
     }
 }
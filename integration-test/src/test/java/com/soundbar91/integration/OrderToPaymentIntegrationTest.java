@@ -13,6 +13,8 @@ import com.soundbar91.shop.service.ShopService;
 import com.soundbar91.user.domain.entity.User;
 import com.soundbar91.user.domain.vo.UserRole;
 import com.soundbar91.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 
+import static com.soundbar91.test.sql.SqlStatementAssertions.assertThatStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("주문-결제 도메인 간 통합 테스트")
@@ -38,6 +41,9 @@ class OrderToPaymentIntegrationTest extends IntegrationTestBase {
     @Autowired
     private PaymentService paymentService;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private User testUser;
     private Shop testShop;
 
@@ -280,4 +286,32 @@ class OrderToPaymentIntegrationTest extends IntegrationTestBase {
             assertThat(userPayments).hasSizeGreaterThanOrEqualTo(2);
         }
     }
+
+    @Nested
+    @DisplayName("SQL 실행 횟수")
+    class StatementCount {
+
+        @Test
+        @DisplayName("주문 생성은 사용자/상점 조회, 주문/결제 저장 외의 SQL을 실행하지 않는다")
+        void createOrder_IssuesBoundedStatements() {
+            // given
+            entityManager.flush();
+            entityManager.clear();
+
+            // when & then
+            assertThatStatements(() -> {
+                orderService.createOrder(
+                        testUser.getId(),
+                        testShop.getId(),
+                        "SQL 횟수 테스트 상품",
+                        1,
+                        BigDecimal.valueOf(10000),
+                        "배송지"
+                );
+                entityManager.flush();
+            })
+                    .hasInsertCount(2)
+                    .hasTotalAtMost(4);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.soundbar91.integration.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 지연 시간 기록기
+ * 1µs ~ 60s 범위를 유효숫자 3자리로 기록합니다. (단위: 마이크로초)
+ */
+class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private volatile boolean recording;
+
+    LatencyRecorder() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 워밍업이 끝난 뒤부터 기록
+     */
+    void startRecording() {
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        for (LongAdder counter : errors.values()) {
+            counter.reset();
+        }
+        recording = true;
+    }
+
+    void record(LoadOperation operation, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        histograms.get(operation).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, elapsedNanos / 1_000)));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    Histogram histogram(LoadOperation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(LoadOperation operation) {
+        return errors.get(operation).sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.soundbar91.integration.load;
+
+/**
+ * 부하 테스트에서 생성하는 트래픽 종류
+ */
+public enum LoadOperation {
+
+    SIGNUP(5),
+    BROWSE_SHOPS(50),
+    CREATE_ORDER(25),
+    PROCESS_PAYMENT(15),
+    CANCEL_REFUND(5);
+
+    private final int defaultWeight;
+
+    LoadOperation(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * 시스템 속성 키 (예: load.weight.create-order)
+     */
+    public String propertyKey() {
+        return "load.weight." + name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,54 @@
+package com.soundbar91.integration.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 설정
+ *
+ * 시스템 속성으로 조정합니다. (./gradlew :integration-test:loadTest -Dload.concurrency=128)
+ * - load.concurrency : 동시 가상 스레드 수 (기본 64)
+ * - load.duration    : 측정 시간 (기본 30s)
+ * - load.warmup      : 측정 전 워밍업 시간, 결과에서 제외 (기본 10s)
+ * - load.seed-users / load.seed-shops : 사전 생성 데이터 수 (기본 200 / 50)
+ * - load.weight.<operation> : 트래픽 비율 가중치 (예: load.weight.create-order=40)
+ * - load.report-dir : HdrHistogram 결과(.hgrm) 저장 위치 (기본 build/load-reports)
+ */
+public record LoadProfile(
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        int seedUsers,
+        int seedShops,
+        Map<LoadOperation, Integer> weights,
+        Path reportDirectory
+) {
+
+    public LoadProfile {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("load.concurrency는 1 이상이어야 합니다.");
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("트래픽 가중치 합은 0보다 커야 합니다.");
+        }
+        weights = Map.copyOf(weights);
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            weights.put(operation, Integer.getInteger(operation.propertyKey(), operation.getDefaultWeight()));
+        }
+        return new LoadProfile(
+                Integer.getInteger("load.concurrency", 64),
+                Duration.parse("PT" + System.getProperty("load.duration", "30s").toUpperCase()),
+                Duration.parse("PT" + System.getProperty("load.warmup", "10s").toUpperCase()),
+                Integer.getInteger("load.seed-users", 200),
+                Integer.getInteger("load.seed-shops", 50),
+                weights,
+                Path.of(System.getProperty("load.report-dir", "build/load-reports"))
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.soundbar91.integration.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 결과 보고서
+ *
+ * 콘솔에는 작업별 처리량과 p50/p99/p999를 출력하고,
+ * 작업별 분포는 HdrHistogram 퍼센타일 형식(.hgrm)으로 저장해 HistogramPlotter 등에서 비교할 수 있게 합니다.
+ */
+record LoadReport(LatencyRecorder recorder, Duration measured, LoadProfile profile) {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    void print(PrintStream out) {
+        double seconds = measured.toMillis() / 1_000.0;
+        out.printf("%n=== Load report (concurrency=%d, measured=%.1fs) ===%n", profile.concurrency(), seconds);
+        out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        long total = 0;
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = recorder.histogram(operation);
+            long count = histogram.getTotalCount();
+            total += count;
+            out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation, count, recorder.errors(operation), count / seconds,
+                    millis(histogram, 50.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+        out.printf("%-16s %10d %8s %10.1f%n", "TOTAL", total, "", total / seconds);
+    }
+
+    void writeHistograms() throws IOException {
+        Files.createDirectories(profile.reportDirectory());
+        for (LoadOperation operation : LoadOperation.values()) {
+            Path file = profile.reportDirectory().resolve(operation.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                recorder.histogram(operation).outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,66 @@
+package com.soundbar91.integration.load;
+
+import com.soundbar91.integration.IntegrationTestBase;
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.shop.service.ShopService;
+import com.soundbar91.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 컨텍스트 부하 테스트
+ *
+ * 기본 test 태스크에서는 제외되며 다음과 같이 실행합니다.
+ * ./gradlew :integration-test:loadTest -Dload.concurrency=128 -Dload.duration=60s
+ *
+ * 트랜잭션이 실제로 커밋되어야 하므로 IntegrationTestBase를 상속하지 않고 설정만 재사용합니다.
+ */
+@Tag("load")
+@SpringBootTest(
+        classes = IntegrationTestBase.IntegrationTestConfig.class,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.com.soundbar91=WARN"
+        }
+)
+@ActiveProfiles("test")
+@DisplayName("혼합 트래픽 부하 테스트")
+class LoadTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Test
+    @DisplayName("설정된 비율과 동시성으로 트래픽을 생성하고 작업별 지연 분포를 보고한다")
+    void mixedWorkload() throws Exception {
+        // given
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        WorkloadDriver driver = new WorkloadDriver(userService, shopService, orderService, paymentService, profile);
+
+        // when
+        LoadReport report = driver.run();
+
+        // then
+        report.print(System.out);
+        report.writeHistograms();
+        assertThat(report.recorder().histogram(LoadOperation.BROWSE_SHOPS).getTotalCount()).isPositive();
+    }
+}
@@ -0,0 +1,231 @@
+package com.soundbar91.integration.load;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.shop.domain.entity.Shop;
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.service.ShopService;
+import com.soundbar91.user.domain.entity.User;
+import com.soundbar91.user.domain.vo.UserRole;
+import com.soundbar91.user.service.UserService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 혼합 트래픽 부하 생성기
+ *
+ * 동시성 수만큼의 가상 스레드가 측정 시간 동안 가중치에 따라 작업을 골라 서비스 계층을 직접 호출합니다.
+ * 주문 생성 시 결제가 이벤트로 함께 생성되므로, 생성된 주문은 결제 처리/취소 대상 큐로 넘겨
+ * 실제 상태 전이 흐름(PENDING → COMPLETED, 취소 → 환불)을 따라가게 합니다.
+ */
+class WorkloadDriver {
+
+    private static final ShopCategory[] CATEGORIES = ShopCategory.values();
+
+    private final UserService userService;
+    private final ShopService shopService;
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+    private final LoadProfile profile;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private final IdPool userIds = new IdPool(1 << 16);
+    private final IdPool shopIds = new IdPool(1 << 12);
+    private final ConcurrentLinkedQueue<Long> unpaidOrders = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> paidOrders = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    WorkloadDriver(UserService userService, ShopService shopService, OrderService orderService,
+                   PaymentService paymentService, LoadProfile profile) {
+        this.userService = userService;
+        this.shopService = shopService;
+        this.orderService = orderService;
+        this.paymentService = paymentService;
+        this.profile = profile;
+
+        List<LoadOperation> enabled = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (LoadOperation operation : LoadOperation.values()) {
+            int weight = profile.weights().getOrDefault(operation, 0);
+            if (weight > 0) {
+                sum += weight;
+                enabled.add(operation);
+                cumulative.add(sum);
+            }
+        }
+        this.operations = enabled.toArray(LoadOperation[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    LoadReport run() throws InterruptedException {
+        seed();
+
+        long warmupEnd = System.nanoTime() + profile.warmup().toNanos();
+        long end = warmupEnd + profile.duration().toNanos();
+        long measureStart;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.concurrency(); i++) {
+                executor.submit(() -> drive(end));
+            }
+            Thread.sleep(Duration.ofNanos(Math.max(0, warmupEnd - System.nanoTime())));
+            recorder.startRecording();
+            measureStart = System.nanoTime();
+        } // close()가 모든 워커 종료를 기다린다
+        return new LoadReport(recorder, Duration.ofNanos(System.nanoTime() - measureStart), profile);
+    }
+
+    private void seed() {
+        for (int i = 0; i < profile.seedUsers(); i++) {
+            signup();
+        }
+        for (int i = 0; i < profile.seedShops(); i++) {
+            long ownerId = userIds.random();
+            Shop shop = shopService.createShop("부하 테스트 상점 " + i, CATEGORIES[i % CATEGORIES.length],
+                    "부하 테스트용 상점", "서울시 강남구", "02-0000-0000", ownerId);
+            shopIds.add(shop.getId());
+        }
+    }
+
+    private void drive(long end) {
+        while (System.nanoTime() < end) {
+            LoadOperation operation = pick();
+            long start = System.nanoTime();
+            boolean success = true;
+            try {
+                // 대상 주문이 없어 주문 생성으로 대체되면 실제 수행한 작업으로 기록
+                operation = execute(operation);
+            } catch (RuntimeException e) {
+                success = false;
+            }
+            recorder.record(operation, System.nanoTime() - start, success);
+        }
+    }
+
+    private LoadOperation pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * 작업을 실행하고 실제로 수행한 작업을 반환
+     */
+    private LoadOperation execute(LoadOperation operation) {
+        return switch (operation) {
+            case SIGNUP -> {
+                signup();
+                yield operation;
+            }
+            case BROWSE_SHOPS -> {
+                browseShops();
+                yield operation;
+            }
+            case CREATE_ORDER -> {
+                createOrder();
+                yield operation;
+            }
+            case PROCESS_PAYMENT -> processPayment();
+            case CANCEL_REFUND -> cancelAndRefund();
+        };
+    }
+
+    private void signup() {
+        long n = sequence.incrementAndGet();
+        User user = userService.createUser("부하 사용자 " + n, "load-" + n + "-" + System.nanoTime() + "@example.com",
+                "010-0000-0000", UserRole.USER);
+        userIds.add(user.getId());
+    }
+
+    private void browseShops() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextBoolean()) {
+            shopService.getShopsByCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        } else {
+            shopService.getShopById(shopIds.random());
+        }
+    }
+
+    private void createOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int quantity = random.nextInt(1, 5);
+        Order order = orderService.createOrder(userIds.random(), shopIds.random(), "부하 테스트 상품",
+                quantity, BigDecimal.valueOf(quantity * 12_000L), "서울시 강남구 배송지");
+        unpaidOrders.add(order.getId());
+    }
+
+    private LoadOperation processPayment() {
+        Long orderId = unpaidOrders.poll();
+        if (orderId == null) {
+            createOrder();
+            return LoadOperation.CREATE_ORDER;
+        }
+        paymentService.processPayment(paymentService.getPaymentByOrderId(orderId).getId());
+        paidOrders.add(orderId);
+        return LoadOperation.PROCESS_PAYMENT;
+    }
+
+    private LoadOperation cancelAndRefund() {
+        Long orderId = paidOrders.poll();
+        if (orderId == null) {
+            orderId = unpaidOrders.poll();
+        }
+        if (orderId == null) {
+            createOrder();
+            return LoadOperation.CREATE_ORDER;
+        }
+        // OrderCancelledEvent 리스너가 결제를 환불/취소한다
+        orderService.cancelOrder(orderId);
+        return LoadOperation.CANCEL_REFUND;
+    }
+
+    /**
+     * 최근 생성된 ID를 보관하는 고정 크기 링 버퍼
+     * 슬롯을 예약해 값을 먼저 기록한 뒤 예약 순서대로 count를 공개하므로,
+     * random()은 아직 기록되지 않은 빈 슬롯(0)을 읽지 않습니다.
+     */
+    private static final class IdPool {
+
+        private final AtomicLongArray ids;
+        private final AtomicLong reserved = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        IdPool(int capacity) {
+            this.ids = new AtomicLongArray(capacity);
+        }
+
+        void add(long id) {
+            long slot = reserved.getAndIncrement();
+            ids.set((int) (slot % ids.length()), id);
+            // 앞선 슬롯이 공개될 때까지 기다렸다가 자기 슬롯까지 공개
+            while (!count.compareAndSet(slot, slot + 1)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        long random() {
+            long size = Math.min(count.get(), ids.length());
+            if (size == 0) {
+                throw new IllegalStateException("사전 생성된 데이터가 없습니다.");
+            }
+            return ids.get(ThreadLocalRandom.current().nextInt((int) size));
+        }
+    }
+}
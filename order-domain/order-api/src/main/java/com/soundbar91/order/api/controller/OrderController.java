@@ -1,10 +1,17 @@
 package com.soundbar91.order.api.controller;
 
+import com.soundbar91.common.dto.CursorPage;
+import com.soundbar91.common.projection.FieldSelection;
 import com.soundbar91.order.api.dto.request.CreateOrderRequest;
+import com.soundbar91.order.api.dto.request.OrderSearchRequest;
+import com.soundbar91.order.api.dto.response.OrderHistoryResponse;
 import com.soundbar91.order.api.dto.response.OrderResponse;
 import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.vo.OrderField;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import com.soundbar91.order.service.OrderService;
+import com.soundbar91.order.service.history.OrderHistoryService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,15 +20,19 @@ import java.util.List;
 
 /**
  * 주문 API 컨트롤러
+ *
+ * 목록 조회는 fields 파라미터(예: fields=id,status,totalAmount)로 필요한 필드만 조회·응답할 수 있습니다.
  */
 @RestController
 @RequestMapping("/api/v2/orders")
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderHistoryService orderHistoryService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderHistoryService orderHistoryService) {
         this.orderService = orderService;
+        this.orderHistoryService = orderHistoryService;
     }
 
     /**
@@ -53,29 +64,60 @@ public class OrderController {
      * 모든 주문 조회
      */
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
+    public ResponseEntity<List<?>> getAllOrders(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.getAllOrders(FieldSelection.parse(OrderField.class, fields)));
+        }
         List<OrderResponse> orders = orderService.getAllOrders().stream()
                 .map(OrderResponse::from)
                 .toList();
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 주문 복합 조건 검색 (최신순 커서 페이징)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<OrderResponse>> searchOrders(@ModelAttribute OrderSearchRequest request) {
+        CursorPage<Order> page = orderService.searchOrders(request.toCondition(), request.cursor(), request.size());
+        return ResponseEntity.ok(page.map(OrderResponse::from));
+    }
+
     /**
      * 사용자별 주문 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByUserId(@PathVariable Long userId) {
+    public ResponseEntity<List<?>> getOrdersByUserId(@PathVariable Long userId,
+                                                     @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.getOrdersByUserId(userId, FieldSelection.parse(OrderField.class, fields)));
+        }
         List<OrderResponse> orders = orderService.getOrdersByUserId(userId).stream()
                 .map(OrderResponse::from)
                 .toList();
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 사용자별 주문 이력 조회 (결제 상태, 상점 이름 포함, 최신순 커서 페이징)
+     */
+    @GetMapping("/user/{userId}/history")
+    public ResponseEntity<CursorPage<OrderHistoryResponse>> getOrderHistory(@PathVariable Long userId,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Integer size) {
+        CursorPage<OrderHistory> page = orderHistoryService.getHistory(userId, cursor, size);
+        return ResponseEntity.ok(page.map(OrderHistoryResponse::from));
+    }
+
     /**
      * 상점별 주문 조회
      */
     @GetMapping("/shop/{shopId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByShopId(@PathVariable Long shopId) {
+    public ResponseEntity<List<?>> getOrdersByShopId(@PathVariable Long shopId,
+                                                     @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.getOrdersByShopId(shopId, FieldSelection.parse(OrderField.class, fields)));
+        }
         List<OrderResponse> orders = orderService.getOrdersByShopId(shopId).stream()
                 .map(OrderResponse::from)
                 .toList();
@@ -86,7 +128,11 @@ public class OrderController {
      * 상태별 주문 조회
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable OrderStatus status) {
+    public ResponseEntity<List<?>> getOrdersByStatus(@PathVariable OrderStatus status,
+                                                     @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(orderService.getOrdersByStatus(status, FieldSelection.parse(OrderField.class, fields)));
+        }
         List<OrderResponse> orders = orderService.getOrdersByStatus(status).stream()
                 .map(OrderResponse::from)
                 .toList();
@@ -0,0 +1,31 @@
+package com.soundbar91.order.api.dto.request;
+
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 주문 검색 요청 DTO (쿼리 파라미터)
+ *
+ * 예: ?shopId=42&status=SHIPPED&from=2025-01-01T00:00:00&minAmount=50000&size=20
+ * status는 반복하거나 콤마로 구분해 여러 개를 지정할 수 있고, 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.
+ */
+public record OrderSearchRequest(
+        Long userId,
+        Long shopId,
+        Set<OrderStatus> status,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String cursor,
+        Integer size
+) {
+    public OrderSearchCondition toCondition() {
+        return new OrderSearchCondition(userId, shopId, status, from, to, minAmount, maxAmount);
+    }
+}
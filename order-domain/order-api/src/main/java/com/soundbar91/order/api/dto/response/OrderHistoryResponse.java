@@ -0,0 +1,39 @@
+package com.soundbar91.order.api.dto.response;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이력 응답 DTO (주문 + 결제 상태 + 상점 이름)
+ */
+public record OrderHistoryResponse(
+        Long orderId,
+        Long shopId,
+        String shopName,
+        String productName,
+        BigDecimal totalAmount,
+        OrderStatus orderStatus,
+        OrderPaymentStatus paymentStatus,
+        BigDecimal paidAmount,
+        BigDecimal refundedAmount,
+        LocalDateTime createdAt
+) {
+    public static OrderHistoryResponse from(OrderHistory history) {
+        return new OrderHistoryResponse(
+                history.getOrderId(),
+                history.getShopId(),
+                history.getShopName(),
+                history.getProductName(),
+                history.getTotalAmount(),
+                history.getOrderStatus(),
+                history.getPaymentStatus(),
+                history.getPaidAmount(),
+                history.getRefundedAmount(),
+                history.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.soundbar91.order.api.dto.response;
+
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.soundbar91.web.json.JsonFields.*;
+
+/**
+ * OrderHistoryResponse 스트리밍 직렬화기 (리플렉션 기반 BeanSerializer 대체)
+ */
+@JacksonComponent
+public class OrderHistoryResponseSerializer extends StdSerializer<OrderHistoryResponse> {
+
+    private static final SerializedString ORDER_ID = name("orderId");
+    private static final SerializedString SHOP_ID = name("shopId");
+    private static final SerializedString SHOP_NAME = name("shopName");
+    private static final SerializedString PRODUCT_NAME = name("productName");
+    private static final SerializedString TOTAL_AMOUNT = name("totalAmount");
+    private static final SerializedString ORDER_STATUS = name("orderStatus");
+    private static final SerializedString PAYMENT_STATUS = name("paymentStatus");
+    private static final SerializedString PAID_AMOUNT = name("paidAmount");
+    private static final SerializedString REFUNDED_AMOUNT = name("refundedAmount");
+    private static final SerializedString CREATED_AT = name("createdAt");
+
+    private static final SerializedString[] ORDER_STATUSES = enumNames(OrderStatus.class);
+    private static final SerializedString[] PAYMENT_STATUSES = enumNames(OrderPaymentStatus.class);
+
+    public OrderHistoryResponseSerializer() {
+        super(OrderHistoryResponse.class);
+    }
+
+    @Override
+    public void serialize(OrderHistoryResponse value, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(value);
+        writeLong(gen, ORDER_ID, value.orderId());
+        writeLong(gen, SHOP_ID, value.shopId());
+        writeString(gen, SHOP_NAME, value.shopName());
+        writeString(gen, PRODUCT_NAME, value.productName());
+        writeDecimal(gen, TOTAL_AMOUNT, value.totalAmount());
+        writeEnum(gen, ORDER_STATUS, ORDER_STATUSES, value.orderStatus());
+        writeEnum(gen, PAYMENT_STATUS, PAYMENT_STATUSES, value.paymentStatus());
+        writeDecimal(gen, PAID_AMOUNT, value.paidAmount());
+        writeDecimal(gen, REFUNDED_AMOUNT, value.refundedAmount());
+        writeDateTime(gen, CREATED_AT, value.createdAt());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,50 @@
+package com.soundbar91.order.api.dto.response;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.soundbar91.web.json.JsonFields.*;
+
+/**
+ * OrderResponse 스트리밍 직렬화기 (리플렉션 기반 BeanSerializer 대체)
+ */
+@JacksonComponent
+public class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString USER_ID = name("userId");
+    private static final SerializedString SHOP_ID = name("shopId");
+    private static final SerializedString PRODUCT_NAME = name("productName");
+    private static final SerializedString QUANTITY = name("quantity");
+    private static final SerializedString TOTAL_AMOUNT = name("totalAmount");
+    private static final SerializedString STATUS = name("status");
+    private static final SerializedString DELIVERY_ADDRESS = name("deliveryAddress");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+
+    private static final SerializedString[] STATUSES = enumNames(OrderStatus.class);
+
+    public OrderResponseSerializer() {
+        super(OrderResponse.class);
+    }
+
+    @Override
+    public void serialize(OrderResponse value, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.id());
+        writeLong(gen, USER_ID, value.userId());
+        writeLong(gen, SHOP_ID, value.shopId());
+        writeString(gen, PRODUCT_NAME, value.productName());
+        writeInt(gen, QUANTITY, value.quantity());
+        writeDecimal(gen, TOTAL_AMOUNT, value.totalAmount());
+        writeEnum(gen, STATUS, STATUSES, value.status());
+        writeString(gen, DELIVERY_ADDRESS, value.deliveryAddress());
+        writeDateTime(gen, CREATED_AT, value.createdAt());
+        writeDateTime(gen, UPDATED_AT, value.updatedAt());
+        gen.writeEndObject();
+    }
+}
@@ -1,14 +1,23 @@
 package com.soundbar91.order.api.controller;
 
+import com.soundbar91.common.dto.CursorPage;
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.order.api.dto.request.CreateOrderRequest;
 import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.vo.OrderField;
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import com.soundbar91.order.service.OrderService;
+import com.soundbar91.order.service.history.OrderHistoryService;
 import com.soundbar91.test.fixture.OrderFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -25,9 +34,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
@@ -62,6 +74,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderHistoryService orderHistoryService;
+
     @Nested
     @DisplayName("POST /api/v2/orders")
     class CreateOrder {
@@ -173,6 +188,90 @@ class OrderControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(2));
         }
+
+        @Test
+        @DisplayName("fields 파라미터를 지정하면 id와 선택한 필드만 반환한다")
+        void getOrdersByUserId_WithFields_ReturnsSelectedFieldsOnly() throws Exception {
+            // given
+            Long userId = 1L;
+            FieldSelection<OrderField> fields = FieldSelection.parse(OrderField.class, "status,totalAmount");
+            List<ProjectedRow> rows = fields.toRows(List.<Object[]>of(
+                    new Object[]{10L, OrderStatus.CONFIRMED, new BigDecimal("9000.50")}));
+
+            given(orderService.getOrdersByUserId(eq(userId), any())).willReturn(rows);
+
+            // when & then
+            mockMvc.perform(get("/api/v2/orders/user/{userId}", userId).param("fields", "status,totalAmount"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(10))
+                    .andExpect(jsonPath("$[0].status").value("CONFIRMED"))
+                    .andExpect(jsonPath("$[0].totalAmount").value(9000.50))
+                    .andExpect(jsonPath("$[0].productName").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v2/orders/search")
+    class SearchOrders {
+
+        @Test
+        @DisplayName("검색 조건을 바인딩해 조회하고 다음 페이지 커서를 반환한다")
+        void searchOrders_BindsConditionAndReturnsCursorPage() throws Exception {
+            // given
+            List<Order> orders = List.of(OrderFixture.create().withId(1L).withShopId(42L).withStatus(OrderStatus.SHIPPED).build());
+            ArgumentCaptor<OrderSearchCondition> condition = ArgumentCaptor.forClass(OrderSearchCondition.class);
+
+            given(orderService.searchOrders(condition.capture(), eq("abc"), eq(1)))
+                    .willReturn(new CursorPage<>(orders, 1, "next", true));
+
+            // when & then
+            mockMvc.perform(get("/api/v2/orders/search")
+                            .param("shopId", "42")
+                            .param("status", "SHIPPED,DELIVERED")
+                            .param("from", "2025-01-01T00:00:00")
+                            .param("minAmount", "50000")
+                            .param("cursor", "abc")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+
+            assertThat(condition.getValue().shopId()).isEqualTo(42L);
+            assertThat(condition.getValue().statuses()).containsExactlyInAnyOrder(OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+            assertThat(condition.getValue().createdFrom()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+            assertThat(condition.getValue().minAmount()).isEqualByComparingTo("50000");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v2/orders/user/{userId}/history")
+    class GetOrderHistory {
+
+        @Test
+        @DisplayName("주문 이력을 결제 상태와 상점 이름을 포함한 커서 페이지로 반환한다")
+        void getOrderHistory_ReturnsCursorPage() throws Exception {
+            // given
+            OrderHistory history = new OrderHistory(10L, 1L, 42L, "테스트 상점", "테스트 상품",
+                    new BigDecimal("30000"), LocalDateTime.of(2025, 3, 1, 12, 0));
+            history.changePaymentStatus(OrderPaymentStatus.COMPLETED, new BigDecimal("30000"),
+                    LocalDateTime.of(2025, 3, 1, 12, 5));
+
+            given(orderHistoryService.getHistory(1L, "abc", 1))
+                    .willReturn(new CursorPage<>(List.of(history), 1, "next", true));
+
+            // when & then
+            mockMvc.perform(get("/api/v2/orders/user/{userId}/history", 1L)
+                            .param("cursor", "abc")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].orderId").value(10))
+                    .andExpect(jsonPath("$.content[0].shopName").value("테스트 상점"))
+                    .andExpect(jsonPath("$.content[0].orderStatus").value("PENDING"))
+                    .andExpect(jsonPath("$.content[0].paymentStatus").value("COMPLETED"))
+                    .andExpect(jsonPath("$.content[0].paidAmount").value(30000))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
     }
 
     @Nested
@@ -0,0 +1,49 @@
+package com.soundbar91.order.api.dto.response;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderResponseSerializer 테스트")
+class OrderResponseSerializerTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(OrderResponse.class, new OrderResponseSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("기본 Jackson 직렬화와 같은 JSON을 생성한다")
+    void serialize_MatchesReflectiveOutput() {
+        // given
+        OrderResponse response = new OrderResponse(1L, 2L, 3L, "아메리카노", 2, new BigDecimal("9000.50"), OrderStatus.CONFIRMED,
+                "서울시 강남구", LocalDateTime.of(2026, 1, 2, 3, 4, 5, 500_000_000), LocalDateTime.of(2026, 1, 2, 3, 4));
+
+        // when
+        String json = streaming.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflective.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("null 필드도 기본 직렬화와 같이 null로 기록한다")
+    void serialize_WithNullFields_MatchesReflectiveOutput() {
+        // given
+        OrderResponse response = new OrderResponse(1L, null, null, null, null, null, null, null, null, null);
+
+        // when
+        JsonNode tree = streaming.readTree(streaming.writeValueAsString(response));
+
+        // then
+        assertThat(tree).isEqualTo(reflective.readTree(reflective.writeValueAsString(response)));
+    }
+}
@@ -0,0 +1,154 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 종료된 주문의 콜드 아카이브 (세그먼트 파일 모음)
+ *
+ * 세그먼트는 추가만 되고 수정되지 않습니다. 조회는 최신 세그먼트부터 수행하며,
+ * 같은 주문이 여러 세그먼트에 있으면 (재시도로 인한 중복) 먼저 찾은 것을 사용합니다.
+ *
+ * 여러 인스턴스로 배포하면 directory는 모든 인스턴스가 함께 마운트한 공유 스토리지여야 합니다.
+ * 세그먼트는 아카이브 작업을 실행한 한 인스턴스(OrderArchiveLock)만 기록하고, 다른 인스턴스는 조회할 때
+ * 디렉터리 변경 시각이 바뀌었으면 새 세그먼트를 읽어 들이므로, DB에서 삭제된 주문도 바로 아카이브에서 찾습니다.
+ */
+public class OrderArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchive.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final long MODIFIED_TIME_RESOLUTION_MILLIS = 2_000;
+
+    private final Path directory;
+    private final double bloomFalsePositiveRate;
+    // 최신 세그먼트가 앞에 오는 불변 목록 (새 세그먼트를 읽으면 통째로 교체)
+    private volatile List<OrderSegment> segments = List.of();
+    private volatile FileTime directoryModifiedAt;
+    private long nextSequence;
+
+    public OrderArchive(OrderArchiveProperties properties) {
+        this.directory = Paths.get(properties.directory());
+        this.bloomFalsePositiveRate = properties.bloomFalsePositiveRate();
+        try {
+            Files.createDirectories(directory);
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 아카이브 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        long rows = segments.stream().mapToLong(OrderSegment::getRowCount).sum();
+        log.info("[OrderArchive] 세그먼트 로드 완료 - directory: {}, segments: {}, rows: {}", directory, segments.size(), rows);
+    }
+
+    /**
+     * 아직 읽지 않은 세그먼트(다른 인스턴스가 기록한 세그먼트)를 읽어 들임
+     *
+     * @return 새로 읽은 세그먼트 수
+     */
+    public synchronized int refresh() throws IOException {
+        // 목록을 읽기 전에 시각을 기록해, 읽는 중에 추가된 세그먼트는 다음 확인에서 다시 읽음
+        FileTime modifiedAt = Files.getLastModifiedTime(directory);
+        Set<Path> loaded = new HashSet<>();
+        segments.forEach(segment -> loaded.add(segment.getPath()));
+        List<OrderSegment> added = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                if (!loaded.contains(file)) {
+                    added.add(OrderSegment.open(file));
+                    nextSequence = Math.max(nextSequence, sequenceOf(file) + 1);
+                }
+            }
+        }
+        if (!added.isEmpty()) {
+            List<OrderSegment> merged = new ArrayList<>(segments);
+            merged.addAll(added);
+            merged.sort(Comparator.comparing((OrderSegment segment) -> segment.getPath().getFileName()).reversed());
+            segments = List.copyOf(merged);
+        }
+        directoryModifiedAt = modifiedAt;
+        return added.size();
+    }
+
+    /**
+     * 주문 묶음을 새 세그먼트로 기록 (다른 인스턴스가 기록한 세그먼트 다음 번호 사용)
+     */
+    public synchronized void append(List<Order> orders) throws IOException {
+        refresh();
+        Path file = directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+        OrderSegmentWriter.write(file, orders, bloomFalsePositiveRate);
+        List<OrderSegment> merged = new ArrayList<>(segments.size() + 1);
+        merged.add(OrderSegment.open(file));
+        merged.addAll(segments);
+        segments = List.copyOf(merged);
+        log.info("[OrderArchive] 세그먼트 추가 - file: {}, rows: {}", file.getFileName(), orders.size());
+    }
+
+    public Optional<Order> findById(Long id) {
+        for (OrderSegment segment : currentSegments()) {
+            Optional<Order> found = segment.findById(id);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Order> findByUserId(Long userId) {
+        List<Order> result = new ArrayList<>();
+        for (OrderSegment segment : currentSegments()) {
+            result.addAll(segment.findByUserId(userId));
+        }
+        return result;
+    }
+
+    public List<Order> findByShopId(Long shopId) {
+        List<Order> result = new ArrayList<>();
+        for (OrderSegment segment : currentSegments()) {
+            result.addAll(segment.findByShopId(shopId));
+        }
+        return result;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 디렉터리가 바뀌었으면 새 세그먼트를 읽은 뒤 세그먼트 목록 반환
+     * 읽기에 실패하면 이미 읽은 세그먼트로 조회합니다.
+     */
+    private List<OrderSegment> currentSegments() {
+        try {
+            FileTime modifiedAt = Files.getLastModifiedTime(directory);
+            // 변경 시각 해상도가 낮은 파일 시스템에서는 같은 시각에 추가된 세그먼트를 놓칠 수 있어, 최근 변경이면 다시 확인
+            if (!modifiedAt.equals(directoryModifiedAt)
+                    || modifiedAt.toMillis() > System.currentTimeMillis() - MODIFIED_TIME_RESOLUTION_MILLIS) {
+                refresh();
+            }
+        } catch (IOException e) {
+            log.warn("[OrderArchive] 새 세그먼트 확인 실패 - directory: {}", directory, e);
+        }
+        return segments;
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.infrastructure.repository.OrderJpaRepository;
+import com.soundbar91.order.service.OrderService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 주문 콜드 아카이브 설정
+ * order.archive.enabled=true 일 때만 활성화되며, 비활성화 시 조회는 DB만 사용합니다.
+ * 여러 인스턴스로 배포하면 order.archive.directory는 공유 스토리지여야 하며, 아카이브 작업은 잠금을 얻은 한 인스턴스만 실행합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+@EnableScheduling
+public class OrderArchiveConfig {
+
+    @Bean
+    public OrderArchive orderArchive(OrderArchiveProperties properties) {
+        return new OrderArchive(properties);
+    }
+
+    @Bean
+    public OrderArchiver orderArchiver(OrderJpaRepository orderJpaRepository, OrderArchive orderArchive,
+                                       OrderArchiveProperties properties,
+                                       @Qualifier(OrderService.TRANSACTION_MANAGER) JpaTransactionManager transactionManager) {
+        // 잠금은 주문 테이블과 같은 DB(주문 도메인 DataSource)에서 잡음
+        return new OrderArchiver(orderJpaRepository, orderArchive, new OrderArchiveLock(transactionManager.getDataSource()),
+                properties, new TransactionTemplate(transactionManager), Clock.systemDefaultZone());
+    }
+}
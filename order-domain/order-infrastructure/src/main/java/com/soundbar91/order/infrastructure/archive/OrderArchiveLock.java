@@ -0,0 +1,55 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 아카이브 작업 단일 실행 잠금 (PostgreSQL 세션 advisory lock)
+ *
+ * 아카이브 작업은 모든 인스턴스에서 같은 cron으로 실행되지만, 주문 DB에서 잠금을 얻은 인스턴스 하나만 진행하고
+ * 나머지는 건너뜁니다. 잠금은 작업하는 동안 잡아 둔 커넥션 하나에 묶여 있어, 인스턴스가 멈춰 커넥션이 끊기면 DB가 풀어 줍니다.
+ */
+public class OrderArchiveLock {
+
+    // 주문 아카이브 전용 잠금 키 ("OARC", 세그먼트 MAGIC과 같은 값)
+    static final long LOCK_KEY = OrderSegmentWriter.MAGIC;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderArchiveLock(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 잠금을 얻으면 task를 실행한 뒤 잠금을 풀고 true, 다른 인스턴스가 실행 중이면 실행하지 않고 false
+     */
+    public boolean runExclusively(Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!call(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                call(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean call(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 종료된 주문 콜드 아카이브 설정 속성
+ * application.yml에서 'order.archive' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * order:
+ *   archive:
+ *     enabled: true
+ *     directory: /var/lib/nuga/order-archive   # 여러 인스턴스면 모든 인스턴스가 마운트한 공유 스토리지 경로
+ *     closed-after: 90d
+ *     segment-size: 50000
+ *     bloom-false-positive-rate: 0.01
+ *     cron: "0 30 2 * * *"   # 아카이브 작업 실행 주기 (@Scheduled에서 직접 참조)
+ */
+@ConfigurationProperties(prefix = "order.archive")
+public record OrderArchiveProperties(
+        boolean enabled,
+        String directory,
+        Duration closedAfter,
+        int segmentSize,
+        double bloomFalsePositiveRate
+) {
+
+    public OrderArchiveProperties {
+        if (directory == null) {
+            directory = "./data/order-archive";
+        }
+        if (closedAfter == null) {
+            closedAfter = Duration.ofDays(90);
+        }
+        if (segmentSize <= 0) {
+            segmentSize = 50_000;
+        }
+        if (bloomFalsePositiveRate <= 0 || bloomFalsePositiveRate >= 1) {
+            bloomFalsePositiveRate = 0.01;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.order.infrastructure.repository.OrderJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종료된 주문을 콜드 아카이브로 이동하는 배치 작업
+ *
+ * closedAfter 이전에 마지막으로 변경된 DELIVERED/CANCELLED 주문을 segmentSize 단위로 읽어
+ * 세그먼트 파일로 기록한 뒤 DB에서 삭제합니다.
+ * 세그먼트 기록 후 삭제 전에 장애가 나면 같은 주문이 DB와 아카이브에 모두 남지만,
+ * 다음 실행에서 다시 아카이브되고 조회 시 id 기준으로 중복이 제거됩니다.
+ *
+ * 모든 인스턴스에서 스케줄되지만 OrderArchiveLock을 얻은 인스턴스 하나만 실행하므로, 같은 주문을 두 번 기록하지 않습니다.
+ * 세그먼트 디렉터리는 모든 인스턴스가 공유해야 하며(OrderArchive), 그래야 DB에서 삭제한 주문을 다른 인스턴스도 조회합니다.
+ */
+public class OrderArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private static final Set<OrderStatus> CLOSED_STATUSES = Set.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderArchive orderArchive;
+    private final OrderArchiveLock archiveLock;
+    private final OrderArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public OrderArchiver(OrderJpaRepository orderJpaRepository, OrderArchive orderArchive, OrderArchiveLock archiveLock,
+                         OrderArchiveProperties properties, TransactionTemplate transactionTemplate, Clock clock) {
+        this.orderJpaRepository = orderJpaRepository;
+        this.orderArchive = orderArchive;
+        this.archiveLock = archiveLock;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        if (!archiveLock.runExclusively(this::archiveClosedOrders)) {
+            log.info("[OrderArchive] 다른 인스턴스가 아카이브 중이므로 건너뜁니다.");
+        }
+    }
+
+    private void archiveClosedOrders() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.closedAfter());
+        long afterId = Long.MIN_VALUE;
+        long archived = 0;
+        try {
+            while (true) {
+                List<Order> chunk = orderJpaRepository.findArchivable(
+                        CLOSED_STATUSES, cutoff, afterId, PageRequest.ofSize(properties.segmentSize()));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                orderArchive.append(chunk);
+                List<Long> ids = chunk.stream().map(Order::getId).toList();
+                transactionTemplate.executeWithoutResult(status -> orderJpaRepository.deleteAllByIdInBatch(ids));
+                archived += chunk.size();
+                afterId = ids.get(ids.size() - 1);
+            }
+            log.info("[OrderArchive] 아카이브 완료 - cutoff: {}, archived: {}", cutoff, archived);
+        } catch (IOException e) {
+            log.error("[OrderArchive] 세그먼트 기록 실패 - archived: {}", archived, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
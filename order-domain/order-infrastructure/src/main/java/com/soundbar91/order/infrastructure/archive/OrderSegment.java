@@ -0,0 +1,234 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.soundbar91.order.infrastructure.archive.OrderSegmentWriter.*;
+
+/**
+ * 읽기 전용 주문 아카이브 세그먼트
+ *
+ * 파일 전체를 메모리 매핑하고 헤더(min/max, Bloom 필터)만 즉시 읽습니다.
+ * 컬럼 블록은 필요할 때 개별적으로 압축 해제하며, 결과는 SoftReference로 캐시해
+ * 메모리가 부족하면 GC가 회수할 수 있게 합니다.
+ */
+final class OrderSegment {
+
+    private final Path path;
+    private final MappedByteBuffer mapped;
+    private final int rowCount;
+    private final long minId;
+    private final long maxId;
+    private final long minUserId;
+    private final long maxUserId;
+    private final long minShopId;
+    private final long maxShopId;
+    private final BloomFilter userBloom;
+    private final BloomFilter shopBloom;
+    private final int[] rawLengths = new int[COLUMN_COUNT];
+    private final int[] blockOffsets = new int[COLUMN_COUNT];
+    private final int[] blockLengths = new int[COLUMN_COUNT];
+    private final AtomicReferenceArray<SoftReference<Object>> columnCache = new AtomicReferenceArray<>(COLUMN_COUNT);
+
+    private OrderSegment(Path path, MappedByteBuffer mapped) {
+        this.path = path;
+        this.mapped = mapped;
+
+        ByteBuffer header = mapped.duplicate();
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("올바른 주문 아카이브 세그먼트가 아닙니다: " + path);
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 세그먼트 버전입니다: " + version + ", " + path);
+        }
+        this.rowCount = header.getInt();
+        this.minId = header.getLong();
+        this.maxId = header.getLong();
+        this.minUserId = header.getLong();
+        this.maxUserId = header.getLong();
+        this.minShopId = header.getLong();
+        this.maxShopId = header.getLong();
+        header.getLong(); // minCreatedAt
+        header.getLong(); // maxCreatedAt
+        this.userBloom = BloomFilter.readFrom(header);
+        this.shopBloom = BloomFilter.readFrom(header);
+
+        int columnCount = header.getInt();
+        if (columnCount != COLUMN_COUNT) {
+            throw new IllegalStateException("지원하지 않는 컬럼 구성입니다: " + path);
+        }
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            rawLengths[i] = header.getInt();
+            blockLengths[i] = header.getInt();
+        }
+        int offset = header.position();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            blockOffsets[i] = offset;
+            offset += blockLengths[i];
+        }
+    }
+
+    static OrderSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효하다
+            return new OrderSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    Optional<Order> findById(long id) {
+        if (id < minId || id > maxId) {
+            return Optional.empty();
+        }
+        int row = Arrays.binarySearch(longColumn(COLUMN_ID), id);
+        return row >= 0 ? Optional.of(materialize(row)) : Optional.empty();
+    }
+
+    List<Order> findByUserId(long userId) {
+        if (userId < minUserId || userId > maxUserId || !userBloom.mightContain(userId)) {
+            return List.of();
+        }
+        return findByKey(COLUMN_USER_ID, userId);
+    }
+
+    List<Order> findByShopId(long shopId) {
+        if (shopId < minShopId || shopId > maxShopId || !shopBloom.mightContain(shopId)) {
+            return List.of();
+        }
+        return findByKey(COLUMN_SHOP_ID, shopId);
+    }
+
+    private List<Order> findByKey(int column, long key) {
+        long[] values = longColumn(column);
+        List<Order> result = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (values[row] == key) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    private Order materialize(int row) {
+        return Order.restore(
+                longColumn(COLUMN_ID)[row],
+                longColumn(COLUMN_USER_ID)[row],
+                longColumn(COLUMN_SHOP_ID)[row],
+                stringColumn(COLUMN_PRODUCT_NAME)[row],
+                intColumn(COLUMN_QUANTITY)[row],
+                BigDecimal.valueOf(longColumn(COLUMN_TOTAL_AMOUNT)[row], AMOUNT_SCALE),
+                statusColumn()[row],
+                stringColumn(COLUMN_DELIVERY_ADDRESS)[row],
+                fromEpochMicros(longColumn(COLUMN_CREATED_AT)[row]),
+                fromEpochMicros(longColumn(COLUMN_UPDATED_AT)[row])
+        );
+    }
+
+    private long[] longColumn(int column) {
+        Object cached = cached(column);
+        if (cached != null) {
+            return (long[]) cached;
+        }
+        long[] values = new long[rowCount];
+        ByteBuffer.wrap(inflate(column)).asLongBuffer().get(values);
+        return cache(column, values);
+    }
+
+    private int[] intColumn(int column) {
+        Object cached = cached(column);
+        if (cached != null) {
+            return (int[]) cached;
+        }
+        int[] values = new int[rowCount];
+        ByteBuffer.wrap(inflate(column)).asIntBuffer().get(values);
+        return cache(column, values);
+    }
+
+    private OrderStatus[] statusColumn() {
+        Object cached = cached(COLUMN_STATUS);
+        if (cached != null) {
+            return (OrderStatus[]) cached;
+        }
+        OrderStatus[] values = new OrderStatus[rowCount];
+        String[] names = decodeStrings(COLUMN_STATUS);
+        for (int row = 0; row < rowCount; row++) {
+            values[row] = OrderStatus.valueOf(names[row]);
+        }
+        return cache(COLUMN_STATUS, values);
+    }
+
+    private String[] stringColumn(int column) {
+        Object cached = cached(column);
+        if (cached != null) {
+            return (String[]) cached;
+        }
+        return cache(column, decodeStrings(column));
+    }
+
+    private String[] decodeStrings(int column) {
+        ByteBuffer buffer = ByteBuffer.wrap(inflate(column));
+        String[] values = new String[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            int length = buffer.getInt();
+            if (length >= 0) {
+                values[row] = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+        }
+        return values;
+    }
+
+    private Object cached(int column) {
+        SoftReference<Object> reference = columnCache.get(column);
+        return reference == null ? null : reference.get();
+    }
+
+    private <T> T cache(int column, T values) {
+        columnCache.set(column, new SoftReference<>(values));
+        return values;
+    }
+
+    private byte[] inflate(int column) {
+        ByteBuffer block = mapped.slice(blockOffsets[column], blockLengths[column]);
+        byte[] raw = new byte[rawLengths[column]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("세그먼트 컬럼 압축 해제 실패: " + path, e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+}
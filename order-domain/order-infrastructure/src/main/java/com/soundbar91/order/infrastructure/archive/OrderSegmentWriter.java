@@ -0,0 +1,212 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 주문 아카이브 세그먼트 파일 작성기
+ *
+ * 파일 구조 (big-endian):
+ * [header]  MAGIC, VERSION, rowCount, min/max (id, userId, shopId, createdAt),
+ *           userId Bloom, shopId Bloom, columnCount, (rawLength, compressedLength) * columnCount
+ * [columns] 컬럼별 Deflate 압축 블록 (행은 id 오름차순)
+ *
+ * 임시 파일에 기록하고 fsync 후 원자적으로 이름을 바꾸므로, 완성된 세그먼트만 디렉터리에 나타납니다.
+ */
+final class OrderSegmentWriter {
+
+    static final int MAGIC = 0x4F415243; // "OARC"
+    static final short VERSION = 2;
+
+    static final int COLUMN_ID = 0;
+    static final int COLUMN_USER_ID = 1;
+    static final int COLUMN_SHOP_ID = 2;
+    static final int COLUMN_QUANTITY = 3;
+    static final int COLUMN_TOTAL_AMOUNT = 4;
+    static final int COLUMN_STATUS = 5;
+    static final int COLUMN_CREATED_AT = 6;
+    static final int COLUMN_UPDATED_AT = 7;
+    static final int COLUMN_PRODUCT_NAME = 8;
+    static final int COLUMN_DELIVERY_ADDRESS = 9;
+    static final int COLUMN_COUNT = 10;
+
+    static final int AMOUNT_SCALE = 2;
+
+    private OrderSegmentWriter() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    static void write(Path target, List<Order> orders, double bloomFalsePositiveRate) throws IOException {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("빈 세그먼트는 작성할 수 없습니다.");
+        }
+        List<Order> rows = new ArrayList<>(orders);
+        rows.sort(Comparator.comparing(Order::getId));
+        int rowCount = rows.size();
+
+        ByteBuffer ids = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteBuffer userIds = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteBuffer shopIds = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteBuffer quantities = ByteBuffer.allocate(rowCount * Integer.BYTES);
+        ByteBuffer amounts = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteBuffer createdAts = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteBuffer updatedAts = ByteBuffer.allocate(rowCount * Long.BYTES);
+        ByteArrayOutputStream statuses = new ByteArrayOutputStream();
+        ByteArrayOutputStream productNames = new ByteArrayOutputStream();
+        ByteArrayOutputStream addresses = new ByteArrayOutputStream();
+
+        BloomFilter userBloom = BloomFilter.create(rowCount, bloomFalsePositiveRate);
+        BloomFilter shopBloom = BloomFilter.create(rowCount, bloomFalsePositiveRate);
+        long minUserId = Long.MAX_VALUE;
+        long maxUserId = Long.MIN_VALUE;
+        long minShopId = Long.MAX_VALUE;
+        long maxShopId = Long.MIN_VALUE;
+        long minCreatedAt = Long.MAX_VALUE;
+        long maxCreatedAt = Long.MIN_VALUE;
+
+        for (Order order : rows) {
+            long createdAt = toEpochMicros(order.getCreatedAt());
+            ids.putLong(order.getId());
+            userIds.putLong(order.getUserId());
+            shopIds.putLong(order.getShopId());
+            quantities.putInt(order.getQuantity());
+            amounts.putLong(toUnscaled(order.getTotalAmount()));
+            // enum 순서가 바뀌어도 읽을 수 있도록 이름으로 기록
+            writeString(statuses, order.getStatus().name());
+            createdAts.putLong(createdAt);
+            updatedAts.putLong(toEpochMicros(order.getUpdatedAt()));
+            writeString(productNames, order.getProductName());
+            writeString(addresses, order.getDeliveryAddress());
+
+            userBloom.add(order.getUserId());
+            shopBloom.add(order.getShopId());
+            minUserId = Math.min(minUserId, order.getUserId());
+            maxUserId = Math.max(maxUserId, order.getUserId());
+            minShopId = Math.min(minShopId, order.getShopId());
+            maxShopId = Math.max(maxShopId, order.getShopId());
+            minCreatedAt = Math.min(minCreatedAt, createdAt);
+            maxCreatedAt = Math.max(maxCreatedAt, createdAt);
+        }
+
+        byte[][] raw = new byte[COLUMN_COUNT][];
+        raw[COLUMN_ID] = ids.array();
+        raw[COLUMN_USER_ID] = userIds.array();
+        raw[COLUMN_SHOP_ID] = shopIds.array();
+        raw[COLUMN_QUANTITY] = quantities.array();
+        raw[COLUMN_TOTAL_AMOUNT] = amounts.array();
+        raw[COLUMN_STATUS] = statuses.toByteArray();
+        raw[COLUMN_CREATED_AT] = createdAts.array();
+        raw[COLUMN_UPDATED_AT] = updatedAts.array();
+        raw[COLUMN_PRODUCT_NAME] = productNames.toByteArray();
+        raw[COLUMN_DELIVERY_ADDRESS] = addresses.toByteArray();
+
+        byte[][] compressed = new byte[COLUMN_COUNT][];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            compressed[i] = compress(raw[i]);
+        }
+
+        int headerSize = Integer.BYTES + Short.BYTES + Integer.BYTES + Long.BYTES * 8
+                + userBloom.serializedSize() + shopBloom.serializedSize()
+                + Integer.BYTES + COLUMN_COUNT * Integer.BYTES * 2;
+        ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putInt(rowCount);
+        header.putLong(rows.get(0).getId());
+        header.putLong(rows.get(rowCount - 1).getId());
+        header.putLong(minUserId);
+        header.putLong(maxUserId);
+        header.putLong(minShopId);
+        header.putLong(maxShopId);
+        header.putLong(minCreatedAt);
+        header.putLong(maxCreatedAt);
+        userBloom.writeTo(header);
+        shopBloom.writeTo(header);
+        header.putInt(COLUMN_COUNT);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            header.putInt(raw[i].length);
+            header.putInt(compressed[i].length);
+        }
+        header.flip();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (byte[] block : compressed) {
+                writeFully(channel, ByteBuffer.wrap(block));
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long toUnscaled(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeInt(out, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
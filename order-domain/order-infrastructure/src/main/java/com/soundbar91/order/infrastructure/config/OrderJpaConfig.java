@@ -1,14 +1,96 @@
 package com.soundbar91.order.infrastructure.config;
 
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.isolation.DomainPersistenceFactory;
+import com.soundbar91.datasource.isolation.TransactionManagerAliasRegistrar;
+import com.soundbar91.datasource.partition.PartitionedTable;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.soundbar91.order.service.OrderService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
  * Order 도메인 JPA 설정
+ *
+ * 기본적으로 공용 DataSource와 EntityManagerFactory를 사용하며,
+ * datasource.domains.order.isolated=true 이면 Order 전용 커넥션 풀, EntityManagerFactory,
+ * 트랜잭션 매니저를 구성합니다.
+ *
+ * orders 테이블은 created_at 기준 월 단위 파티션 대상으로 등록합니다. (datasource.partitioning)
  */
 @Configuration
-@EntityScan(basePackages = "com.soundbar91.order.domain.entity")
-@EnableJpaRepositories(basePackages = "com.soundbar91.order.infrastructure.repository")
 public class OrderJpaConfig {
+
+    static final String DOMAIN = "order";
+    static final String ENTITY_PACKAGE = "com.soundbar91.order.domain.entity";
+    static final String REPOSITORY_PACKAGE = "com.soundbar91.order.infrastructure.repository";
+
+    @Bean
+    public PartitionedTable ordersPartitionedTable() {
+        return new PartitionedTable("orders", "created_at");
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.order", name = "isolated", havingValue = "false", matchIfMissing = true)
+    @EntityScan(basePackages = ENTITY_PACKAGE)
+    @EnableJpaRepositories(basePackages = REPOSITORY_PACKAGE)
+    static class SharedPersistenceConfig {
+
+        @Bean
+        static TransactionManagerAliasRegistrar orderTransactionManagerAlias() {
+            return new TransactionManagerAliasRegistrar(OrderService.TRANSACTION_MANAGER);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.order", name = "isolated", havingValue = "true")
+    @EnableJpaRepositories(
+            basePackages = REPOSITORY_PACKAGE,
+            entityManagerFactoryRef = "orderEntityManagerFactory",
+            transactionManagerRef = OrderService.TRANSACTION_MANAGER
+    )
+    static class IsolatedPersistenceConfig {
+
+        @Bean
+        public HikariDataSource orderDataSource(DomainDataSourceProperties properties, Environment environment) {
+            return DomainPersistenceFactory.createDataSource(DOMAIN, properties.domain(DOMAIN), environment);
+        }
+
+        @Bean
+        public ReplicationRoutingDataSource orderRoutingDataSource(
+                @Qualifier("orderDataSource") HikariDataSource dataSource,
+                DomainDataSourceProperties properties,
+                ObjectProvider<DataSourceRoutingProperties> routingProperties) {
+            return DomainPersistenceFactory.createRoutingDataSource(
+                    DOMAIN, dataSource, properties.domain(DOMAIN), routingProperties.getIfAvailable());
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean orderEntityManagerFactory(
+                @Qualifier("orderRoutingDataSource") ReplicationRoutingDataSource routingDataSource,
+                DomainDataSourceProperties properties,
+                Environment environment) {
+            return DomainPersistenceFactory.createEntityManagerFactory(
+                    DOMAIN, new LazyConnectionDataSourceProxy(routingDataSource), properties.domain(DOMAIN),
+                    environment, ENTITY_PACKAGE);
+        }
+
+        @Bean(OrderService.TRANSACTION_MANAGER)
+        public JpaTransactionManager orderTransactionManager(
+                @Qualifier("orderEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return DomainPersistenceFactory.createTransactionManager(entityManagerFactory);
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 이력 Spring Data JPA Repository
+ * 페이지 조회는 idx_order_histories_user_id_created_at 범위 스캔 한 번으로 처리됩니다.
+ */
+public interface OrderHistoryJpaRepository extends JpaRepository<OrderHistory, Long>, OrderHistoryJpaRepositoryCustom {
+
+    @Query("SELECT h FROM OrderHistory h WHERE h.userId = :userId ORDER BY h.createdAt DESC, h.orderId DESC")
+    List<OrderHistory> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT h FROM OrderHistory h WHERE h.userId = :userId "
+            + "AND (h.createdAt < :afterCreatedAt OR (h.createdAt = :afterCreatedAt AND h.orderId < :afterId)) "
+            + "ORDER BY h.createdAt DESC, h.orderId DESC")
+    List<OrderHistory> findPageAfter(@Param("userId") Long userId,
+                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderHistory h SET h.shopName = :shopName WHERE h.shopId = :shopId")
+    int updateShopName(@Param("shopId") Long shopId, @Param("shopName") String shopName);
+}
@@ -0,0 +1,15 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+
+/**
+ * OrderHistoryJpaRepository 사용자 정의 저장 (Spring Data 프래그먼트)
+ */
+public interface OrderHistoryJpaRepositoryCustom {
+
+    /**
+     * 새 이력 행 INSERT (merge 없이 persist 후 즉시 flush)
+     * 같은 orderId 행이 이미 있으면 기본 키 제약 위반(DataIntegrityViolationException)이 발생합니다.
+     */
+    void insert(OrderHistory history);
+}
@@ -0,0 +1,28 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.JpaContext;
+
+/**
+ * OrderHistoryJpaRepositoryCustom 구현체
+ * 도메인 격리 시에도 OrderHistory를 관리하는 EntityManager를 사용하도록 JpaContext로 조회합니다.
+ */
+public class OrderHistoryJpaRepositoryCustomImpl implements OrderHistoryJpaRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public OrderHistoryJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.entityManager = jpaContext.getEntityManagerByManagedType(OrderHistory.class);
+    }
+
+    /**
+     * save()는 식별자가 지정된 엔티티를 merge하므로 먼저 들어온 행을 덮어씁니다.
+     * persist 후 바로 flush해 중복 여부를 호출 시점에 기본 키 제약으로 판정합니다.
+     */
+    @Override
+    public void insert(OrderHistory history) {
+        entityManager.persist(history);
+        entityManager.flush();
+    }
+}
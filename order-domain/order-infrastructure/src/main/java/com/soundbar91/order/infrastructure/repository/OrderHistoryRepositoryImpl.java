@@ -0,0 +1,52 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.repository.OrderHistoryRepository;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrderHistoryRepository 구현체
+ * JPA를 사용한 영속성 계층 구현
+ */
+@Repository
+public class OrderHistoryRepositoryImpl implements OrderHistoryRepository {
+
+    private final OrderHistoryJpaRepository orderHistoryJpaRepository;
+
+    public OrderHistoryRepositoryImpl(OrderHistoryJpaRepository orderHistoryJpaRepository) {
+        this.orderHistoryJpaRepository = orderHistoryJpaRepository;
+    }
+
+    @Override
+    public OrderHistory save(OrderHistory history) {
+        return orderHistoryJpaRepository.save(history);
+    }
+
+    @Override
+    public void insert(OrderHistory history) {
+        orderHistoryJpaRepository.insert(history);
+    }
+
+    @Override
+    public Optional<OrderHistory> findById(Long orderId) {
+        return orderHistoryJpaRepository.findById(orderId);
+    }
+
+    @Override
+    public List<OrderHistory> findByUserId(Long userId, OrderSearchCursor after, int limit) {
+        if (after == null) {
+            return orderHistoryJpaRepository.findFirstPage(userId, PageRequest.ofSize(limit));
+        }
+        return orderHistoryJpaRepository.findPageAfter(userId, after.createdAt(), after.id(), PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int updateShopName(Long shopId, String shopName) {
+        return orderHistoryJpaRepository.updateShopName(shopId, shopName);
+    }
+}
@@ -1,19 +1,115 @@
 package com.soundbar91.order.infrastructure.repository;
 
 import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderSettlement;
 import com.soundbar91.order.domain.vo.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Spring Data JPA Repository
  */
-public interface OrderJpaRepository extends JpaRepository<Order, Long> {
+public interface OrderJpaRepository extends JpaRepository<Order, Long>, OrderJpaRepositoryCustom {
+
+    String SKIP_LOCKED_HINT = "jakarta.persistence.lock.timeout";
+    String SKIP_LOCKED = "-2";
 
     List<Order> findByUserId(Long userId);
 
     List<Order> findByShopId(Long shopId);
 
     List<Order> findByStatus(OrderStatus status);
+
+    @Query("SELECT o FROM Order o WHERE o.createdAt >= :from AND o.createdAt < :to")
+    List<Order> findAllInPeriod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId AND o.createdAt >= :from AND o.createdAt < :to")
+    List<Order> findByUserIdInPeriod(@Param("userId") Long userId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT o FROM Order o WHERE o.shopId = :shopId AND o.createdAt >= :from AND o.createdAt < :to")
+    List<Order> findByShopIdInPeriod(@Param("shopId") Long shopId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.createdAt >= :from AND o.createdAt < :to")
+    List<Order> findByStatusInPeriod(@Param("status") OrderStatus status,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 아카이브 대상 주문 조회 (id 기준 keyset 페이지)
+     */
+    @Query("SELECT o FROM Order o WHERE o.status IN :statuses AND o.updatedAt < :cutoff AND o.id > :afterId ORDER BY o.id")
+    List<Order> findArchivable(@Param("statuses") Collection<OrderStatus> statuses,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               @Param("afterId") Long afterId,
+                               Pageable pageable);
+
+    /**
+     * 정산 대사용 주문 요약 조회 (id 기준 keyset 페이지)
+     */
+    @Query("SELECT new com.soundbar91.order.domain.vo.OrderSettlement(o.id, o.status, o.totalAmount) "
+            + "FROM Order o WHERE o.id > :afterId AND o.id <= :toId ORDER BY o.id")
+    List<OrderSettlement> findSettlements(@Param("afterId") Long afterId,
+                                          @Param("toId") Long toId,
+                                          Pageable pageable);
+
+    /**
+     * 이벤트 재생용 주문 조회 (id 기준 keyset 페이지)
+     */
+    @Query("SELECT o FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<Order> findAllAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 만료 대상 주문을 잠가 조회 (idx_orders_status_created_at 범위 스캔, FOR UPDATE SKIP LOCKED)
+     * lock.timeout -2는 Hibernate에서 SKIP LOCKED를 뜻하며, 사용자가 처리 중인 주문은 기다리지 않고 다음 실행으로 넘깁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.createdAt < :cutoff ORDER BY o.createdAt, o.id")
+    List<Order> lockFirstStale(@Param("status") OrderStatus status,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.createdAt < :cutoff "
+            + "AND (o.createdAt > :afterCreatedAt OR (o.createdAt = :afterCreatedAt AND o.id > :afterId)) "
+            + "ORDER BY o.createdAt, o.id")
+    List<Order> lockStaleAfter(@Param("status") OrderStatus status,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                               @Param("afterId") Long afterId,
+                               Pageable pageable);
+
+    /**
+     * 조회 이후 상태가 바뀐 주문은 건드리지 않도록 상태와 생성 시각을 다시 확인하며 일괄 변경
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :now "
+            + "WHERE o.id IN :ids AND o.status = :from AND o.createdAt < :cutoff")
+    int updateStatusIfStale(@Param("ids") Collection<Long> ids,
+                            @Param("from") OrderStatus from,
+                            @Param("to") OrderStatus to,
+                            @Param("cutoff") LocalDateTime cutoff,
+                            @Param("now") LocalDateTime now);
+
+    @Query("SELECT MIN(o.id) FROM Order o")
+    Long findMinId();
+
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxId();
 }
@@ -0,0 +1,26 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrderJpaRepository 사용자 정의 조회 (Spring Data 프래그먼트)
+ */
+public interface OrderJpaRepositoryCustom {
+
+    /**
+     * 선택한 속성만 조회 (동등 조건 AND 결합)
+     *
+     * @return attributes 순서의 Object[] 행 목록
+     */
+    List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities);
+
+    /**
+     * 복합 조건 검색 (createdAt DESC, id DESC 정렬, after 이후 최대 limit건)
+     */
+    List<Order> search(OrderSearchCondition condition, OrderSearchCursor after, int limit);
+}
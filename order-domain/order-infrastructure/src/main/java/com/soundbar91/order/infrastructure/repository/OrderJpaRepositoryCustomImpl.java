@@ -0,0 +1,92 @@
+package com.soundbar91.order.infrastructure.repository;
+
+import com.soundbar91.datasource.projection.ProjectionQuery;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.jpa.repository.JpaContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * OrderJpaRepositoryCustom 구현체
+ * 도메인 격리 시에도 Order를 관리하는 EntityManager를 사용하도록 JpaContext로 조회합니다.
+ */
+public class OrderJpaRepositoryCustomImpl implements OrderJpaRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final ProjectionQuery<Order> projectionQuery;
+
+    public OrderJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.entityManager = jpaContext.getEntityManagerByManagedType(Order.class);
+        this.projectionQuery = new ProjectionQuery<>(Order.class, entityManager);
+    }
+
+    @Override
+    public List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities) {
+        return projectionQuery.select(attributes, equalities);
+    }
+
+    /**
+     * 지정된 조건만으로 WHERE 절을 구성합니다.
+     * 동등 조건(userId, shopId, status)을 먼저 두고 createdAt 범위와 keyset 조건을 이어 붙여
+     * (shop_id|user_id, status, created_at DESC, id DESC) 복합 인덱스의 범위 스캔으로 처리되도록 합니다.
+     * 인덱스 DDL은 db/migration/V3_1__order_search_indexes.sql 입니다.
+     * 금액 조건은 인덱스 범위 스캔 후 필터로 적용됩니다.
+     */
+    @Override
+    public List<Order> search(OrderSearchCondition condition, OrderSearchCursor after, int limit) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (condition.userId() != null) {
+            where.add("o.userId = :userId");
+            parameters.put("userId", condition.userId());
+        }
+        if (condition.shopId() != null) {
+            where.add("o.shopId = :shopId");
+            parameters.put("shopId", condition.shopId());
+        }
+        if (condition.statuses().size() == 1) {
+            where.add("o.status = :status");
+            parameters.put("status", condition.statuses().iterator().next());
+        } else if (!condition.statuses().isEmpty()) {
+            where.add("o.status IN :statuses");
+            parameters.put("statuses", condition.statuses());
+        }
+        if (condition.createdFrom() != null) {
+            where.add("o.createdAt >= :createdFrom");
+            parameters.put("createdFrom", condition.createdFrom());
+        }
+        if (condition.createdTo() != null) {
+            where.add("o.createdAt < :createdTo");
+            parameters.put("createdTo", condition.createdTo());
+        }
+        if (after != null) {
+            // 행 값 비교는 (created_at, id) 인덱스의 단일 범위 조건이 되고, 행 값 비교를 OR로 풀어 쓰는
+            // 방언에서도 중복 상한(createdAt <=)으로 범위 스캔이 유지되게 한다
+            where.add("o.createdAt <= :afterCreatedAt");
+            where.add("(o.createdAt, o.id) < (:afterCreatedAt, :afterId)");
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.id());
+        }
+        if (condition.minAmount() != null) {
+            where.add("o.totalAmount >= :minAmount");
+            parameters.put("minAmount", condition.minAmount());
+        }
+        if (condition.maxAmount() != null) {
+            where.add("o.totalAmount <= :maxAmount");
+            parameters.put("maxAmount", condition.maxAmount());
+        }
+
+        TypedQuery<Order> query = entityManager.createQuery(
+                "SELECT o FROM Order o" + where + " ORDER BY o.createdAt DESC, o.id DESC", Order.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
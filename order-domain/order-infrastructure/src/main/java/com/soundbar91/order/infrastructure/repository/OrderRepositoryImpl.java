@@ -1,24 +1,46 @@
 package com.soundbar91.order.infrastructure.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.order.domain.entity.Order;
 import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderField;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+import com.soundbar91.order.domain.vo.OrderSettlement;
 import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.order.infrastructure.archive.OrderArchive;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * OrderRepository 구현체
  * JPA를 사용한 영속성 계층 구현
+ *
+ * 콜드 아카이브(order.archive.enabled=true)가 활성화되어 있으면 findByUserId, findByShopId는
+ * DB에 없는 종료 주문을 아카이브에서 추가로 조회합니다. 같은 id가 양쪽에 있으면 DB 값을 사용합니다.
+ * findById는 변경 경로에서도 쓰이므로 DB만 조회하고, 아카이브 단건 조회는 findArchivedById로 분리합니다.
+ * 선택 컬럼 조회(*Projected)도 같은 규칙을 따릅니다. 복합 조건 검색(search)과 정산 대사 조회는 DB만 조회합니다.
  */
 @Repository
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderArchive orderArchive;
 
-    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository) {
+    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, ObjectProvider<OrderArchive> orderArchive) {
         this.orderJpaRepository = orderJpaRepository;
+        this.orderArchive = orderArchive.getIfAvailable();
     }
 
     @Override
@@ -31,6 +53,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Order> findArchivedById(Long id) {
+        return orderArchive == null ? Optional.empty() : orderArchive.findById(id);
+    }
+
     @Override
     public List<Order> findAll() {
         return orderJpaRepository.findAll();
@@ -38,12 +65,14 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public List<Order> findByUserId(Long userId) {
-        return orderJpaRepository.findByUserId(userId);
+        List<Order> orders = orderJpaRepository.findByUserId(userId);
+        return orderArchive == null ? orders : mergeArchived(orders, orderArchive.findByUserId(userId));
     }
 
     @Override
     public List<Order> findByShopId(Long shopId) {
-        return orderJpaRepository.findByShopId(shopId);
+        List<Order> orders = orderJpaRepository.findByShopId(shopId);
+        return orderArchive == null ? orders : mergeArchived(orders, orderArchive.findByShopId(shopId));
     }
 
     @Override
@@ -51,6 +80,90 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findByStatus(status);
     }
 
+    @Override
+    public List<Order> findAllInPeriod(LocalDateTime from, LocalDateTime to) {
+        return orderJpaRepository.findAllInPeriod(from, to);
+    }
+
+    @Override
+    public List<Order> findByUserIdInPeriod(Long userId, LocalDateTime from, LocalDateTime to) {
+        return orderJpaRepository.findByUserIdInPeriod(userId, from, to);
+    }
+
+    @Override
+    public List<Order> findByShopIdInPeriod(Long shopId, LocalDateTime from, LocalDateTime to) {
+        return orderJpaRepository.findByShopIdInPeriod(shopId, from, to);
+    }
+
+    @Override
+    public List<Order> findByStatusInPeriod(OrderStatus status, LocalDateTime from, LocalDateTime to) {
+        return orderJpaRepository.findByStatusInPeriod(status, from, to);
+    }
+
+    @Override
+    public List<ProjectedRow> findAllProjected(FieldSelection<OrderField> fields) {
+        return fields.toRows(orderJpaRepository.findProjected(fields.attributes(), Map.of()));
+    }
+
+    @Override
+    public List<ProjectedRow> findByUserIdProjected(Long userId, FieldSelection<OrderField> fields) {
+        List<ProjectedRow> rows = fields.toRows(orderJpaRepository.findProjected(fields.attributes(), Map.of("userId", userId)));
+        return orderArchive == null ? rows : mergeArchived(rows, orderArchive.findByUserId(userId), fields);
+    }
+
+    @Override
+    public List<ProjectedRow> findByShopIdProjected(Long shopId, FieldSelection<OrderField> fields) {
+        List<ProjectedRow> rows = fields.toRows(orderJpaRepository.findProjected(fields.attributes(), Map.of("shopId", shopId)));
+        return orderArchive == null ? rows : mergeArchived(rows, orderArchive.findByShopId(shopId), fields);
+    }
+
+    @Override
+    public List<ProjectedRow> findByStatusProjected(OrderStatus status, FieldSelection<OrderField> fields) {
+        return fields.toRows(orderJpaRepository.findProjected(fields.attributes(), Map.of("status", status)));
+    }
+
+    @Override
+    public List<Order> search(OrderSearchCondition condition, OrderSearchCursor after, int limit) {
+        return orderJpaRepository.search(condition, after, limit);
+    }
+
+    @Override
+    public List<OrderSettlement> findSettlements(long afterId, long toId, int limit) {
+        return orderJpaRepository.findSettlements(afterId, toId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public Optional<Long> findMinId() {
+        return Optional.ofNullable(orderJpaRepository.findMinId());
+    }
+
+    @Override
+    public Optional<Long> findMaxId() {
+        return Optional.ofNullable(orderJpaRepository.findMaxId());
+    }
+
+    @Override
+    public List<Order> findAllAfterId(long afterId, int limit) {
+        return orderJpaRepository.findAllAfterId(afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public List<Order> lockStalePending(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId, int limit) {
+        if (afterCreatedAt == null) {
+            return orderJpaRepository.lockFirstStale(OrderStatus.PENDING, cutoff, PageRequest.ofSize(limit));
+        }
+        return orderJpaRepository.lockStaleAfter(OrderStatus.PENDING, cutoff, afterCreatedAt, afterId,
+                PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int expirePending(Collection<Long> ids, LocalDateTime cutoff, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return orderJpaRepository.updateStatusIfStale(ids, OrderStatus.PENDING, OrderStatus.CANCELLED, cutoff, now);
+    }
+
     @Override
     public void delete(Order order) {
         orderJpaRepository.delete(order);
@@ -60,4 +173,35 @@ public class OrderRepositoryImpl implements OrderRepository {
     public void deleteById(Long id) {
         orderJpaRepository.deleteById(id);
     }
+
+    private static List<Order> mergeArchived(List<Order> orders, List<Order> archived) {
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        List<Order> merged = new ArrayList<>(orders);
+        Set<Long> seen = new HashSet<>();
+        orders.forEach(order -> seen.add(order.getId()));
+        for (Order order : archived) {
+            if (seen.add(order.getId())) {
+                merged.add(order);
+            }
+        }
+        return merged;
+    }
+
+    private static List<ProjectedRow> mergeArchived(List<ProjectedRow> rows, List<Order> archived,
+                                                    FieldSelection<OrderField> fields) {
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        List<ProjectedRow> merged = new ArrayList<>(rows);
+        Set<Object> seen = new HashSet<>();
+        rows.forEach(row -> seen.add(row.get(OrderField.ID)));
+        for (Order order : archived) {
+            if (seen.add(order.getId())) {
+                merged.add(fields.toRow(field -> field.read(order)));
+            }
+        }
+        return merged;
+    }
 }
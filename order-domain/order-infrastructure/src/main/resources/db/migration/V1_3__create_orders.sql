@@ -0,0 +1,17 @@
+-- orders 기준 스키마 (PostgreSQL)
+-- 기존 DB에는 이미 테이블이 있으므로 IF NOT EXISTS 로 건너뜁니다. (spring.flyway.baseline-on-migrate)
+-- 월 단위 파티션 전환은 V2_1__partition_orders.sql 에서 수행합니다.
+
+CREATE TABLE IF NOT EXISTS orders (
+    id               BIGINT         NOT NULL,
+    user_id          BIGINT         NOT NULL,
+    shop_id          BIGINT         NOT NULL,
+    product_name     VARCHAR(200)   NOT NULL,
+    quantity         INTEGER        NOT NULL,
+    total_amount     NUMERIC(10, 2) NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    delivery_address VARCHAR(500),
+    created_at       TIMESTAMP      NOT NULL,
+    updated_at       TIMESTAMP      NOT NULL,
+    PRIMARY KEY (id)
+);
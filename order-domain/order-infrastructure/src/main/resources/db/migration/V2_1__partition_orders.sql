@@ -0,0 +1,8 @@
+-- orders 테이블을 created_at 월 단위 범위 파티션으로 전환합니다. (V2__create_partition_function.sql)
+-- 이후 월별 파티션은 MonthlyPartitionManager가 생성/분리합니다. (datasource.partitioning.enabled=true)
+
+SELECT nuga_partition_by_month('orders', 'created_at', 3);
+
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_created_at ON orders (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_shop_id_created_at ON orders (shop_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at);
@@ -0,0 +1,6 @@
+-- 주문 복합 조건 검색(OrderJpaRepositoryCustomImpl.search) 인덱스
+-- 동등 조건(user_id|shop_id, status) + created_at 범위/정렬, id는 keyset 동률 처리
+-- 파티션 테이블의 부모에 만들면 모든 파티션에 같은 인덱스가 생성됩니다.
+
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_status_created_at ON orders (user_id, status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_orders_shop_id_status_created_at ON orders (shop_id, status, created_at DESC, id DESC);
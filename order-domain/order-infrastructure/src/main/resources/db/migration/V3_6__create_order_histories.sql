@@ -0,0 +1,62 @@
+-- 사용자별 주문 이력 조회 모델 (OrderHistory, OrderHistoryProjector가 이벤트로 갱신)
+-- 도입 이전 주문은 아래에서 원본 테이블로 채웁니다. 이미 있는 행(이벤트로 먼저 생성된 행)은 건너뜁니다.
+-- 도메인 DB를 분리한 경우(datasource.domains.*.isolated) 같은 DB에 없는 테이블의 정보(상점 이름, 결제 상태)는 채우지 않으며,
+-- 이벤트 재생(nuga.replay.sources: journal)으로 보완합니다. 아카이브로 옮겨진 주문은 채우지 않습니다.
+
+CREATE TABLE IF NOT EXISTS order_histories (
+    order_id           BIGINT         NOT NULL,
+    user_id            BIGINT         NOT NULL,
+    shop_id            BIGINT         NOT NULL,
+    shop_name          VARCHAR(100),
+    product_name       VARCHAR(200)   NOT NULL,
+    total_amount       NUMERIC(10, 2) NOT NULL,
+    order_status       VARCHAR(20)    NOT NULL,
+    payment_status     VARCHAR(20)    NOT NULL,
+    paid_amount        NUMERIC(10, 2),
+    refunded_amount    NUMERIC(10, 2),
+    created_at         TIMESTAMP      NOT NULL,
+    order_updated_at   TIMESTAMP      NOT NULL,
+    payment_updated_at TIMESTAMP,
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_histories_user_id_created_at ON order_histories (user_id, created_at DESC, order_id DESC);
+CREATE INDEX IF NOT EXISTS idx_order_histories_shop_id ON order_histories (shop_id);
+
+DO $$
+BEGIN
+    IF to_regclass('orders') IS NOT NULL THEN
+        INSERT INTO order_histories (order_id, user_id, shop_id, product_name, total_amount, order_status,
+                                     payment_status, created_at, order_updated_at)
+        SELECT o.id, o.user_id, o.shop_id, o.product_name, o.total_amount, o.status,
+               'PENDING', o.created_at, o.updated_at
+        FROM orders o
+        ON CONFLICT (order_id) DO NOTHING;
+    END IF;
+
+    IF to_regclass('shops') IS NOT NULL THEN
+        UPDATE order_histories h
+        SET shop_name = s.name
+        FROM shops s
+        WHERE s.id = h.shop_id
+          AND h.shop_name IS NULL;
+    END IF;
+
+    -- 주문별 마지막 결제만 반영 (결제 대기/처리 중이면 PENDING 유지)
+    IF to_regclass('payments') IS NOT NULL THEN
+        UPDATE order_histories h
+        SET payment_status     = p.status,
+            paid_amount        = CASE WHEN p.status IN ('COMPLETED', 'REFUNDED') THEN p.amount END,
+            refunded_amount    = CASE WHEN p.status = 'REFUNDED' THEN p.amount END,
+            payment_updated_at = COALESCE(p.refunded_at, p.completed_at, p.updated_at)
+        FROM (
+            SELECT DISTINCT ON (order_id) order_id, status, amount, completed_at, refunded_at, updated_at
+            FROM payments
+            ORDER BY order_id, created_at DESC, id DESC
+        ) p
+        WHERE p.order_id = h.order_id
+          AND p.status IN ('COMPLETED', 'FAILED', 'REFUNDED', 'CANCELLED')
+          AND h.payment_updated_at IS NULL;
+    END IF;
+END
+$$;
@@ -0,0 +1,171 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderArchive 테스트")
+class OrderArchiveTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private OrderArchive createArchive() {
+        return new OrderArchive(new OrderArchiveProperties(true, directory.toString(), Duration.ofDays(90), 1000, 0.01));
+    }
+
+    private Order order(long id, long userId, long shopId) {
+        return order(id, userId, shopId, OrderStatus.DELIVERED);
+    }
+
+    private Order order(long id, long userId, long shopId, OrderStatus status) {
+        return Order.restore(id, userId, shopId, "상품-" + id, 2, new BigDecimal("15000.50"),
+                status, "서울시 강남구", BASE_TIME, BASE_TIME.plusDays(1));
+    }
+
+    @Nested
+    @DisplayName("findById 메서드")
+    class FindById {
+
+        @Test
+        @DisplayName("아카이브된 주문을 모든 필드와 함께 복원한다")
+        void findById_ArchivedOrder_RestoresAllFields() throws Exception {
+            // given
+            OrderArchive archive = createArchive();
+            archive.append(List.of(order(3L, 10L, 100L), order(1L, 11L, 101L), order(2L, 10L, 102L)));
+
+            // when
+            Optional<Order> found = archive.findById(2L);
+
+            // then
+            assertThat(found).isPresent();
+            Order order = found.get();
+            assertThat(order.getUserId()).isEqualTo(10L);
+            assertThat(order.getShopId()).isEqualTo(102L);
+            assertThat(order.getProductName()).isEqualTo("상품-2");
+            assertThat(order.getQuantity()).isEqualTo(2);
+            assertThat(order.getTotalAmount()).isEqualByComparingTo("15000.50");
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+            assertThat(order.getDeliveryAddress()).isEqualTo("서울시 강남구");
+            assertThat(order.getCreatedAt()).isEqualTo(BASE_TIME);
+            assertThat(order.getUpdatedAt()).isEqualTo(BASE_TIME.plusDays(1));
+        }
+
+        @Test
+        @DisplayName("행마다 다른 주문 상태를 그대로 복원한다")
+        void findById_MixedStatuses_RestoresEachStatus() throws Exception {
+            // given
+            OrderArchive archive = createArchive();
+            archive.append(List.of(order(1L, 10L, 100L, OrderStatus.DELIVERED), order(2L, 10L, 100L, OrderStatus.CANCELLED)));
+
+            // when & then
+            assertThat(archive.findById(1L)).get().extracting(Order::getStatus).isEqualTo(OrderStatus.DELIVERED);
+            assertThat(archive.findById(2L)).get().extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("아카이브에 없는 ID는 빈 Optional을 반환한다")
+        void findById_Missing_ReturnsEmpty() throws Exception {
+            // given
+            OrderArchive archive = createArchive();
+            archive.append(List.of(order(1L, 10L, 100L), order(5L, 10L, 100L)));
+
+            // when & then
+            assertThat(archive.findById(3L)).isEmpty();
+            assertThat(archive.findById(999L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByUserId / findByShopId 메서드")
+    class FindByKey {
+
+        @Test
+        @DisplayName("여러 세그먼트에 걸친 사용자 주문을 모두 반환한다")
+        void findByUserId_AcrossSegments_ReturnsAll() throws Exception {
+            // given
+            OrderArchive archive = createArchive();
+            archive.append(List.of(order(1L, 10L, 100L), order(2L, 11L, 100L)));
+            archive.append(List.of(order(3L, 10L, 101L), order(4L, 12L, 101L)));
+
+            // when
+            List<Order> orders = archive.findByUserId(10L);
+
+            // then
+            assertThat(orders).extracting(Order::getId).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("대량 세그먼트에서도 가게 주문만 정확히 반환한다")
+        void findByShopId_LargeSegment_ReturnsMatching() throws Exception {
+            // given
+            OrderArchive archive = createArchive();
+            List<Order> orders = new ArrayList<>();
+            for (long id = 1; id <= 5_000; id++) {
+                orders.add(order(id, id % 97, id % 50));
+            }
+            archive.append(orders);
+
+            // when
+            List<Order> found = archive.findByShopId(7L);
+
+            // then
+            assertThat(found).hasSize(100);
+            assertThat(found).allMatch(order -> order.getShopId() == 7L);
+            assertThat(archive.findByShopId(500L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("세그먼트 로드")
+    class Load {
+
+        @Test
+        @DisplayName("재시작 시 기존 세그먼트를 다시 로드하고 이어서 기록한다")
+        void reopen_LoadsExistingSegments() throws Exception {
+            // given
+            createArchive().append(List.of(order(1L, 10L, 100L)));
+
+            // when
+            OrderArchive reopened = createArchive();
+            reopened.append(List.of(order(2L, 10L, 100L)));
+
+            // then
+            assertThat(reopened.getSegmentCount()).isEqualTo(2);
+            assertThat(reopened.findByUserId(10L)).extracting(Order::getId).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("같은 디렉터리를 공유하는 다른 인스턴스가 기록한 세그먼트를 조회 시 읽어 들이고, 그 다음 번호로 기록한다")
+        void findById_WithSegmentWrittenByOtherInstance_LoadsIt() throws Exception {
+            // given
+            OrderArchive reader = createArchive();
+            OrderArchive writer = createArchive();
+            writer.append(List.of(order(1L, 10L, 100L)));
+
+            // when
+            Optional<Order> found = reader.findById(1L);
+            reader.append(List.of(order(2L, 10L, 100L)));
+
+            // then
+            assertThat(found).isPresent();
+            assertThat(reader.getSegmentCount()).isEqualTo(2);
+            assertThat(writer.findByUserId(10L)).extracting(Order::getId).containsExactlyInAnyOrder(1L, 2L);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.soundbar91.order.infrastructure.archive;
+
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.order.infrastructure.repository.OrderJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchiver 테스트")
+class OrderArchiverTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 12, 15, 0, 0);
+
+    @Mock
+    private OrderJpaRepository orderJpaRepository;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Mock
+    private OrderArchiveLock archiveLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderArchiver orderArchiver;
+
+    @BeforeEach
+    void setUp() {
+        OrderArchiveProperties properties = new OrderArchiveProperties(true, "unused", Duration.ofDays(90), 2, 0.01);
+        orderArchiver = new OrderArchiver(orderJpaRepository, orderArchive, archiveLock, properties,
+                new TransactionTemplate(transactionManager), CLOCK);
+    }
+
+    private void withLock() {
+        given(archiveLock.runExclusively(any())).willAnswer(inv -> {
+            inv.<Runnable>getArgument(0).run();
+            return true;
+        });
+    }
+
+    private Order order(long id) {
+        return Order.restore(id, 10L, 100L, "상품-" + id, 1, new BigDecimal("1000.00"),
+                OrderStatus.DELIVERED, "서울시 강남구", CUTOFF.minusDays(1), CUTOFF.minusDays(1));
+    }
+
+    @Nested
+    @DisplayName("archive 메서드")
+    class Archive {
+
+        @Test
+        @DisplayName("closedAfter 이전에 종료된 주문을 segmentSize 단위로 기록한 뒤 DB에서 삭제한다")
+        void archive_MovesChunksThenDeletes() throws Exception {
+            // given
+            withLock();
+            List<Order> first = List.of(order(1L), order(2L));
+            List<Order> second = List.of(order(5L));
+            given(orderJpaRepository.findArchivable(anyCollection(), eq(CUTOFF), eq(Long.MIN_VALUE), any()))
+                    .willReturn(first);
+            given(orderJpaRepository.findArchivable(anyCollection(), eq(CUTOFF), eq(2L), any())).willReturn(second);
+            given(orderJpaRepository.findArchivable(anyCollection(), eq(CUTOFF), eq(5L), any())).willReturn(List.of());
+
+            // when
+            orderArchiver.archive();
+
+            // then
+            then(orderArchive).should().append(first);
+            then(orderArchive).should().append(second);
+            then(orderJpaRepository).should().deleteAllByIdInBatch(List.of(1L, 2L));
+            then(orderJpaRepository).should().deleteAllByIdInBatch(List.of(5L));
+        }
+
+        @Test
+        @DisplayName("아카이브할 주문이 없으면 세그먼트를 만들지 않는다")
+        void archive_NothingToArchive_DoesNothing() throws Exception {
+            // given
+            withLock();
+            given(orderJpaRepository.findArchivable(anyCollection(), eq(CUTOFF), eq(Long.MIN_VALUE), any()))
+                    .willReturn(List.of());
+
+            // when
+            orderArchiver.archive();
+
+            // then
+            then(orderArchive).should(never()).append(anyList());
+            then(orderJpaRepository).should(never()).deleteAllByIdInBatch(anyList());
+        }
+
+        @Test
+        @DisplayName("세그먼트 기록에 실패하면 DB에서 삭제하지 않는다")
+        void archive_SegmentWriteFails_KeepsRows() throws Exception {
+            // given
+            withLock();
+            List<Order> chunk = List.of(order(1L), order(2L));
+            given(orderJpaRepository.findArchivable(anyCollection(), eq(CUTOFF), eq(Long.MIN_VALUE), any()))
+                    .willReturn(chunk);
+            willThrow(new IOException("disk full")).given(orderArchive).append(chunk);
+
+            // when & then
+            assertThatThrownBy(() -> orderArchiver.archive()).isInstanceOf(UncheckedIOException.class);
+            then(orderJpaRepository).should(never()).deleteAllByIdInBatch(anyList());
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 주문을 읽거나 삭제하지 않는다")
+        void archive_WhenLockedByOtherInstance_Skips() throws Exception {
+            // given
+            given(archiveLock.runExclusively(any())).willReturn(false);
+
+            // when
+            orderArchiver.archive();
+
+            // then
+            then(orderJpaRepository).should(never()).findArchivable(anyCollection(), any(), anyLong(), any());
+            then(orderArchive).should(never()).append(anyList());
+        }
+    }
+}
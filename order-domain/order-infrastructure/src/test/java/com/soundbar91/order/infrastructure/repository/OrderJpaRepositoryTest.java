@@ -1,6 +1,8 @@
 package com.soundbar91.order.infrastructure.repository;
 
 import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,12 +16,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.soundbar91.test.sql.SqlStatementAssertions.assertThatStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(classes = OrderJpaRepositoryTest.TestConfig.class)
+@SpringBootTest(classes = OrderJpaRepositoryTest.TestConfig.class, properties = "datasource.statement-count.enabled=true")
 @ActiveProfiles("test")
 @Transactional
 @DisplayName("OrderJpaRepository 테스트")
@@ -107,6 +113,21 @@ class OrderJpaRepositoryTest {
             assertThat(userOrders).hasSize(2);
             assertThat(userOrders).allMatch(o -> o.getUserId().equals(userId));
         }
+
+        @Test
+        @DisplayName("사용자 주문 조회는 SELECT 한 번으로 끝난다")
+        void findByUserId_IssuesSingleSelect() {
+            // given
+            Long userId = 3L;
+            orderJpaRepository.save(new Order(userId, 1L, "상품1", 1, BigDecimal.valueOf(10000), "주소1"));
+            orderJpaRepository.save(new Order(userId, 2L, "상품2", 1, BigDecimal.valueOf(20000), "주소2"));
+            orderJpaRepository.flush();
+
+            // when & then
+            assertThatStatements(() -> orderJpaRepository.findByUserId(userId))
+                    .hasSelectCount(1)
+                    .hasTotal(1);
+        }
     }
 
     @Nested
@@ -162,6 +183,137 @@ class OrderJpaRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findByUserIdInPeriod 메서드")
+    class FindByUserIdInPeriod {
+
+        @Test
+        @DisplayName("기간 안에 생성된 사용자 주문만 조회한다")
+        void findByUserIdInPeriod_WithinPeriod_ReturnsOrders() {
+            // given
+            Long userId = 1L;
+            orderJpaRepository.save(new Order(userId, 1L, "상품1", 1, BigDecimal.valueOf(10000), "주소1"));
+            orderJpaRepository.save(new Order(2L, 1L, "다른사용자상품", 1, BigDecimal.valueOf(15000), "주소2"));
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            List<Order> orders = orderJpaRepository.findByUserIdInPeriod(userId, now.minusHours(1), now.plusHours(1));
+
+            // then
+            assertThat(orders).hasSize(1);
+            assertThat(orders).allMatch(o -> o.getUserId().equals(userId));
+        }
+
+        @Test
+        @DisplayName("기간 밖에 생성된 주문은 조회되지 않는다")
+        void findByUserIdInPeriod_OutsidePeriod_ReturnsEmpty() {
+            // given
+            Long userId = 1L;
+            orderJpaRepository.save(new Order(userId, 1L, "상품1", 1, BigDecimal.valueOf(10000), "주소1"));
+            LocalDateTime lastMonth = LocalDateTime.now().minusMonths(1);
+
+            // when
+            List<Order> orders = orderJpaRepository.findByUserIdInPeriod(userId, lastMonth.minusDays(1), lastMonth);
+
+            // then
+            assertThat(orders).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findProjected 메서드")
+    class FindProjected {
+
+        @Test
+        @DisplayName("선택한 속성만 지정한 순서로 조회한다")
+        void findProjected_ReturnsSelectedAttributesOnly() {
+            // given
+            Long userId = 7L;
+            Order order = orderJpaRepository.save(new Order(userId, 1L, "상품1", 1, BigDecimal.valueOf(10000), "주소1"));
+            orderJpaRepository.save(new Order(8L, 1L, "상품2", 1, BigDecimal.valueOf(20000), "주소2"));
+            orderJpaRepository.flush();
+
+            // when
+            List<Object[]> rows = orderJpaRepository.findProjected(
+                    new String[]{"id", "status", "totalAmount"}, Map.of("userId", userId));
+
+            // then
+            assertThat(rows).hasSize(1);
+            Object[] row = rows.get(0);
+            assertThat(row).hasSize(3);
+            assertThat(row[0]).isEqualTo(order.getId());
+            assertThat(row[1]).isEqualTo(OrderStatus.PENDING);
+            assertThat((BigDecimal) row[2]).isEqualByComparingTo("10000");
+        }
+
+        @Test
+        @DisplayName("속성이 하나여도 Object[] 행으로 반환한다")
+        void findProjected_SingleAttribute_ReturnsArrayRows() {
+            // given
+            Order order = orderJpaRepository.save(new Order(9L, 1L, "상품1", 1, BigDecimal.valueOf(10000), "주소1"));
+            orderJpaRepository.flush();
+
+            // when
+            List<Object[]> rows = orderJpaRepository.findProjected(new String[]{"id"}, Map.of("userId", 9L));
+
+            // then
+            assertThat(rows).singleElement().satisfies(row -> assertThat(row).containsExactly(order.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("search 메서드")
+    class Search {
+
+        @Test
+        @DisplayName("지정한 조건을 모두 만족하는 주문만 조회한다")
+        void search_WithMultipleCriteria_ReturnsMatchingOrders() {
+            // given
+            Long shopId = 42L;
+            Order matched = orderJpaRepository.save(new Order(1L, shopId, "상품1", 1, BigDecimal.valueOf(60000), "주소1"));
+            matched.confirm();
+            matched.ship();
+            Order cheap = orderJpaRepository.save(new Order(1L, shopId, "상품2", 1, BigDecimal.valueOf(30000), "주소2"));
+            cheap.confirm();
+            cheap.ship();
+            orderJpaRepository.save(new Order(1L, shopId, "상품3", 1, BigDecimal.valueOf(70000), "주소3"));
+            orderJpaRepository.save(new Order(1L, 7L, "다른상점상품", 1, BigDecimal.valueOf(80000), "주소4"));
+            orderJpaRepository.flush();
+            LocalDateTime now = LocalDateTime.now();
+            OrderSearchCondition condition = new OrderSearchCondition(null, shopId,
+                    Set.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED), now.minusDays(7), now.plusMinutes(1),
+                    BigDecimal.valueOf(50000), null);
+
+            // when
+            List<Order> orders = orderJpaRepository.search(condition, null, 10);
+
+            // then
+            assertThat(orders).extracting(Order::getId).containsExactly(matched.getId());
+        }
+
+        @Test
+        @DisplayName("커서 이후의 주문을 최신순으로 중복 없이 이어서 조회한다")
+        void search_WithCursor_ReturnsNextPageWithoutOverlap() {
+            // given
+            Long userId = 11L;
+            for (int i = 0; i < 5; i++) {
+                orderJpaRepository.save(new Order(userId, 1L, "상품" + i, 1, BigDecimal.valueOf(10000), "주소"));
+            }
+            orderJpaRepository.flush();
+            OrderSearchCondition condition = new OrderSearchCondition(userId, null, null, null, null, null, null);
+
+            // when
+            List<Order> first = orderJpaRepository.search(condition, null, 3);
+            List<Order> second = orderJpaRepository.search(condition, OrderSearchCursor.of(first.get(2)), 3);
+
+            // then
+            assertThat(first).hasSize(3);
+            assertThat(second).hasSize(2);
+            assertThat(second).extracting(Order::getId).doesNotContainAnyElementsOf(first.stream().map(Order::getId).toList());
+            assertThat(first.get(2).getCreatedAt()).isAfterOrEqualTo(second.get(0).getCreatedAt());
+        }
+    }
+
     @Nested
     @DisplayName("delete 메서드")
     class Delete {
@@ -1,5 +1,6 @@
 package com.soundbar91.order.domain.entity;
 
+import com.soundbar91.common.id.SnowflakeId;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
@@ -7,13 +8,20 @@ import java.time.LocalDateTime;
 
 /**
  * 주문 엔티티
+ * 인덱스는 db/migration 스크립트와 같게 유지합니다.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_created_at", columnList = "userId, createdAt"),
+        @Index(name = "idx_orders_shop_id_created_at", columnList = "shopId, createdAt"),
+        @Index(name = "idx_orders_status_created_at", columnList = "status, createdAt"),
+        @Index(name = "idx_orders_user_id_status_created_at", columnList = "userId, status, createdAt DESC, id DESC"),
+        @Index(name = "idx_orders_shop_id_status_created_at", columnList = "shopId, status, createdAt DESC, id DESC")
+})
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -92,6 +100,27 @@ public class Order {
         this.status = OrderStatus.CANCELLED;
     }
 
+    /**
+     * 저장소에 보관된 값으로 주문 복원 (예: 콜드 아카이브)
+     * 상태 전이 규칙을 거치지 않으므로 조회 전용으로만 사용합니다.
+     */
+    public static Order restore(Long id, Long userId, Long shopId, String productName, Integer quantity,
+                                BigDecimal totalAmount, OrderStatus status, String deliveryAddress,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Order order = new Order();
+        order.id = id;
+        order.userId = userId;
+        order.shopId = shopId;
+        order.productName = productName;
+        order.quantity = quantity;
+        order.totalAmount = totalAmount;
+        order.status = status;
+        order.deliveryAddress = deliveryAddress;
+        order.createdAt = createdAt;
+        order.updatedAt = updatedAt;
+        return order;
+    }
+
     // Getters
     public Long getId() {
         return id;
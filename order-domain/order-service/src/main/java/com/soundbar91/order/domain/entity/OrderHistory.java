@@ -0,0 +1,170 @@
+package com.soundbar91.order.domain.entity;
+
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주문 이력 조회 모델 (주문 1건당 1행)
+ *
+ * 주문, 결제 상태, 상점 이름, 금액을 한 행에 모아 두어 주문 이력 화면을 인덱스 한 번으로 조회합니다.
+ * 주문/결제/상점 이벤트로만 갱신하며(OrderHistoryProjector), 원본 주문이 아카이브로 옮겨져도 남아 있습니다.
+ * 상태와 결제 정보는 마지막으로 반영한 이벤트보다 오래된 이벤트가 오면 무시하므로, 같은 이벤트를 다시 받아도 결과가 같습니다.
+ */
+@Entity
+@Table(name = "order_histories", indexes = {
+        @Index(name = "idx_order_histories_user_id_created_at", columnList = "userId, createdAt DESC, orderId DESC"),
+        @Index(name = "idx_order_histories_shop_id", columnList = "shopId")
+})
+public class OrderHistory {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(length = 100)
+    private String shopName;
+
+    @Column(nullable = false, length = 200)
+    private String productName;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus orderStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderPaymentStatus paymentStatus;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal paidAmount;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal refundedAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime orderUpdatedAt;
+
+    private LocalDateTime paymentUpdatedAt;
+
+    protected OrderHistory() {
+    }
+
+    public OrderHistory(Long orderId, Long userId, Long shopId, String shopName, String productName,
+                        BigDecimal totalAmount, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.shopName = shopName;
+        this.productName = productName;
+        this.totalAmount = totalAmount;
+        this.orderStatus = OrderStatus.PENDING;
+        this.paymentStatus = OrderPaymentStatus.PENDING;
+        this.createdAt = createdAt;
+        this.orderUpdatedAt = createdAt;
+    }
+
+    /**
+     * 주문 상태 반영 (이미 반영한 변경보다 오래된 변경이면 무시)
+     *
+     * @return 반영했으면 true
+     */
+    public boolean changeOrderStatus(OrderStatus status, LocalDateTime changedAt) {
+        if (changedAt.isBefore(orderUpdatedAt)) {
+            return false;
+        }
+        this.orderStatus = status;
+        this.orderUpdatedAt = changedAt;
+        return true;
+    }
+
+    /**
+     * 결제 결과 반영 (이미 반영한 결과보다 오래된 결과이면 무시)
+     * 환불이면 환불 금액을, 그 외 결과이면 결제 금액을 기록합니다.
+     *
+     * @return 반영했으면 true
+     */
+    public boolean changePaymentStatus(OrderPaymentStatus status, BigDecimal amount, LocalDateTime changedAt) {
+        if (paymentUpdatedAt != null && changedAt.isBefore(paymentUpdatedAt)) {
+            return false;
+        }
+        this.paymentStatus = status;
+        this.paymentUpdatedAt = changedAt;
+        if (status == OrderPaymentStatus.COMPLETED) {
+            this.paidAmount = amount;
+        } else if (status == OrderPaymentStatus.REFUNDED) {
+            this.refundedAmount = amount;
+            if (paidAmount == null) {
+                this.paidAmount = amount;
+            }
+        }
+        return true;
+    }
+
+    // Getters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public String getShopName() {
+        return shopName;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public OrderPaymentStatus getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public BigDecimal getPaidAmount() {
+        return paidAmount;
+    }
+
+    public BigDecimal getRefundedAmount() {
+        return refundedAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getOrderUpdatedAt() {
+        return orderUpdatedAt;
+    }
+
+    public LocalDateTime getPaymentUpdatedAt() {
+        return paymentUpdatedAt;
+    }
+}
@@ -14,10 +14,17 @@ public class OrderCancelledEvent {
     private final LocalDateTime occurredAt;
 
     public OrderCancelledEvent(Long orderId, Long userId, Long shopId) {
+        this(orderId, userId, shopId, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public OrderCancelledEvent(Long orderId, Long userId, Long shopId, LocalDateTime occurredAt) {
         this.orderId = orderId;
         this.userId = userId;
         this.shopId = shopId;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getOrderId() {
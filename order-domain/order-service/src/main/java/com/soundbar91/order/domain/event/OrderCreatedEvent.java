@@ -17,12 +17,20 @@ public class OrderCreatedEvent {
     private final LocalDateTime occurredAt;
 
     public OrderCreatedEvent(Long orderId, Long userId, Long shopId, String productName, BigDecimal totalAmount) {
+        this(orderId, userId, shopId, productName, totalAmount, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public OrderCreatedEvent(Long orderId, Long userId, Long shopId, String productName, BigDecimal totalAmount,
+            LocalDateTime occurredAt) {
         this.orderId = orderId;
         this.userId = userId;
         this.shopId = shopId;
         this.productName = productName;
         this.totalAmount = totalAmount;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getOrderId() {
@@ -0,0 +1,124 @@
+package com.soundbar91.order.domain.event;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 주문 도메인 이벤트 저널 코덱 (타입 ID 20번대)
+ */
+public final class OrderEventCodecs {
+
+    public static final int ORDER_CREATED = 20;
+    public static final int ORDER_CANCELLED = 21;
+    public static final int ORDER_STATUS_CHANGED = 22;
+
+    private OrderEventCodecs() {
+    }
+
+    @Component
+    public static class OrderCreatedEventCodec implements EventCodec<OrderCreatedEvent> {
+
+        @Override
+        public int typeId() {
+            return ORDER_CREATED;
+        }
+
+        @Override
+        public Class<OrderCreatedEvent> eventType() {
+            return OrderCreatedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(OrderCreatedEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(OrderCreatedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeNullableLong(event.getShopId())
+                    .writeString(event.getProductName())
+                    .writeDecimal(event.getTotalAmount())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public OrderCreatedEvent decode(BinaryDecoder in) {
+            return new OrderCreatedEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readString(), in.readDecimal(), in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class OrderCancelledEventCodec implements EventCodec<OrderCancelledEvent> {
+
+        @Override
+        public int typeId() {
+            return ORDER_CANCELLED;
+        }
+
+        @Override
+        public Class<OrderCancelledEvent> eventType() {
+            return OrderCancelledEvent.class;
+        }
+
+        @Override
+        public long aggregateId(OrderCancelledEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(OrderCancelledEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeNullableLong(event.getShopId())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public OrderCancelledEvent decode(BinaryDecoder in) {
+            return new OrderCancelledEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class OrderStatusChangedEventCodec implements EventCodec<OrderStatusChangedEvent> {
+
+        @Override
+        public int typeId() {
+            return ORDER_STATUS_CHANGED;
+        }
+
+        @Override
+        public Class<OrderStatusChangedEvent> eventType() {
+            return OrderStatusChangedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(OrderStatusChangedEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(OrderStatusChangedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeNullableLong(event.getShopId())
+                    .writeEnum(event.getStatus())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public OrderStatusChangedEvent decode(BinaryDecoder in) {
+            return new OrderStatusChangedEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readEnum(OrderStatus.class), in.readDateTime());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.soundbar91.order.domain.event;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트 (확정, 배송 시작, 배송 완료)
+ * 생성과 취소는 각각 OrderCreatedEvent, OrderCancelledEvent로 발행합니다.
+ */
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final Long shopId;
+    private final OrderStatus status;
+    private final LocalDateTime occurredAt;
+
+    public OrderStatusChangedEvent(Long orderId, Long userId, Long shopId, OrderStatus status) {
+        this(orderId, userId, shopId, status, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public OrderStatusChangedEvent(Long orderId, Long userId, Long shopId, OrderStatus status,
+            LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.status = status;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderStatusChangedEvent{" +
+                "orderId=" + orderId +
+                ", userId=" + userId +
+                ", shopId=" + shopId +
+                ", status=" + status +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.soundbar91.order.domain.repository;
+
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 이력 조회 모델 레포지토리 인터페이스
+ * 도메인 계층에서 정의하고, infrastructure 계층에서 구현
+ */
+public interface OrderHistoryRepository {
+
+    OrderHistory save(OrderHistory history);
+
+    /**
+     * 새 이력 행 추가 (기존 행을 덮어쓰지 않음)
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 orderId 행이 이미 있는 경우
+     */
+    void insert(OrderHistory history);
+
+    Optional<OrderHistory> findById(Long orderId);
+
+    // 사용자별 이력: createdAt DESC, orderId DESC 정렬의 keyset 페이지 (after가 null이면 첫 페이지)
+
+    List<OrderHistory> findByUserId(Long userId, OrderSearchCursor after, int limit);
+
+    /**
+     * 상점의 모든 이력 행에 바뀐 상점 이름 반영
+     *
+     * @return 갱신한 행 수
+     */
+    int updateShopName(Long shopId, String shopName);
+}
@@ -1,8 +1,16 @@
 package com.soundbar91.order.domain.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.vo.OrderField;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+import com.soundbar91.order.domain.vo.OrderSettlement;
 import com.soundbar91.order.domain.vo.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +24,10 @@ public interface OrderRepository {
 
     Optional<Order> findById(Long id);
 
+    // 콜드 아카이브 조회: 반환된 주문은 영속 상태가 아니므로 조회 전용 (아카이브가 없으면 항상 비어 있음)
+
+    Optional<Order> findArchivedById(Long id);
+
     List<Order> findAll();
 
     List<Order> findByUserId(Long userId);
@@ -24,6 +36,51 @@ public interface OrderRepository {
 
     List<Order> findByStatus(OrderStatus status);
 
+    // 기간 조건 조회 [from, to): created_at 월 단위 파티션 중 해당 기간만 조회
+
+    List<Order> findAllInPeriod(LocalDateTime from, LocalDateTime to);
+
+    List<Order> findByUserIdInPeriod(Long userId, LocalDateTime from, LocalDateTime to);
+
+    List<Order> findByShopIdInPeriod(Long shopId, LocalDateTime from, LocalDateTime to);
+
+    List<Order> findByStatusInPeriod(OrderStatus status, LocalDateTime from, LocalDateTime to);
+
+    // 선택 컬럼 조회 (sparse fieldset): 선택한 컬럼만 SELECT 하고 엔티티는 로드하지 않음
+
+    List<ProjectedRow> findAllProjected(FieldSelection<OrderField> fields);
+
+    List<ProjectedRow> findByUserIdProjected(Long userId, FieldSelection<OrderField> fields);
+
+    List<ProjectedRow> findByShopIdProjected(Long shopId, FieldSelection<OrderField> fields);
+
+    List<ProjectedRow> findByStatusProjected(OrderStatus status, FieldSelection<OrderField> fields);
+
+    // 복합 조건 검색: createdAt DESC, id DESC 정렬의 keyset 페이지 (after가 null이면 첫 페이지)
+
+    List<Order> search(OrderSearchCondition condition, OrderSearchCursor after, int limit);
+
+    // 정산 대사: id 오름차순 keyset 페이지 (afterId < id <= toId), DB만 조회
+
+    List<OrderSettlement> findSettlements(long afterId, long toId, int limit);
+
+    Optional<Long> findMinId();
+
+    Optional<Long> findMaxId();
+
+    // 이벤트 재생: id 오름차순 keyset 페이지 (afterId < id)
+
+    List<Order> findAllAfterId(long afterId, int limit);
+
+    // 만료 처리: createdAt < cutoff 인 PENDING 주문을 (createdAt, id) 오름차순 keyset으로 잠가 조회
+    // (afterCreatedAt이 null이면 첫 chunk, 다른 트랜잭션이 잠근 행은 건너뜀, 트랜잭션 안에서 호출)
+
+    List<Order> lockStalePending(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId, int limit);
+
+    // 아직 PENDING이고 createdAt < cutoff 인 주문만 CANCELLED로 일괄 변경하고 변경된 행 수를 반환
+
+    int expirePending(Collection<Long> ids, LocalDateTime cutoff, LocalDateTime now);
+
     void delete(Order order);
 
     void deleteById(Long id);
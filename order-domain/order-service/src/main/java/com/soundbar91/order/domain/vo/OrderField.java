@@ -0,0 +1,42 @@
+package com.soundbar91.order.domain.vo;
+
+import com.soundbar91.common.projection.SelectableField;
+import com.soundbar91.order.domain.entity.Order;
+
+import java.util.function.Function;
+
+/**
+ * 주문 선택 조회 필드 (선언 순서 = 응답 필드 순서, ID는 항상 포함)
+ */
+public enum OrderField implements SelectableField {
+    ID("id", Order::getId),
+    USER_ID("userId", Order::getUserId),
+    SHOP_ID("shopId", Order::getShopId),
+    PRODUCT_NAME("productName", Order::getProductName),
+    QUANTITY("quantity", Order::getQuantity),
+    TOTAL_AMOUNT("totalAmount", Order::getTotalAmount),
+    STATUS("status", Order::getStatus),
+    DELIVERY_ADDRESS("deliveryAddress", Order::getDeliveryAddress),
+    CREATED_AT("createdAt", Order::getCreatedAt),
+    UPDATED_AT("updatedAt", Order::getUpdatedAt);
+
+    private final String attribute;
+    private final Function<Order, Object> reader;
+
+    OrderField(String attribute, Function<Order, Object> reader) {
+        this.attribute = attribute;
+        this.reader = reader;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * 로드된 엔티티에서 필드 값 추출 (아카이브 조회 결과 변환 등)
+     */
+    public Object read(Order order) {
+        return reader.apply(order);
+    }
+}
@@ -0,0 +1,23 @@
+package com.soundbar91.order.domain.vo;
+
+/**
+ * 주문 이력에 표시하는 결제 상태
+ * 결제 도메인의 상태 중 사용자에게 보여 주는 결과만 옮겨 둡니다.
+ */
+public enum OrderPaymentStatus {
+    PENDING("결제 대기"),
+    COMPLETED("결제 완료"),
+    FAILED("결제 실패"),
+    REFUNDED("환불 완료"),
+    CANCELLED("결제 취소");
+
+    private final String description;
+
+    OrderPaymentStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
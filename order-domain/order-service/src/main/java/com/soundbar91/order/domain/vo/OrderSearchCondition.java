@@ -0,0 +1,38 @@
+package com.soundbar91.order.domain.vo;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 주문 복합 조건 검색 조건
+ *
+ * 지정한 조건만 AND로 결합하며, null(빈 상태 집합)인 조건은 적용하지 않습니다.
+ * 생성 시각은 [createdFrom, createdTo), 금액은 [minAmount, maxAmount] 범위입니다.
+ */
+public record OrderSearchCondition(
+        Long userId,
+        Long shopId,
+        Set<OrderStatus> statuses,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        BigDecimal minAmount,
+        BigDecimal maxAmount
+) {
+
+    public OrderSearchCondition {
+        statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(statuses));
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "조회 시작 시각은 종료 시각보다 앞서야 합니다: " + createdFrom + " ~ " + createdTo);
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "최소 금액이 최대 금액보다 큽니다: " + minAmount + " > " + maxAmount);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.soundbar91.order.domain.vo;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.entity.OrderHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 주문 검색 keyset 커서 (정렬 키: createdAt DESC, id DESC)
+ *
+ * 외부에는 "createdAt|id"를 URL-safe Base64로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record OrderSearchCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 주문의 정렬 키로 커서 생성
+     * 저장 직후 엔티티의 나노초 값이 DB(마이크로초 정밀도)와 달라 같은 행을 다시 반환하지 않도록 마이크로초로 절사합니다.
+     */
+    public static OrderSearchCursor of(Order order) {
+        return new OrderSearchCursor(order.getCreatedAt().truncatedTo(ChronoUnit.MICROS), order.getId());
+    }
+
+    /**
+     * 주문 이력 행의 정렬 키로 커서 생성 (정렬 키: createdAt DESC, orderId DESC)
+     */
+    public static OrderSearchCursor of(OrderHistory history) {
+        return new OrderSearchCursor(history.getCreatedAt().truncatedTo(ChronoUnit.MICROS), history.getOrderId());
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 문자열이면 첫 페이지)
+     *
+     * @throws BusinessException 형식이 올바르지 않은 경우 (INVALID_INPUT)
+     */
+    public static OrderSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new OrderSearchCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "올바르지 않은 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.soundbar91.order.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 대사용 주문 요약 (엔티티를 로드하지 않고 필요한 컬럼만 조회)
+ */
+public record OrderSettlement(Long orderId, OrderStatus status, BigDecimal totalAmount) {
+}
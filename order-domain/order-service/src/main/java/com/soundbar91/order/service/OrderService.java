@@ -1,10 +1,19 @@
 package com.soundbar91.order.service;
 
+import com.soundbar91.common.dto.CursorPage;
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.order.domain.entity.Order;
 import com.soundbar91.order.domain.event.OrderCancelledEvent;
 import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.event.OrderStatusChangedEvent;
 import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderField;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import com.soundbar91.shop.service.ShopService;
 import com.soundbar91.user.service.UserService;
@@ -20,9 +29,14 @@ import java.util.List;
  * 도메인 간 직접 호출과 이벤트 기반 통신을 모두 사용
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, transactionManager = OrderService.TRANSACTION_MANAGER)
 public class OrderService {
 
+    /**
+     * Order 도메인 트랜잭션 매니저 이름 (전용 풀을 쓰지 않으면 공용 매니저의 별칭)
+     */
+    public static final String TRANSACTION_MANAGER = "orderTransactionManager";
+
     private final OrderRepository orderRepository;
     private final UserService userService;  // 도메인 간 직접 의존
     private final ShopService shopService;  // 도메인 간 직접 의존
@@ -43,7 +57,7 @@ public class OrderService {
      * - 도메인 간 직접 호출: 사용자/상점 존재 여부 검증
      * - 이벤트 발행: 주문 생성 후 OrderCreatedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Order createOrder(Long userId, Long shopId, String productName, Integer quantity, BigDecimal totalAmount, String deliveryAddress) {
         // 도메인 간 직접 호출로 사용자 존재 여부 검증
         if (!userService.existsById(userId)) {
@@ -64,7 +78,8 @@ public class OrderService {
                 savedOrder.getUserId(),
                 savedOrder.getShopId(),
                 savedOrder.getProductName(),
-                savedOrder.getTotalAmount()
+                savedOrder.getTotalAmount(),
+                savedOrder.getCreatedAt()
         ));
 
         return savedOrder;
@@ -72,12 +87,27 @@ public class OrderService {
 
     /**
      * 주문 조회
+     * DB에 없으면 콜드 아카이브에서 찾으며, 아카이브 주문은 조회 전용입니다.
      */
     public Order getOrderById(Long id) {
         return orderRepository.findById(id)
+                .or(() -> orderRepository.findArchivedById(id))
                 .orElseThrow(() -> new NotFoundException("주문을 찾을 수 없습니다. ID: " + id));
     }
 
+    /**
+     * 변경할 주문 조회 (DB만 조회)
+     * 아카이브된 주문은 영속 상태가 아니어서 변경이 저장되지 않으므로 거부합니다.
+     */
+    private Order getActiveOrderById(Long id) {
+        return orderRepository.findById(id).orElseThrow(() -> {
+            if (orderRepository.findArchivedById(id).isPresent()) {
+                return new BusinessException(ErrorCode.INVALID_STATE, "아카이브된 주문은 변경할 수 없습니다. ID: " + id);
+            }
+            return new NotFoundException("주문을 찾을 수 없습니다. ID: " + id);
+        });
+    }
+
     /**
      * 모든 주문 조회
      */
@@ -106,43 +136,95 @@ public class OrderService {
         return orderRepository.findByStatus(status);
     }
 
+    /**
+     * 모든 주문의 선택 필드 조회
+     */
+    public List<ProjectedRow> getAllOrders(FieldSelection<OrderField> fields) {
+        return orderRepository.findAllProjected(fields);
+    }
+
+    /**
+     * 사용자별 주문의 선택 필드 조회
+     */
+    public List<ProjectedRow> getOrdersByUserId(Long userId, FieldSelection<OrderField> fields) {
+        return orderRepository.findByUserIdProjected(userId, fields);
+    }
+
+    /**
+     * 상점별 주문의 선택 필드 조회
+     */
+    public List<ProjectedRow> getOrdersByShopId(Long shopId, FieldSelection<OrderField> fields) {
+        return orderRepository.findByShopIdProjected(shopId, fields);
+    }
+
+    /**
+     * 상태별 주문의 선택 필드 조회
+     */
+    public List<ProjectedRow> getOrdersByStatus(OrderStatus status, FieldSelection<OrderField> fields) {
+        return orderRepository.findByStatusProjected(status, fields);
+    }
+
+    /**
+     * 주문 복합 조건 검색 (최신순 커서 페이징)
+     */
+    public CursorPage<Order> searchOrders(OrderSearchCondition condition, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<Order> fetched = orderRepository.search(condition, OrderSearchCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(fetched, pageSize, order -> OrderSearchCursor.of(order).encode());
+    }
+
     /**
      * 주문 확정
+     * 변경 후 OrderStatusChangedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Order confirmOrder(Long id) {
-        Order order = getOrderById(id);
+        Order order = getActiveOrderById(id);
         order.confirm();
+        publishStatusChanged(order);
         return order;
     }
 
     /**
      * 주문 배송 시작
+     * 변경 후 OrderStatusChangedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Order shipOrder(Long id) {
-        Order order = getOrderById(id);
+        Order order = getActiveOrderById(id);
         order.ship();
+        publishStatusChanged(order);
         return order;
     }
 
     /**
      * 주문 배송 완료
+     * 변경 후 OrderStatusChangedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Order deliverOrder(Long id) {
-        Order order = getOrderById(id);
+        Order order = getActiveOrderById(id);
         order.deliver();
+        publishStatusChanged(order);
         return order;
     }
 
+    private void publishStatusChanged(Order order) {
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(),
+                order.getUserId(),
+                order.getShopId(),
+                order.getStatus()
+        ));
+    }
+
     /**
      * 주문 취소
      * 취소 후 OrderCancelledEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Order cancelOrder(Long id) {
-        Order order = getOrderById(id);
+        Order order = getActiveOrderById(id);
         order.cancel();
 
         // 도메인 이벤트 발행
@@ -158,9 +240,9 @@ public class OrderService {
     /**
      * 주문 삭제
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public void deleteOrder(Long id) {
-        Order order = getOrderById(id);
+        Order order = getActiveOrderById(id);
         orderRepository.delete(order);
     }
 }
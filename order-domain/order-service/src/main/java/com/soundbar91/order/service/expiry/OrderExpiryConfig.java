@@ -0,0 +1,39 @@
+package com.soundbar91.order.service.expiry;
+
+import com.soundbar91.common.throttle.ChunkedSweeper;
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.service.OrderService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 방치된 PENDING 주문 만료 설정
+ * order.expiry.enabled=true 일 때만 활성화되며, 'order.expiry' 설정을 SweepProperties로 바인딩합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.expiry", name = "enabled", havingValue = "true")
+@EnableScheduling
+public class OrderExpiryConfig {
+
+    @Bean
+    public OrderExpirySweeper orderExpirySweeper(
+            OrderRepository orderRepository,
+            ApplicationEventPublisher eventPublisher,
+            Environment environment,
+            @Qualifier(OrderService.TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        SweepProperties properties = Binder.get(environment).bindOrCreate("order.expiry", SweepProperties.class);
+        return new OrderExpirySweeper(orderRepository, eventPublisher, new TransactionTemplate(transactionManager),
+                properties, Clock.systemDefaultZone(), ChunkedSweeper.afterChunkExecutor("order-expiry"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.soundbar91.order.service.expiry;
+
+import com.soundbar91.common.throttle.ChunkedSweeper;
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 방치된 PENDING 주문 만료 작업
+ *
+ * ttl보다 오래된 PENDING 주문을 (createdAt, id) 순 keyset으로 chunk-size개씩 잠그고, 한 번의 UPDATE로 CANCELLED로 바꿉니다.
+ * chunk마다 짧은 트랜잭션으로 커밋하므로 행 잠금은 chunk 하나를 처리하는 동안만 유지되며,
+ * 다른 트랜잭션이 잠근 주문(결제/확정 진행 중)은 건너뛰고 다음 실행에서 다시 확인합니다.
+ * UPDATE는 상태와 생성 시각을 다시 확인하므로 그사이 확정된 주문은 바뀌지 않습니다.
+ *
+ * chunk 반복과 스로틀은 ChunkedSweeper가 맡고, 취소 이벤트(OrderCancelledEvent)는 chunk가 커밋된 뒤
+ * eventExecutor에서 발행하므로 결제 환불 등 후속 처리가 다음 chunk를 늦추지 않습니다.
+ */
+public class OrderExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExpirySweeper.class);
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SweepProperties properties;
+    private final Clock clock;
+    private final ChunkedSweeper<Order> chunkedSweeper;
+
+    public OrderExpirySweeper(OrderRepository orderRepository, ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate, SweepProperties properties, Clock clock,
+                              Executor eventExecutor) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.chunkedSweeper = new ChunkedSweeper<>("OrderExpiry", properties, eventExecutor);
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.interval:5m}", initialDelayString = "${order.expiry.interval:5m}")
+    public void run() {
+        sweep();
+    }
+
+    /**
+     * 만료 실행
+     *
+     * @return 만료한 주문 수
+     */
+    public long sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(properties.ttl());
+        return chunkedSweeper.sweep(
+                (after, limit) -> transactionTemplate.execute(status -> expireChunk(cutoff, after, limit, now)),
+                chunk -> publishCancelled(chunk, now));
+    }
+
+    /**
+     * 이벤트 발행 실행기 종료 (빈 소멸 시 호출)
+     */
+    public void shutdown() {
+        chunkedSweeper.shutdown();
+    }
+
+    /**
+     * chunk 하나를 잠가 조회하고 일괄 취소 (트랜잭션 안에서 호출)
+     */
+    private List<Order> expireChunk(LocalDateTime cutoff, Order after, int limit, LocalDateTime now) {
+        List<Order> chunk = orderRepository.lockStalePending(cutoff, after == null ? null : after.getCreatedAt(),
+                after == null ? 0L : after.getId(), limit);
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        int updated = orderRepository.expirePending(chunk.stream().map(Order::getId).toList(), cutoff, now);
+        if (updated != chunk.size()) {
+            // 잠근 행은 다른 트랜잭션이 바꿀 수 없으므로, SKIP LOCKED를 지원하지 않는 DB에서만 발생
+            log.warn("[OrderExpiry] 잠근 주문 수와 변경된 주문 수가 다릅니다 - locked: {}, updated: {}",
+                    chunk.size(), updated);
+        }
+        return chunk;
+    }
+
+    private void publishCancelled(List<Order> chunk, LocalDateTime now) {
+        for (Order order : chunk) {
+            eventPublisher.publishEvent(new OrderCancelledEvent(order.getId(), order.getUserId(), order.getShopId(), now));
+        }
+    }
+}
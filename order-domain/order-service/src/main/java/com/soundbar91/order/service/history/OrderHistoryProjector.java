@@ -0,0 +1,133 @@
+package com.soundbar91.order.service.history;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.event.OrderStatusChangedEvent;
+import com.soundbar91.order.domain.repository.OrderHistoryRepository;
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.shop.domain.event.ShopRenamedEvent;
+import com.soundbar91.shop.service.ShopService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문/결제/상점 이벤트로 사용자별 주문 이력(order_histories)을 갱신
+ *
+ * 원본 트랜잭션 커밋 후 Order 트랜잭션 매니저의 새 트랜잭션에서 반영하므로, 이력 갱신이 실패해도 주문은 롤백되지 않습니다.
+ * 누락된 이력은 이벤트 재생으로 다시 채울 수 있습니다. 주문/상점/결제 이벤트를 모두 받아야 하므로
+ * nuga.replay.sources는 journal로, nuga.replay.listeners에는 orderHistoryProjector와 orderHistoryPaymentListener를 함께 지정합니다.
+ * 결제 이벤트는 결제 도메인의 리스너(OrderHistoryPaymentListener)가 applyPayment로 전달합니다. (Order 도메인은 결제 도메인에 의존하지 않음)
+ * 재생 중 같은 상점 조회가 반복되지 않도록 상점 이름을 잠시 캐시하며, 상점 이름이 바뀌면 해당 항목을 비웁니다.
+ */
+@Component
+public class OrderHistoryProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderHistoryProjector.class);
+
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final ShopService shopService;  // 도메인 간 직접 의존
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Optional<String>> shopNames = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public OrderHistoryProjector(OrderHistoryRepository orderHistoryRepository, ShopService shopService,
+                                 @Qualifier(OrderService.TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.shopService = shopService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 주문 생성 시 이력 행 추가 (이미 있으면 그대로 둠)
+     * 조회 후 저장하면 동시에 같은 이벤트를 받은 경우(재생과 실시간 처리가 겹칠 때 등) 기본 키 충돌로 실패하므로,
+     * 바로 INSERT하고 기본 키 충돌은 이미 반영된 것으로 간주합니다.
+     * 충돌한 트랜잭션은 롤백되어야 하므로 별도 트랜잭션(TransactionTemplate)에서 INSERT합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        OrderHistory history = new OrderHistory(event.getOrderId(), event.getUserId(), event.getShopId(),
+                findShopName(event.getShopId()), event.getProductName(), event.getTotalAmount(),
+                event.getOccurredAt());
+        try {
+            transactionTemplate.executeWithoutResult(status -> orderHistoryRepository.insert(history));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[OrderHistory] 이미 이력이 있는 주문입니다. orderId: {}", event.getOrderId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(transactionManager = OrderService.TRANSACTION_MANAGER, propagation = Propagation.REQUIRES_NEW)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        changeOrderStatus(event.getOrderId(), event.getStatus(), event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(transactionManager = OrderService.TRANSACTION_MANAGER, propagation = Propagation.REQUIRES_NEW)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        changeOrderStatus(event.getOrderId(), OrderStatus.CANCELLED, event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(transactionManager = OrderService.TRANSACTION_MANAGER, propagation = Propagation.REQUIRES_NEW)
+    public void onShopRenamed(ShopRenamedEvent event) {
+        shopNames.invalidate(event.getShopId());
+        int updated = orderHistoryRepository.updateShopName(event.getShopId(), event.getName());
+        log.info("[OrderHistory] 상점 이름 반영 - shopId: {}, rows: {}", event.getShopId(), updated);
+    }
+
+    /**
+     * 결제 결과 반영 (결제 도메인 이벤트 리스너에서 호출)
+     */
+    @Transactional(transactionManager = OrderService.TRANSACTION_MANAGER, propagation = Propagation.REQUIRES_NEW)
+    public void applyPayment(Long orderId, OrderPaymentStatus status, BigDecimal amount, LocalDateTime occurredAt) {
+        orderHistoryRepository.findById(orderId).ifPresentOrElse(
+                history -> history.changePaymentStatus(status, amount, occurredAt),
+                () -> log.warn("[OrderHistory] 이력이 없는 주문의 결제 결과를 건너뜁니다. orderId: {}, status: {}",
+                        orderId, status));
+    }
+
+    private void changeOrderStatus(Long orderId, OrderStatus status, LocalDateTime occurredAt) {
+        orderHistoryRepository.findById(orderId).ifPresentOrElse(
+                history -> history.changeOrderStatus(status, occurredAt),
+                () -> log.warn("[OrderHistory] 이력이 없는 주문의 상태 변경을 건너뜁니다. orderId: {}, status: {}",
+                        orderId, status));
+    }
+
+    /**
+     * 상점이 삭제되었으면 이름 없이 기록
+     */
+    private String findShopName(Long shopId) {
+        return shopNames.get(shopId, this::loadShopName).orElse(null);
+    }
+
+    private Optional<String> loadShopName(Long shopId) {
+        try {
+            return Optional.ofNullable(shopService.getShopById(shopId).getName());
+        } catch (NotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
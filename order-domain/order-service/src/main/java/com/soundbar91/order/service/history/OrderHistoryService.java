@@ -0,0 +1,36 @@
+package com.soundbar91.order.service.history;
+
+import com.soundbar91.common.dto.CursorPage;
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.repository.OrderHistoryRepository;
+import com.soundbar91.order.domain.vo.OrderSearchCursor;
+import com.soundbar91.order.service.OrderService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자별 주문 이력 조회 서비스
+ * 주문/결제 목록을 따로 조회해 합치지 않고 order_histories 인덱스 범위 한 번으로 페이지를 읽습니다.
+ */
+@Service
+@Transactional(readOnly = true, transactionManager = OrderService.TRANSACTION_MANAGER)
+public class OrderHistoryService {
+
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    public OrderHistoryService(OrderHistoryRepository orderHistoryRepository) {
+        this.orderHistoryRepository = orderHistoryRepository;
+    }
+
+    /**
+     * 사용자별 주문 이력 조회 (최신순 커서 페이징)
+     */
+    public CursorPage<OrderHistory> getHistory(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<OrderHistory> fetched = orderHistoryRepository.findByUserId(
+                userId, OrderSearchCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(fetched, pageSize, history -> OrderSearchCursor.of(history).encode());
+    }
+}
@@ -0,0 +1,57 @@
+package com.soundbar91.order.service.replay;
+
+import com.soundbar91.common.event.ReplayEvent;
+import com.soundbar91.common.event.ReplaySource;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.event.OrderStatusChangedEvent;
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * orders 테이블에서 주문 이벤트를 다시 만들어 내는 재생 소스 (위치: 주문 ID)
+ *
+ * 모든 주문은 생성 시각의 OrderCreatedEvent로 만들고, 대기 상태가 아니면 마지막 변경 시각의 현재 상태 이벤트
+ * (취소는 OrderCancelledEvent, 그 외는 OrderStatusChangedEvent)를 이어서 만듭니다. 중간 상태 이력은 남아 있지 않습니다.
+ * 아카이브로 옮겨진 주문은 DB에 없으므로 재생되지 않습니다.
+ */
+@Component
+public class OrderEventReplaySource implements ReplaySource {
+
+    public static final String NAME = "orders";
+
+    private final OrderRepository orderRepository;
+
+    public OrderEventReplaySource(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<ReplayEvent> read(long position, int limit) {
+        List<Order> orders = orderRepository.findAllAfterId(position, limit);
+        List<ReplayEvent> events = new ArrayList<>(orders.size() * 2);
+        for (Order order : orders) {
+            events.add(new ReplayEvent(order.getId(), order.getId(), new OrderCreatedEvent(order.getId(),
+                    order.getUserId(), order.getShopId(), order.getProductName(), order.getTotalAmount(),
+                    order.getCreatedAt())));
+            if (order.getStatus() == OrderStatus.CANCELLED) {
+                events.add(new ReplayEvent(order.getId(), order.getId(), new OrderCancelledEvent(order.getId(),
+                        order.getUserId(), order.getShopId(), order.getUpdatedAt())));
+            } else if (order.getStatus() != OrderStatus.PENDING) {
+                events.add(new ReplayEvent(order.getId(), order.getId(), new OrderStatusChangedEvent(order.getId(),
+                        order.getUserId(), order.getShopId(), order.getStatus(), order.getUpdatedAt())));
+            }
+        }
+        return events;
+    }
+}
@@ -1,9 +1,11 @@
 package com.soundbar91.order.service;
 
+import com.soundbar91.common.exception.BusinessException;
 import com.soundbar91.common.exception.NotFoundException;
 import com.soundbar91.order.domain.entity.Order;
 import com.soundbar91.order.domain.event.OrderCancelledEvent;
 import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.event.OrderStatusChangedEvent;
 import com.soundbar91.order.domain.repository.OrderRepository;
 import com.soundbar91.order.domain.vo.OrderStatus;
 import com.soundbar91.shop.service.ShopService;
@@ -181,6 +183,22 @@ class OrderServiceTest {
                     .isInstanceOf(NotFoundException.class)
                     .hasMessageContaining("주문을 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("DB에 없으면 아카이브된 주문을 반환한다")
+        void getOrderById_WithArchivedOrder_ReturnsArchivedOrder() {
+            // given
+            Long orderId = 1L;
+            Order archived = OrderFixture.create().withId(orderId).withStatus(OrderStatus.DELIVERED).build();
+            given(orderRepository.findById(orderId)).willReturn(Optional.empty());
+            given(orderRepository.findArchivedById(orderId)).willReturn(Optional.of(archived));
+
+            // when
+            Order result = orderService.getOrderById(orderId);
+
+            // then
+            assertThat(result).isSameAs(archived);
+        }
     }
 
     @Nested
@@ -247,6 +265,24 @@ class OrderServiceTest {
             // then
             assertThat(result.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
         }
+
+        @Test
+        @DisplayName("주문을 확정하면 OrderStatusChangedEvent를 발행한다")
+        void confirmOrder_PublishesOrderStatusChangedEvent() {
+            // given
+            Long orderId = 1L;
+            Order pendingOrder = OrderFixture.create().withId(orderId).build();
+            given(orderRepository.findById(orderId)).willReturn(Optional.of(pendingOrder));
+
+            // when
+            orderService.confirmOrder(orderId);
+
+            // then
+            ArgumentCaptor<OrderStatusChangedEvent> eventCaptor = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+            then(eventPublisher).should().publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getOrderId()).isEqualTo(orderId);
+            assertThat(eventCaptor.getValue().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        }
     }
 
     @Nested
@@ -363,5 +399,21 @@ class OrderServiceTest {
             // then
             then(orderRepository).should().delete(existingOrder);
         }
+
+        @Test
+        @DisplayName("아카이브된 주문은 삭제할 수 없다")
+        void deleteOrder_WithArchivedOrder_ThrowsException() {
+            // given
+            Long orderId = 1L;
+            Order archived = OrderFixture.create().withId(orderId).withStatus(OrderStatus.DELIVERED).build();
+            given(orderRepository.findById(orderId)).willReturn(Optional.empty());
+            given(orderRepository.findArchivedById(orderId)).willReturn(Optional.of(archived));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.deleteOrder(orderId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("아카이브된 주문은 변경할 수 없습니다");
+            then(orderRepository).should(never()).delete(any());
+        }
     }
 }
@@ -0,0 +1,127 @@
+package com.soundbar91.order.service.expiry;
+
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExpirySweeper 테스트")
+class OrderExpirySweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusHours(24);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderExpirySweeper sweeper;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        willAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sweeper = new OrderExpirySweeper(orderRepository, eventPublisher, transactionTemplate,
+                new SweepProperties(true, Duration.ofHours(24), 2, Duration.ofSeconds(1), Duration.ZERO), clock,
+                Runnable::run);
+    }
+
+    private static Order pending(long id, LocalDateTime createdAt) {
+        return Order.restore(id, 10L + id, 42L, "테스트 상품", 1, new BigDecimal("10000"), OrderStatus.PENDING,
+                "서울시 강남구", createdAt, createdAt);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 주문을 chunk 단위로 취소하고, 마지막 (createdAt, id) 이후부터 다음 chunk를 읽는다")
+    void sweep_ExpiresInChunksWithKeyset() {
+        // given
+        Order first = pending(1L, CUTOFF.minusHours(3));
+        Order second = pending(2L, CUTOFF.minusHours(2));
+        Order third = pending(3L, CUTOFF.minusHours(1));
+        given(orderRepository.lockStalePending(CUTOFF, null, 0L, 2)).willReturn(List.of(first, second));
+        given(orderRepository.lockStalePending(CUTOFF, second.getCreatedAt(), 2L, 2)).willReturn(List.of(third));
+        given(orderRepository.expirePending(any(), eq(CUTOFF), eq(NOW))).willReturn(2, 1);
+
+        // when
+        long expired = sweeper.sweep();
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        then(orderRepository).should().expirePending(List.of(1L, 2L), CUTOFF, NOW);
+        then(orderRepository).should().expirePending(List.of(3L), CUTOFF, NOW);
+        ArgumentCaptor<OrderCancelledEvent> captor = ArgumentCaptor.forClass(OrderCancelledEvent.class);
+        then(eventPublisher).should(times(3)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(OrderCancelledEvent::getOrderId).containsExactly(1L, 2L, 3L);
+        assertThat(captor.getAllValues().get(0).getUserId()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("chunk의 일괄 변경이 끝난 뒤에 해당 chunk의 취소 이벤트를 발행한다")
+    void sweep_PublishesEventsAfterChunkUpdate() {
+        // given
+        given(orderRepository.lockStalePending(CUTOFF, null, 0L, 2)).willReturn(List.of(pending(1L, CUTOFF)));
+        given(orderRepository.expirePending(List.of(1L), CUTOFF, NOW)).willReturn(1);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        InOrder inOrder = inOrder(orderRepository, eventPublisher);
+        inOrder.verify(orderRepository).expirePending(List.of(1L), CUTOFF, NOW);
+        inOrder.verify(eventPublisher).publishEvent(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("만료 대상이 없으면 변경하지 않고 이벤트도 발행하지 않는다")
+    void sweep_WithoutStaleOrders_DoesNothing() {
+        // given
+        given(orderRepository.lockStalePending(any(), any(), anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        long expired = sweeper.sweep();
+
+        // then
+        assertThat(expired).isZero();
+        then(orderRepository).should(never()).expirePending(any(), any(), any());
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,205 @@
+package com.soundbar91.order.service.history;
+
+import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.order.domain.entity.OrderHistory;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.event.OrderStatusChangedEvent;
+import com.soundbar91.order.domain.repository.OrderHistoryRepository;
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.shop.domain.event.ShopRenamedEvent;
+import com.soundbar91.shop.service.ShopService;
+import com.soundbar91.test.fixture.ShopFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderHistoryProjector 단위 테스트")
+class OrderHistoryProjectorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Mock
+    private ShopService shopService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OrderHistoryProjector orderHistoryProjector;
+
+    private static OrderHistory history() {
+        return new OrderHistory(1L, 10L, 42L, "테스트 상점", "테스트 상품", new BigDecimal("30000"), CREATED_AT);
+    }
+
+    @Nested
+    @DisplayName("주문 이벤트")
+    class OrderEvents {
+
+        @Test
+        @DisplayName("주문이 생성되면 상점 이름을 포함한 이력 행을 추가한다")
+        void onOrderCreated_SavesHistoryWithShopName() {
+            // given
+            given(shopService.getShopById(42L)).willReturn(ShopFixture.create().withId(42L).withName("테스트 상점").build());
+
+            // when
+            orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(1L, 10L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT));
+
+            // then
+            ArgumentCaptor<OrderHistory> captor = ArgumentCaptor.forClass(OrderHistory.class);
+            then(orderHistoryRepository).should().insert(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(10L);
+            assertThat(captor.getValue().getShopName()).isEqualTo("테스트 상점");
+            assertThat(captor.getValue().getCreatedAt()).isEqualTo(CREATED_AT);
+            assertThat(captor.getValue().getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(captor.getValue().getPaymentStatus()).isEqualTo(OrderPaymentStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("상점이 삭제되었으면 이름 없이 이력 행을 추가한다")
+        void onOrderCreated_WithDeletedShop_SavesHistoryWithoutShopName() {
+            // given
+            given(shopService.getShopById(42L)).willThrow(new NotFoundException("상점을 찾을 수 없습니다."));
+
+            // when
+            orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(1L, 10L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT));
+
+            // then
+            ArgumentCaptor<OrderHistory> captor = ArgumentCaptor.forClass(OrderHistory.class);
+            then(orderHistoryRepository).should().insert(captor.capture());
+            assertThat(captor.getValue().getShopName()).isNull();
+        }
+
+        @Test
+        @DisplayName("이미 이력 행이 있어 기본 키가 충돌하면 기존 행을 그대로 두고 넘어간다")
+        void onOrderCreated_WithExistingHistory_IgnoresDuplicateKey() {
+            // given
+            given(shopService.getShopById(42L)).willReturn(ShopFixture.create().withId(42L).withName("테스트 상점").build());
+            willThrow(new DataIntegrityViolationException("duplicate key")).given(orderHistoryRepository).insert(any());
+
+            // when & then
+            assertThatCode(() -> orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(1L, 10L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT)))
+                    .doesNotThrowAnyException();
+            then(orderHistoryRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("같은 상점의 주문은 상점 조회를 반복하지 않고, 상점 이름이 바뀌면 다시 조회한다")
+        void onOrderCreated_CachesShopNameUntilRenamed() {
+            // given
+            given(shopService.getShopById(42L)).willReturn(ShopFixture.create().withId(42L).withName("테스트 상점").build());
+
+            // when
+            orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(1L, 10L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT));
+            orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(2L, 11L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT));
+            orderHistoryProjector.onShopRenamed(new ShopRenamedEvent(42L, "새 상점 이름"));
+            orderHistoryProjector.onOrderCreated(
+                    new OrderCreatedEvent(3L, 12L, 42L, "테스트 상품", new BigDecimal("30000"), CREATED_AT));
+
+            // then
+            then(shopService).should(times(2)).getShopById(42L);
+            then(orderHistoryRepository).should(times(3)).insert(any());
+        }
+
+        @Test
+        @DisplayName("상태 변경과 취소를 순서대로 반영하고, 이미 반영한 변경보다 오래된 변경은 무시한다")
+        void onOrderStatusChanged_IgnoresOlderChange() {
+            // given
+            OrderHistory history = history();
+            given(orderHistoryRepository.findById(1L)).willReturn(Optional.of(history));
+
+            // when
+            orderHistoryProjector.onOrderStatusChanged(
+                    new OrderStatusChangedEvent(1L, 10L, 42L, OrderStatus.CONFIRMED, CREATED_AT.plusMinutes(1)));
+            orderHistoryProjector.onOrderCancelled(new OrderCancelledEvent(1L, 10L, 42L, CREATED_AT.plusMinutes(5)));
+            orderHistoryProjector.onOrderStatusChanged(
+                    new OrderStatusChangedEvent(1L, 10L, 42L, OrderStatus.CONFIRMED, CREATED_AT.plusMinutes(1)));
+
+            // then
+            assertThat(history.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(history.getOrderUpdatedAt()).isEqualTo(CREATED_AT.plusMinutes(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 결과")
+    class Payments {
+
+        @Test
+        @DisplayName("결제 완료 후 환불되면 결제 금액과 환불 금액을 모두 남긴다")
+        void applyPayment_CompletedThenRefunded_KeepsBothAmounts() {
+            // given
+            OrderHistory history = history();
+            given(orderHistoryRepository.findById(1L)).willReturn(Optional.of(history));
+
+            // when
+            orderHistoryProjector.applyPayment(1L, OrderPaymentStatus.COMPLETED, new BigDecimal("30000"),
+                    CREATED_AT.plusMinutes(1));
+            orderHistoryProjector.applyPayment(1L, OrderPaymentStatus.REFUNDED, new BigDecimal("30000"),
+                    CREATED_AT.plusMinutes(10));
+
+            // then
+            assertThat(history.getPaymentStatus()).isEqualTo(OrderPaymentStatus.REFUNDED);
+            assertThat(history.getPaidAmount()).isEqualByComparingTo("30000");
+            assertThat(history.getRefundedAmount()).isEqualByComparingTo("30000");
+        }
+
+        @Test
+        @DisplayName("이미 반영한 결과보다 오래된 결제 결과는 무시한다")
+        void applyPayment_WithOlderResult_Ignores() {
+            // given
+            OrderHistory history = history();
+            given(orderHistoryRepository.findById(1L)).willReturn(Optional.of(history));
+
+            // when
+            orderHistoryProjector.applyPayment(1L, OrderPaymentStatus.REFUNDED, new BigDecimal("30000"),
+                    CREATED_AT.plusMinutes(10));
+            orderHistoryProjector.applyPayment(1L, OrderPaymentStatus.COMPLETED, new BigDecimal("30000"),
+                    CREATED_AT.plusMinutes(1));
+
+            // then
+            assertThat(history.getPaymentStatus()).isEqualTo(OrderPaymentStatus.REFUNDED);
+            assertThat(history.getPaymentUpdatedAt()).isEqualTo(CREATED_AT.plusMinutes(10));
+        }
+    }
+
+    @Test
+    @DisplayName("상점 이름이 바뀌면 해당 상점의 이력 행 이름을 일괄 갱신한다")
+    void onShopRenamed_UpdatesShopName() {
+        // when
+        orderHistoryProjector.onShopRenamed(new ShopRenamedEvent(42L, "새 상점 이름"));
+
+        // then
+        then(orderHistoryRepository).should().updateShopName(42L, "새 상점 이름");
+    }
+}
@@ -0,0 +1,163 @@
+package com.soundbar91.saga;
+
+import com.soundbar91.saga.store.OrderSagaRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 주문 saga (주문 ID당 하나)
+ *
+ * 상태 변경은 오케스트레이터가 이 객체를 잠근 채로만 수행합니다.
+ * version은 상태가 바뀔 때마다 증가하며, 실행 중이던 단계가 끝났을 때 그 사이 상태가 바뀌었으면 결과를 버리는 데 사용합니다.
+ */
+public class OrderSaga {
+
+    private final Long orderId;
+    private final Long userId;
+    private final Long shopId;
+    private final BigDecimal amount;
+
+    private OrderSagaState state;
+    private int attempts;
+    private LocalDateTime deadline;
+    private String failureReason;
+    private LocalDateTime updatedAt;
+
+    private int version;
+    private boolean inFlight;
+    private LocalDateTime stepDeadline;
+
+    private OrderSaga(Long orderId, Long userId, Long shopId, BigDecimal amount, OrderSagaState state,
+                      int attempts, LocalDateTime deadline, String failureReason, LocalDateTime updatedAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.shopId = shopId;
+        this.amount = amount;
+        this.state = state;
+        this.attempts = attempts;
+        this.deadline = deadline;
+        this.failureReason = failureReason;
+        this.updatedAt = updatedAt;
+    }
+
+    static OrderSaga start(Long orderId, Long userId, Long shopId, BigDecimal amount, LocalDateTime now) {
+        return new OrderSaga(orderId, userId, shopId, amount, OrderSagaState.PAYMENT_PENDING, 0, null, null, now);
+    }
+
+    /**
+     * saga 없이 취소된 주문(saga 도입 전 주문, 이미 완료되어 메모리에서 내린 saga)의 환불 saga
+     */
+    static OrderSaga cancellation(Long orderId, Long userId, Long shopId, LocalDateTime now) {
+        return new OrderSaga(orderId, userId, shopId, null, OrderSagaState.REFUND_PENDING, 0, null, null, now);
+    }
+
+    static OrderSaga restore(OrderSagaRecord record) {
+        return new OrderSaga(record.orderId(), record.userId(), record.shopId(), record.amount(), record.state(),
+                record.attempts(), record.deadline(), record.failureReason(), record.updatedAt());
+    }
+
+    void transition(OrderSagaState next, LocalDateTime deadline, LocalDateTime now) {
+        this.state = next;
+        this.attempts = 0;
+        this.deadline = deadline;
+        this.updatedAt = now;
+        this.version++;
+    }
+
+    void compensate(String reason, LocalDateTime now) {
+        this.failureReason = reason;
+        transition(OrderSagaState.COMPENSATING, null, now);
+    }
+
+    void fail(String reason, LocalDateTime now) {
+        this.failureReason = reason;
+        transition(OrderSagaState.FAILED, null, now);
+    }
+
+    /**
+     * 현재 단계의 실패 횟수 기록 (failureReason은 보상/실패로 넘어갈 때만 기록하며, 환불 후 종료 상태를 가르는 데 사용)
+     *
+     * @return 누적 시도 횟수
+     */
+    int recordAttempt(LocalDateTime now) {
+        this.updatedAt = now;
+        return ++attempts;
+    }
+
+    void startStep(LocalDateTime stepDeadline) {
+        this.inFlight = true;
+        this.stepDeadline = stepDeadline;
+    }
+
+    void finishStep() {
+        this.inFlight = false;
+        this.stepDeadline = null;
+    }
+
+    boolean isStepOverdue(LocalDateTime now) {
+        return inFlight && stepDeadline != null && now.isAfter(stepDeadline);
+    }
+
+    /**
+     * 결제 결과를 기다리다 payment-timeout을 넘긴 상태 (결제 상태를 다시 확인할 차례)
+     */
+    boolean isPaymentOverdue(LocalDateTime now) {
+        return state == OrderSagaState.AWAITING_PAYMENT && deadline != null && now.isAfter(deadline);
+    }
+
+    /**
+     * 제한 시간을 넘긴 단계는 한 번만 시간 초과로 처리하도록 단계 제한 시각을 지움 (실행 중 표시는 유지)
+     */
+    void clearStepDeadline() {
+        this.stepDeadline = null;
+    }
+
+    OrderSagaRecord toRecord() {
+        return new OrderSagaRecord(orderId, userId, shopId, amount, state, attempts, deadline, failureReason, updatedAt);
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public OrderSagaState getState() {
+        return state;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    boolean isInFlight() {
+        return inFlight;
+    }
+}
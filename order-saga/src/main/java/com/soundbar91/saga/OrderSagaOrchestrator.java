@@ -0,0 +1,556 @@
+package com.soundbar91.saga;
+
+import com.soundbar91.common.dto.CursorPage;
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.domain.vo.OrderSearchCondition;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.PaymentFailedEvent;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.saga.store.OrderSagaRecord;
+import com.soundbar91.saga.store.SagaStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 → 결제 흐름 saga 오케스트레이터
+ *
+ * 주문 트랜잭션이 커밋되면 saga만 등록하고 바로 반환하며, 결제 생성/주문 취소/환불 단계는 concurrency개의 작업 스레드가
+ * 비동기로 실행합니다. 대기열(queue-capacity)이 가득 차면 단계를 버리지 않고 다음 tick에 다시 넣습니다.
+ * 같은 saga의 단계는 한 번에 하나만 실행되며, 앞 단계 호출이 끝난 뒤 다음 단계를 실행합니다.
+ *
+ * 단계가 실패하면 max-attempts까지 tick마다 재시도하고, 업무 규칙 위반(BusinessException, IllegalStateException)은
+ * 바로 다음 처리로 넘어갑니다. step-timeout을 넘긴 단계는 그 결과를 버리고 실패로 처리합니다.
+ * 결제 생성이 실패하거나, 결제가 실패하거나, payment-timeout 안에 결제 결과가 오지 않으면 주문을 취소해 보상하고
+ * 이어서 결제를 환불/취소합니다. 보상 단계마저 실패하면 FAILED로 남겨 수동 처리 대상으로 둡니다.
+ * 결제 대기 시간이 지나면 바로 보상하지 않고 결제 상태를 DB에서 다시 읽어, 그사이 완료된 결제(다른 인스턴스에서 처리되어
+ * 이벤트를 받지 못한 경우 포함)는 COMPLETED로 끝냅니다.
+ *
+ * 여러 인스턴스가 함께 실행되므로 saga는 소유 인스턴스(instance-id)만 진행합니다. 새 saga는 만든 인스턴스가 소유하고,
+ * 소유 리스는 lease-timeout의 1/3 주기로 연장합니다. 리스가 만료된 saga(멈춘 인스턴스의 saga)는 같은 주기에 다른 인스턴스가
+ * FOR UPDATE SKIP LOCKED로 가져가 이어서 진행하며, 가져가기 전 소유자는 다음 저장 때 이를 알고 메모리에서 내립니다.
+ * 멈췄다 깨어난 이전 소유자가 같은 단계(결제 생성 등)를 함께 실행하지 않도록, 단계마다 실행 직전에 저장소에서 소유를 확인하며
+ * 리스를 연장하고 다른 인스턴스가 가져간 saga는 실행하지 않습니다. 확인 후 단계가 끝날 때까지 lease-timeout을 넘겨 멈추는 경우만
+ * 남으므로 lease-timeout은 step-timeout보다 충분히 길어야 합니다.
+ *
+ * 상태는 SagaStateWriter가 모아서 일괄 저장합니다. 첫 저장 전에 인스턴스가 멈추면 saga가 유실될 수 있으므로, 기동 시
+ * recovery-delay보다 오래되었지만 payment-timeout 안에 생성된 PENDING 주문 중 saga가 없는 주문의 saga를 다시 만듭니다.
+ * 마지막 저장 이후의 상태 변경도 유실될 수 있으며, 각 단계는 다시 실행해도 결과가 같도록 작성되어 있습니다.
+ */
+public class OrderSagaOrchestrator implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSagaOrchestrator.class);
+
+    private static final int RECOVERY_PAGE_SIZE = 100;
+
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+    private final SagaStore sagaStore;
+    private final SagaStateWriter stateWriter;
+    private final SagaProperties properties;
+    private final ExecutorService workers;
+    private final Clock clock;
+
+    private final Map<Long, OrderSaga> sagas = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OrderSagaOrchestrator(OrderService orderService, PaymentService paymentService, SagaStore sagaStore,
+                                 SagaProperties properties) {
+        this(orderService, paymentService, sagaStore, properties,
+                new ThreadPoolExecutor(properties.concurrency(), properties.concurrency(), 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.queueCapacity()), daemon("order-saga-worker")),
+                Clock.systemDefaultZone());
+    }
+
+    OrderSagaOrchestrator(OrderService orderService, PaymentService paymentService, SagaStore sagaStore,
+                          SagaProperties properties, ExecutorService workers, Clock clock) {
+        this.orderService = orderService;
+        this.paymentService = paymentService;
+        this.sagaStore = sagaStore;
+        this.stateWriter = new SagaStateWriter(sagaStore, properties.instanceId(), properties.batchSize());
+        this.properties = properties;
+        this.workers = workers;
+        this.clock = clock;
+    }
+
+    // ===== 이벤트 =====
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        OrderSaga saga = OrderSaga.start(event.getOrderId(), event.getUserId(), event.getShopId(),
+                event.getTotalAmount(), now());
+        if (sagas.putIfAbsent(saga.getOrderId(), saga) != null) {
+            return;
+        }
+        synchronized (saga) {
+            stateWriter.record(saga.toRecord());
+            dispatch(saga);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        OrderSaga saga = sagas.get(event.getOrderId());
+        if (saga == null) {
+            return;
+        }
+        synchronized (saga) {
+            if (saga.getState() == OrderSagaState.PAYMENT_PENDING || saga.getState() == OrderSagaState.AWAITING_PAYMENT) {
+                saga.transition(OrderSagaState.COMPLETED, null, now());
+                save(saga);
+            }
+        }
+    }
+
+    /**
+     * 결제 실패 시 주문 취소로 보상
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentFailed(PaymentFailedEvent event) {
+        compensateUnpaid(event.getOrderId(), "결제 실패: " + event.getFailureReason());
+    }
+
+    /**
+     * 결제 결과 전에 결제가 취소되면(만료 작업 등) 주문 취소로 보상
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCancelled(PaymentCancelledEvent event) {
+        compensateUnpaid(event.getOrderId(), "결제 취소: " + event.getReason());
+    }
+
+    private void compensateUnpaid(Long orderId, String reason) {
+        OrderSaga saga = sagas.get(orderId);
+        if (saga == null) {
+            return;
+        }
+        synchronized (saga) {
+            if (saga.getState() == OrderSagaState.PAYMENT_PENDING || saga.getState() == OrderSagaState.AWAITING_PAYMENT) {
+                saga.compensate(reason, now());
+                save(saga);
+            }
+        }
+    }
+
+    /**
+     * 주문 취소(사용자 취소 또는 보상) 후 결제 환불/취소
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        while (true) {
+            OrderSaga created = OrderSaga.cancellation(event.getOrderId(), event.getUserId(), event.getShopId(), now());
+            OrderSaga saga = sagas.putIfAbsent(created.getOrderId(), created);
+            if (saga == null) {
+                synchronized (created) {
+                    stateWriter.record(created.toRecord());
+                    dispatch(created);
+                }
+                return;
+            }
+            synchronized (saga) {
+                if (saga.getState().isTerminal()) {
+                    // 방금 끝나 메모리에서 내려간 saga: 새 환불 saga로 다시 시도
+                    continue;
+                }
+                if (saga.getState() != OrderSagaState.REFUND_PENDING) {
+                    saga.transition(OrderSagaState.REFUND_PENDING, null, now());
+                    save(saga);
+                }
+                return;
+            }
+        }
+    }
+
+    // ===== 단계 실행 =====
+
+    /**
+     * 실행할 단계(결제 대기 시간이 지난 saga는 결제 상태 확인)가 있고 실행 중인 단계가 없으면 작업 스레드에 넘김
+     * 다른 인스턴스가 가져가 메모리에서 내린 saga는 더 진행하지 않습니다. (saga를 잠근 상태에서 호출)
+     */
+    private void dispatch(OrderSaga saga) {
+        if (saga.isInFlight() || sagas.get(saga.getOrderId()) != saga
+                || !(saga.getState().hasStep() || saga.isPaymentOverdue(now()))) {
+            return;
+        }
+        OrderSagaState step = saga.getState();
+        int version = saga.getVersion();
+        saga.startStep(null);
+        try {
+            workers.execute(() -> runStep(saga, step, version));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 참: 다음 tick에 다시 시도
+            saga.finishStep();
+        }
+    }
+
+    private void runStep(OrderSaga saga, OrderSagaState step, int version) {
+        synchronized (saga) {
+            // 제한 시간은 대기열에서 기다린 시간을 빼고 실행을 시작한 시점부터 계산
+            saga.startStep(now().plus(properties.stepTimeout()));
+        }
+        RuntimeException failure = null;
+        boolean paid = false;
+        try {
+            if (!sagaStore.hold(saga.getOrderId(), properties.instanceId(), leaseUntil())) {
+                release(saga);
+                return;
+            }
+            switch (step) {
+                case PAYMENT_PENDING -> createPayment(saga);
+                case AWAITING_PAYMENT -> paid = isPaid(saga);
+                case COMPENSATING -> cancelOrder(saga);
+                case REFUND_PENDING -> paymentService.refundPaymentByOrderId(saga.getOrderId());
+                default -> throw new IllegalStateException("실행할 단계가 없는 상태입니다: " + step);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        synchronized (saga) {
+            saga.finishStep();
+            if (saga.getVersion() != version) {
+                // 실행 중 시간 초과 또는 이벤트로 상태가 바뀜: 결과를 버리고 현재 상태의 단계로 진행
+                log.debug("[OrderSaga] 지난 단계 결과 무시 - orderId: {}, step: {}, state: {}",
+                        saga.getOrderId(), step, saga.getState());
+            } else if (failure == null) {
+                succeed(saga, step, paid);
+            } else if (retryLater(saga, step, failure)) {
+                stateWriter.record(saga.toRecord());
+                return;
+            }
+            save(saga);
+        }
+    }
+
+    /**
+     * 단계 실행 전 소유 확인에서 다른 인스턴스가 가져간 것으로 확인된 saga를 메모리에서 내림
+     */
+    private void release(OrderSaga saga) {
+        synchronized (saga) {
+            saga.finishStep();
+            if (sagas.remove(saga.getOrderId(), saga)) {
+                log.warn("[OrderSaga] 다른 인스턴스가 가져간 saga의 단계를 실행하지 않고 내려놓습니다 - orderId: {}",
+                        saga.getOrderId());
+            }
+        }
+    }
+
+    /**
+     * 결제 생성 (이미 생성된 결제가 있으면 다시 만들지 않음)
+     */
+    private void createPayment(OrderSaga saga) {
+        try {
+            paymentService.getPaymentByOrderId(saga.getOrderId());
+            return;
+        } catch (NotFoundException e) {
+            // 아직 결제 없음
+        }
+        paymentService.createPayment(saga.getOrderId(), saga.getUserId(), saga.getShopId(), saga.getAmount(),
+                PaymentMethod.CREDIT_CARD);
+    }
+
+    /**
+     * 결제 대기 시간이 지난 saga의 결제 상태를 DB에서 다시 확인 (결제가 없으면 미결제)
+     */
+    private boolean isPaid(OrderSaga saga) {
+        try {
+            return paymentService.getPaymentByOrderId(saga.getOrderId()).getStatus() == PaymentStatus.COMPLETED;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 주문 취소 (이미 취소된 주문이면 건너뜀)
+     */
+    private void cancelOrder(OrderSaga saga) {
+        if (orderService.getOrderById(saga.getOrderId()).getStatus() != OrderStatus.CANCELLED) {
+            orderService.cancelOrder(saga.getOrderId());
+        }
+    }
+
+    private void succeed(OrderSaga saga, OrderSagaState step, boolean paid) {
+        LocalDateTime now = now();
+        switch (step) {
+            case PAYMENT_PENDING -> saga.transition(OrderSagaState.AWAITING_PAYMENT,
+                    now.plus(properties.paymentTimeout()), now);
+            case AWAITING_PAYMENT -> {
+                if (paid) {
+                    saga.transition(OrderSagaState.COMPLETED, null, now);
+                } else {
+                    saga.compensate("결제 대기 시간 초과", now);
+                }
+            }
+            case COMPENSATING -> saga.transition(OrderSagaState.REFUND_PENDING, null, now);
+            case REFUND_PENDING -> saga.transition(saga.getFailureReason() == null
+                    ? OrderSagaState.CANCELLED : OrderSagaState.COMPENSATED, null, now);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 실패한 단계를 재시도할지 결정 (재시도 횟수가 남았으면 다음 tick에 재시도, 아니면 보상 또는 FAILED로 전환)
+     *
+     * @return 다음 tick에 재시도하면 true
+     */
+    private boolean retryLater(OrderSaga saga, OrderSagaState step, RuntimeException failure) {
+        boolean retryable = !(failure instanceof BusinessException || failure instanceof IllegalStateException);
+        int attempts = saga.recordAttempt(now());
+        if (retryable && attempts < properties.maxAttempts()) {
+            log.warn("[OrderSaga] 단계 실패, 다음 tick에 재시도 - orderId: {}, step: {}, attempts: {}",
+                    saga.getOrderId(), step, attempts, failure);
+            return true;
+        }
+        log.warn("[OrderSaga] 단계 실패 - orderId: {}, step: {}, attempts: {}", saga.getOrderId(), step, attempts, failure);
+        escalate(saga, step, stepName(step) + " 단계 실패: " + failure.getMessage());
+        return false;
+    }
+
+    /**
+     * 단계를 더 진행할 수 없을 때: 결제 생성/확인 실패는 주문 취소로 보상, 보상 단계 실패는 FAILED
+     */
+    private void escalate(OrderSaga saga, OrderSagaState step, String reason) {
+        if (step == OrderSagaState.PAYMENT_PENDING || step == OrderSagaState.AWAITING_PAYMENT) {
+            saga.compensate(reason, now());
+        } else {
+            saga.fail(reason, now());
+        }
+    }
+
+    private static String stepName(OrderSagaState step) {
+        return switch (step) {
+            case PAYMENT_PENDING -> "결제 생성";
+            case AWAITING_PAYMENT -> "결제 확인";
+            case COMPENSATING -> "주문 취소";
+            case REFUND_PENDING -> "환불";
+            default -> step.getDescription();
+        };
+    }
+
+    /**
+     * 상태 저장을 예약하고, 끝난 saga는 메모리에서 내리고, 남은 단계가 있으면 실행 (saga를 잠근 상태에서 호출)
+     */
+    private void save(OrderSaga saga) {
+        stateWriter.record(saga.toRecord());
+        if (saga.getState().isTerminal()) {
+            if (saga.getState() == OrderSagaState.FAILED) {
+                log.error("[OrderSaga] 수동 처리 필요 - orderId: {}, reason: {}", saga.getOrderId(), saga.getFailureReason());
+            }
+            sagas.remove(saga.getOrderId(), saga);
+            return;
+        }
+        dispatch(saga);
+    }
+
+    // ===== 주기 작업 =====
+
+    /**
+     * 단계 시간 초과를 처리하고 대기 중인 단계(결제 대기 시간이 지난 saga의 결제 확인 포함)를 다시 실행
+     */
+    void tick() {
+        LocalDateTime now = now();
+        for (OrderSaga saga : sagas.values()) {
+            synchronized (saga) {
+                if (saga.isStepOverdue(now)) {
+                    OrderSagaState step = saga.getState();
+                    saga.clearStepDeadline();
+                    log.warn("[OrderSaga] 단계 시간 초과 - orderId: {}, step: {}, timeout: {}",
+                            saga.getOrderId(), step, properties.stepTimeout());
+                    escalate(saga, step, stepName(step) + " 단계 시간 초과");
+                    save(saga);
+                } else {
+                    dispatch(saga);
+                }
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 상태를 저장하고, 그사이 다른 인스턴스가 가져간 saga는 메모리에서 내림
+     */
+    void flush() {
+        for (Long orderId : stateWriter.flush(leaseUntil())) {
+            if (sagas.remove(orderId) != null) {
+                log.warn("[OrderSaga] 다른 인스턴스가 가져간 saga를 내려놓습니다 - orderId: {}", orderId);
+            }
+        }
+    }
+
+    /**
+     * 리스가 만료된 미종료 saga를 batch-size개씩 가져옴
+     *
+     * @return 새로 가져온 saga 수
+     */
+    int claim() {
+        int claimed = 0;
+        while (true) {
+            LocalDateTime now = now();
+            List<OrderSagaRecord> records = sagaStore.claim(properties.instanceId(), now,
+                    now.plus(properties.leaseTimeout()), properties.batchSize());
+            for (OrderSagaRecord record : records) {
+                if (sagas.putIfAbsent(record.orderId(), OrderSaga.restore(record)) == null) {
+                    claimed++;
+                }
+            }
+            if (records.size() < properties.batchSize()) {
+                return claimed;
+            }
+        }
+    }
+
+    /**
+     * 소유 리스를 연장하고 만료된 다른 인스턴스의 saga를 가져옴
+     */
+    void maintainLease() {
+        sagaStore.renew(properties.instanceId(), leaseUntil());
+        int claimed = claim();
+        if (claimed > 0) {
+            log.info("[OrderSaga] 리스가 만료된 saga를 가져왔습니다 - claimed: {}", claimed);
+        }
+    }
+
+    /**
+     * 첫 저장 전에 유실된 saga 복구: 결제 대기 기간 안의 PENDING 주문 중 saga가 없는 주문의 saga를 새로 만듦
+     *
+     * @return 다시 만든 saga 수
+     */
+    int recover() {
+        LocalDateTime now = now();
+        OrderSearchCondition condition = new OrderSearchCondition(null, null, Set.of(OrderStatus.PENDING),
+                now.minus(properties.paymentTimeout()), now.minus(properties.recoveryDelay()), null, null);
+        int recovered = 0;
+        String cursor = null;
+        do {
+            CursorPage<Order> page = orderService.searchOrders(condition, cursor, RECOVERY_PAGE_SIZE);
+            Set<Long> existing = sagaStore.findExisting(page.content().stream().map(Order::getId).toList());
+            for (Order order : page.content()) {
+                if (existing.contains(order.getId())) {
+                    continue;
+                }
+                OrderSaga saga = OrderSaga.start(order.getId(), order.getUserId(), order.getShopId(),
+                        order.getTotalAmount(), now);
+                if (sagas.putIfAbsent(saga.getOrderId(), saga) == null) {
+                    synchronized (saga) {
+                        stateWriter.record(saga.toRecord());
+                        dispatch(saga);
+                    }
+                    recovered++;
+                }
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return recovered;
+    }
+
+    public OrderSaga find(Long orderId) {
+        return sagas.get(orderId);
+    }
+
+    public int getActiveCount() {
+        return sagas.size();
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private LocalDateTime leaseUntil() {
+        return now().plus(properties.leaseTimeout());
+    }
+
+    // ===== 생명주기 =====
+
+    @Override
+    public void start() {
+        int restored = claim();
+        int recovered = 0;
+        try {
+            recovered = recover();
+        } catch (RuntimeException e) {
+            log.warn("[OrderSaga] saga 없는 주문 복구 실패", e);
+        }
+        long leaseInterval = Math.max(1, properties.leaseTimeout().toMillis() / 3);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(daemon("order-saga-scheduler"));
+        executor.scheduleWithFixedDelay(() -> runSafely(this::tick, "tick"), properties.tickInterval().toMillis(),
+                properties.tickInterval().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::flush, properties.flushInterval().toMillis(),
+                properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(() -> runSafely(this::maintainLease, "리스 갱신"), leaseInterval, leaseInterval,
+                TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+        log.info("[OrderSaga] 시작 - instanceId: {}, restored: {}, recovered: {}, concurrency: {}, stepTimeout: {}, "
+                        + "paymentTimeout: {}", properties.instanceId(), restored, recovered, properties.concurrency(),
+                properties.stepTimeout(), properties.paymentTimeout());
+    }
+
+    private static void runSafely(Runnable task, String name) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("[OrderSaga] {} 실패", name, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = this.scheduler;
+        this.scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(properties.stepTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[OrderSaga] 종료 대기 시간 초과, 실행 중인 단계는 재시작 후 다시 실행됩니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("[OrderSaga] 종료 - active: {}", sagas.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        return new ThreadFactory() {
+            private int sequence;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + "-" + sequence++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
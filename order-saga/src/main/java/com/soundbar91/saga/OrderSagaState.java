@@ -0,0 +1,43 @@
+package com.soundbar91.saga;
+
+/**
+ * 주문 saga 상태
+ *
+ * PAYMENT_PENDING → AWAITING_PAYMENT → COMPLETED
+ * 결제 생성 실패, 결제 실패, 결제 대기 시간 초과 → COMPENSATING(주문 취소) → REFUND_PENDING → COMPENSATED
+ * 사용자의 주문 취소 → REFUND_PENDING → CANCELLED
+ */
+public enum OrderSagaState {
+    PAYMENT_PENDING("결제 생성 대기"),
+    AWAITING_PAYMENT("결제 결과 대기"),
+    COMPENSATING("주문 취소 대기"),
+    REFUND_PENDING("환불/결제 취소 대기"),
+    COMPLETED("완료"),
+    COMPENSATED("보상 완료"),
+    CANCELLED("취소 완료"),
+    FAILED("실패 (수동 처리 필요)");
+
+    private final String description;
+
+    OrderSagaState(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 더 이상 진행할 단계가 없는 상태
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == COMPENSATED || this == CANCELLED || this == FAILED;
+    }
+
+    /**
+     * 작업 스레드에서 실행할 단계가 있는 상태
+     */
+    public boolean hasStep() {
+        return this == PAYMENT_PENDING || this == COMPENSATING || this == REFUND_PENDING;
+    }
+}
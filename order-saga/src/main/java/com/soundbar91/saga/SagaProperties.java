@@ -0,0 +1,87 @@
+package com.soundbar91.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 주문 saga 오케스트레이터 설정 속성
+ * application.yml에서 'nuga.saga' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * nuga:
+ *   saga:
+ *     enabled: true
+ *     concurrency: 8              # 동시에 실행하는 단계 수 (작업 스레드 수)
+ *     queue-capacity: 1000        # 대기 단계 상한, 넘치면 다음 tick에 다시 시도
+ *     step-timeout: 5s            # 단계(결제 생성, 주문 취소, 환불) 1회 실행 제한 시간
+ *     payment-timeout: 30m        # 결제 결과를 기다리는 시간, 넘으면 주문 취소로 보상
+ *     max-attempts: 3             # 단계 재시도 횟수 상한
+ *     tick-interval: 1s           # 타임아웃 검사와 대기 단계 재실행 주기
+ *     flush-interval: 50ms        # saga 상태 일괄 저장 주기
+ *     batch-size: 200             # 한 번에 저장하는 saga 상태 수
+ *     instance-id: api-1          # saga 소유 인스턴스 식별자 (기본값: 기동마다 새 UUID)
+ *     lease-timeout: 30s          # 소유 리스 시간, 갱신되지 않으면 다른 인스턴스가 saga를 가져감
+ *     recovery-delay: 1m          # 기동 시 이 시간보다 오래되었는데 saga가 없는 PENDING 주문의 saga를 다시 만듦
+ */
+@ConfigurationProperties(prefix = "nuga.saga")
+public record SagaProperties(
+        boolean enabled,
+        int concurrency,
+        int queueCapacity,
+        Duration stepTimeout,
+        Duration paymentTimeout,
+        int maxAttempts,
+        Duration tickInterval,
+        Duration flushInterval,
+        int batchSize,
+        String instanceId,
+        Duration leaseTimeout,
+        Duration recoveryDelay
+) {
+
+    public SagaProperties {
+        if (concurrency <= 0) {
+            concurrency = 8;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 1000;
+        }
+        if (stepTimeout == null || stepTimeout.isNegative() || stepTimeout.isZero()) {
+            stepTimeout = Duration.ofSeconds(5);
+        }
+        if (paymentTimeout == null || paymentTimeout.isNegative() || paymentTimeout.isZero()) {
+            paymentTimeout = Duration.ofMinutes(30);
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (tickInterval == null || tickInterval.isNegative() || tickInterval.isZero()) {
+            tickInterval = Duration.ofSeconds(1);
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            flushInterval = Duration.ofMillis(50);
+        }
+        if (batchSize <= 0) {
+            batchSize = 200;
+        }
+        if (instanceId == null || instanceId.isBlank()) {
+            instanceId = UUID.randomUUID().toString();
+        }
+        if (leaseTimeout == null || leaseTimeout.isNegative() || leaseTimeout.isZero()) {
+            leaseTimeout = Duration.ofSeconds(30);
+        }
+        if (recoveryDelay == null || recoveryDelay.isNegative() || recoveryDelay.isZero()) {
+            recoveryDelay = Duration.ofMinutes(1);
+        }
+        if (leaseTimeout.compareTo(stepTimeout) <= 0) {
+            throw new IllegalArgumentException("nuga.saga.lease-timeout은 step-timeout보다 길어야 합니다: "
+                    + leaseTimeout + " <= " + stepTimeout);
+        }
+        if (recoveryDelay.compareTo(paymentTimeout) >= 0) {
+            throw new IllegalArgumentException("nuga.saga.recovery-delay는 payment-timeout보다 짧아야 합니다: "
+                    + recoveryDelay + " >= " + paymentTimeout);
+        }
+    }
+}
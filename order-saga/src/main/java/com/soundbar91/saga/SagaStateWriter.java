@@ -0,0 +1,81 @@
+package com.soundbar91.saga;
+
+import com.soundbar91.saga.store.OrderSagaRecord;
+import com.soundbar91.saga.store.SagaStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * saga 상태 변경을 모아 일괄 저장
+ *
+ * 상태가 바뀔 때마다 저장하지 않고 saga별 마지막 상태만 남겨 두었다가 flush-interval마다 batch-size 단위로 저장합니다.
+ * 짧은 간격에 여러 번 바뀐 saga는 마지막 상태 한 번만 저장됩니다.
+ * 저장에 실패한 상태는 그 사이 더 새로운 상태가 없을 때만 다시 대기열에 넣어 다음 주기에 재시도합니다.
+ * 저장할 때마다 이 인스턴스(owner)의 리스를 연장하며, 다른 인스턴스가 가져간 saga는 저장하지 않고 주문 ID를 돌려줍니다.
+ */
+public class SagaStateWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaStateWriter.class);
+
+    private final SagaStore sagaStore;
+    private final String owner;
+    private final int batchSize;
+    private final ConcurrentHashMap<Long, OrderSagaRecord> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public SagaStateWriter(SagaStore sagaStore, String owner, int batchSize) {
+        this.sagaStore = sagaStore;
+        this.owner = owner;
+        this.batchSize = batchSize;
+    }
+
+    public void record(OrderSagaRecord record) {
+        pending.put(record.orderId(), record);
+    }
+
+    /**
+     * 모아 둔 상태 저장
+     *
+     * @return 다른 인스턴스가 가져가 저장하지 못한 saga의 주문 ID
+     */
+    public Set<Long> flush(LocalDateTime leaseUntil) {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return Set.of();
+            }
+            List<OrderSagaRecord> drained = new ArrayList<>(pending.size());
+            for (Long orderId : pending.keySet()) {
+                OrderSagaRecord record = pending.remove(orderId);
+                if (record != null) {
+                    drained.add(record);
+                }
+            }
+
+            Set<Long> lost = new HashSet<>();
+            int flushed = 0;
+            try {
+                while (flushed < drained.size()) {
+                    List<OrderSagaRecord> batch = drained.subList(flushed, Math.min(flushed + batchSize, drained.size()));
+                    lost.addAll(sagaStore.saveAll(owner, leaseUntil, batch));
+                    flushed += batch.size();
+                }
+            } catch (RuntimeException e) {
+                drained.subList(flushed, drained.size()).forEach(record -> pending.putIfAbsent(record.orderId(), record));
+                log.warn("[OrderSaga] 상태 저장 실패, 다음 주기에 재시도 - flushed: {}, retained: {}",
+                        flushed, drained.size() - flushed, e);
+            }
+            return lost;
+        }
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+}
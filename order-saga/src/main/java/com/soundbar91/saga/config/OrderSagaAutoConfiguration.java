@@ -0,0 +1,43 @@
+package com.soundbar91.saga.config;
+
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.saga.OrderSagaOrchestrator;
+import com.soundbar91.saga.SagaProperties;
+import com.soundbar91.saga.store.JdbcSagaStore;
+import com.soundbar91.saga.store.SagaStore;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 주문 saga 자동 설정
+ * nuga.saga.enabled=true 일 때만 등록되며, 이때 payment-service의 동기 OrderEventListener는 등록되지 않습니다.
+ * saga 상태는 기본 DataSource의 order_sagas 테이블(db/migration/V3_7__create_order_sagas.sql)에 저장합니다.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "nuga.saga", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SagaProperties.class)
+public class OrderSagaAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SagaStore sagaStore(DataSource dataSource) {
+        return new JdbcSagaStore(new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OrderSagaOrchestrator orderSagaOrchestrator(OrderService orderService, PaymentService paymentService,
+                                                       SagaStore sagaStore, SagaProperties properties) {
+        return new OrderSagaOrchestrator(orderService, paymentService, sagaStore, properties);
+    }
+}
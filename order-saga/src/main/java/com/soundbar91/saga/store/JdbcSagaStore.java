@@ -0,0 +1,187 @@
+package com.soundbar91.saga.store;
+
+import com.soundbar91.saga.OrderSagaState;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC saga 상태 저장소 (order_sagas 테이블)
+ * 테이블은 db/migration/V3_7__create_order_sagas.sql 로 생성합니다.
+ *
+ * 저장은 한 트랜잭션에서 owner가 가진 행을 배치 UPDATE 하고, 갱신되지 않은 행 중 아직 없는 행만 배치 INSERT 합니다.
+ * 이미 있는데 갱신되지 않은 행은 다른 인스턴스가 가져간 saga이므로 저장하지 않고 돌려줍니다.
+ * 확인과 INSERT 사이에 다른 인스턴스가 같은 행을 추가하면 트랜잭션 전체가 실패하고, 다음 저장 때 다시 판정합니다.
+ * 가져오기(claim)는 SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스와 같은 행을 동시에 가져가지 않습니다.
+ * 단계 실행 전 소유 확인(hold)은 owner 조건의 단건 UPDATE로 리스를 연장하므로, 가져가기와 동시에 실행되어도 한쪽만 성공합니다.
+ * 배치 결과로 갱신 행 수를 돌려주는 드라이버(PostgreSQL, H2)를 전제로 합니다.
+ */
+public class JdbcSagaStore implements SagaStore {
+
+    private static final String ACTIVE_STATES = Arrays.stream(OrderSagaState.values())
+            .filter(state -> !state.isTerminal())
+            .map(state -> "'" + state.name() + "'")
+            .collect(Collectors.joining(", ", "(", ")"));
+
+    private static final String COLUMNS = "order_id, user_id, shop_id, amount, state, attempts, deadline, "
+            + "failure_reason, updated_at";
+
+    private static final String UPDATE_SQL = "UPDATE order_sagas SET user_id = ?, shop_id = ?, amount = ?, "
+            + "state = ?, attempts = ?, deadline = ?, failure_reason = ?, updated_at = ?, owner_id = ?, lease_until = ? "
+            + "WHERE order_id = ? AND owner_id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO order_sagas "
+            + "(user_id, shop_id, amount, state, attempts, deadline, failure_reason, updated_at, owner_id, lease_until, "
+            + "order_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_CLAIMABLE = "SELECT " + COLUMNS + " FROM order_sagas "
+            + "WHERE state IN " + ACTIVE_STATES + " AND (owner_id IS NULL OR lease_until IS NULL OR lease_until < ?) "
+            + "ORDER BY order_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL = "UPDATE order_sagas SET owner_id = ?, lease_until = ? WHERE order_id = ?";
+
+    private static final String HOLD_SQL = "UPDATE order_sagas SET lease_until = ? WHERE order_id = ? AND owner_id = ?";
+
+    private static final String RENEW_SQL = "UPDATE order_sagas SET lease_until = ? "
+            + "WHERE owner_id = ? AND state IN " + ACTIVE_STATES;
+
+    private static final RowMapper<OrderSagaRecord> RECORD_MAPPER = (rs, rowNum) -> new OrderSagaRecord(
+            rs.getLong("order_id"),
+            rs.getObject("user_id", Long.class),
+            rs.getObject("shop_id", Long.class),
+            rs.getBigDecimal("amount"),
+            OrderSagaState.valueOf(rs.getString("state")),
+            rs.getInt("attempts"),
+            toDateTime(rs.getTimestamp("deadline")),
+            rs.getString("failure_reason"),
+            toDateTime(rs.getTimestamp("updated_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcSagaStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Set<Long> saveAll(String owner, LocalDateTime leaseUntil, Collection<OrderSagaRecord> records) {
+        if (records.isEmpty()) {
+            return Set.of();
+        }
+        List<OrderSagaRecord> batch = List.copyOf(records);
+        return transactionTemplate.execute(status -> {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (statement, record) -> {
+                bind(statement, record, owner, leaseUntil);
+                statement.setString(12, owner);
+            });
+
+            List<OrderSagaRecord> missing = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (updated[0][i] == 0) {
+                    missing.add(batch.get(i));
+                }
+            }
+            if (missing.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> taken = findExisting(missing.stream().map(OrderSagaRecord::orderId).toList());
+            List<OrderSagaRecord> inserts = missing.stream()
+                    .filter(record -> !taken.contains(record.orderId()))
+                    .toList();
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(),
+                        (statement, record) -> bind(statement, record, owner, leaseUntil));
+            }
+            return taken;
+        });
+    }
+
+    @Override
+    public List<OrderSagaRecord> claim(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        return transactionTemplate.execute(status -> {
+            List<OrderSagaRecord> claimed = jdbcTemplate.query(SELECT_CLAIMABLE, RECORD_MAPPER,
+                    Timestamp.valueOf(now), limit);
+            if (!claimed.isEmpty()) {
+                jdbcTemplate.batchUpdate(CLAIM_SQL, claimed, claimed.size(), (statement, record) -> {
+                    statement.setString(1, owner);
+                    statement.setTimestamp(2, Timestamp.valueOf(leaseUntil));
+                    statement.setLong(3, record.orderId());
+                });
+            }
+            return claimed;
+        });
+    }
+
+    @Override
+    public boolean hold(long orderId, String owner, LocalDateTime leaseUntil) {
+        // claim은 행을 잠근 뒤 owner를 바꾸므로, 이 UPDATE와 claim 중 하나만 먼저 반영됨
+        if (jdbcTemplate.update(HOLD_SQL, Timestamp.valueOf(leaseUntil), orderId, owner) > 0) {
+            return true;
+        }
+        return findExisting(List.of(orderId)).isEmpty();
+    }
+
+    @Override
+    public int renew(String owner, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(leaseUntil), owner);
+    }
+
+    @Override
+    public Set<Long> findExisting(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT order_id FROM order_sagas WHERE order_id IN ("
+                + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, orderIds.toArray()));
+    }
+
+    /**
+     * UPDATE와 INSERT의 앞 11개 파라미터 순서를 같게 두어 한 바인더로 처리 (order_id가 11번째)
+     */
+    private static void bind(PreparedStatement statement, OrderSagaRecord record, String owner,
+                             LocalDateTime leaseUntil) throws SQLException {
+        setNullableLong(statement, 1, record.userId());
+        setNullableLong(statement, 2, record.shopId());
+        statement.setBigDecimal(3, record.amount());
+        statement.setString(4, record.state().name());
+        statement.setInt(5, record.attempts());
+        statement.setTimestamp(6, toTimestamp(record.deadline()));
+        statement.setString(7, record.failureReason());
+        statement.setTimestamp(8, toTimestamp(record.updatedAt()));
+        statement.setString(9, owner);
+        statement.setTimestamp(10, toTimestamp(leaseUntil));
+        statement.setLong(11, record.orderId());
+    }
+
+    private static void setNullableLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    private static LocalDateTime toDateTime(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
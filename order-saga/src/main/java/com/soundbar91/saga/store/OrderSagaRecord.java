@@ -0,0 +1,24 @@
+package com.soundbar91.saga.store;
+
+import com.soundbar91.saga.OrderSagaState;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 기록하는 주문 saga 상태 (주문 ID당 1행)
+ *
+ * @param deadline 현재 단계 또는 결제 대기의 제한 시각 (없으면 null)
+ */
+public record OrderSagaRecord(
+        Long orderId,
+        Long userId,
+        Long shopId,
+        BigDecimal amount,
+        OrderSagaState state,
+        int attempts,
+        LocalDateTime deadline,
+        String failureReason,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,46 @@
+package com.soundbar91.saga.store;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 saga 상태 저장소
+ *
+ * 여러 인스턴스가 같은 저장소를 쓰므로 saga마다 소유 인스턴스(owner)와 리스 만료 시각을 둡니다.
+ * 소유 인스턴스만 상태를 갱신하며, 리스가 만료된 saga는 claim으로 다른 인스턴스가 가져갑니다.
+ */
+public interface SagaStore {
+
+    /**
+     * 상태를 한 번에 저장 (owner가 가진 행은 갱신하며 리스 연장, 없으면 owner 소유로 추가)
+     *
+     * @return 다른 인스턴스가 가져가 저장하지 못한 saga의 주문 ID
+     */
+    Set<Long> saveAll(String owner, LocalDateTime leaseUntil, Collection<OrderSagaRecord> records);
+
+    /**
+     * 소유자가 없거나 리스가 만료된 미종료 saga를 최대 limit개 owner 소유로 가져옴
+     * 다른 인스턴스가 동시에 가져가는 중인 행은 기다리지 않고 건너뜁니다.
+     */
+    List<OrderSagaRecord> claim(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * 단계 실행 전 소유 확인: owner가 가진 saga이면 리스를 연장하고 true
+     * 아직 저장되지 않은 saga는 다른 인스턴스가 가져갈 수 없으므로 true, 다른 인스턴스가 가져간 saga이면 false를 돌려줍니다.
+     */
+    boolean hold(long orderId, String owner, LocalDateTime leaseUntil);
+
+    /**
+     * owner가 가진 미종료 saga의 리스 연장
+     *
+     * @return 연장한 saga 수
+     */
+    int renew(String owner, LocalDateTime leaseUntil);
+
+    /**
+     * 주어진 주문 중 saga가 있는 주문 ID (종료된 saga 포함)
+     */
+    Set<Long> findExisting(Collection<Long> orderIds);
+}
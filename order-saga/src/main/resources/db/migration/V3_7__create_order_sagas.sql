@@ -0,0 +1,20 @@
+-- 주문 saga 상태 (OrderSagaOrchestrator, JdbcSagaStore)
+-- owner_id/lease_until: saga를 진행 중인 인스턴스와 리스 만료 시각. 만료된 saga는 다른 인스턴스가 가져가 이어서 진행합니다.
+
+CREATE TABLE IF NOT EXISTS order_sagas (
+    order_id       BIGINT         NOT NULL,
+    user_id        BIGINT,
+    shop_id        BIGINT,
+    amount         NUMERIC(10, 2),
+    state          VARCHAR(20)    NOT NULL,
+    attempts       INTEGER        NOT NULL,
+    deadline       TIMESTAMP,
+    failure_reason VARCHAR(500),
+    updated_at     TIMESTAMP      NOT NULL,
+    owner_id       VARCHAR(100),
+    lease_until    TIMESTAMP,
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_sagas_state ON order_sagas (state);
+CREATE INDEX IF NOT EXISTS idx_order_sagas_owner_id ON order_sagas (owner_id);
@@ -0,0 +1,600 @@
+package com.soundbar91.saga;
+
+import com.soundbar91.common.dto.CursorPage;
+import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.PaymentFailedEvent;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.saga.store.OrderSagaRecord;
+import com.soundbar91.saga.store.SagaStore;
+import com.soundbar91.test.fixture.OrderFixture;
+import com.soundbar91.test.fixture.PaymentFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSagaOrchestrator 단위 테스트")
+class OrderSagaOrchestratorTest {
+
+    private static final Long ORDER_ID = 1L;
+
+    /**
+     * 제출한 단계를 runAll() 호출 시 호출 스레드에서 순서대로 실행
+     */
+    static class QueuedExecutor extends AbstractExecutorService {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.copyOf(tasks);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-03-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * JdbcSagaStore와 같은 소유/리스 규칙을 따르는 메모리 저장소
+     */
+    static class RecordingSagaStore implements SagaStore {
+
+        private final Map<Long, OrderSagaRecord> records = new HashMap<>();
+        private final Map<Long, String> owners = new HashMap<>();
+        private final Map<Long, LocalDateTime> leases = new HashMap<>();
+
+        @Override
+        public Set<Long> saveAll(String owner, LocalDateTime leaseUntil, Collection<OrderSagaRecord> batch) {
+            Set<Long> taken = new HashSet<>();
+            for (OrderSagaRecord record : batch) {
+                String current = owners.get(record.orderId());
+                if (current != null && !current.equals(owner)) {
+                    taken.add(record.orderId());
+                    continue;
+                }
+                records.put(record.orderId(), record);
+                owners.put(record.orderId(), owner);
+                leases.put(record.orderId(), leaseUntil);
+            }
+            return taken;
+        }
+
+        @Override
+        public List<OrderSagaRecord> claim(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+            List<OrderSagaRecord> claimed = records.values().stream()
+                    .filter(record -> !record.state().isTerminal())
+                    .filter(record -> leases.get(record.orderId()).isBefore(now))
+                    .limit(limit)
+                    .toList();
+            claimed.forEach(record -> {
+                owners.put(record.orderId(), owner);
+                leases.put(record.orderId(), leaseUntil);
+            });
+            return claimed;
+        }
+
+        @Override
+        public boolean hold(long orderId, String owner, LocalDateTime leaseUntil) {
+            if (owner.equals(owners.get(orderId))) {
+                leases.put(orderId, leaseUntil);
+                return true;
+            }
+            return !records.containsKey(orderId);
+        }
+
+        @Override
+        public int renew(String owner, LocalDateTime leaseUntil) {
+            int renewed = 0;
+            for (Long orderId : records.keySet()) {
+                if (owner.equals(owners.get(orderId)) && !records.get(orderId).state().isTerminal()) {
+                    leases.put(orderId, leaseUntil);
+                    renewed++;
+                }
+            }
+            return renewed;
+        }
+
+        @Override
+        public Set<Long> findExisting(Collection<Long> orderIds) {
+            Set<Long> existing = new HashSet<>(orderIds);
+            existing.retainAll(records.keySet());
+            return existing;
+        }
+    }
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    private final QueuedExecutor workers = new QueuedExecutor();
+    private final MutableClock clock = new MutableClock();
+    private final RecordingSagaStore sagaStore = new RecordingSagaStore();
+    private final SagaProperties properties = properties("api-1");
+
+    private OrderSagaOrchestrator orchestrator;
+
+    private static SagaProperties properties(String instanceId) {
+        return new SagaProperties(true, 2, 10, Duration.ofSeconds(5), Duration.ofMinutes(30), 3, Duration.ofSeconds(1),
+                Duration.ofMillis(50), 200, instanceId, Duration.ofSeconds(30), Duration.ofMinutes(1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new OrderSagaOrchestrator(orderService, paymentService, sagaStore, properties, workers, clock);
+    }
+
+    private void orderCreated() {
+        orchestrator.onOrderCreated(new OrderCreatedEvent(ORDER_ID, 10L, 42L, "테스트 상품", new BigDecimal("30000")));
+    }
+
+    private void withoutPayment() {
+        given(paymentService.getPaymentByOrderId(ORDER_ID)).willThrow(new NotFoundException("결제를 찾을 수 없습니다."));
+    }
+
+    private OrderSagaRecord stored() {
+        orchestrator.flush();
+        return sagaStore.records.get(ORDER_ID);
+    }
+
+    @Nested
+    @DisplayName("정상 흐름")
+    class HappyPath {
+
+        @Test
+        @DisplayName("주문이 생성되면 결제를 만들고 결제 완료 시 COMPLETED로 끝난다")
+        void onOrderCreated_ThenPaymentCompleted_Completes() {
+            // given
+            withoutPayment();
+            orderCreated();
+
+            // when
+            workers.runAll();
+            OrderSagaState awaiting = orchestrator.find(ORDER_ID).getState();
+            orchestrator.onPaymentCompleted(new PaymentCompletedEvent(100L, ORDER_ID, 10L, 42L,
+                    PaymentMethod.CREDIT_CARD, new BigDecimal("30000"), "tx-1"));
+
+            // then
+            then(paymentService).should().createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"),
+                    PaymentMethod.CREDIT_CARD);
+            assertThat(awaiting).isEqualTo(OrderSagaState.AWAITING_PAYMENT);
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("이미 결제가 있으면 다시 만들지 않는다")
+        void runStep_WithExistingPayment_SkipsCreate() {
+            // given
+            given(paymentService.getPaymentByOrderId(ORDER_ID)).willReturn(PaymentFixture.createDefault());
+            orderCreated();
+
+            // when
+            workers.runAll();
+
+            // then
+            then(paymentService).should(never()).createPayment(anyLong(), anyLong(), anyLong(), any(), any());
+            assertThat(orchestrator.find(ORDER_ID).getState()).isEqualTo(OrderSagaState.AWAITING_PAYMENT);
+        }
+
+        @Test
+        @DisplayName("saga 없이 취소된 주문은 결제를 환불하고 CANCELLED로 끝난다")
+        void onOrderCancelled_WithoutSaga_Refunds() {
+            // when
+            orchestrator.onOrderCancelled(new OrderCancelledEvent(ORDER_ID, 10L, 42L));
+            workers.runAll();
+
+            // then
+            then(paymentService).should().refundPaymentByOrderId(ORDER_ID);
+            assertThat(stored().state()).isEqualTo(OrderSagaState.CANCELLED);
+        }
+    }
+
+    @Nested
+    @DisplayName("보상")
+    class Compensation {
+
+        @Test
+        @DisplayName("결제가 실패하면 주문을 취소하고 결제를 환불한 뒤 COMPENSATED로 끝난다")
+        void onPaymentFailed_CancelsOrderAndRefunds() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createDefault());
+            orderCreated();
+            workers.runAll();
+
+            // when
+            orchestrator.onPaymentFailed(new PaymentFailedEvent(100L, ORDER_ID, 10L, new BigDecimal("30000"), "한도 초과"));
+            workers.runAll();
+
+            // then
+            then(orderService).should().cancelOrder(ORDER_ID);
+            then(paymentService).should().refundPaymentByOrderId(ORDER_ID);
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPENSATED);
+            assertThat(stored().failureReason()).isEqualTo("결제 실패: 한도 초과");
+        }
+
+        @Test
+        @DisplayName("결제 결과 전에 결제가 취소되면 주문을 취소하고 COMPENSATED로 끝난다")
+        void onPaymentCancelled_CancelsOrder() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createDefault());
+            orderCreated();
+            workers.runAll();
+
+            // when
+            orchestrator.onPaymentCancelled(new PaymentCancelledEvent(100L, ORDER_ID, 10L, new BigDecimal("30000"),
+                    "결제 대기 시간 초과"));
+            workers.runAll();
+
+            // then
+            then(orderService).should().cancelOrder(ORDER_ID);
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPENSATED);
+            assertThat(stored().failureReason()).isEqualTo("결제 취소: 결제 대기 시간 초과");
+        }
+
+        @Test
+        @DisplayName("결제 결과가 제한 시간 안에 오지 않으면 주문을 취소한다")
+        void tick_WhenPaymentTimedOut_Compensates() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createDefault());
+            orderCreated();
+            workers.runAll();
+
+            // when
+            clock.advance(Duration.ofMinutes(31));
+            orchestrator.tick();
+            workers.runAll();
+
+            // then
+            then(orderService).should().cancelOrder(ORDER_ID);
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPENSATED);
+            assertThat(stored().failureReason()).isEqualTo("결제 대기 시간 초과");
+        }
+
+        @Test
+        @DisplayName("결제 대기 시간이 지나도 DB의 결제가 완료되어 있으면 보상하지 않고 COMPLETED로 끝낸다")
+        void tick_WhenPaymentTimedOutButCompleted_Completes() {
+            // given
+            Payment completed = mock(Payment.class);
+            given(completed.getStatus()).willReturn(PaymentStatus.COMPLETED);
+            given(paymentService.getPaymentByOrderId(ORDER_ID))
+                    .willThrow(new NotFoundException("결제를 찾을 수 없습니다."))
+                    .willReturn(completed);
+            orderCreated();
+            workers.runAll();
+
+            // when
+            clock.advance(Duration.ofMinutes(31));
+            orchestrator.tick();
+            workers.runAll();
+
+            // then
+            then(orderService).should(never()).cancelOrder(anyLong());
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("결제 생성이 제한 시간을 넘기면 늦게 온 결과를 버리고 주문을 취소한다")
+        void tick_WhenStepTimedOut_IgnoresLateResult() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createDefault());
+            willAnswer(invocation -> {
+                clock.advance(Duration.ofSeconds(6));
+                orchestrator.tick();
+                return PaymentFixture.createDefault();
+            }).given(paymentService).createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            orderCreated();
+
+            // when
+            workers.runAll();
+
+            // then
+            then(orderService).should().cancelOrder(ORDER_ID);
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPENSATED);
+            assertThat(stored().failureReason()).isEqualTo("결제 생성 단계 시간 초과");
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도")
+    class Retry {
+
+        @Test
+        @DisplayName("일시적인 실패는 다음 tick에 다시 시도한다")
+        void runStep_WithTransientFailure_RetriesOnNextTick() {
+            // given
+            withoutPayment();
+            given(paymentService.createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD))
+                    .willThrow(new RuntimeException("일시 장애"))
+                    .willReturn(PaymentFixture.createDefault());
+            orderCreated();
+
+            // when
+            workers.runAll();
+            OrderSagaState afterFailure = orchestrator.find(ORDER_ID).getState();
+            orchestrator.tick();
+            workers.runAll();
+
+            // then
+            assertThat(afterFailure).isEqualTo(OrderSagaState.PAYMENT_PENDING);
+            assertThat(orchestrator.find(ORDER_ID).getState()).isEqualTo(OrderSagaState.AWAITING_PAYMENT);
+            assertThat(orchestrator.find(ORDER_ID).getFailureReason()).isNull();
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 다 쓰면 주문 취소로 보상한다")
+        void runStep_WhenAttemptsExhausted_Compensates() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createDefault());
+            given(paymentService.createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD))
+                    .willThrow(new RuntimeException("일시 장애"));
+            orderCreated();
+
+            // when
+            workers.runAll();
+            orchestrator.tick();
+            workers.runAll();
+            orchestrator.tick();
+            workers.runAll();
+
+            // then
+            then(paymentService).should(times(3)).createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"),
+                    PaymentMethod.CREDIT_CARD);
+            then(orderService).should().cancelOrder(ORDER_ID);
+            assertThat(stored().state()).isEqualTo(OrderSagaState.COMPENSATED);
+            assertThat(stored().failureReason()).isEqualTo("결제 생성 단계 실패: 일시 장애");
+        }
+
+        @Test
+        @DisplayName("보상 단계가 업무 규칙에 막히면 재시도 없이 FAILED로 남긴다")
+        void runStep_WhenCompensationRejected_Fails() {
+            // given
+            withoutPayment();
+            given(orderService.getOrderById(ORDER_ID)).willReturn(OrderFixture.createShippedOrder());
+            given(orderService.cancelOrder(ORDER_ID)).willThrow(new IllegalStateException("배송 중인 주문은 취소할 수 없습니다."));
+            orderCreated();
+            workers.runAll();
+
+            // when
+            orchestrator.onPaymentFailed(new PaymentFailedEvent(100L, ORDER_ID, 10L, new BigDecimal("30000"), "한도 초과"));
+            workers.runAll();
+
+            // then
+            then(orderService).should(times(1)).cancelOrder(ORDER_ID);
+            then(paymentService).should(never()).refundPaymentByOrderId(ORDER_ID);
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(stored().state()).isEqualTo(OrderSagaState.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 인스턴스")
+    class Ownership {
+
+        private void withoutOrphanOrders() {
+            given(orderService.searchOrders(any(), any(), any())).willReturn(new CursorPage<>(List.of(), 100, null, false));
+        }
+
+        @Test
+        @DisplayName("리스가 만료된 다른 인스턴스의 saga를 가져와 이어서 진행한다")
+        void start_ClaimsSagasWithExpiredLease() {
+            // given
+            withoutPayment();
+            withoutOrphanOrders();
+            orderCreated();
+            orchestrator.flush();
+            workers.tasks.clear();
+            OrderSagaOrchestrator other = new OrderSagaOrchestrator(orderService, paymentService, sagaStore,
+                    properties("api-2"), workers, clock);
+
+            // when
+            clock.advance(Duration.ofSeconds(31));
+            other.start();
+            other.tick();
+            workers.runAll();
+            other.stop();
+
+            // then
+            then(paymentService).should().createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            assertThat(other.find(ORDER_ID).getState()).isEqualTo(OrderSagaState.AWAITING_PAYMENT);
+            assertThat(sagaStore.owners.get(ORDER_ID)).isEqualTo("api-2");
+        }
+
+        @Test
+        @DisplayName("리스를 연장하고 있는 saga는 다른 인스턴스가 가져가지 않는다")
+        void start_SkipsSagasWithLiveLease() {
+            // given
+            withoutOrphanOrders();
+            orderCreated();
+            orchestrator.flush();
+            OrderSagaOrchestrator other = new OrderSagaOrchestrator(orderService, paymentService, sagaStore,
+                    properties("api-2"), workers, clock);
+
+            // when
+            clock.advance(Duration.ofSeconds(20));
+            orchestrator.maintainLease();
+            clock.advance(Duration.ofSeconds(20));
+            other.start();
+            other.stop();
+
+            // then
+            assertThat(other.find(ORDER_ID)).isNull();
+            assertThat(sagaStore.owners.get(ORDER_ID)).isEqualTo("api-1");
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 가져간 saga는 저장할 때 메모리에서 내리고 더 진행하지 않는다")
+        void flush_WithSagaTakenByOtherInstance_DropsSaga() {
+            // given
+            withoutPayment();
+            orderCreated();
+            workers.runAll();
+            sagaStore.owners.put(ORDER_ID, "api-2");
+
+            // when
+            orchestrator.flush();
+
+            // then
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(sagaStore.records).doesNotContainKey(ORDER_ID);
+        }
+
+        @Test
+        @DisplayName("멈춘 사이 다른 인스턴스가 가져간 saga는 단계를 실행하지 않아 결제를 중복으로 만들지 않는다")
+        void runStep_WithSagaTakenWhilePaused_SkipsStep() {
+            // given
+            orderCreated();
+            orchestrator.flush();
+            sagaStore.owners.put(ORDER_ID, "api-2");
+
+            // when
+            workers.runAll();
+
+            // then
+            then(paymentService).should(never()).createPayment(any(), any(), any(), any(), any());
+            assertThat(orchestrator.find(ORDER_ID)).isNull();
+            assertThat(sagaStore.records.get(ORDER_ID).state()).isEqualTo(OrderSagaState.PAYMENT_PENDING);
+        }
+
+        @Test
+        @DisplayName("단계를 실행하기 전에 소유 리스를 연장한다")
+        void runStep_ExtendsLeaseBeforeStep() {
+            // given
+            withoutPayment();
+            orderCreated();
+            orchestrator.flush();
+            clock.advance(Duration.ofSeconds(20));
+
+            // when
+            workers.runAll();
+
+            // then
+            assertThat(sagaStore.leases.get(ORDER_ID)).isEqualTo(LocalDateTime.now(clock).plusSeconds(30));
+        }
+
+        @Test
+        @DisplayName("기동 시 saga 없이 남은 PENDING 주문의 saga를 다시 만든다")
+        void start_RecoversPendingOrdersWithoutSaga() {
+            // given
+            withoutPayment();
+            Order orphan = OrderFixture.create().withId(ORDER_ID).withUserId(10L).withShopId(42L)
+                    .withTotalAmount(new BigDecimal("30000")).build();
+            Order tracked = OrderFixture.create().withId(2L).build();
+            sagaStore.saveAll("api-2", LocalDateTime.now(clock).plusSeconds(30), List.of(new OrderSagaRecord(2L, 10L, 42L,
+                    new BigDecimal("30000"), OrderSagaState.AWAITING_PAYMENT, 0, null, null, LocalDateTime.now(clock))));
+            given(orderService.searchOrders(any(), any(), any()))
+                    .willReturn(new CursorPage<>(List.of(orphan, tracked), 100, null, false));
+
+            // when
+            orchestrator.start();
+            workers.runAll();
+            orchestrator.stop();
+
+            // then
+            then(paymentService).should().createPayment(ORDER_ID, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            assertThat(orchestrator.find(2L)).isNull();
+            assertThat(sagaStore.owners.get(ORDER_ID)).isEqualTo("api-1");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.soundbar91.saga;
+
+import com.soundbar91.saga.store.OrderSagaRecord;
+import com.soundbar91.saga.store.SagaStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SagaStateWriter 테스트")
+class SagaStateWriterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    static class FlakySagaStore implements SagaStore {
+
+        private final List<List<OrderSagaRecord>> batches = new ArrayList<>();
+        private final Set<Long> taken = new HashSet<>();
+        private boolean failing;
+
+        @Override
+        public Set<Long> saveAll(String owner, LocalDateTime leaseUntil, Collection<OrderSagaRecord> records) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            batches.add(List.copyOf(records));
+            return records.stream().map(OrderSagaRecord::orderId).filter(taken::contains).collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<OrderSagaRecord> claim(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean hold(long orderId, String owner, LocalDateTime leaseUntil) {
+            return !taken.contains(orderId);
+        }
+
+        @Override
+        public int renew(String owner, LocalDateTime leaseUntil) {
+            return 0;
+        }
+
+        @Override
+        public Set<Long> findExisting(Collection<Long> orderIds) {
+            return Set.of();
+        }
+    }
+
+    private static OrderSagaRecord record(long orderId, OrderSagaState state) {
+        return new OrderSagaRecord(orderId, 10L, 42L, new BigDecimal("30000"), state, 0, null, null, NOW);
+    }
+
+    @Test
+    @DisplayName("같은 saga의 상태 변경은 마지막 상태 하나로 모아 batch-size 단위로 저장한다")
+    void flush_CoalescesPerSagaAndBatches() {
+        // given
+        FlakySagaStore store = new FlakySagaStore();
+        SagaStateWriter writer = new SagaStateWriter(store, "api-1", 2);
+        writer.record(record(1L, OrderSagaState.PAYMENT_PENDING));
+        writer.record(record(1L, OrderSagaState.AWAITING_PAYMENT));
+        writer.record(record(2L, OrderSagaState.PAYMENT_PENDING));
+        writer.record(record(3L, OrderSagaState.PAYMENT_PENDING));
+
+        // when
+        writer.flush(NOW.plusSeconds(30));
+
+        // then
+        assertThat(store.batches).hasSize(2);
+        assertThat(store.batches.stream().flatMap(List::stream))
+                .hasSize(3)
+                .filteredOn(record -> record.orderId() == 1L)
+                .extracting(OrderSagaRecord::state)
+                .containsExactly(OrderSagaState.AWAITING_PAYMENT);
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 보관했다가 다음 주기에 저장하되, 그사이 바뀐 최신 상태를 덮어쓰지 않는다")
+    void flush_WhenStoreFails_RetainsWithoutOverwritingNewerState() {
+        // given
+        FlakySagaStore store = new FlakySagaStore();
+        SagaStateWriter writer = new SagaStateWriter(store, "api-1", 200);
+        writer.record(record(1L, OrderSagaState.PAYMENT_PENDING));
+        store.failing = true;
+        writer.flush(NOW.plusSeconds(30));
+
+        // when
+        writer.record(record(1L, OrderSagaState.AWAITING_PAYMENT));
+        store.failing = false;
+        writer.flush(NOW.plusSeconds(30));
+
+        // then
+        assertThat(store.batches).hasSize(1);
+        assertThat(store.batches.get(0)).extracting(OrderSagaRecord::state)
+                .containsExactly(OrderSagaState.AWAITING_PAYMENT);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 가져간 saga는 주문 ID를 돌려주고 다시 저장하지 않는다")
+    void flush_WithSagaTakenByOtherInstance_ReturnsLostIds() {
+        // given
+        FlakySagaStore store = new FlakySagaStore();
+        store.taken.add(2L);
+        SagaStateWriter writer = new SagaStateWriter(store, "api-1", 200);
+        writer.record(record(1L, OrderSagaState.AWAITING_PAYMENT));
+        writer.record(record(2L, OrderSagaState.AWAITING_PAYMENT));
+
+        // when
+        Set<Long> lost = writer.flush(NOW.plusSeconds(30));
+
+        // then
+        assertThat(lost).containsExactly(2L);
+        assertThat(writer.getPendingCount()).isZero();
+    }
+}
@@ -1,7 +1,9 @@
 package com.soundbar91.payment.api.controller;
 
+import com.soundbar91.common.projection.FieldSelection;
 import com.soundbar91.payment.api.dto.response.PaymentResponse;
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.vo.PaymentField;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
 import com.soundbar91.payment.service.PaymentService;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,8 @@ import java.util.List;
 
 /**
  * 결제 API 컨트롤러
+ *
+ * 목록 조회는 fields 파라미터(예: fields=id,amount,status)로 필요한 필드만 조회·응답할 수 있습니다.
  */
 @RestController
 @RequestMapping("/api/v2/payments")
@@ -44,7 +48,11 @@ public class PaymentController {
      * 사용자별 결제 내역 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PaymentResponse>> getPaymentsByUserId(@PathVariable Long userId) {
+    public ResponseEntity<List<?>> getPaymentsByUserId(@PathVariable Long userId,
+                                                       @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(paymentService.getPaymentsByUserId(userId, FieldSelection.parse(PaymentField.class, fields)));
+        }
         List<PaymentResponse> payments = paymentService.getPaymentsByUserId(userId).stream()
                 .map(PaymentResponse::from)
                 .toList();
@@ -55,7 +63,11 @@ public class PaymentController {
      * 상태별 결제 조회
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<PaymentResponse>> getPaymentsByStatus(@PathVariable PaymentStatus status) {
+    public ResponseEntity<List<?>> getPaymentsByStatus(@PathVariable PaymentStatus status,
+                                                       @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(paymentService.getPaymentsByStatus(status, FieldSelection.parse(PaymentField.class, fields)));
+        }
         List<PaymentResponse> payments = paymentService.getPaymentsByStatus(status).stream()
                 .map(PaymentResponse::from)
                 .toList();
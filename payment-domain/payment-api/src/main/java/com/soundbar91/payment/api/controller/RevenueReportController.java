@@ -0,0 +1,44 @@
+package com.soundbar91.payment.api.controller;
+
+import com.soundbar91.payment.api.dto.response.RevenueSummaryResponse;
+import com.soundbar91.payment.service.RevenueReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매출 리포트 API 컨트롤러
+ *
+ * 예: GET /api/v2/payments/revenue?from=2025-01-01&to=2025-03-31&shopId=42
+ * 기간은 양 끝 날짜를 포함하며, shopId를 생략하면 모든 상점을 상점 x 결제 수단별로 반환합니다.
+ */
+@RestController
+@RequestMapping("/api/v2/payments/revenue")
+public class RevenueReportController {
+
+    private final RevenueReportService revenueReportService;
+
+    public RevenueReportController(RevenueReportService revenueReportService) {
+        this.revenueReportService = revenueReportService;
+    }
+
+    /**
+     * 기간 매출 합계 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<RevenueSummaryResponse>> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long shopId) {
+        List<RevenueSummaryResponse> revenue = revenueReportService.getRevenue(shopId, from, to).stream()
+                .map(RevenueSummaryResponse::from)
+                .toList();
+        return ResponseEntity.ok(revenue);
+    }
+}
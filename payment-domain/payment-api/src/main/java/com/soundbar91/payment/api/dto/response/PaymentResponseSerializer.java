@@ -0,0 +1,56 @@
+package com.soundbar91.payment.api.dto.response;
+
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.soundbar91.web.json.JsonFields.*;
+
+/**
+ * PaymentResponse 스트리밍 직렬화기 (리플렉션 기반 BeanSerializer 대체)
+ */
+@JacksonComponent
+public class PaymentResponseSerializer extends StdSerializer<PaymentResponse> {
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString ORDER_ID = name("orderId");
+    private static final SerializedString USER_ID = name("userId");
+    private static final SerializedString AMOUNT = name("amount");
+    private static final SerializedString PAYMENT_METHOD = name("paymentMethod");
+    private static final SerializedString STATUS = name("status");
+    private static final SerializedString TRANSACTION_ID = name("transactionId");
+    private static final SerializedString FAILURE_REASON = name("failureReason");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+    private static final SerializedString COMPLETED_AT = name("completedAt");
+    private static final SerializedString REFUNDED_AT = name("refundedAt");
+
+    private static final SerializedString[] METHODS = enumNames(PaymentMethod.class);
+    private static final SerializedString[] STATUSES = enumNames(PaymentStatus.class);
+
+    public PaymentResponseSerializer() {
+        super(PaymentResponse.class);
+    }
+
+    @Override
+    public void serialize(PaymentResponse value, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.id());
+        writeLong(gen, ORDER_ID, value.orderId());
+        writeLong(gen, USER_ID, value.userId());
+        writeDecimal(gen, AMOUNT, value.amount());
+        writeEnum(gen, PAYMENT_METHOD, METHODS, value.paymentMethod());
+        writeEnum(gen, STATUS, STATUSES, value.status());
+        writeString(gen, TRANSACTION_ID, value.transactionId());
+        writeString(gen, FAILURE_REASON, value.failureReason());
+        writeDateTime(gen, CREATED_AT, value.createdAt());
+        writeDateTime(gen, UPDATED_AT, value.updatedAt());
+        writeDateTime(gen, COMPLETED_AT, value.completedAt());
+        writeDateTime(gen, REFUNDED_AT, value.refundedAt());
+        gen.writeEndObject();
+    }
+}
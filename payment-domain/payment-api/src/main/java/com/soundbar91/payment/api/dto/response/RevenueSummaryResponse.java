@@ -0,0 +1,31 @@
+package com.soundbar91.payment.api.dto.response;
+
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+
+import java.math.BigDecimal;
+
+/**
+ * 기간 매출 합계 응답 DTO
+ */
+public record RevenueSummaryResponse(
+        Long shopId,
+        PaymentMethod paymentMethod,
+        long paymentCount,
+        BigDecimal grossAmount,
+        long refundCount,
+        BigDecimal refundAmount,
+        BigDecimal netAmount
+) {
+    public static RevenueSummaryResponse from(RevenueSummary summary) {
+        return new RevenueSummaryResponse(
+                summary.shopId(),
+                summary.paymentMethod(),
+                summary.paymentCount(),
+                summary.grossAmount(),
+                summary.refundCount(),
+                summary.refundAmount(),
+                summary.netAmount()
+        );
+    }
+}
@@ -1,9 +1,15 @@
 package com.soundbar91.payment.api.controller;
 
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.vo.PaymentField;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
 import com.soundbar91.payment.service.PaymentService;
+import com.soundbar91.payment.service.RevenueReportService;
 import com.soundbar91.test.fixture.PaymentFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,8 +28,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,6 +62,9 @@ class PaymentControllerTest {
     @MockitoBean
     private PaymentService paymentService;
 
+    @MockitoBean
+    private RevenueReportService revenueReportService;
+
     @Nested
     @DisplayName("GET /api/v2/payments/{id}")
     class GetPayment {
@@ -134,6 +146,26 @@ class PaymentControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(2));
         }
+
+        @Test
+        @DisplayName("fields 파라미터를 지정하면 id와 선택한 필드만 반환한다")
+        void getPaymentsByUserId_WithFields_ReturnsSelectedFieldsOnly() throws Exception {
+            // given
+            Long userId = 1L;
+            FieldSelection<PaymentField> fields = FieldSelection.parse(PaymentField.class, "amount,status");
+            List<ProjectedRow> rows = fields.toRows(List.<Object[]>of(
+                    new Object[]{20L, new BigDecimal("15000.00"), PaymentStatus.COMPLETED}));
+
+            given(paymentService.getPaymentsByUserId(eq(userId), any(FieldSelection.class))).willReturn(rows);
+
+            // when & then
+            mockMvc.perform(get("/api/v2/payments/user/{userId}", userId).param("fields", "amount,status"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(20))
+                    .andExpect(jsonPath("$[0].amount").value(15000.00))
+                    .andExpect(jsonPath("$[0].status").value("COMPLETED"))
+                    .andExpect(jsonPath("$[0].transactionId").doesNotExist());
+        }
     }
 
     @Nested
@@ -228,4 +260,30 @@ class PaymentControllerTest {
                     .andExpect(jsonPath("$.status").value("CANCELLED"));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v2/payments/revenue")
+    class GetRevenue {
+
+        @Test
+        @DisplayName("기간 매출을 상점 x 결제 수단별 합계와 순매출로 반환한다")
+        void getRevenue_ReturnsSummaries() throws Exception {
+            // given
+            LocalDate from = LocalDate.of(2025, 1, 1);
+            LocalDate to = LocalDate.of(2025, 1, 31);
+            given(revenueReportService.getRevenue(42L, from, to)).willReturn(List.of(new RevenueSummary(
+                    42L, PaymentMethod.CREDIT_CARD, 3L, BigDecimal.valueOf(30000), 1L, BigDecimal.valueOf(10000))));
+
+            // when & then
+            mockMvc.perform(get("/api/v2/payments/revenue")
+                            .param("from", "2025-01-01")
+                            .param("to", "2025-01-31")
+                            .param("shopId", "42"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].shopId").value(42))
+                    .andExpect(jsonPath("$[0].paymentMethod").value("CREDIT_CARD"))
+                    .andExpect(jsonPath("$[0].paymentCount").value(3))
+                    .andExpect(jsonPath("$[0].netAmount").value(20000));
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.soundbar91.payment.api.dto.response;
+
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentResponseSerializer 테스트")
+class PaymentResponseSerializerTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(PaymentResponse.class, new PaymentResponseSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("기본 Jackson 직렬화와 같은 JSON을 생성한다")
+    void serialize_MatchesReflectiveOutput() {
+        // given
+        PaymentResponse response = new PaymentResponse(1L, 2L, 3L, new BigDecimal("1E+3"), PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED,
+                "TX-1", null, LocalDateTime.of(2026, 1, 2, 3, 4, 5, 1), LocalDateTime.of(2026, 1, 2, 3, 4),
+                LocalDateTime.of(2026, 1, 2, 3, 5), null);
+
+        // when
+        String json = streaming.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflective.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("null 필드도 기본 직렬화와 같이 null로 기록한다")
+    void serialize_WithNullFields_MatchesReflectiveOutput() {
+        // given
+        PaymentResponse response = new PaymentResponse(1L, null, null, null, null, null, null, null, null, null, null, null);
+
+        // when
+        JsonNode tree = streaming.readTree(streaming.writeValueAsString(response));
+
+        // then
+        assertThat(tree).isEqualTo(reflective.readTree(reflective.writeValueAsString(response)));
+    }
+}
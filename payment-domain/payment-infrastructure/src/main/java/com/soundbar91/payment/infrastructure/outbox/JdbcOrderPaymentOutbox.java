@@ -0,0 +1,106 @@
+package com.soundbar91.payment.infrastructure.outbox;
+
+import com.soundbar91.payment.service.listener.OrderPaymentOutbox;
+import com.soundbar91.payment.service.listener.OrderPaymentTask;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC 주문 결제 아웃박스 (order_payment_outbox 테이블)
+ * 테이블은 db/migration/V3_10__create_order_payment_outbox.sql 로 생성합니다.
+ *
+ * 주문 트랜잭션 매니저의 DataSource를 쓰므로 주문 JPA 트랜잭션과 같은 커넥션에서 실행됩니다.
+ * 잠금(lock, lockDue)은 SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스가 처리 중인 행을 건너뜁니다.
+ */
+public class JdbcOrderPaymentOutbox implements OrderPaymentOutbox {
+
+    private static final String INSERT_SQL = "INSERT INTO order_payment_outbox "
+            + "(type, order_id, user_id, shop_id, amount, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String LOCK_SQL = "SELECT id FROM order_payment_outbox WHERE id = ? FOR UPDATE SKIP LOCKED";
+
+    private static final String SELECT_DUE = "SELECT id, type, order_id, user_id, shop_id, amount, attempts "
+            + "FROM order_payment_outbox WHERE next_attempt_at <= ? "
+            + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String RESCHEDULE_SQL = "UPDATE order_payment_outbox "
+            + "SET attempts = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM order_payment_outbox WHERE id = ?";
+
+    private static final String DISCARD_SQL = "DELETE FROM order_payment_outbox WHERE order_id = ? AND type = ?";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final RowMapper<OrderPaymentTask> TASK_MAPPER = (rs, rowNum) -> new OrderPaymentTask(
+            rs.getLong("id"),
+            OrderPaymentTask.Type.valueOf(rs.getString("type")),
+            rs.getLong("order_id"),
+            rs.getObject("user_id", Long.class),
+            rs.getObject("shop_id", Long.class),
+            rs.getBigDecimal("amount"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderPaymentOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long add(OrderPaymentTask task, LocalDateTime nextAttemptAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            ps.setString(1, task.type().name());
+            ps.setLong(2, task.orderId());
+            ps.setObject(3, task.userId());
+            ps.setObject(4, task.shopId());
+            ps.setBigDecimal(5, task.amount());
+            ps.setTimestamp(6, Timestamp.valueOf(nextAttemptAt));
+            ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Long.class);
+    }
+
+    @Override
+    public boolean lock(long id) {
+        return !jdbcTemplate.queryForList(LOCK_SQL, Long.class, id).isEmpty();
+    }
+
+    @Override
+    public List<OrderPaymentTask> lockDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(SELECT_DUE, TASK_MAPPER, Timestamp.valueOf(now), limit);
+    }
+
+    @Override
+    public void reschedule(long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update(RESCHEDULE_SQL, attempts, Timestamp.valueOf(nextAttemptAt), truncate(error), id);
+    }
+
+    @Override
+    public void remove(long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    @Override
+    public void discard(long orderId, OrderPaymentTask.Type type) {
+        jdbcTemplate.update(DISCARD_SQL, orderId, type.name());
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
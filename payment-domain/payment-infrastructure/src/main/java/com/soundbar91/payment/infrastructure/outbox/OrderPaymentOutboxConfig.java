@@ -0,0 +1,30 @@
+package com.soundbar91.payment.infrastructure.outbox;
+
+import com.soundbar91.order.service.OrderService;
+import com.soundbar91.payment.service.listener.OrderPaymentOutbox;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주문 결제 아웃박스 설정
+ * OrderEventListener와 같은 조건(nuga.saga.enabled=false 또는 미설정)에서만 등록되며, 재시도 스케줄링을 켭니다.
+ *
+ * 아웃박스 행이 주문과 함께 커밋되어야 하므로 주문 트랜잭션 매니저의 DataSource를 사용합니다.
+ * (공용 풀이면 기본 DataSource, datasource.domains.order.isolated=true 이면 Order 전용 DataSource)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "nuga.saga", name = "enabled", havingValue = "false", matchIfMissing = true)
+@EnableScheduling
+public class OrderPaymentOutboxConfig {
+
+    @Bean
+    public OrderPaymentOutbox orderPaymentOutbox(
+            @Qualifier(OrderService.TRANSACTION_MANAGER) JpaTransactionManager orderTransactionManager) {
+        return new JdbcOrderPaymentOutbox(new JdbcTemplate(orderTransactionManager.getDataSource()));
+    }
+}
@@ -1,20 +1,110 @@
 package com.soundbar91.payment.infrastructure.repository;
 
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA Repository
  */
-public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
+public interface PaymentJpaRepository extends JpaRepository<Payment, Long>, PaymentJpaRepositoryCustom {
+
+    String SKIP_LOCKED_HINT = "jakarta.persistence.lock.timeout";
+    String SKIP_LOCKED = "-2";
 
     Optional<Payment> findByOrderId(Long orderId);
 
+    List<Payment> findAllByOrderIdOrderByIdAsc(Long orderId);
+
     List<Payment> findByUserId(Long userId);
 
     List<Payment> findByStatus(PaymentStatus status);
+
+    @Query("SELECT p FROM Payment p WHERE p.createdAt >= :from AND p.createdAt < :to")
+    List<Payment> findAllInPeriod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT p FROM Payment p WHERE p.userId = :userId AND p.createdAt >= :from AND p.createdAt < :to")
+    List<Payment> findByUserIdInPeriod(@Param("userId") Long userId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt >= :from AND p.createdAt < :to")
+    List<Payment> findByStatusInPeriod(@Param("status") PaymentStatus status,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    /**
+     * 정산 대사용 결제 요약 조회 ((orderId, id) 기준 keyset 페이지, idx_payments_order_id_id 범위 스캔)
+     * orderId >= afterOrderId 조건은 행 값 비교와 같은 결과지만 인덱스 시작 위치를 플래너에 알려줍니다.
+     */
+    @Query("SELECT new com.soundbar91.payment.domain.vo.PaymentSettlement(p.orderId, p.id, p.status, p.amount) "
+            + "FROM Payment p "
+            + "WHERE p.orderId >= :afterOrderId AND (p.orderId, p.id) > (:afterOrderId, :afterPaymentId) "
+            + "AND p.orderId <= :toOrderId "
+            + "ORDER BY p.orderId, p.id")
+    List<PaymentSettlement> findSettlements(@Param("afterOrderId") Long afterOrderId,
+                                            @Param("afterPaymentId") Long afterPaymentId,
+                                            @Param("toOrderId") Long toOrderId,
+                                            Pageable pageable);
+
+    @Query("SELECT MIN(p.orderId) FROM Payment p")
+    Long findMinOrderId();
+
+    @Query("SELECT MAX(p.orderId) FROM Payment p")
+    Long findMaxOrderId();
+
+    /**
+     * 이벤트 재생용 결제 조회 (id 기준 keyset 페이지)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.id > :afterId ORDER BY p.id")
+    List<Payment> findAllAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 만료 대상 결제를 잠가 조회 (idx_payments_status_created_at 범위 스캔, FOR UPDATE SKIP LOCKED)
+     * lock.timeout -2는 Hibernate에서 SKIP LOCKED를 뜻하며, 처리 중인 결제는 기다리지 않고 다음 실행으로 넘깁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt < :cutoff ORDER BY p.createdAt, p.id")
+    List<Payment> lockFirstStale(@Param("status") PaymentStatus status,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt < :cutoff "
+            + "AND (p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId)) "
+            + "ORDER BY p.createdAt, p.id")
+    List<Payment> lockStaleAfter(@Param("status") PaymentStatus status,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    /**
+     * 조회 이후 상태가 바뀐 결제는 건드리지 않도록 상태와 생성 시각을 다시 확인하며 일괄 변경
+     * (createdAt 조건은 created_at 파티션 중 cutoff 이전 파티션만 보도록 하는 역할도 함)
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :to, p.updatedAt = :now "
+            + "WHERE p.id IN :ids AND p.status = :from AND p.createdAt < :cutoff")
+    int updateStatusIfStale(@Param("ids") Collection<Long> ids,
+                            @Param("from") PaymentStatus from,
+                            @Param("to") PaymentStatus to,
+                            @Param("cutoff") LocalDateTime cutoff,
+                            @Param("now") LocalDateTime now);
 }
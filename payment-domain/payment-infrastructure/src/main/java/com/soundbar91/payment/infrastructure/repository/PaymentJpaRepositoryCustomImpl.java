@@ -0,0 +1,26 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.datasource.projection.ProjectionQuery;
+import com.soundbar91.payment.domain.entity.Payment;
+import org.springframework.data.jpa.repository.JpaContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PaymentJpaRepositoryCustom 구현체
+ * 도메인 격리 시에도 Payment를 관리하는 EntityManager를 사용하도록 JpaContext로 조회합니다.
+ */
+public class PaymentJpaRepositoryCustomImpl implements PaymentJpaRepositoryCustom {
+
+    private final ProjectionQuery<Payment> projectionQuery;
+
+    public PaymentJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.projectionQuery = new ProjectionQuery<>(Payment.class, jpaContext.getEntityManagerByManagedType(Payment.class));
+    }
+
+    @Override
+    public List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities) {
+        return projectionQuery.select(attributes, equalities);
+    }
+}
@@ -1,11 +1,19 @@
 package com.soundbar91.payment.infrastructure.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.payment.domain.entity.Payment;
 import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.payment.domain.vo.PaymentField;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -41,6 +49,11 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByOrderId(orderId);
     }
 
+    @Override
+    public List<Payment> findAllByOrderId(Long orderId) {
+        return paymentJpaRepository.findAllByOrderIdOrderByIdAsc(orderId);
+    }
+
     @Override
     public List<Payment> findByUserId(Long userId) {
         return paymentJpaRepository.findByUserId(userId);
@@ -51,6 +64,69 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByStatus(status);
     }
 
+    @Override
+    public List<Payment> findAllInPeriod(LocalDateTime from, LocalDateTime to) {
+        return paymentJpaRepository.findAllInPeriod(from, to);
+    }
+
+    @Override
+    public List<Payment> findByUserIdInPeriod(Long userId, LocalDateTime from, LocalDateTime to) {
+        return paymentJpaRepository.findByUserIdInPeriod(userId, from, to);
+    }
+
+    @Override
+    public List<Payment> findByStatusInPeriod(PaymentStatus status, LocalDateTime from, LocalDateTime to) {
+        return paymentJpaRepository.findByStatusInPeriod(status, from, to);
+    }
+
+    @Override
+    public List<ProjectedRow> findByUserIdProjected(Long userId, FieldSelection<PaymentField> fields) {
+        return fields.toRows(paymentJpaRepository.findProjected(fields.attributes(), Map.of("userId", userId)));
+    }
+
+    @Override
+    public List<ProjectedRow> findByStatusProjected(PaymentStatus status, FieldSelection<PaymentField> fields) {
+        return fields.toRows(paymentJpaRepository.findProjected(fields.attributes(), Map.of("status", status)));
+    }
+
+    @Override
+    public List<PaymentSettlement> findSettlements(long afterOrderId, long afterPaymentId, long toOrderId, int limit) {
+        return paymentJpaRepository.findSettlements(afterOrderId, afterPaymentId, toOrderId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public Optional<Long> findMinOrderId() {
+        return Optional.ofNullable(paymentJpaRepository.findMinOrderId());
+    }
+
+    @Override
+    public Optional<Long> findMaxOrderId() {
+        return Optional.ofNullable(paymentJpaRepository.findMaxOrderId());
+    }
+
+    @Override
+    public List<Payment> findAllAfterId(long afterId, int limit) {
+        return paymentJpaRepository.findAllAfterId(afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public List<Payment> lockStalePending(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId, int limit) {
+        if (afterCreatedAt == null) {
+            return paymentJpaRepository.lockFirstStale(PaymentStatus.PENDING, cutoff, PageRequest.ofSize(limit));
+        }
+        return paymentJpaRepository.lockStaleAfter(PaymentStatus.PENDING, cutoff, afterCreatedAt, afterId,
+                PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int cancelPending(Collection<Long> ids, LocalDateTime cutoff, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return paymentJpaRepository.updateStatusIfStale(ids, PaymentStatus.PENDING, PaymentStatus.CANCELLED,
+                cutoff, now);
+    }
+
     @Override
     public void delete(Payment payment) {
         paymentJpaRepository.delete(payment);
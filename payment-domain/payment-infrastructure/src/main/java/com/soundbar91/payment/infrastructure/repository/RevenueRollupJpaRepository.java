@@ -0,0 +1,31 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.payment.domain.entity.RevenueRollup;
+import com.soundbar91.payment.domain.entity.RevenueRollupId;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository
+ */
+public interface RevenueRollupJpaRepository extends JpaRepository<RevenueRollup, RevenueRollupId>, RevenueRollupJpaRepositoryCustom {
+
+    @Query("SELECT new com.soundbar91.payment.domain.vo.RevenueSummary("
+            + "r.id.shopId, r.id.paymentMethod, SUM(r.paymentCount), SUM(r.grossAmount), SUM(r.refundCount), SUM(r.refundAmount)) "
+            + "FROM RevenueRollup r WHERE r.id.salesDate BETWEEN :from AND :to "
+            + "GROUP BY r.id.shopId, r.id.paymentMethod ORDER BY r.id.shopId, r.id.paymentMethod")
+    List<RevenueSummary> summarize(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.soundbar91.payment.domain.vo.RevenueSummary("
+            + "r.id.shopId, r.id.paymentMethod, SUM(r.paymentCount), SUM(r.grossAmount), SUM(r.refundCount), SUM(r.refundAmount)) "
+            + "FROM RevenueRollup r WHERE r.id.shopId = :shopId AND r.id.salesDate BETWEEN :from AND :to "
+            + "GROUP BY r.id.shopId, r.id.paymentMethod ORDER BY r.id.paymentMethod")
+    List<RevenueSummary> summarizeByShopId(@Param("shopId") Long shopId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
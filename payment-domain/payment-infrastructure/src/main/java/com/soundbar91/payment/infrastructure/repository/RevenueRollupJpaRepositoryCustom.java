@@ -0,0 +1,16 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+
+import java.util.Collection;
+
+/**
+ * RevenueRollupJpaRepository 사용자 정의 갱신 (Spring Data 프래그먼트)
+ */
+public interface RevenueRollupJpaRepositoryCustom {
+
+    /**
+     * 버킷별 증분 누적 (JDBC 배치 UPDATE 후 없는 버킷만 배치 INSERT)
+     */
+    void addAll(Collection<RevenueDelta> deltas);
+}
@@ -0,0 +1,97 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.payment.domain.entity.RevenueRollup;
+import com.soundbar91.payment.domain.vo.RevenueBucket;
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.JpaContext;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RevenueRollupJpaRepositoryCustom 구현체
+ *
+ * 증분 누적은 엔티티를 읽지 않고 "col = col + ?" 배치 UPDATE로 처리하고, 갱신되지 않은 버킷만 INSERT 합니다.
+ * 다른 인스턴스가 같은 버킷을 먼저 INSERT 하면 키 중복으로 트랜잭션이 실패하며, 호출자가 증분을 보관했다가 재시도하면
+ * 다음에는 UPDATE로 반영됩니다. 배치 결과로 갱신 행 수를 돌려주는 드라이버(PostgreSQL, H2)를 전제로 합니다.
+ * 도메인 격리 시에도 RevenueRollup을 관리하는 EntityManager의 커넥션을 사용하도록 JpaContext로 조회합니다.
+ */
+public class RevenueRollupJpaRepositoryCustomImpl implements RevenueRollupJpaRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE payment_revenue_rollups SET "
+            + "payment_count = payment_count + ?, gross_amount = gross_amount + ?, "
+            + "refund_count = refund_count + ?, refund_amount = refund_amount + ?, updated_at = ? "
+            + "WHERE shop_id = ? AND sales_date = ? AND payment_method = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO payment_revenue_rollups "
+            + "(shop_id, sales_date, payment_method, payment_count, gross_amount, refund_count, refund_amount, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+
+    public RevenueRollupJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.entityManager = jpaContext.getEntityManagerByManagedType(RevenueRollup.class);
+    }
+
+    @Override
+    public void addAll(Collection<RevenueDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> apply(connection, List.copyOf(deltas)));
+    }
+
+    private static void apply(Connection connection, List<RevenueDelta> deltas) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<RevenueDelta> missing = new ArrayList<>();
+
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            for (RevenueDelta delta : deltas) {
+                update.setLong(1, delta.paymentCount());
+                update.setBigDecimal(2, delta.grossAmount());
+                update.setLong(3, delta.refundCount());
+                update.setBigDecimal(4, delta.refundAmount());
+                update.setTimestamp(5, now);
+                setBucket(update, 6, delta.bucket());
+                update.addBatch();
+            }
+            int[] updated = update.executeBatch();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    missing.add(deltas.get(i));
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (RevenueDelta delta : missing) {
+                setBucket(insert, 1, delta.bucket());
+                insert.setLong(4, delta.paymentCount());
+                insert.setBigDecimal(5, delta.grossAmount());
+                insert.setLong(6, delta.refundCount());
+                insert.setBigDecimal(7, delta.refundAmount());
+                insert.setTimestamp(8, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static void setBucket(PreparedStatement statement, int index, RevenueBucket bucket) throws SQLException {
+        statement.setLong(index, bucket.shopId());
+        statement.setDate(index + 1, Date.valueOf(bucket.salesDate()));
+        statement.setString(index + 2, bucket.paymentMethod().name());
+    }
+}
@@ -0,0 +1,39 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.payment.domain.repository.RevenueRollupRepository;
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RevenueRollupRepository 구현체
+ * JPA를 사용한 영속성 계층 구현
+ */
+@Repository
+public class RevenueRollupRepositoryImpl implements RevenueRollupRepository {
+
+    private final RevenueRollupJpaRepository revenueRollupJpaRepository;
+
+    public RevenueRollupRepositoryImpl(RevenueRollupJpaRepository revenueRollupJpaRepository) {
+        this.revenueRollupJpaRepository = revenueRollupJpaRepository;
+    }
+
+    @Override
+    public void addAll(Collection<RevenueDelta> deltas) {
+        revenueRollupJpaRepository.addAll(deltas);
+    }
+
+    @Override
+    public List<RevenueSummary> summarize(LocalDate from, LocalDate to) {
+        return revenueRollupJpaRepository.summarize(from, to);
+    }
+
+    @Override
+    public List<RevenueSummary> summarizeByShopId(Long shopId, LocalDate from, LocalDate to) {
+        return revenueRollupJpaRepository.summarizeByShopId(shopId, from, to);
+    }
+}
@@ -0,0 +1,19 @@
+-- payments 기준 스키마 (PostgreSQL)
+-- 기존 DB에는 이미 테이블이 있으므로 IF NOT EXISTS 로 건너뜁니다. (spring.flyway.baseline-on-migrate)
+-- 월 단위 파티션 전환은 V2_2__partition_payments.sql 에서 수행합니다.
+
+CREATE TABLE IF NOT EXISTS payments (
+    id             BIGINT         NOT NULL,
+    order_id       BIGINT         NOT NULL,
+    user_id        BIGINT         NOT NULL,
+    amount         NUMERIC(10, 2) NOT NULL,
+    payment_method VARCHAR(20)    NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    transaction_id VARCHAR(100),
+    failure_reason VARCHAR(500),
+    created_at     TIMESTAMP      NOT NULL,
+    updated_at     TIMESTAMP      NOT NULL,
+    completed_at   TIMESTAMP,
+    refunded_at    TIMESTAMP,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,7 @@
+-- payments 테이블을 created_at 월 단위 범위 파티션으로 전환합니다. (V2__create_partition_function.sql)
+-- 이후 월별 파티션은 MonthlyPartitionManager가 생성/분리합니다. (datasource.partitioning.enabled=true)
+
+SELECT nuga_partition_by_month('payments', 'created_at', 3);
+
+CREATE INDEX IF NOT EXISTS idx_payments_user_id_created_at ON payments (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_payments_status_created_at ON payments (status, created_at);
@@ -0,0 +1,20 @@
+-- 주문 결제 아웃박스 (PostgreSQL)
+-- 결제가 전용 풀로 분리된 경우 OrderEventListener가 주문 트랜잭션 안에서 결제 생성/환불 작업을 남기고,
+-- 주문 커밋 뒤 처리에 실패한 작업을 next_attempt_at 기준으로 재시도합니다. (JdbcOrderPaymentOutbox)
+-- 주문과 함께 커밋되어야 하므로 orders 테이블과 같은 데이터베이스에 있어야 합니다.
+
+CREATE TABLE IF NOT EXISTS order_payment_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type            VARCHAR(20)    NOT NULL,
+    order_id        BIGINT         NOT NULL,
+    user_id         BIGINT,
+    shop_id         BIGINT,
+    amount          NUMERIC(18, 2),
+    attempts        INT            NOT NULL,
+    next_attempt_at TIMESTAMP      NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_payment_outbox_next_attempt_at ON order_payment_outbox (next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_order_payment_outbox_order_id ON order_payment_outbox (order_id);
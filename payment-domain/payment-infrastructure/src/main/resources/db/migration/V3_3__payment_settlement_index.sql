@@ -0,0 +1,5 @@
+-- 정산 대사(OrderPaymentReconciler) 결제 keyset 스캔 인덱스
+-- (order_id, id) 행 값 비교와 ORDER BY order_id, id를 인덱스 순서대로 읽습니다.
+-- 파티션 테이블의 부모에 만들면 모든 파티션에 같은 인덱스가 생성됩니다.
+
+CREATE INDEX IF NOT EXISTS idx_payments_order_id_id ON payments (order_id, id);
@@ -0,0 +1,17 @@
+-- 매출 집계용 상점 ID (Payment.shopId)
+-- 도입 이전 결제는 주문의 shop_id로 채웁니다. 주문과 결제가 같은 DB에 있을 때만 채워지며,
+-- 도메인 DB를 분리한 경우(datasource.domains.*.isolated) 채우지 못한 결제는 매출 집계에서 shop_id 0으로 집계됩니다.
+
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS shop_id BIGINT;
+
+DO $$
+BEGIN
+    IF to_regclass('orders') IS NOT NULL THEN
+        UPDATE payments p
+        SET shop_id = o.shop_id
+        FROM orders o
+        WHERE o.id = p.order_id
+          AND p.shop_id IS NULL;
+    END IF;
+END
+$$;
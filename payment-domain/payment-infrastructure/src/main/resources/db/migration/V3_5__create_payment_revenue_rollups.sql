@@ -0,0 +1,43 @@
+-- 매출 집계 테이블 (PostgreSQL)
+-- 상점 x 일자 x 결제 수단 버킷이며, RevenueRollupAggregator가 결제 완료/환불 이벤트 증분을 주기적으로 더합니다.
+-- (payment.revenue-rollup.enabled=true, shop_id는 V3_4__add_payments_shop_id.sql에서 추가)
+
+CREATE TABLE IF NOT EXISTS payment_revenue_rollups (
+    shop_id        BIGINT         NOT NULL,
+    sales_date     DATE           NOT NULL,
+    payment_method VARCHAR(20)    NOT NULL,
+    payment_count  BIGINT         NOT NULL,
+    gross_amount   NUMERIC(18, 2) NOT NULL,
+    refund_count   BIGINT         NOT NULL,
+    refund_amount  NUMERIC(18, 2) NOT NULL,
+    updated_at     TIMESTAMP      NOT NULL,
+    PRIMARY KEY (shop_id, sales_date, payment_method)
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_revenue_rollups_sales_date ON payment_revenue_rollups (sales_date);
+
+-- 기존 결제 백필
+-- 완료 금액은 completed_at 일자, 환불 금액은 refunded_at 일자 버킷에 더하며(실시간 집계와 같은 기준),
+-- 상점 정보가 없는 결제는 shop_id 0으로 집계합니다.
+-- 집계를 나중에 켜는 경우 그 사이 결제가 빠지므로, 켜기 전에 TRUNCATE 후 아래 두 구문을 다시 실행합니다.
+INSERT INTO payment_revenue_rollups
+    (shop_id, sales_date, payment_method, payment_count, gross_amount, refund_count, refund_amount, updated_at)
+SELECT COALESCE(shop_id, 0), CAST(completed_at AS DATE), payment_method, COUNT(*), SUM(amount), 0, 0, now()
+FROM payments
+WHERE completed_at IS NOT NULL
+GROUP BY COALESCE(shop_id, 0), CAST(completed_at AS DATE), payment_method
+ON CONFLICT (shop_id, sales_date, payment_method) DO UPDATE SET
+    payment_count = payment_revenue_rollups.payment_count + EXCLUDED.payment_count,
+    gross_amount  = payment_revenue_rollups.gross_amount + EXCLUDED.gross_amount,
+    updated_at    = EXCLUDED.updated_at;
+
+INSERT INTO payment_revenue_rollups
+    (shop_id, sales_date, payment_method, payment_count, gross_amount, refund_count, refund_amount, updated_at)
+SELECT COALESCE(shop_id, 0), CAST(refunded_at AS DATE), payment_method, 0, 0, COUNT(*), SUM(amount), now()
+FROM payments
+WHERE refunded_at IS NOT NULL
+GROUP BY COALESCE(shop_id, 0), CAST(refunded_at AS DATE), payment_method
+ON CONFLICT (shop_id, sales_date, payment_method) DO UPDATE SET
+    refund_count  = payment_revenue_rollups.refund_count + EXCLUDED.refund_count,
+    refund_amount = payment_revenue_rollups.refund_amount + EXCLUDED.refund_amount,
+    updated_at    = EXCLUDED.updated_at;
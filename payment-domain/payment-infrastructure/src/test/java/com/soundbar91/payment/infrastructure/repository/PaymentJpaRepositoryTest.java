@@ -2,6 +2,7 @@ package com.soundbar91.payment.infrastructure.repository;
 
 import com.soundbar91.payment.domain.entity.Payment;
 import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,15 +11,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest(classes = PaymentJpaRepositoryTest.TestConfig.class)
 @ActiveProfiles("test")
@@ -115,6 +119,32 @@ class PaymentJpaRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findSettlements 메서드")
+    class FindSettlements {
+
+        @Test
+        @DisplayName("(orderId, id) 커서 이후의 결제를 toOrderId까지 순서대로 조회한다")
+        void findSettlements_AfterCursor_ReturnsNextRowsInKeyOrder() {
+            // given
+            Payment first = paymentJpaRepository.save(new Payment(100L, 1L, BigDecimal.valueOf(50000), PaymentMethod.CREDIT_CARD));
+            Payment second = paymentJpaRepository.save(new Payment(100L, 1L, BigDecimal.valueOf(50000), PaymentMethod.CREDIT_CARD));
+            Payment next = paymentJpaRepository.save(new Payment(200L, 1L, BigDecimal.valueOf(30000), PaymentMethod.CREDIT_CARD));
+            paymentJpaRepository.save(new Payment(300L, 1L, BigDecimal.valueOf(10000), PaymentMethod.CREDIT_CARD));
+            long cursorId = Math.min(first.getId(), second.getId());
+            long remainingId = Math.max(first.getId(), second.getId());
+
+            // when
+            List<PaymentSettlement> settlements =
+                    paymentJpaRepository.findSettlements(100L, cursorId, 250L, PageRequest.ofSize(10));
+
+            // then
+            assertThat(settlements)
+                    .extracting(PaymentSettlement::orderId, PaymentSettlement::paymentId)
+                    .containsExactly(tuple(100L, remainingId), tuple(200L, next.getId()));
+        }
+    }
+
     @Nested
     @DisplayName("findByUserId 메서드")
     class FindByUserId {
@@ -169,6 +199,45 @@ class PaymentJpaRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findByStatusInPeriod 메서드")
+    class FindByStatusInPeriod {
+
+        @Test
+        @DisplayName("기간 안에 생성된 특정 상태의 결제만 조회한다")
+        void findByStatusInPeriod_WithinPeriod_ReturnsPayments() {
+            // given
+            paymentJpaRepository.save(new Payment(1L, 1L, BigDecimal.valueOf(10000), PaymentMethod.CREDIT_CARD));
+            Payment processing = new Payment(2L, 1L, BigDecimal.valueOf(20000), PaymentMethod.CREDIT_CARD);
+            processing.process();
+            paymentJpaRepository.save(processing);
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            List<Payment> payments = paymentJpaRepository.findByStatusInPeriod(
+                    PaymentStatus.PENDING, now.minusHours(1), now.plusHours(1));
+
+            // then
+            assertThat(payments).hasSize(1);
+            assertThat(payments.get(0).getOrderId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("기간 밖에 생성된 결제는 조회되지 않는다")
+        void findByStatusInPeriod_OutsidePeriod_ReturnsEmpty() {
+            // given
+            paymentJpaRepository.save(new Payment(1L, 1L, BigDecimal.valueOf(10000), PaymentMethod.CREDIT_CARD));
+            LocalDateTime nextMonth = LocalDateTime.now().plusMonths(1);
+
+            // when
+            List<Payment> payments = paymentJpaRepository.findByStatusInPeriod(
+                    PaymentStatus.PENDING, nextMonth, nextMonth.plusDays(1));
+
+            // then
+            assertThat(payments).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("delete 메서드")
     class Delete {
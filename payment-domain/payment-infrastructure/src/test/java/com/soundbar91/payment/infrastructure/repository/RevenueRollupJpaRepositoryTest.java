@@ -0,0 +1,104 @@
+package com.soundbar91.payment.infrastructure.repository;
+
+import com.soundbar91.payment.domain.entity.RevenueRollup;
+import com.soundbar91.payment.domain.entity.RevenueRollupId;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.RevenueBucket;
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = RevenueRollupJpaRepositoryTest.TestConfig.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("RevenueRollupJpaRepository 테스트")
+class RevenueRollupJpaRepositoryTest {
+
+    private static final LocalDate SALES_DATE = LocalDate.of(2026, 1, 15);
+
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.soundbar91.payment.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.soundbar91.payment.infrastructure.repository")
+    static class TestConfig {}
+
+    @Autowired
+    private RevenueRollupJpaRepository revenueRollupJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static RevenueBucket bucket(long shopId, PaymentMethod method) {
+        return RevenueBucket.of(shopId, SALES_DATE, method);
+    }
+
+    private RevenueRollup find(long shopId, PaymentMethod method) {
+        entityManager.clear();
+        return revenueRollupJpaRepository.findById(new RevenueRollupId(shopId, SALES_DATE, method)).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("addAll 메서드")
+    class AddAll {
+
+        @Test
+        @DisplayName("없는 버킷은 새로 만들고 있는 버킷에는 증분을 더한다")
+        void addAll_InsertsMissingAndIncrementsExistingBuckets() {
+            // given
+            revenueRollupJpaRepository.addAll(List.of(
+                    RevenueDelta.payment(bucket(1L, PaymentMethod.CREDIT_CARD), BigDecimal.valueOf(10_000))));
+
+            // when
+            revenueRollupJpaRepository.addAll(List.of(
+                    RevenueDelta.payment(bucket(1L, PaymentMethod.CREDIT_CARD), BigDecimal.valueOf(5_000))
+                            .plus(RevenueDelta.refund(bucket(1L, PaymentMethod.CREDIT_CARD), BigDecimal.valueOf(10_000))),
+                    RevenueDelta.payment(bucket(2L, PaymentMethod.BANK_TRANSFER), BigDecimal.valueOf(7_000))));
+
+            // then
+            RevenueRollup existing = find(1L, PaymentMethod.CREDIT_CARD);
+            assertThat(existing.getPaymentCount()).isEqualTo(2);
+            assertThat(existing.getGrossAmount()).isEqualByComparingTo("15000");
+            assertThat(existing.getRefundCount()).isEqualTo(1);
+            assertThat(existing.getRefundAmount()).isEqualByComparingTo("10000");
+
+            RevenueRollup inserted = find(2L, PaymentMethod.BANK_TRANSFER);
+            assertThat(inserted.getPaymentCount()).isEqualTo(1);
+            assertThat(inserted.getGrossAmount()).isEqualByComparingTo("7000");
+            assertThat(inserted.getRefundCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("반영한 버킷은 기간 합계 조회에 포함된다")
+        void addAll_ThenSummarize_ReturnsBucketTotals() {
+            // given
+            revenueRollupJpaRepository.addAll(List.of(
+                    RevenueDelta.payment(bucket(1L, PaymentMethod.CREDIT_CARD), BigDecimal.valueOf(10_000)),
+                    RevenueDelta.payment(RevenueBucket.of(1L, SALES_DATE.plusDays(1), PaymentMethod.CREDIT_CARD),
+                            BigDecimal.valueOf(20_000))));
+            entityManager.clear();
+
+            // when
+            List<RevenueSummary> summaries = revenueRollupJpaRepository.summarizeByShopId(1L, SALES_DATE, SALES_DATE.plusDays(1));
+
+            // then
+            assertThat(summaries).hasSize(1);
+            assertThat(summaries.get(0).paymentCount()).isEqualTo(2);
+            assertThat(summaries.get(0).grossAmount()).isEqualByComparingTo("30000");
+        }
+    }
+}
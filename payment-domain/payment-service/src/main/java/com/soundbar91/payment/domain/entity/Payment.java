@@ -1,5 +1,6 @@
 package com.soundbar91.payment.domain.entity;
 
+import com.soundbar91.common.id.SnowflakeId;
 import com.soundbar91.payment.domain.vo.PaymentMethod;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
 import jakarta.persistence.*;
@@ -11,11 +12,14 @@ import java.util.UUID;
  * 결제 엔티티
  */
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_order_id_id", columnList = "orderId, id"),
+        @Index(name = "idx_payments_status_created_at", columnList = "status, createdAt")
+})
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -24,6 +28,11 @@ public class Payment {
     @Column(nullable = false)
     private Long userId;
 
+    /**
+     * 매출 집계용 상점 ID (도입 이전에 생성된 결제는 null)
+     */
+    private Long shopId;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
@@ -55,8 +64,13 @@ public class Payment {
     }
 
     public Payment(Long orderId, Long userId, BigDecimal amount, PaymentMethod paymentMethod) {
+        this(orderId, userId, null, amount, paymentMethod);
+    }
+
+    public Payment(Long orderId, Long userId, Long shopId, BigDecimal amount, PaymentMethod paymentMethod) {
         this.orderId = orderId;
         this.userId = userId;
+        this.shopId = shopId;
         this.amount = amount;
         this.paymentMethod = paymentMethod;
         this.status = PaymentStatus.PENDING;
@@ -125,6 +139,10 @@ public class Payment {
         return userId;
     }
 
+    public Long getShopId() {
+        return shopId;
+    }
+
     public BigDecimal getAmount() {
         return amount;
     }
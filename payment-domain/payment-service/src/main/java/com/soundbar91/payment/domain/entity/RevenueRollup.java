@@ -0,0 +1,64 @@
+package com.soundbar91.payment.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 엔티티 (상점 x 일자 x 결제 수단 버킷)
+ *
+ * 결제 완료/환불 이벤트의 증분을 모아 주기적으로 더하는 방식으로만 갱신되며(RevenueRollupRepository.addAll),
+ * 엔티티 자체는 조회와 스키마 정의에 사용합니다.
+ */
+@Entity
+@Table(name = "payment_revenue_rollups", indexes = {
+        @Index(name = "idx_payment_revenue_rollups_sales_date", columnList = "salesDate")
+})
+public class RevenueRollup {
+
+    @EmbeddedId
+    private RevenueRollupId id;
+
+    @Column(nullable = false)
+    private long paymentCount;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal grossAmount;
+
+    @Column(nullable = false)
+    private long refundCount;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal refundAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected RevenueRollup() {
+    }
+
+    public RevenueRollupId getId() {
+        return id;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public BigDecimal getGrossAmount() {
+        return grossAmount;
+    }
+
+    public long getRefundCount() {
+        return refundCount;
+    }
+
+    public BigDecimal getRefundAmount() {
+        return refundAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
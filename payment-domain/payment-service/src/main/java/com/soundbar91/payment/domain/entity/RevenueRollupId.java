@@ -0,0 +1,67 @@
+package com.soundbar91.payment.domain.entity;
+
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 매출 집계 버킷 식별자 (상점 x 일자 x 결제 수단)
+ */
+@Embeddable
+public class RevenueRollupId implements Serializable {
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentMethod paymentMethod;
+
+    protected RevenueRollupId() {
+    }
+
+    public RevenueRollupId(Long shopId, LocalDate salesDate, PaymentMethod paymentMethod) {
+        this.shopId = shopId;
+        this.salesDate = salesDate;
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RevenueRollupId other)) {
+            return false;
+        }
+        return Objects.equals(shopId, other.shopId)
+                && Objects.equals(salesDate, other.salesDate)
+                && paymentMethod == other.paymentMethod;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shopId, salesDate, paymentMethod);
+    }
+}
@@ -0,0 +1,71 @@
+package com.soundbar91.payment.domain.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 취소 이벤트 (처리되지 않은 결제를 만료 작업이 취소했을 때 발행)
+ * 도메인 간 느슨한 결합을 위한 이벤트 객체
+ */
+public class PaymentCancelledEvent {
+
+    private final Long paymentId;
+    private final Long orderId;
+    private final Long userId;
+    private final BigDecimal amount;
+    private final String reason;
+    private final LocalDateTime occurredAt;
+
+    public PaymentCancelledEvent(Long paymentId, Long orderId, Long userId, BigDecimal amount, String reason) {
+        this(paymentId, orderId, userId, amount, reason, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public PaymentCancelledEvent(Long paymentId, Long orderId, Long userId, BigDecimal amount, String reason,
+            LocalDateTime occurredAt) {
+        this.paymentId = paymentId;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.amount = amount;
+        this.reason = reason;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentCancelledEvent{" +
+                "paymentId=" + paymentId +
+                ", orderId=" + orderId +
+                ", userId=" + userId +
+                ", amount=" + amount +
+                ", reason='" + reason + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
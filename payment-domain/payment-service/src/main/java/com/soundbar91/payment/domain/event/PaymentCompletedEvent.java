@@ -1,5 +1,7 @@
 package com.soundbar91.payment.domain.event;
 
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -12,17 +14,30 @@ public class PaymentCompletedEvent {
     private final Long paymentId;
     private final Long orderId;
     private final Long userId;
+    private final Long shopId;
+    private final PaymentMethod paymentMethod;
     private final BigDecimal amount;
     private final String transactionId;
     private final LocalDateTime occurredAt;
 
-    public PaymentCompletedEvent(Long paymentId, Long orderId, Long userId, BigDecimal amount, String transactionId) {
+    public PaymentCompletedEvent(Long paymentId, Long orderId, Long userId, Long shopId,
+            PaymentMethod paymentMethod, BigDecimal amount, String transactionId) {
+        this(paymentId, orderId, userId, shopId, paymentMethod, amount, transactionId, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public PaymentCompletedEvent(Long paymentId, Long orderId, Long userId, Long shopId,
+            PaymentMethod paymentMethod, BigDecimal amount, String transactionId, LocalDateTime occurredAt) {
         this.paymentId = paymentId;
         this.orderId = orderId;
         this.userId = userId;
+        this.shopId = shopId;
+        this.paymentMethod = paymentMethod;
         this.amount = amount;
         this.transactionId = transactionId;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getPaymentId() {
@@ -37,6 +52,14 @@ public class PaymentCompletedEvent {
         return userId;
     }
 
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
     public BigDecimal getAmount() {
         return amount;
     }
@@ -55,6 +78,8 @@ public class PaymentCompletedEvent {
                 "paymentId=" + paymentId +
                 ", orderId=" + orderId +
                 ", userId=" + userId +
+                ", shopId=" + shopId +
+                ", paymentMethod=" + paymentMethod +
                 ", amount=" + amount +
                 ", transactionId='" + transactionId + '\'' +
                 ", occurredAt=" + occurredAt +
@@ -0,0 +1,167 @@
+package com.soundbar91.payment.domain.event;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 결제 도메인 이벤트 저널 코덱 (타입 ID 30번대)
+ */
+public final class PaymentEventCodecs {
+
+    public static final int PAYMENT_COMPLETED = 30;
+    public static final int PAYMENT_FAILED = 31;
+    public static final int REFUND_COMPLETED = 32;
+    public static final int PAYMENT_CANCELLED = 33;
+
+    private PaymentEventCodecs() {
+    }
+
+    @Component
+    public static class PaymentCompletedEventCodec implements EventCodec<PaymentCompletedEvent> {
+
+        @Override
+        public int typeId() {
+            return PAYMENT_COMPLETED;
+        }
+
+        @Override
+        public Class<PaymentCompletedEvent> eventType() {
+            return PaymentCompletedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(PaymentCompletedEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(PaymentCompletedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getPaymentId())
+                    .writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeNullableLong(event.getShopId())
+                    .writeEnum(event.getPaymentMethod())
+                    .writeDecimal(event.getAmount())
+                    .writeString(event.getTransactionId())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public PaymentCompletedEvent decode(BinaryDecoder in) {
+            return new PaymentCompletedEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readNullableLong(), in.readEnum(PaymentMethod.class), in.readDecimal(), in.readString(),
+                    in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class PaymentFailedEventCodec implements EventCodec<PaymentFailedEvent> {
+
+        @Override
+        public int typeId() {
+            return PAYMENT_FAILED;
+        }
+
+        @Override
+        public Class<PaymentFailedEvent> eventType() {
+            return PaymentFailedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(PaymentFailedEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(PaymentFailedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getPaymentId())
+                    .writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeDecimal(event.getAmount())
+                    .writeString(event.getFailureReason())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public PaymentFailedEvent decode(BinaryDecoder in) {
+            return new PaymentFailedEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readDecimal(), in.readString(), in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class RefundCompletedEventCodec implements EventCodec<RefundCompletedEvent> {
+
+        @Override
+        public int typeId() {
+            return REFUND_COMPLETED;
+        }
+
+        @Override
+        public Class<RefundCompletedEvent> eventType() {
+            return RefundCompletedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(RefundCompletedEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(RefundCompletedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getPaymentId())
+                    .writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeNullableLong(event.getShopId())
+                    .writeEnum(event.getPaymentMethod())
+                    .writeDecimal(event.getRefundAmount())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public RefundCompletedEvent decode(BinaryDecoder in) {
+            return new RefundCompletedEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readNullableLong(), in.readEnum(PaymentMethod.class), in.readDecimal(), in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class PaymentCancelledEventCodec implements EventCodec<PaymentCancelledEvent> {
+
+        @Override
+        public int typeId() {
+            return PAYMENT_CANCELLED;
+        }
+
+        @Override
+        public Class<PaymentCancelledEvent> eventType() {
+            return PaymentCancelledEvent.class;
+        }
+
+        @Override
+        public long aggregateId(PaymentCancelledEvent event) {
+            return Objects.requireNonNullElse(event.getOrderId(), 0L);
+        }
+
+        @Override
+        public void encode(PaymentCancelledEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getPaymentId())
+                    .writeNullableLong(event.getOrderId())
+                    .writeNullableLong(event.getUserId())
+                    .writeDecimal(event.getAmount())
+                    .writeString(event.getReason())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public PaymentCancelledEvent decode(BinaryDecoder in) {
+            return new PaymentCancelledEvent(in.readNullableLong(), in.readNullableLong(), in.readNullableLong(),
+                    in.readDecimal(), in.readString(), in.readDateTime());
+        }
+    }
+}
@@ -17,12 +17,20 @@ public class PaymentFailedEvent {
     private final LocalDateTime occurredAt;
 
     public PaymentFailedEvent(Long paymentId, Long orderId, Long userId, BigDecimal amount, String failureReason) {
+        this(paymentId, orderId, userId, amount, failureReason, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public PaymentFailedEvent(Long paymentId, Long orderId, Long userId, BigDecimal amount, String failureReason,
+            LocalDateTime occurredAt) {
         this.paymentId = paymentId;
         this.orderId = orderId;
         this.userId = userId;
         this.amount = amount;
         this.failureReason = failureReason;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getPaymentId() {
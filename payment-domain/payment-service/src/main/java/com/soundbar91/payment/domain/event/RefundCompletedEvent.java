@@ -1,5 +1,7 @@
 package com.soundbar91.payment.domain.event;
 
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -12,15 +14,28 @@ public class RefundCompletedEvent {
     private final Long paymentId;
     private final Long orderId;
     private final Long userId;
+    private final Long shopId;
+    private final PaymentMethod paymentMethod;
     private final BigDecimal refundAmount;
     private final LocalDateTime occurredAt;
 
-    public RefundCompletedEvent(Long paymentId, Long orderId, Long userId, BigDecimal refundAmount) {
+    public RefundCompletedEvent(Long paymentId, Long orderId, Long userId, Long shopId,
+            PaymentMethod paymentMethod, BigDecimal refundAmount) {
+        this(paymentId, orderId, userId, shopId, paymentMethod, refundAmount, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public RefundCompletedEvent(Long paymentId, Long orderId, Long userId, Long shopId,
+            PaymentMethod paymentMethod, BigDecimal refundAmount, LocalDateTime occurredAt) {
         this.paymentId = paymentId;
         this.orderId = orderId;
         this.userId = userId;
+        this.shopId = shopId;
+        this.paymentMethod = paymentMethod;
         this.refundAmount = refundAmount;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getPaymentId() {
@@ -35,6 +50,14 @@ public class RefundCompletedEvent {
         return userId;
     }
 
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
     public BigDecimal getRefundAmount() {
         return refundAmount;
     }
@@ -49,6 +72,8 @@ public class RefundCompletedEvent {
                 "paymentId=" + paymentId +
                 ", orderId=" + orderId +
                 ", userId=" + userId +
+                ", shopId=" + shopId +
+                ", paymentMethod=" + paymentMethod +
                 ", refundAmount=" + refundAmount +
                 ", occurredAt=" + occurredAt +
                 '}';
@@ -1,8 +1,14 @@
 package com.soundbar91.payment.domain.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.vo.PaymentField;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +26,49 @@ public interface PaymentRepository {
 
     Optional<Payment> findByOrderId(Long orderId);
 
+    // 한 주문의 결제 전체 (id 오름차순, 중복 결제가 있어도 예외 없이 조회)
+
+    List<Payment> findAllByOrderId(Long orderId);
+
     List<Payment> findByUserId(Long userId);
 
     List<Payment> findByStatus(PaymentStatus status);
 
+    // 기간 조건 조회 [from, to): created_at 월 단위 파티션 중 해당 기간만 조회
+
+    List<Payment> findAllInPeriod(LocalDateTime from, LocalDateTime to);
+
+    List<Payment> findByUserIdInPeriod(Long userId, LocalDateTime from, LocalDateTime to);
+
+    List<Payment> findByStatusInPeriod(PaymentStatus status, LocalDateTime from, LocalDateTime to);
+
+    // 선택 컬럼 조회 (sparse fieldset): 선택한 컬럼만 SELECT 하고 엔티티는 로드하지 않음
+
+    List<ProjectedRow> findByUserIdProjected(Long userId, FieldSelection<PaymentField> fields);
+
+    List<ProjectedRow> findByStatusProjected(PaymentStatus status, FieldSelection<PaymentField> fields);
+
+    // 정산 대사: (orderId, id) 오름차순 keyset 페이지, (afterOrderId, afterPaymentId) 이후이고 orderId <= toOrderId
+
+    List<PaymentSettlement> findSettlements(long afterOrderId, long afterPaymentId, long toOrderId, int limit);
+
+    Optional<Long> findMinOrderId();
+
+    Optional<Long> findMaxOrderId();
+
+    // 이벤트 재생: id 오름차순 keyset 페이지 (afterId < id)
+
+    List<Payment> findAllAfterId(long afterId, int limit);
+
+    // 만료 처리: createdAt < cutoff 인 PENDING 결제를 (createdAt, id) 오름차순 keyset으로 잠가 조회
+    // (afterCreatedAt이 null이면 첫 chunk, 다른 트랜잭션이 잠근 행은 건너뜀, 트랜잭션 안에서 호출)
+
+    List<Payment> lockStalePending(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId, int limit);
+
+    // 아직 PENDING이고 createdAt < cutoff 인 결제만 CANCELLED로 일괄 변경하고 변경된 행 수를 반환
+
+    int cancelPending(Collection<Long> ids, LocalDateTime cutoff, LocalDateTime now);
+
     void delete(Payment payment);
 
     void deleteById(Long id);
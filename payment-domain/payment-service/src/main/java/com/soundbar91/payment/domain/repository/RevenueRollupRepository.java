@@ -0,0 +1,26 @@
+package com.soundbar91.payment.domain.repository;
+
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 매출 집계 레포지토리 인터페이스
+ * 도메인 계층에서 정의하고, infrastructure 계층에서 구현
+ */
+public interface RevenueRollupRepository {
+
+    /**
+     * 버킷별 증분을 기존 값에 더함 (버킷이 없으면 생성, 호출자의 트랜잭션 안에서 실행)
+     */
+    void addAll(Collection<RevenueDelta> deltas);
+
+    // 기간 합계 [from, to] (양 끝 포함): 일자 버킷을 상점 x 결제 수단으로 합산
+
+    List<RevenueSummary> summarize(LocalDate from, LocalDate to);
+
+    List<RevenueSummary> summarizeByShopId(Long shopId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,32 @@
+package com.soundbar91.payment.domain.vo;
+
+import com.soundbar91.common.projection.SelectableField;
+
+/**
+ * 결제 선택 조회 필드 (선언 순서 = 응답 필드 순서, ID는 항상 포함)
+ */
+public enum PaymentField implements SelectableField {
+    ID("id"),
+    ORDER_ID("orderId"),
+    USER_ID("userId"),
+    AMOUNT("amount"),
+    PAYMENT_METHOD("paymentMethod"),
+    STATUS("status"),
+    TRANSACTION_ID("transactionId"),
+    FAILURE_REASON("failureReason"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    COMPLETED_AT("completedAt"),
+    REFUNDED_AT("refundedAt");
+
+    private final String attribute;
+
+    PaymentField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,9 @@
+package com.soundbar91.payment.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 대사용 결제 요약 (엔티티를 로드하지 않고 필요한 컬럼만 조회)
+ */
+public record PaymentSettlement(Long orderId, Long paymentId, PaymentStatus status, BigDecimal amount) {
+}
@@ -0,0 +1,16 @@
+package com.soundbar91.payment.domain.vo;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 버킷 키 (상점 x 일자 x 결제 수단)
+ * 상점 정보가 없는 결제(shopId 도입 이전)는 UNKNOWN_SHOP_ID 버킷으로 집계합니다.
+ */
+public record RevenueBucket(Long shopId, LocalDate salesDate, PaymentMethod paymentMethod) {
+
+    public static final long UNKNOWN_SHOP_ID = 0L;
+
+    public static RevenueBucket of(Long shopId, LocalDate salesDate, PaymentMethod paymentMethod) {
+        return new RevenueBucket(shopId != null ? shopId : UNKNOWN_SHOP_ID, salesDate, paymentMethod);
+    }
+}
@@ -0,0 +1,33 @@
+package com.soundbar91.payment.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 매출 집계 버킷에 더할 증분
+ */
+public record RevenueDelta(
+        RevenueBucket bucket,
+        long paymentCount,
+        BigDecimal grossAmount,
+        long refundCount,
+        BigDecimal refundAmount
+) {
+
+    public static RevenueDelta payment(RevenueBucket bucket, BigDecimal amount) {
+        return new RevenueDelta(bucket, 1, amount, 0, BigDecimal.ZERO);
+    }
+
+    public static RevenueDelta refund(RevenueBucket bucket, BigDecimal amount) {
+        return new RevenueDelta(bucket, 0, BigDecimal.ZERO, 1, amount);
+    }
+
+    public RevenueDelta plus(RevenueDelta other) {
+        return new RevenueDelta(
+                bucket,
+                paymentCount + other.paymentCount,
+                grossAmount.add(other.grossAmount),
+                refundCount + other.refundCount,
+                refundAmount.add(other.refundAmount)
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.soundbar91.payment.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 기간 매출 합계 (상점 x 결제 수단)
+ */
+public record RevenueSummary(
+        Long shopId,
+        PaymentMethod paymentMethod,
+        Long paymentCount,
+        BigDecimal grossAmount,
+        Long refundCount,
+        BigDecimal refundAmount
+) {
+
+    public BigDecimal netAmount() {
+        return grossAmount.subtract(refundAmount);
+    }
+}
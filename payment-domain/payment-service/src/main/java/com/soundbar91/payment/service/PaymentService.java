@@ -1,11 +1,15 @@
 package com.soundbar91.payment.service;
 
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
 import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
 import com.soundbar91.payment.domain.event.PaymentFailedEvent;
 import com.soundbar91.payment.domain.event.RefundCompletedEvent;
 import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.payment.domain.vo.PaymentField;
 import com.soundbar91.payment.domain.vo.PaymentMethod;
 import com.soundbar91.payment.domain.vo.PaymentStatus;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,9 +24,14 @@ import java.util.List;
  * 결제 생성, 처리, 환불, 취소 기능 제공
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, transactionManager = PaymentService.TRANSACTION_MANAGER)
 public class PaymentService {
 
+    /**
+     * Payment 도메인 트랜잭션 매니저 이름 (전용 풀을 쓰지 않으면 공용 매니저의 별칭)
+     */
+    public static final String TRANSACTION_MANAGER = "paymentTransactionManager";
+
     private final PaymentRepository paymentRepository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -36,9 +45,17 @@ public class PaymentService {
      * 결제 생성
      * 주문 생성 시 이벤트를 통해 호출됨
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Payment createPayment(Long orderId, Long userId, BigDecimal amount, PaymentMethod paymentMethod) {
-        Payment payment = new Payment(orderId, userId, amount, paymentMethod);
+        return createPayment(orderId, userId, null, amount, paymentMethod);
+    }
+
+    /**
+     * 상점 정보를 포함한 결제 생성 (매출 집계 대상)
+     */
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
+    public Payment createPayment(Long orderId, Long userId, Long shopId, BigDecimal amount, PaymentMethod paymentMethod) {
+        Payment payment = new Payment(orderId, userId, shopId, amount, paymentMethod);
         return paymentRepository.save(payment);
     }
 
@@ -79,11 +96,25 @@ public class PaymentService {
         return paymentRepository.findByStatus(status);
     }
 
+    /**
+     * 사용자별 결제 내역의 선택 필드 조회
+     */
+    public List<ProjectedRow> getPaymentsByUserId(Long userId, FieldSelection<PaymentField> fields) {
+        return paymentRepository.findByUserIdProjected(userId, fields);
+    }
+
+    /**
+     * 상태별 결제의 선택 필드 조회
+     */
+    public List<ProjectedRow> getPaymentsByStatus(PaymentStatus status, FieldSelection<PaymentField> fields) {
+        return paymentRepository.findByStatusProjected(status, fields);
+    }
+
     /**
      * 결제 처리
      * PENDING → PROCESSING → COMPLETED
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Payment processPayment(Long id) {
         Payment payment = getPaymentById(id);
         payment.process();
@@ -97,8 +128,11 @@ public class PaymentService {
                     payment.getId(),
                     payment.getOrderId(),
                     payment.getUserId(),
+                    payment.getShopId(),
+                    payment.getPaymentMethod(),
                     payment.getAmount(),
-                    payment.getTransactionId()
+                    payment.getTransactionId(),
+                    payment.getCompletedAt()
             ));
         } else {
             String failureReason = "결제 처리 실패: 카드사 승인 거부";
@@ -119,7 +153,7 @@ public class PaymentService {
      * 환불 처리
      * COMPLETED → REFUNDED
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Payment refundPayment(Long id) {
         Payment payment = getPaymentById(id);
         payment.refund();
@@ -128,7 +162,10 @@ public class PaymentService {
                 payment.getId(),
                 payment.getOrderId(),
                 payment.getUserId(),
-                payment.getAmount()
+                payment.getShopId(),
+                payment.getPaymentMethod(),
+                payment.getAmount(),
+                payment.getRefundedAt()
         ));
 
         return payment;
@@ -138,7 +175,7 @@ public class PaymentService {
      * 주문 ID로 환불 처리
      * 주문 취소 이벤트 수신 시 사용
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Payment refundPaymentByOrderId(Long orderId) {
         Payment payment = paymentRepository.findByOrderId(orderId)
                 .orElse(null);
@@ -153,10 +190,14 @@ public class PaymentService {
                     payment.getId(),
                     payment.getOrderId(),
                     payment.getUserId(),
-                    payment.getAmount()
+                    payment.getShopId(),
+                    payment.getPaymentMethod(),
+                    payment.getAmount(),
+                    payment.getRefundedAt()
             ));
         } else if (payment.getStatus().canCancel()) {
             payment.cancel();
+            publishCancelled(payment, "주문 취소");
         }
 
         return payment;
@@ -166,13 +207,24 @@ public class PaymentService {
      * 결제 취소
      * PENDING, PROCESSING → CANCELLED
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Payment cancelPayment(Long id) {
         Payment payment = getPaymentById(id);
         payment.cancel();
+        publishCancelled(payment, "결제 취소");
         return payment;
     }
 
+    private void publishCancelled(Payment payment, String reason) {
+        eventPublisher.publishEvent(new PaymentCancelledEvent(
+                payment.getId(),
+                payment.getOrderId(),
+                payment.getUserId(),
+                payment.getAmount(),
+                reason
+        ));
+    }
+
     /**
      * 결제 존재 여부 확인
      */
@@ -0,0 +1,38 @@
+package com.soundbar91.payment.service;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorCode;
+import com.soundbar91.payment.domain.repository.RevenueRollupRepository;
+import com.soundbar91.payment.domain.vo.RevenueSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매출 리포트 서비스
+ * 원본 결제 테이블 대신 일자별 집계 버킷(payment_revenue_rollups)을 합산합니다.
+ */
+@Service
+@Transactional(readOnly = true, transactionManager = PaymentService.TRANSACTION_MANAGER)
+public class RevenueReportService {
+
+    private final RevenueRollupRepository revenueRollupRepository;
+
+    public RevenueReportService(RevenueRollupRepository revenueRollupRepository) {
+        this.revenueRollupRepository = revenueRollupRepository;
+    }
+
+    /**
+     * 기간 [from, to] 매출 합계 (shopId가 null이면 전체 상점)
+     */
+    public List<RevenueSummary> getRevenue(Long shopId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "조회 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        return shopId == null
+                ? revenueRollupRepository.summarize(from, to)
+                : revenueRollupRepository.summarizeByShopId(shopId, from, to);
+    }
+}
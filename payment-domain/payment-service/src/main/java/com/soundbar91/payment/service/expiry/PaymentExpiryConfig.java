@@ -0,0 +1,39 @@
+package com.soundbar91.payment.service.expiry;
+
+import com.soundbar91.common.throttle.ChunkedSweeper;
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.payment.service.PaymentService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 처리되지 않은 PENDING 결제 만료 설정
+ * payment.expiry.enabled=true 일 때만 활성화되며, 'payment.expiry' 설정을 SweepProperties로 바인딩합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment.expiry", name = "enabled", havingValue = "true")
+@EnableScheduling
+public class PaymentExpiryConfig {
+
+    @Bean
+    public PaymentExpirySweeper paymentExpirySweeper(
+            PaymentRepository paymentRepository,
+            ApplicationEventPublisher eventPublisher,
+            Environment environment,
+            @Qualifier(PaymentService.TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        SweepProperties properties = Binder.get(environment).bindOrCreate("payment.expiry", SweepProperties.class);
+        return new PaymentExpirySweeper(paymentRepository, eventPublisher, new TransactionTemplate(transactionManager),
+                properties, Clock.systemDefaultZone(), ChunkedSweeper.afterChunkExecutor("payment-expiry"));
+    }
+}
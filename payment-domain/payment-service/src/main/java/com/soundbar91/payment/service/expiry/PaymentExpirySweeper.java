@@ -0,0 +1,101 @@
+package com.soundbar91.payment.service.expiry;
+
+import com.soundbar91.common.throttle.ChunkedSweeper;
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 처리되지 않은 PENDING 결제 만료 작업
+ *
+ * ttl보다 오래된 PENDING 결제를 (createdAt, id) 순 keyset으로 chunk-size개씩 잠그고, 한 번의 UPDATE로 CANCELLED로 바꿉니다.
+ * 주문 만료(OrderExpirySweeper)와 같은 방식이며, 주문 취소 이벤트로 정리되지 않은 결제(주문 없이 남은 결제 등)가 대상입니다.
+ * 다른 트랜잭션이 잠근 결제(처리 중)는 건너뛰고, UPDATE는 상태와 생성 시각을 다시 확인합니다.
+ *
+ * 취소 이벤트(PaymentCancelledEvent)는 chunk가 커밋된 뒤 eventExecutor에서 발행합니다.
+ */
+public class PaymentExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentExpirySweeper.class);
+
+    private static final String EXPIRED_REASON = "결제 대기 시간 초과";
+
+    private final PaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SweepProperties properties;
+    private final Clock clock;
+    private final ChunkedSweeper<Payment> chunkedSweeper;
+
+    public PaymentExpirySweeper(PaymentRepository paymentRepository, ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate, SweepProperties properties, Clock clock,
+                                Executor eventExecutor) {
+        this.paymentRepository = paymentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.chunkedSweeper = new ChunkedSweeper<>("PaymentExpiry", properties, eventExecutor);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.expiry.interval:5m}", initialDelayString = "${payment.expiry.interval:5m}")
+    public void run() {
+        sweep();
+    }
+
+    /**
+     * 만료 실행
+     *
+     * @return 만료한 결제 수
+     */
+    public long sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(properties.ttl());
+        return chunkedSweeper.sweep(
+                (after, limit) -> transactionTemplate.execute(status -> expireChunk(cutoff, after, limit, now)),
+                chunk -> publishCancelled(chunk, now));
+    }
+
+    /**
+     * 이벤트 발행 실행기 종료 (빈 소멸 시 호출)
+     */
+    public void shutdown() {
+        chunkedSweeper.shutdown();
+    }
+
+    /**
+     * chunk 하나를 잠가 조회하고 일괄 취소 (트랜잭션 안에서 호출)
+     */
+    private List<Payment> expireChunk(LocalDateTime cutoff, Payment after, int limit, LocalDateTime now) {
+        List<Payment> chunk = paymentRepository.lockStalePending(cutoff, after == null ? null : after.getCreatedAt(),
+                after == null ? 0L : after.getId(), limit);
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        int updated = paymentRepository.cancelPending(chunk.stream().map(Payment::getId).toList(), cutoff, now);
+        if (updated != chunk.size()) {
+            // 잠근 행은 다른 트랜잭션이 바꿀 수 없으므로, SKIP LOCKED를 지원하지 않는 DB에서만 발생
+            log.warn("[PaymentExpiry] 잠근 결제 수와 변경된 결제 수가 다릅니다 - locked: {}, updated: {}",
+                    chunk.size(), updated);
+        }
+        return chunk;
+    }
+
+    private void publishCancelled(List<Payment> chunk, LocalDateTime now) {
+        for (Payment payment : chunk) {
+            eventPublisher.publishEvent(new PaymentCancelledEvent(payment.getId(), payment.getOrderId(),
+                    payment.getUserId(), payment.getAmount(), EXPIRED_REASON, now));
+        }
+    }
+}
@@ -1,27 +1,65 @@
 package com.soundbar91.payment.service.listener;
 
+import com.soundbar91.common.exception.NotFoundException;
 import com.soundbar91.order.domain.event.OrderCancelledEvent;
 import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.order.service.OrderService;
 import com.soundbar91.payment.domain.vo.PaymentMethod;
 import com.soundbar91.payment.service.PaymentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 /**
  * Order 도메인 이벤트 리스너
  * 이벤트 기반 통신을 통한 도메인 간 느슨한 결합
+ * nuga.saga.enabled=true 이면 주문 saga 오케스트레이터가 결제 생성과 환불을 맡으므로 등록되지 않습니다.
+ *
+ * 주문과 결제가 같은 트랜잭션 매니저(공용 풀)를 쓰면 주문 트랜잭션에 참여해 함께 커밋/롤백됩니다.
+ * 어느 한쪽이라도 전용 풀로 분리되어 있으면 결제가 먼저 커밋된 뒤 주문이 롤백될 수 있으므로,
+ * 주문 트랜잭션 안에서 결제 작업을 아웃박스(OrderPaymentOutbox)에 남기고 주문이 커밋된 뒤 새 결제 트랜잭션에서 처리합니다.
+ * 처리에 실패한 작업은 아웃박스에 남아 retryPending이 지수 백오프(최대 1시간)로 다시 시도합니다.
+ * 결제 생성은 같은 주문의 결제가 이미 있으면 건너뛰므로, 결제 커밋 뒤 아웃박스 삭제 전에 실패해도 중복 생성하지 않습니다.
  */
 @Component
+@ConditionalOnProperty(prefix = "nuga.saga", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class OrderEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(OrderEventListener.class);
 
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    static final int RETRY_BATCH_SIZE = 100;
+
     private final PaymentService paymentService;
+    private final OrderPaymentOutbox outbox;
+    private final boolean sharedTransaction;
+    private final TransactionTemplate orderTransaction;
+    private final TransactionTemplate paymentTransaction;
 
-    public OrderEventListener(PaymentService paymentService) {
+    public OrderEventListener(PaymentService paymentService,
+                              OrderPaymentOutbox outbox,
+                              @Qualifier(OrderService.TRANSACTION_MANAGER) PlatformTransactionManager orderTransactionManager,
+                              @Qualifier(PaymentService.TRANSACTION_MANAGER) PlatformTransactionManager paymentTransactionManager) {
         this.paymentService = paymentService;
+        this.outbox = outbox;
+        this.sharedTransaction = orderTransactionManager == paymentTransactionManager;
+        this.orderTransaction = new TransactionTemplate(orderTransactionManager);
+        this.orderTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.paymentTransaction = new TransactionTemplate(paymentTransactionManager);
+        this.paymentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
@@ -32,15 +70,8 @@ public class OrderEventListener {
     public void handleOrderCreatedEvent(OrderCreatedEvent event) {
         log.info("주문 생성 이벤트 수신: {}", event);
 
-        // 결제 생성 (기본 결제 수단: 신용카드)
-        paymentService.createPayment(
-                event.getOrderId(),
-                event.getUserId(),
-                event.getTotalAmount(),
-                PaymentMethod.CREDIT_CARD
-        );
-
-        log.info("주문 ID {}에 대한 결제 정보 생성 완료", event.getOrderId());
+        runWithOrderTransaction(OrderPaymentTask.create(
+                event.getOrderId(), event.getUserId(), event.getShopId(), event.getTotalAmount()));
     }
 
     /**
@@ -51,8 +82,102 @@ public class OrderEventListener {
     public void handleOrderCancelledEvent(OrderCancelledEvent event) {
         log.info("주문 취소 이벤트 수신: {}", event);
 
-        paymentService.refundPaymentByOrderId(event.getOrderId());
+        if (!sharedTransaction && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 아직 처리되지 않은 결제 생성은 취소된 주문에 결제를 만들지 않도록 버림
+            outbox.discard(event.getOrderId(), OrderPaymentTask.Type.CREATE_PAYMENT);
+        }
+        runWithOrderTransaction(OrderPaymentTask.refund(event.getOrderId()));
+    }
+
+    /**
+     * 아웃박스에 남은 결제 작업 재시도
+     * 여러 인스턴스가 동시에 실행해도 잠긴 행은 건너뛰므로 같은 작업을 두 번 처리하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${payment.order-outbox.retry-interval:30s}",
+            initialDelayString = "${payment.order-outbox.retry-interval:30s}")
+    public void retryPending() {
+        if (sharedTransaction) {
+            return;
+        }
+        orderTransaction.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (OrderPaymentTask task : outbox.lockDue(now, RETRY_BATCH_SIZE)) {
+                try {
+                    paymentTransaction.executeWithoutResult(paymentStatus -> execute(task));
+                    outbox.remove(task.id());
+                } catch (RuntimeException e) {
+                    int attempts = task.attempts() + 1;
+                    outbox.reschedule(task.id(), attempts, now.plus(retryDelay(attempts)), e.getMessage());
+                    log.error("결제 작업 재시도 실패 - type: {}, orderId: {}, attempts: {}",
+                            task.type(), task.orderId(), attempts, e);
+                }
+            }
+        });
+    }
+
+    private void runWithOrderTransaction(OrderPaymentTask task) {
+        if (sharedTransaction || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            execute(task);
+            return;
+        }
+        long id = outbox.add(task, LocalDateTime.now().plus(RETRY_DELAY));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 커밋된 주문 트랜잭션의 커넥션에는 더 이상 쓸 수 없으므로 새 주문 트랜잭션에서 행을 잠그고 삭제
+                try {
+                    orderTransaction.executeWithoutResult(status -> {
+                        if (outbox.lock(id)) {
+                            paymentTransaction.executeWithoutResult(paymentStatus -> execute(task));
+                            outbox.remove(id);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("주문 커밋 후 결제 작업 실패, 재시도 대기 - type: {}, orderId: {}",
+                            task.type(), task.orderId(), e);
+                }
+            }
+        });
+    }
+
+    private void execute(OrderPaymentTask task) {
+        switch (task.type()) {
+            case CREATE_PAYMENT -> createPayment(task);
+            case REFUND_PAYMENT -> {
+                paymentService.refundPaymentByOrderId(task.orderId());
+                log.info("주문 ID {}에 대한 결제 환불/취소 처리 완료", task.orderId());
+            }
+        }
+    }
+
+    private void createPayment(OrderPaymentTask task) {
+        if (!sharedTransaction && hasPayment(task.orderId())) {
+            log.info("주문 ID {}의 결제가 이미 있어 생성을 건너뜀", task.orderId());
+            return;
+        }
+        // 결제 생성 (기본 결제 수단: 신용카드)
+        paymentService.createPayment(
+                task.orderId(),
+                task.userId(),
+                task.shopId(),
+                task.amount(),
+                PaymentMethod.CREDIT_CARD
+        );
+
+        log.info("주문 ID {}에 대한 결제 정보 생성 완료", task.orderId());
+    }
+
+    private boolean hasPayment(Long orderId) {
+        try {
+            paymentService.getPaymentByOrderId(orderId);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
 
-        log.info("주문 ID {}에 대한 결제 환불/취소 처리 완료", event.getOrderId());
+    static Duration retryDelay(int attempts) {
+        Duration delay = RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
     }
 }
@@ -0,0 +1,48 @@
+package com.soundbar91.payment.service.listener;
+
+import com.soundbar91.order.domain.vo.OrderPaymentStatus;
+import com.soundbar91.order.service.history.OrderHistoryProjector;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.PaymentFailedEvent;
+import com.soundbar91.payment.domain.event.RefundCompletedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 결과를 주문 이력 조회 모델에 전달하는 리스너
+ * Order 도메인은 결제 이벤트를 알지 못하므로 결제 도메인에서 변환해 넘깁니다. 결제 트랜잭션 커밋 후에만 전달합니다.
+ */
+@Component
+public class OrderHistoryPaymentListener {
+
+    private final OrderHistoryProjector orderHistoryProjector;
+
+    public OrderHistoryPaymentListener(OrderHistoryProjector orderHistoryProjector) {
+        this.orderHistoryProjector = orderHistoryProjector;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        orderHistoryProjector.applyPayment(event.getOrderId(), OrderPaymentStatus.COMPLETED, event.getAmount(),
+                event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentFailed(PaymentFailedEvent event) {
+        orderHistoryProjector.applyPayment(event.getOrderId(), OrderPaymentStatus.FAILED, event.getAmount(),
+                event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCancelled(PaymentCancelledEvent event) {
+        orderHistoryProjector.applyPayment(event.getOrderId(), OrderPaymentStatus.CANCELLED, event.getAmount(),
+                event.getOccurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefundCompleted(RefundCompletedEvent event) {
+        orderHistoryProjector.applyPayment(event.getOrderId(), OrderPaymentStatus.REFUNDED, event.getRefundAmount(),
+                event.getOccurredAt());
+    }
+}
@@ -0,0 +1,45 @@
+package com.soundbar91.payment.service.listener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 커밋 후 결제 작업 아웃박스
+ *
+ * 주문과 같은 데이터베이스에 저장하며, 모든 메서드는 주문 트랜잭션 매니저의 현재 트랜잭션에 참여합니다.
+ * 주문 트랜잭션 안에서 추가하므로 주문이 커밋되면 작업도 함께 남고, 롤백되면 함께 사라집니다.
+ */
+public interface OrderPaymentOutbox {
+
+    /**
+     * 작업 추가
+     *
+     * @return 아웃박스 행 ID
+     */
+    long add(OrderPaymentTask task, LocalDateTime nextAttemptAt);
+
+    /**
+     * 아직 남아 있는 작업 행을 잠금 (다른 인스턴스가 잠근 행은 기다리지 않고 false)
+     */
+    boolean lock(long id);
+
+    /**
+     * 재시도 시각이 지난 작업을 최대 limit개 잠그고 가져옴 (다른 인스턴스가 잠근 행은 건너뜀)
+     */
+    List<OrderPaymentTask> lockDue(LocalDateTime now, int limit);
+
+    /**
+     * 실패한 작업의 재시도 횟수와 다음 시도 시각 갱신
+     */
+    void reschedule(long id, int attempts, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * 처리를 마친 작업 삭제
+     */
+    void remove(long id);
+
+    /**
+     * 주문의 남은 작업 중 주어진 종류의 작업 삭제
+     */
+    void discard(long orderId, OrderPaymentTask.Type type);
+}
@@ -0,0 +1,31 @@
+package com.soundbar91.payment.service.listener;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 커밋 후 처리할 결제 작업 (아웃박스 행)
+ *
+ * @param id       아웃박스 행 ID (저장 전에는 null)
+ * @param type     작업 종류
+ * @param orderId  주문 ID
+ * @param userId   사용자 ID (결제 생성에만 사용)
+ * @param shopId   상점 ID (결제 생성에만 사용)
+ * @param amount   결제 금액 (결제 생성에만 사용)
+ * @param attempts 실패한 재시도 횟수
+ */
+public record OrderPaymentTask(Long id, Type type, Long orderId, Long userId, Long shopId, BigDecimal amount,
+                               int attempts) {
+
+    public enum Type {
+        CREATE_PAYMENT,
+        REFUND_PAYMENT
+    }
+
+    public static OrderPaymentTask create(Long orderId, Long userId, Long shopId, BigDecimal amount) {
+        return new OrderPaymentTask(null, Type.CREATE_PAYMENT, orderId, userId, shopId, amount, 0);
+    }
+
+    public static OrderPaymentTask refund(Long orderId) {
+        return new OrderPaymentTask(null, Type.REFUND_PAYMENT, orderId, null, null, null, 0);
+    }
+}
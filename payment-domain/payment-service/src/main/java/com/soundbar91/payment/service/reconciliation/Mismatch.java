@@ -0,0 +1,34 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import com.soundbar91.order.domain.vo.OrderSettlement;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 대사 불일치 항목 (없는 쪽의 값은 null)
+ */
+public record Mismatch(
+        MismatchType type,
+        Long orderId,
+        Long paymentId,
+        OrderStatus orderStatus,
+        PaymentStatus paymentStatus,
+        BigDecimal orderAmount,
+        BigDecimal paymentAmount
+) {
+
+    static Mismatch of(MismatchType type, OrderSettlement order, PaymentSettlement payment) {
+        return new Mismatch(
+                type,
+                order != null ? order.orderId() : payment.orderId(),
+                payment != null ? payment.paymentId() : null,
+                order != null ? order.status() : null,
+                payment != null ? payment.status() : null,
+                order != null ? order.totalAmount() : null,
+                payment != null ? payment.amount() : null
+        );
+    }
+}
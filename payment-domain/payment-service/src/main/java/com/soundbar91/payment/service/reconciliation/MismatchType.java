@@ -0,0 +1,22 @@
+package com.soundbar91.payment.service.reconciliation;
+
+/**
+ * 정산 대사 불일치 유형
+ */
+public enum MismatchType {
+    MISSING_PAYMENT("취소되지 않은 주문에 결제가 없음"),
+    ORPHAN_PAYMENT("주문이 없는 결제"),
+    DUPLICATE_PAYMENT("한 주문에 결제가 둘 이상"),
+    AMOUNT_MISMATCH("주문 금액과 결제 금액이 다름"),
+    STATUS_MISMATCH("주문 상태와 결제 상태가 맞지 않음");
+
+    private final String description;
+
+    MismatchType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,358 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import com.soundbar91.common.id.SnowflakeIdGenerator;
+import com.soundbar91.order.domain.entity.Order;
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderSettlement;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 주문-결제 정산 대사 작업
+ *
+ * 주문 ID 공간을 (parallelism x ranges-per-thread)개 구간으로 나눠 fork/join으로 병렬 처리합니다.
+ * 각 구간은 주문(id 순)과 결제(orderId 순)를 keyset 페이지로 읽어 orderId 기준 merge-join 하므로,
+ * 두 도메인이 서로 다른 DB(datasource.domains.*.isolated)에 있어도 동작하고 메모리는 chunk-size에 비례합니다.
+ *
+ * 대상 구간은 주문 ID와 결제의 orderId를 모두 포함하므로, 주문 ID 범위 밖의 orderId를 가진 결제도 ORPHAN_PAYMENT로 보고됩니다.
+ *
+ * 두 스트림을 읽는 사이 상태가 바뀔 수 있으므로, 불일치 후보는 단건 조회로 다시 확인한 뒤 기록합니다.
+ * 이때 주문은 콜드 아카이브까지 조회하므로 아카이브된 주문의 결제는 ORPHAN_PAYMENT로 보고되지 않습니다.
+ * 구간마다 한 번에 한 쿼리만 실행하므로 parallelism은 커넥션 풀 크기 이하로 설정해야 합니다.
+ */
+public class OrderPaymentReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPaymentReconciler.class);
+
+    private static final Set<PaymentStatus> PENDING_ORDER_STATUSES =
+            Set.of(PaymentStatus.PENDING, PaymentStatus.PROCESSING, PaymentStatus.COMPLETED);
+    private static final Set<PaymentStatus> PAID_ORDER_STATUSES = Set.of(PaymentStatus.COMPLETED);
+    private static final Set<PaymentStatus> CANCELLED_ORDER_STATUSES =
+            Set.of(PaymentStatus.REFUNDED, PaymentStatus.CANCELLED, PaymentStatus.FAILED);
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReconciliationProperties properties;
+    private final ReconciliationReportWriter reportWriter;
+    private final Clock clock;
+
+    public OrderPaymentReconciler(OrderRepository orderRepository, PaymentRepository paymentRepository,
+                                  ReconciliationProperties properties, ReconciliationReportWriter reportWriter,
+                                  Clock clock) {
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.properties = properties;
+        this.reportWriter = reportWriter;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 4 * * *}")
+    public void run() {
+        ReconciliationReport report = reconcile();
+        try {
+            Path file = reportWriter.write(report);
+            log.info("[Reconciliation] 대사 완료 - orders: {}, payments: {}, mismatches: {}, elapsed: {}ms, report: {}",
+                    report.ordersScanned(), report.paymentsScanned(), report.totalMismatches(),
+                    report.elapsed().toMillis(), file);
+        } catch (IOException e) {
+            log.error("[Reconciliation] 리포트 기록 실패 - mismatches: {}", report.totalMismatches(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 대사 실행
+     * 대상은 lookback 이내에 생성되고 grace-period보다 오래된 주문의 ID 구간입니다. (Snowflake ID는 시간 순)
+     * 구간의 양 끝은 주문 ID와 결제 orderId 중 더 바깥 값을 사용합니다.
+     */
+    public ReconciliationReport reconcile() {
+        LocalDateTime runAt = LocalDateTime.now(clock);
+        long startedAt = System.nanoTime();
+
+        Optional<Long> minId = Stream.of(orderRepository.findMinId(), paymentRepository.findMinOrderId())
+                .flatMap(Optional::stream)
+                .min(Long::compare);
+        Optional<Long> maxId = Stream.of(orderRepository.findMaxId(), paymentRepository.findMaxOrderId())
+                .flatMap(Optional::stream)
+                .max(Long::compare);
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return ReconciliationReport.empty(runAt);
+        }
+        long now = clock.millis();
+        long from = minId.get() - 1;
+        if (!properties.lookback().isZero()) {
+            from = Math.max(from, SnowflakeIdGenerator.minIdAt(now - properties.lookback().toMillis()) - 1);
+        }
+        long to = Math.min(maxId.get(), SnowflakeIdGenerator.minIdAt(now - properties.gracePeriod().toMillis()) - 1);
+        if (from >= to) {
+            return ReconciliationReport.empty(runAt);
+        }
+
+        int ranges = properties.parallelism() * properties.rangesPerThread();
+        AtomicInteger reportBudget = new AtomicInteger(properties.maxReportedMismatches());
+        ForkJoinPool pool = new ForkJoinPool(properties.parallelism());
+        RangeResult result;
+        try {
+            result = pool.invoke(new RangeTask(from, to, ranges, reportBudget));
+        } finally {
+            pool.shutdown();
+        }
+
+        Map<MismatchType, Long> counts = new EnumMap<>(MismatchType.class);
+        for (MismatchType type : MismatchType.values()) {
+            if (result.counts[type.ordinal()] > 0) {
+                counts.put(type, result.counts[type.ordinal()]);
+            }
+        }
+        return new ReconciliationReport(runAt, from, to, result.orders, result.payments, counts,
+                List.copyOf(result.mismatches), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * (fromExclusive, toInclusive] 구간의 주문과 결제를 orderId 기준으로 merge-join
+     */
+    RangeResult reconcileRange(long fromExclusive, long toInclusive, AtomicInteger reportBudget) {
+        RangeResult result = new RangeResult(reportBudget);
+        OrderCursor orders = new OrderCursor(fromExclusive, toInclusive);
+        PaymentCursor payments = new PaymentCursor(fromExclusive, toInclusive);
+
+        OrderSettlement order = orders.next();
+        PaymentSettlement payment = payments.next();
+        while (order != null || payment != null) {
+            if (payment == null || (order != null && order.orderId() < payment.orderId())) {
+                check(result, order, null, true);
+                order = orders.next();
+            } else if (order == null || order.orderId() > payment.orderId()) {
+                check(result, null, payment, true);
+                payment = payments.next();
+            } else {
+                PaymentSettlement matched = payment;
+                payment = payments.next();
+                boolean duplicated = false;
+                while (payment != null && payment.orderId().equals(order.orderId())) {
+                    result.record(Mismatch.of(MismatchType.DUPLICATE_PAYMENT, order, payment));
+                    duplicated = true;
+                    payment = payments.next();
+                }
+                // 중복 결제는 이미 기록했으므로 첫 결제로 스트림 값만 판정
+                check(result, order, matched, !duplicated);
+                order = orders.next();
+            }
+        }
+        result.orders = orders.scanned;
+        result.payments = payments.scanned;
+        return result;
+    }
+
+    private void check(RangeResult result, OrderSettlement order, PaymentSettlement payment, boolean verify) {
+        MismatchType type = classify(order, payment);
+        if (type == null) {
+            return;
+        }
+        if (verify) {
+            long orderId = order != null ? order.orderId() : payment.orderId();
+            order = orderRepository.findById(orderId)
+                    .or(() -> orderRepository.findArchivedById(orderId))
+                    .map(OrderPaymentReconciler::toSettlement)
+                    .orElse(null);
+            List<Payment> current = paymentRepository.findAllByOrderId(orderId);
+            payment = current.isEmpty() ? null : toSettlement(current.get(0));
+            // 스트림을 읽은 뒤 결제가 추가되어 중복이 된 경우
+            for (int i = 1; i < current.size(); i++) {
+                result.record(Mismatch.of(MismatchType.DUPLICATE_PAYMENT, order, toSettlement(current.get(i))));
+            }
+            type = classify(order, payment);
+            if (type == null) {
+                return;
+            }
+        }
+        result.record(Mismatch.of(type, order, payment));
+    }
+
+    /**
+     * 주문-결제 한 쌍의 불일치 유형 판정 (일치하면 null)
+     * 취소된 주문은 결제가 없거나 환불/취소/실패 상태여야 하고, 대기 중인 주문은 결제가 대기/처리 중/완료 상태,
+     * 확정 이후의 주문은 결제가 완료 상태여야 합니다.
+     */
+    static MismatchType classify(OrderSettlement order, PaymentSettlement payment) {
+        if (order == null) {
+            return payment == null ? null : MismatchType.ORPHAN_PAYMENT;
+        }
+        boolean cancelled = order.status() == OrderStatus.CANCELLED;
+        if (payment == null) {
+            return cancelled ? null : MismatchType.MISSING_PAYMENT;
+        }
+        if (order.totalAmount().compareTo(payment.amount()) != 0) {
+            return MismatchType.AMOUNT_MISMATCH;
+        }
+        Set<PaymentStatus> expected = switch (order.status()) {
+            case CANCELLED -> CANCELLED_ORDER_STATUSES;
+            case PENDING -> PENDING_ORDER_STATUSES;
+            default -> PAID_ORDER_STATUSES;
+        };
+        return expected.contains(payment.status()) ? null : MismatchType.STATUS_MISMATCH;
+    }
+
+    private static OrderSettlement toSettlement(Order order) {
+        return new OrderSettlement(order.getId(), order.getStatus(), order.getTotalAmount());
+    }
+
+    private static PaymentSettlement toSettlement(Payment payment) {
+        return new PaymentSettlement(payment.getOrderId(), payment.getId(), payment.getStatus(), payment.getAmount());
+    }
+
+    /**
+     * ID 구간을 leaves개가 될 때까지 반으로 나눠 처리하는 fork/join 작업
+     */
+    private class RangeTask extends RecursiveTask<RangeResult> {
+
+        private final long fromExclusive;
+        private final long toInclusive;
+        private final int leaves;
+        private final AtomicInteger reportBudget;
+
+        RangeTask(long fromExclusive, long toInclusive, int leaves, AtomicInteger reportBudget) {
+            this.fromExclusive = fromExclusive;
+            this.toInclusive = toInclusive;
+            this.leaves = leaves;
+            this.reportBudget = reportBudget;
+        }
+
+        @Override
+        protected RangeResult compute() {
+            if (leaves <= 1 || toInclusive - fromExclusive <= 1) {
+                return reconcileRange(fromExclusive, toInclusive, reportBudget);
+            }
+            int leftLeaves = leaves / 2;
+            long span = toInclusive - fromExclusive;
+            long mid = fromExclusive + Math.max(1, (long) ((double) span * leftLeaves / leaves));
+            RangeTask left = new RangeTask(fromExclusive, mid, leftLeaves, reportBudget);
+            RangeTask right = new RangeTask(mid, toInclusive, leaves - leftLeaves, reportBudget);
+            left.fork();
+            RangeResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    /**
+     * 구간 처리 결과 (유형별 건수는 모두 세고, 항목은 공유 예산 안에서만 보관)
+     */
+    static class RangeResult {
+
+        private final AtomicInteger reportBudget;
+        final long[] counts = new long[MismatchType.values().length];
+        final List<Mismatch> mismatches = new ArrayList<>();
+        long orders;
+        long payments;
+
+        RangeResult(AtomicInteger reportBudget) {
+            this.reportBudget = reportBudget;
+        }
+
+        void record(Mismatch mismatch) {
+            counts[mismatch.type().ordinal()]++;
+            if (reportBudget.getAndDecrement() > 0) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        RangeResult merge(RangeResult next) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += next.counts[i];
+            }
+            mismatches.addAll(next.mismatches);
+            orders += next.orders;
+            payments += next.payments;
+            return this;
+        }
+    }
+
+    /**
+     * keyset 페이지를 이어 읽는 순방향 커서
+     */
+    private abstract class KeysetCursor<T> {
+
+        private List<T> page = List.of();
+        private int index;
+        private boolean exhausted;
+        private T last;
+        long scanned;
+
+        T next() {
+            if (index == page.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                page = fetchAfter(last);
+                index = 0;
+                exhausted = page.size() < properties.chunkSize();
+                if (page.isEmpty()) {
+                    return null;
+                }
+            }
+            last = page.get(index++);
+            scanned++;
+            return last;
+        }
+
+        abstract List<T> fetchAfter(T last);
+    }
+
+    private class OrderCursor extends KeysetCursor<OrderSettlement> {
+
+        private final long fromExclusive;
+        private final long toInclusive;
+
+        OrderCursor(long fromExclusive, long toInclusive) {
+            this.fromExclusive = fromExclusive;
+            this.toInclusive = toInclusive;
+        }
+
+        @Override
+        List<OrderSettlement> fetchAfter(OrderSettlement last) {
+            long afterId = last == null ? fromExclusive : last.orderId();
+            return orderRepository.findSettlements(afterId, toInclusive, properties.chunkSize());
+        }
+    }
+
+    private class PaymentCursor extends KeysetCursor<PaymentSettlement> {
+
+        private final long fromExclusive;
+        private final long toInclusive;
+
+        PaymentCursor(long fromExclusive, long toInclusive) {
+            this.fromExclusive = fromExclusive;
+            this.toInclusive = toInclusive;
+        }
+
+        @Override
+        List<PaymentSettlement> fetchAfter(PaymentSettlement last) {
+            return last == null
+                    ? paymentRepository.findSettlements(fromExclusive, Long.MAX_VALUE, toInclusive, properties.chunkSize())
+                    : paymentRepository.findSettlements(last.orderId(), last.paymentId(), toInclusive, properties.chunkSize());
+        }
+    }
+}
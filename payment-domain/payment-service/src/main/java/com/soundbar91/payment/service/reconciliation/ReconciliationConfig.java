@@ -0,0 +1,31 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+
+/**
+ * 주문-결제 정산 대사 설정
+ * payment.reconciliation.enabled=true 일 때만 활성화됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment.reconciliation", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReconciliationProperties.class)
+@EnableScheduling
+public class ReconciliationConfig {
+
+    @Bean
+    public OrderPaymentReconciler orderPaymentReconciler(OrderRepository orderRepository,
+                                                         PaymentRepository paymentRepository,
+                                                         ReconciliationProperties properties) {
+        return new OrderPaymentReconciler(orderRepository, paymentRepository, properties,
+                new ReconciliationReportWriter(Paths.get(properties.reportDirectory())), Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,59 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문-결제 정산 대사 설정 속성
+ * application.yml에서 'payment.reconciliation' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * payment:
+ *   reconciliation:
+ *     enabled: true
+ *     cron: "0 0 4 * * *"            # 대사 작업 실행 주기 (@Scheduled에서 직접 참조)
+ *     parallelism: 8                 # 동시에 처리할 범위 수 (0이면 CPU 코어 수, 커넥션 풀 크기 이하로 설정)
+ *     ranges-per-thread: 8           # 스레드당 ID 구간 수 (구간별 데이터 편차를 work-stealing으로 흡수)
+ *     chunk-size: 5000               # keyset 페이지 크기
+ *     lookback: 0s                   # 대사 대상 기간 (0이면 전체 주문)
+ *     grace-period: 10m              # 이보다 최근에 생성된 주문은 결제 생성 중일 수 있어 제외
+ *     max-reported-mismatches: 100000
+ *     report-directory: /var/lib/nuga/reconciliation
+ */
+@ConfigurationProperties(prefix = "payment.reconciliation")
+public record ReconciliationProperties(
+        boolean enabled,
+        int parallelism,
+        int rangesPerThread,
+        int chunkSize,
+        Duration lookback,
+        Duration gracePeriod,
+        int maxReportedMismatches,
+        String reportDirectory
+) {
+
+    public ReconciliationProperties {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (rangesPerThread <= 0) {
+            rangesPerThread = 8;
+        }
+        if (chunkSize <= 0) {
+            chunkSize = 5_000;
+        }
+        if (lookback == null || lookback.isNegative()) {
+            lookback = Duration.ZERO;
+        }
+        if (gracePeriod == null || gracePeriod.isNegative()) {
+            gracePeriod = Duration.ofMinutes(10);
+        }
+        if (maxReportedMismatches <= 0) {
+            maxReportedMismatches = 100_000;
+        }
+        if (reportDirectory == null) {
+            reportDirectory = "./data/reconciliation";
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정산 대사 결과
+ *
+ * counts는 유형별 전체 불일치 건수이고, mismatches는 max-reported-mismatches까지만 담습니다.
+ */
+public record ReconciliationReport(
+        LocalDateTime runAt,
+        long fromOrderIdExclusive,
+        long toOrderId,
+        long ordersScanned,
+        long paymentsScanned,
+        Map<MismatchType, Long> counts,
+        List<Mismatch> mismatches,
+        Duration elapsed
+) {
+
+    static ReconciliationReport empty(LocalDateTime runAt) {
+        return new ReconciliationReport(runAt, 0, 0, 0, 0, new EnumMap<>(MismatchType.class), List.of(), Duration.ZERO);
+    }
+
+    public long totalMismatches() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public boolean isTruncated() {
+        return totalMismatches() > mismatches.size();
+    }
+}
@@ -0,0 +1,76 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 정산 대사 리포트를 CSV 파일로 기록
+ *
+ * 첫 줄은 '#'으로 시작하는 요약(대상 구간, 스캔 건수, 유형별 건수)이고 이후는 불일치 한 건당 한 줄입니다.
+ * 임시 파일에 쓴 뒤 이동하므로 작성 중인 파일이 리포트로 읽히지 않습니다.
+ */
+public class ReconciliationReportWriter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String HEADER = "type,order_id,payment_id,order_status,payment_status,order_amount,payment_amount";
+
+    private final Path directory;
+
+    public ReconciliationReportWriter(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path write(ReconciliationReport report) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("reconciliation-" + FILE_TIMESTAMP.format(report.runAt()) + ".csv");
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(summary(report));
+            writer.newLine();
+            writer.write(HEADER);
+            writer.newLine();
+            for (Mismatch mismatch : report.mismatches()) {
+                writer.write(line(mismatch));
+                writer.newLine();
+            }
+        }
+        return Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String summary(ReconciliationReport report) {
+        StringBuilder summary = new StringBuilder("# runAt=").append(report.runAt())
+                .append(" orderIds=(").append(report.fromOrderIdExclusive()).append(',').append(report.toOrderId()).append(']')
+                .append(" orders=").append(report.ordersScanned())
+                .append(" payments=").append(report.paymentsScanned())
+                .append(" mismatches=").append(report.totalMismatches());
+        for (Map.Entry<MismatchType, Long> entry : report.counts().entrySet()) {
+            summary.append(' ').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        if (report.isTruncated()) {
+            summary.append(" truncated=").append(report.mismatches().size());
+        }
+        return summary.toString();
+    }
+
+    private static String line(Mismatch mismatch) {
+        return String.join(",",
+                mismatch.type().name(),
+                value(mismatch.orderId()),
+                value(mismatch.paymentId()),
+                value(mismatch.orderStatus()),
+                value(mismatch.paymentStatus()),
+                mismatch.orderAmount() == null ? "" : mismatch.orderAmount().toPlainString(),
+                mismatch.paymentAmount() == null ? "" : mismatch.paymentAmount().toPlainString());
+    }
+
+    private static String value(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
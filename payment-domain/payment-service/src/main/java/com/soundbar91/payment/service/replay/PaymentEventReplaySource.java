@@ -0,0 +1,77 @@
+package com.soundbar91.payment.service.replay;
+
+import com.soundbar91.common.event.ReplayEvent;
+import com.soundbar91.common.event.ReplaySource;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.PaymentFailedEvent;
+import com.soundbar91.payment.domain.event.RefundCompletedEvent;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * payments 테이블에서 결제 이벤트를 다시 만들어 내는 재생 소스 (위치: 결제 ID, 파티션 키: 주문 ID)
+ *
+ * 상태별로 발행되었을 이벤트를 원래 발생 시각으로 복원합니다.
+ * COMPLETED는 결제 완료, REFUNDED는 결제 완료와 환불 완료, FAILED는 결제 실패 이벤트가 되며
+ * 대기/처리 중/취소 상태의 결제는 발행된 이벤트가 없으므로 건너뜁니다.
+ */
+@Component
+public class PaymentEventReplaySource implements ReplaySource {
+
+    public static final String NAME = "payments";
+
+    private final PaymentRepository paymentRepository;
+
+    public PaymentEventReplaySource(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<ReplayEvent> read(long position, int limit) {
+        List<Payment> payments = paymentRepository.findAllAfterId(position, limit);
+        List<ReplayEvent> events = new ArrayList<>(payments.size());
+        for (Payment payment : payments) {
+            switch (payment.getStatus()) {
+                case COMPLETED -> events.add(event(payment, completed(payment)));
+                case REFUNDED -> {
+                    events.add(event(payment, completed(payment)));
+                    events.add(event(payment, new RefundCompletedEvent(payment.getId(), payment.getOrderId(),
+                            payment.getUserId(), payment.getShopId(), payment.getPaymentMethod(), payment.getAmount(),
+                            payment.getRefundedAt())));
+                }
+                case FAILED -> events.add(event(payment, new PaymentFailedEvent(payment.getId(), payment.getOrderId(),
+                        payment.getUserId(), payment.getAmount(), payment.getFailureReason(), payment.getUpdatedAt())));
+                case CANCELLED -> events.add(event(payment, new PaymentCancelledEvent(payment.getId(),
+                        payment.getOrderId(), payment.getUserId(), payment.getAmount(), payment.getFailureReason(),
+                        payment.getUpdatedAt())));
+                default -> {
+                }
+            }
+        }
+        // 이벤트가 없는 결제만 읽힌 배치도 다음 위치로 진행하도록 마지막 결제 위치를 남김
+        if (events.isEmpty() && !payments.isEmpty()) {
+            return List.of(new ReplayEvent(payments.get(payments.size() - 1).getId(), 0, null));
+        }
+        return events;
+    }
+
+    private static PaymentCompletedEvent completed(Payment payment) {
+        return new PaymentCompletedEvent(payment.getId(), payment.getOrderId(), payment.getUserId(),
+                payment.getShopId(), payment.getPaymentMethod(), payment.getAmount(), payment.getTransactionId(),
+                payment.getCompletedAt());
+    }
+
+    private static ReplayEvent event(Payment payment, Object event) {
+        return new ReplayEvent(payment.getId(), payment.getOrderId(), event);
+    }
+}
@@ -0,0 +1,101 @@
+package com.soundbar91.payment.service.rollup;
+
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.RefundCompletedEvent;
+import com.soundbar91.payment.domain.repository.RevenueRollupRepository;
+import com.soundbar91.payment.domain.vo.RevenueBucket;
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결제 완료/환불 이벤트를 매출 집계 버킷 증분으로 모아 주기적으로 반영
+ *
+ * 이벤트마다 DB를 갱신하지 않고 버킷(상점 x 일자 x 결제 수단)별 증분을 메모리에서 합친 뒤,
+ * flush-interval마다 batch-size 단위 트랜잭션으로 더합니다. 같은 버킷의 이벤트가 몰려도 버킷당 한 번만 갱신합니다.
+ * 반영에 실패한 배치는 다시 대기 증분에 합쳐 다음 주기에 재시도합니다.
+ * 리포트에는 최대 flush-interval만큼 늦게 반영되며, 프로세스가 비정상 종료되면 반영 전 증분은 유실됩니다.
+ * 이벤트는 결제 트랜잭션 커밋 후에만 집계합니다.
+ *
+ * 버킷 일자는 이벤트 발생 시각이며, PaymentService는 결제의 completed_at/refunded_at을 발생 시각으로 발행하므로
+ * 마이그레이션 백필(V3_5__create_payment_revenue_rollups.sql)과 같은 일자 버킷에 집계됩니다.
+ */
+public class RevenueRollupAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(RevenueRollupAggregator.class);
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ConcurrentHashMap<RevenueBucket, RevenueDelta> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public RevenueRollupAggregator(RevenueRollupRepository revenueRollupRepository,
+                                   TransactionTemplate transactionTemplate, RevenueRollupProperties properties) {
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.batchSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        RevenueBucket bucket = RevenueBucket.of(
+                event.getShopId(), event.getOccurredAt().toLocalDate(), event.getPaymentMethod());
+        add(RevenueDelta.payment(bucket, event.getAmount()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefundCompleted(RefundCompletedEvent event) {
+        RevenueBucket bucket = RevenueBucket.of(
+                event.getShopId(), event.getOccurredAt().toLocalDate(), event.getPaymentMethod());
+        add(RevenueDelta.refund(bucket, event.getRefundAmount()));
+    }
+
+    void add(RevenueDelta delta) {
+        pending.merge(delta.bucket(), delta, RevenueDelta::plus);
+    }
+
+    /**
+     * 대기 중인 증분을 DB에 반영 (종료 시에도 호출)
+     */
+    @Scheduled(fixedDelayString = "${payment.revenue-rollup.flush-interval:5s}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            // 버킷 단위로 원자적으로 꺼내므로, 꺼낸 뒤 들어온 증분은 새 항목으로 다음 주기에 반영됨
+            List<RevenueDelta> drained = new ArrayList<>(pending.size());
+            for (RevenueBucket bucket : pending.keySet()) {
+                RevenueDelta delta = pending.remove(bucket);
+                if (delta != null) {
+                    drained.add(delta);
+                }
+            }
+
+            int flushed = 0;
+            try {
+                while (flushed < drained.size()) {
+                    List<RevenueDelta> batch = drained.subList(flushed, Math.min(flushed + batchSize, drained.size()));
+                    transactionTemplate.executeWithoutResult(status -> revenueRollupRepository.addAll(batch));
+                    flushed += batch.size();
+                }
+            } catch (RuntimeException e) {
+                drained.subList(flushed, drained.size()).forEach(this::add);
+                log.warn("[RevenueRollup] 집계 반영 실패, 다음 주기에 재시도 - flushed: {}, retained: {}",
+                        flushed, drained.size() - flushed, e);
+            }
+        }
+    }
+
+    int getPendingBucketCount() {
+        return pending.size();
+    }
+}
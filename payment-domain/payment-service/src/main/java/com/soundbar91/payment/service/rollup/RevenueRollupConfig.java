@@ -0,0 +1,31 @@
+package com.soundbar91.payment.service.rollup;
+
+import com.soundbar91.payment.domain.repository.RevenueRollupRepository;
+import com.soundbar91.payment.service.PaymentService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매출 집계 설정
+ * payment.revenue-rollup.enabled=true 일 때만 결제 이벤트를 집계합니다. (리포트 조회는 항상 가능)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment.revenue-rollup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RevenueRollupProperties.class)
+@EnableScheduling
+public class RevenueRollupConfig {
+
+    @Bean(destroyMethod = "flush")
+    public RevenueRollupAggregator revenueRollupAggregator(
+            RevenueRollupRepository revenueRollupRepository,
+            RevenueRollupProperties properties,
+            @Qualifier(PaymentService.TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        return new RevenueRollupAggregator(revenueRollupRepository, new TransactionTemplate(transactionManager), properties);
+    }
+}
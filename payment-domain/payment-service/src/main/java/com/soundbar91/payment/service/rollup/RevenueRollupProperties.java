@@ -0,0 +1,33 @@
+package com.soundbar91.payment.service.rollup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 매출 집계(상점 x 일자 x 결제 수단) 설정 속성
+ * application.yml에서 'payment.revenue-rollup' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * payment:
+ *   revenue-rollup:
+ *     enabled: true
+ *     flush-interval: 5s   # 메모리 증분을 DB에 반영하는 주기 (@Scheduled에서 직접 참조)
+ *     batch-size: 500      # 한 트랜잭션에서 반영할 버킷 수
+ */
+@ConfigurationProperties(prefix = "payment.revenue-rollup")
+public record RevenueRollupProperties(
+        boolean enabled,
+        Duration flushInterval,
+        int batchSize
+) {
+
+    public RevenueRollupProperties {
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            flushInterval = Duration.ofSeconds(5);
+        }
+        if (batchSize <= 0) {
+            batchSize = 500;
+        }
+    }
+}
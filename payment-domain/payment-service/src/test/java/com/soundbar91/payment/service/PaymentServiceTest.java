@@ -2,6 +2,7 @@ package com.soundbar91.payment.service;
 
 import com.soundbar91.common.exception.NotFoundException;
 import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
 import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
 import com.soundbar91.payment.domain.event.RefundCompletedEvent;
 import com.soundbar91.payment.domain.repository.PaymentRepository;
@@ -315,6 +316,7 @@ class PaymentServiceTest {
 
             // then
             assertThat(result.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+            then(eventPublisher).should().publishEvent(any(PaymentCancelledEvent.class));
         }
 
         @Test
@@ -352,6 +354,7 @@ class PaymentServiceTest {
 
             // then
             assertThat(result.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+            then(eventPublisher).should().publishEvent(any(PaymentCancelledEvent.class));
         }
     }
 
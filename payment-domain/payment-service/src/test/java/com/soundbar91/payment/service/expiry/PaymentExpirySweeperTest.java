@@ -0,0 +1,81 @@
+package com.soundbar91.payment.service.expiry;
+
+import com.soundbar91.common.throttle.SweepProperties;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.event.PaymentCancelledEvent;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.test.fixture.PaymentFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentExpirySweeper 테스트")
+class PaymentExpirySweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusHours(24);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PaymentExpirySweeper sweeper;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        willAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sweeper = new PaymentExpirySweeper(paymentRepository, eventPublisher, transactionTemplate,
+                new SweepProperties(true, Duration.ofHours(24), 10, Duration.ofSeconds(1), Duration.ZERO), clock,
+                Runnable::run);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 결제를 일괄 취소하고 결제 취소 이벤트를 발행한다")
+    void sweep_CancelsStalePaymentsAndPublishesEvents() {
+        // given
+        Payment first = PaymentFixture.create().withId(100L).withOrderId(1L).build();
+        Payment second = PaymentFixture.create().withId(101L).withOrderId(2L).build();
+        given(paymentRepository.lockStalePending(CUTOFF, null, 0L, 10)).willReturn(List.of(first, second));
+        given(paymentRepository.cancelPending(List.of(100L, 101L), CUTOFF, NOW)).willReturn(2);
+
+        // when
+        long expired = sweeper.sweep();
+
+        // then
+        assertThat(expired).isEqualTo(2);
+        ArgumentCaptor<PaymentCancelledEvent> captor = ArgumentCaptor.forClass(PaymentCancelledEvent.class);
+        then(eventPublisher).should(times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(PaymentCancelledEvent::getOrderId).containsExactly(1L, 2L);
+        assertThat(captor.getAllValues()).extracting(PaymentCancelledEvent::getReason)
+                .containsOnly("결제 대기 시간 초과");
+    }
+}
@@ -0,0 +1,272 @@
+package com.soundbar91.payment.service.listener;
+
+import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.order.domain.event.OrderCancelledEvent;
+import com.soundbar91.order.domain.event.OrderCreatedEvent;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.service.PaymentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventListener 단위 테스트")
+class OrderEventListenerTest {
+
+    private static final OrderCreatedEvent CREATED = new OrderCreatedEvent(
+            1L, 10L, 42L, "테스트 상품", new BigDecimal("30000"), LocalDateTime.of(2025, 3, 1, 12, 0));
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrderPaymentOutbox outbox;
+
+    @Mock
+    private PlatformTransactionManager orderTransactionManager;
+
+    @Mock
+    private PlatformTransactionManager paymentTransactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // 주문 트랜잭션이 진행 중인 상태를 흉내
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static void commitOrderTransaction() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    @Nested
+    @DisplayName("공용 트랜잭션 매니저")
+    class SharedTransaction {
+
+        @Test
+        @DisplayName("주문 트랜잭션 안에서 바로 결제를 생성한다")
+        void handleOrderCreatedEvent_CreatesPaymentInOrderTransaction() {
+            // given
+            OrderEventListener listener = new OrderEventListener(paymentService, outbox, orderTransactionManager,
+                    orderTransactionManager);
+
+            // when
+            listener.handleOrderCreatedEvent(CREATED);
+
+            // then
+            then(paymentService).should().createPayment(1L, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+            then(orderTransactionManager).shouldHaveNoInteractions();
+            then(outbox).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("전용 트랜잭션 매니저")
+    class IsolatedTransaction {
+
+        private OrderEventListener listener;
+
+        @BeforeEach
+        void setUp() {
+            listener = new OrderEventListener(paymentService, outbox, orderTransactionManager,
+                    paymentTransactionManager);
+        }
+
+        @Test
+        @DisplayName("주문 트랜잭션 안에서 아웃박스에 남기고, 커밋된 뒤 새 결제 트랜잭션에서 결제를 생성한 다음 지운다")
+        void handleOrderCreatedEvent_CreatesPaymentAfterCommit() {
+            // given
+            given(outbox.add(any(), any())).willReturn(7L);
+            given(outbox.lock(7L)).willReturn(true);
+            given(paymentService.getPaymentByOrderId(1L)).willThrow(new NotFoundException("결제 없음"));
+
+            // when
+            listener.handleOrderCreatedEvent(CREATED);
+
+            // then
+            then(outbox).should().add(eq(OrderPaymentTask.create(1L, 10L, 42L, new BigDecimal("30000"))), any());
+            then(paymentService).shouldHaveNoInteractions();
+
+            commitOrderTransaction();
+
+            ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+            then(paymentTransactionManager).should().getTransaction(definition.capture());
+            assertThat(definition.getValue().getPropagationBehavior())
+                    .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            then(paymentService).should().createPayment(1L, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            then(outbox).should().remove(7L);
+        }
+
+        @Test
+        @DisplayName("주문이 롤백되면 환불하지 않는다")
+        void handleOrderCancelledEvent_WithRollback_DoesNotRefund() {
+            // when
+            listener.handleOrderCancelledEvent(new OrderCancelledEvent(1L, 10L, 42L, LocalDateTime.now()));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            then(paymentService).should(never()).refundPaymentByOrderId(any());
+        }
+
+        @Test
+        @DisplayName("주문을 취소하면 아직 처리되지 않은 결제 생성 작업을 버린다")
+        void handleOrderCancelledEvent_DiscardsPendingCreate() {
+            // when
+            listener.handleOrderCancelledEvent(new OrderCancelledEvent(1L, 10L, 42L, LocalDateTime.now()));
+
+            // then
+            then(outbox).should().discard(1L, OrderPaymentTask.Type.CREATE_PAYMENT);
+            then(outbox).should().add(eq(OrderPaymentTask.refund(1L)), any());
+        }
+
+        @Test
+        @DisplayName("커밋 후 결제 처리가 실패하면 예외를 전파하지 않고 아웃박스 작업을 남긴다")
+        void handleOrderCreatedEvent_WithFailureAfterCommit_KeepsTask() {
+            // given
+            given(outbox.add(any(), any())).willReturn(7L);
+            given(outbox.lock(7L)).willReturn(true);
+            given(paymentService.getPaymentByOrderId(1L)).willThrow(new NotFoundException("결제 없음"));
+            given(paymentService.createPayment(any(), any(), any(), any(), any()))
+                    .willThrow(new IllegalStateException("결제 DB 장애"));
+            listener.handleOrderCreatedEvent(CREATED);
+
+            // when
+            commitOrderTransaction();
+
+            // then
+            then(paymentTransactionManager).should().rollback(any());
+            then(orderTransactionManager).should().rollback(any());
+            then(outbox).should(never()).remove(anyLong());
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 재시도 중인 작업은 커밋 후 처리하지 않는다")
+        void handleOrderCreatedEvent_WithTaskLockedByRetry_Skips() {
+            // given
+            given(outbox.add(any(), any())).willReturn(7L);
+            given(outbox.lock(7L)).willReturn(false);
+            listener.handleOrderCreatedEvent(CREATED);
+
+            // when
+            commitOrderTransaction();
+
+            // then
+            then(paymentService).shouldHaveNoInteractions();
+            then(outbox).should(never()).remove(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 재시도")
+    class RetryPending {
+
+        private static final OrderPaymentTask PENDING =
+                new OrderPaymentTask(7L, OrderPaymentTask.Type.CREATE_PAYMENT, 1L, 10L, 42L, new BigDecimal("30000"), 2);
+
+        private OrderEventListener listener;
+
+        @BeforeEach
+        void setUp() {
+            listener = new OrderEventListener(paymentService, outbox, orderTransactionManager,
+                    paymentTransactionManager);
+        }
+
+        @Test
+        @DisplayName("재시도에 성공한 작업은 지운다")
+        void retryPending_WithSuccess_RemovesTask() {
+            // given
+            given(outbox.lockDue(any(), eq(OrderEventListener.RETRY_BATCH_SIZE))).willReturn(List.of(PENDING));
+            given(paymentService.getPaymentByOrderId(1L)).willThrow(new NotFoundException("결제 없음"));
+
+            // when
+            listener.retryPending();
+
+            // then
+            then(paymentService).should().createPayment(1L, 10L, 42L, new BigDecimal("30000"), PaymentMethod.CREDIT_CARD);
+            then(outbox).should().remove(7L);
+        }
+
+        @Test
+        @DisplayName("결제가 이미 있으면 다시 생성하지 않고 작업만 지운다")
+        void retryPending_WithExistingPayment_SkipsCreate() {
+            // given
+            given(outbox.lockDue(any(), eq(OrderEventListener.RETRY_BATCH_SIZE))).willReturn(List.of(PENDING));
+
+            // when
+            listener.retryPending();
+
+            // then
+            then(paymentService).should(never()).createPayment(any(), any(), any(), any(), any());
+            then(outbox).should().remove(7L);
+        }
+
+        @Test
+        @DisplayName("재시도에 실패하면 시도 횟수를 늘리고 다음 시도 시각을 미룬다")
+        void retryPending_WithFailure_Reschedules() {
+            // given
+            given(outbox.lockDue(any(), eq(OrderEventListener.RETRY_BATCH_SIZE))).willReturn(List.of(PENDING));
+            given(paymentService.getPaymentByOrderId(1L)).willThrow(new NotFoundException("결제 없음"));
+            given(paymentService.createPayment(any(), any(), any(), any(), any()))
+                    .willThrow(new IllegalStateException("결제 DB 장애"));
+
+            // when
+            listener.retryPending();
+
+            // then
+            then(outbox).should().reschedule(eq(7L), eq(3), any(), anyString());
+            then(outbox).should(never()).remove(anyLong());
+        }
+
+        @Test
+        @DisplayName("공용 트랜잭션 매니저이면 아무것도 하지 않는다")
+        void retryPending_WithSharedTransaction_DoesNothing() {
+            // given
+            OrderEventListener shared = new OrderEventListener(paymentService, outbox, orderTransactionManager,
+                    orderTransactionManager);
+
+            // when
+            shared.retryPending();
+
+            // then
+            then(outbox).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘어나며 1시간을 넘지 않는다")
+    void retryDelay_DoublesUpToMax() {
+        assertThat(OrderEventListener.retryDelay(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(OrderEventListener.retryDelay(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(OrderEventListener.retryDelay(30)).isEqualTo(Duration.ofHours(1));
+    }
+}
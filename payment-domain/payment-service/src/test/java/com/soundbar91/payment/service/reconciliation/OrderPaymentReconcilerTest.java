@@ -0,0 +1,322 @@
+package com.soundbar91.payment.service.reconciliation;
+
+import com.soundbar91.order.domain.repository.OrderRepository;
+import com.soundbar91.order.domain.vo.OrderSettlement;
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.entity.Payment;
+import com.soundbar91.payment.domain.repository.PaymentRepository;
+import com.soundbar91.payment.domain.vo.PaymentSettlement;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.test.fixture.OrderFixture;
+import com.soundbar91.test.fixture.PaymentFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OrderPaymentReconciler 테스트")
+class OrderPaymentReconcilerTest {
+
+    private final List<OrderSettlement> orders = new ArrayList<>();
+    private final List<PaymentSettlement> payments = new ArrayList<>();
+
+    private OrderRepository orderRepository;
+    private PaymentRepository paymentRepository;
+
+    @TempDir
+    private Path reportDirectory;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+
+        given(orderRepository.findMinId()).willAnswer(inv -> orders.stream().map(OrderSettlement::orderId).min(Long::compare));
+        given(orderRepository.findMaxId()).willAnswer(inv -> orders.stream().map(OrderSettlement::orderId).max(Long::compare));
+        given(orderRepository.findSettlements(anyLong(), anyLong(), anyInt())).willAnswer(inv -> {
+            long afterId = inv.getArgument(0);
+            long toId = inv.getArgument(1);
+            int limit = inv.getArgument(2);
+            return orders.stream()
+                    .filter(o -> o.orderId() > afterId && o.orderId() <= toId)
+                    .sorted(Comparator.comparing(OrderSettlement::orderId))
+                    .limit(limit)
+                    .toList();
+        });
+        given(paymentRepository.findSettlements(anyLong(), anyLong(), anyLong(), anyInt())).willAnswer(inv -> {
+            long afterOrderId = inv.getArgument(0);
+            long afterPaymentId = inv.getArgument(1);
+            long toOrderId = inv.getArgument(2);
+            int limit = inv.getArgument(3);
+            return payments.stream()
+                    .filter(p -> p.orderId() > afterOrderId || (p.orderId() == afterOrderId && p.paymentId() > afterPaymentId))
+                    .filter(p -> p.orderId() <= toOrderId)
+                    .sorted(Comparator.comparing(PaymentSettlement::orderId).thenComparing(PaymentSettlement::paymentId))
+                    .limit(limit)
+                    .toList();
+        });
+        given(orderRepository.findById(anyLong())).willAnswer(inv -> orders.stream()
+                .filter(o -> o.orderId().equals(inv.getArgument(0)))
+                .findFirst()
+                .map(o -> OrderFixture.create().withId(o.orderId()).withStatus(o.status()).withTotalAmount(o.totalAmount()).build()));
+        given(paymentRepository.findMinOrderId()).willAnswer(inv -> payments.stream().map(PaymentSettlement::orderId).min(Long::compare));
+        given(paymentRepository.findMaxOrderId()).willAnswer(inv -> payments.stream().map(PaymentSettlement::orderId).max(Long::compare));
+        given(paymentRepository.findAllByOrderId(anyLong())).willAnswer(inv -> payments.stream()
+                .filter(p -> p.orderId().equals(inv.getArgument(0)))
+                .sorted(Comparator.comparing(PaymentSettlement::paymentId))
+                .map(OrderPaymentReconcilerTest::toPayment)
+                .toList());
+    }
+
+    private static Payment toPayment(PaymentSettlement settlement) {
+        return PaymentFixture.create().withId(settlement.paymentId()).withOrderId(settlement.orderId())
+                .withStatus(settlement.status()).withAmount(settlement.amount()).build();
+    }
+
+    private OrderPaymentReconciler reconciler() {
+        ReconciliationProperties properties = new ReconciliationProperties(
+                true, 2, 2, 3, Duration.ZERO, Duration.ZERO, 0, reportDirectory.toString());
+        return new OrderPaymentReconciler(orderRepository, paymentRepository, properties,
+                new ReconciliationReportWriter(reportDirectory), Clock.systemDefaultZone());
+    }
+
+    private void order(long id, OrderStatus status, long amount) {
+        orders.add(new OrderSettlement(id, status, BigDecimal.valueOf(amount)));
+    }
+
+    private void payment(long orderId, long paymentId, PaymentStatus status, long amount) {
+        payments.add(new PaymentSettlement(orderId, paymentId, status, BigDecimal.valueOf(amount)));
+    }
+
+    @Nested
+    @DisplayName("대사 실행")
+    class Reconcile {
+
+        @Test
+        @DisplayName("모든 주문과 결제가 일치하면 구간을 나눠 전부 스캔하고 불일치가 없다")
+        void reconcile_WhenConsistent_ScansAllRangesWithoutMismatch() {
+            // given
+            for (long id = 1; id <= 40; id++) {
+                order(id, OrderStatus.CONFIRMED, 10_000);
+                payment(id, 1_000 + id, PaymentStatus.COMPLETED, 10_000);
+            }
+            order(41, OrderStatus.CANCELLED, 5_000);
+            payment(41, 1_041, PaymentStatus.REFUNDED, 5_000);
+            order(42, OrderStatus.CANCELLED, 5_000);
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.ordersScanned()).isEqualTo(42);
+            assertThat(report.paymentsScanned()).isEqualTo(41);
+            assertThat(report.totalMismatches()).isZero();
+        }
+
+        @Test
+        @DisplayName("유형별 불일치를 orderId 순서로 보고한다")
+        void reconcile_DetectsEachMismatchType() {
+            // given
+            order(1, OrderStatus.CONFIRMED, 10_000);
+            order(2, OrderStatus.CONFIRMED, 10_000);
+            payment(2, 102, PaymentStatus.COMPLETED, 9_000);
+            order(3, OrderStatus.CANCELLED, 10_000);
+            payment(3, 103, PaymentStatus.COMPLETED, 10_000);
+            payment(4, 104, PaymentStatus.COMPLETED, 10_000);
+            order(5, OrderStatus.DELIVERED, 10_000);
+            payment(5, 105, PaymentStatus.COMPLETED, 10_000);
+            payment(5, 106, PaymentStatus.PENDING, 10_000);
+            order(6, OrderStatus.SHIPPED, 10_000);
+            payment(6, 107, PaymentStatus.REFUNDED, 10_000);
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.mismatches())
+                    .extracting(Mismatch::type, Mismatch::orderId)
+                    .containsExactly(
+                            tuple(MismatchType.MISSING_PAYMENT, 1L),
+                            tuple(MismatchType.AMOUNT_MISMATCH, 2L),
+                            tuple(MismatchType.STATUS_MISMATCH, 3L),
+                            tuple(MismatchType.ORPHAN_PAYMENT, 4L),
+                            tuple(MismatchType.DUPLICATE_PAYMENT, 5L),
+                            tuple(MismatchType.STATUS_MISMATCH, 6L));
+        }
+
+        @Test
+        @DisplayName("스트림을 읽는 사이 해소된 불일치는 재조회 후 보고하지 않는다")
+        void reconcile_WhenResolvedOnRecheck_SkipsMismatch() {
+            // given
+            order(1, OrderStatus.CANCELLED, 10_000);
+            payment(1, 101, PaymentStatus.COMPLETED, 10_000);
+            given(paymentRepository.findAllByOrderId(1L)).willReturn(List.of(PaymentFixture.create()
+                    .withId(101L).withOrderId(1L).withStatus(PaymentStatus.REFUNDED)
+                    .withAmount(BigDecimal.valueOf(10_000)).build()));
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.totalMismatches()).isZero();
+        }
+
+        @Test
+        @DisplayName("재조회 시점에 결제가 둘 이상이면 예외 없이 중복 결제로 보고한다")
+        void reconcile_WhenDuplicatedOnRecheck_ReportsDuplicate() {
+            // given
+            order(1, OrderStatus.CONFIRMED, 10_000);
+            order(2, OrderStatus.CONFIRMED, 10_000);
+            payment(2, 102, PaymentStatus.COMPLETED, 10_000);
+            given(paymentRepository.findAllByOrderId(1L)).willReturn(List.of(
+                    toPayment(new PaymentSettlement(1L, 101L, PaymentStatus.COMPLETED, BigDecimal.valueOf(10_000))),
+                    toPayment(new PaymentSettlement(1L, 103L, PaymentStatus.COMPLETED, BigDecimal.valueOf(10_000)))));
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.ordersScanned()).isEqualTo(2);
+            assertThat(report.mismatches())
+                    .extracting(Mismatch::type, Mismatch::orderId, Mismatch::paymentId)
+                    .containsExactly(tuple(MismatchType.DUPLICATE_PAYMENT, 1L, 103L));
+        }
+
+        @Test
+        @DisplayName("콜드 아카이브로 옮겨진 주문의 결제는 재조회 시 아카이브에서 찾아 주문 없는 결제로 보고하지 않는다")
+        void reconcile_WithArchivedOrder_DoesNotReportOrphan() {
+            // given
+            order(1, OrderStatus.CONFIRMED, 10_000);
+            payment(1, 101, PaymentStatus.COMPLETED, 10_000);
+            payment(2, 102, PaymentStatus.COMPLETED, 10_000);
+            given(orderRepository.findArchivedById(2L)).willReturn(Optional.of(OrderFixture.create()
+                    .withId(2L).withStatus(OrderStatus.DELIVERED).withTotalAmount(BigDecimal.valueOf(10_000)).build()));
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.paymentsScanned()).isEqualTo(2);
+            assertThat(report.totalMismatches()).isZero();
+        }
+
+        @Test
+        @DisplayName("주문 ID 범위 밖의 orderId를 가진 결제도 주문 없는 결제로 보고한다")
+        void reconcile_WithPaymentsOutsideOrderIdRange_ReportsOrphans() {
+            // given
+            payment(5, 105, PaymentStatus.COMPLETED, 10_000);
+            order(10, OrderStatus.CONFIRMED, 10_000);
+            payment(10, 110, PaymentStatus.COMPLETED, 10_000);
+            payment(20, 120, PaymentStatus.COMPLETED, 10_000);
+
+            // when
+            ReconciliationReport report = reconciler().reconcile();
+
+            // then
+            assertThat(report.paymentsScanned()).isEqualTo(3);
+            assertThat(report.mismatches())
+                    .extracting(Mismatch::type, Mismatch::orderId)
+                    .containsExactly(
+                            tuple(MismatchType.ORPHAN_PAYMENT, 5L),
+                            tuple(MismatchType.ORPHAN_PAYMENT, 20L));
+        }
+
+        @Test
+        @DisplayName("리포트 파일에 요약과 불일치 행을 기록한다")
+        void run_WritesCompactReport() throws Exception {
+            // given
+            order(1, OrderStatus.CONFIRMED, 10_000);
+
+            // when
+            reconciler().run();
+
+            // then
+            try (var files = Files.list(reportDirectory)) {
+                Path file = files.filter(f -> f.toString().endsWith(".csv")).findFirst().orElseThrow();
+                assertThat(Files.readAllLines(file))
+                        .hasSize(3)
+                        .satisfies(lines -> assertThat(lines.get(0)).contains("mismatches=1", "MISSING_PAYMENT=1"))
+                        .endsWith("MISSING_PAYMENT,1,,CONFIRMED,,10000,");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("불일치 판정")
+    class Classify {
+
+        @Test
+        @DisplayName("취소된 주문은 결제가 없거나 실패 상태여도 일치로 본다")
+        void classify_CancelledOrder_AllowsMissingOrFailedPayment() {
+            OrderSettlement cancelled = new OrderSettlement(1L, OrderStatus.CANCELLED, BigDecimal.TEN);
+
+            assertThat(OrderPaymentReconciler.classify(cancelled, null)).isNull();
+            assertThat(OrderPaymentReconciler.classify(cancelled,
+                    new PaymentSettlement(1L, 2L, PaymentStatus.FAILED, BigDecimal.TEN))).isNull();
+        }
+
+        @Test
+        @DisplayName("취소되지 않은 주문의 결제가 실패 상태면 상태 불일치로 본다")
+        void classify_NonCancelledOrderWithFailedPayment_ReturnsStatusMismatch() {
+            PaymentSettlement failed = new PaymentSettlement(1L, 2L, PaymentStatus.FAILED, BigDecimal.TEN);
+
+            assertThat(OrderPaymentReconciler.classify(
+                    new OrderSettlement(1L, OrderStatus.PENDING, BigDecimal.TEN), failed))
+                    .isEqualTo(MismatchType.STATUS_MISMATCH);
+            assertThat(OrderPaymentReconciler.classify(
+                    new OrderSettlement(1L, OrderStatus.CONFIRMED, BigDecimal.TEN), failed))
+                    .isEqualTo(MismatchType.STATUS_MISMATCH);
+        }
+
+        @Test
+        @DisplayName("확정 이후의 주문은 결제가 완료 상태가 아니면 상태 불일치로 본다")
+        void classify_ConfirmedOrderWithUnfinishedPayment_ReturnsStatusMismatch() {
+            OrderSettlement delivered = new OrderSettlement(1L, OrderStatus.DELIVERED, BigDecimal.TEN);
+
+            assertThat(OrderPaymentReconciler.classify(delivered,
+                    new PaymentSettlement(1L, 2L, PaymentStatus.PENDING, BigDecimal.TEN)))
+                    .isEqualTo(MismatchType.STATUS_MISMATCH);
+            assertThat(OrderPaymentReconciler.classify(delivered,
+                    new PaymentSettlement(1L, 2L, PaymentStatus.PROCESSING, BigDecimal.TEN)))
+                    .isEqualTo(MismatchType.STATUS_MISMATCH);
+        }
+
+        @Test
+        @DisplayName("대기 중인 주문은 결제가 대기/처리 중/완료 상태면 일치로 본다")
+        void classify_PendingOrder_AllowsInFlightPayment() {
+            OrderSettlement pending = new OrderSettlement(1L, OrderStatus.PENDING, BigDecimal.TEN);
+
+            for (PaymentStatus status : List.of(PaymentStatus.PENDING, PaymentStatus.PROCESSING, PaymentStatus.COMPLETED)) {
+                assertThat(OrderPaymentReconciler.classify(pending,
+                        new PaymentSettlement(1L, 2L, status, BigDecimal.TEN))).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("금액은 scale과 무관하게 비교한다")
+        void classify_ComparesAmountIgnoringScale() {
+            OrderSettlement order = new OrderSettlement(1L, OrderStatus.CONFIRMED, new BigDecimal("10.00"));
+
+            assertThat(OrderPaymentReconciler.classify(order,
+                    new PaymentSettlement(1L, 2L, PaymentStatus.COMPLETED, BigDecimal.TEN))).isNull();
+        }
+    }
+}
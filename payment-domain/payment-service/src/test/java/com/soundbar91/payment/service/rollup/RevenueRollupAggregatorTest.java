@@ -0,0 +1,131 @@
+package com.soundbar91.payment.service.rollup;
+
+import com.soundbar91.payment.domain.event.PaymentCompletedEvent;
+import com.soundbar91.payment.domain.event.RefundCompletedEvent;
+import com.soundbar91.payment.domain.repository.RevenueRollupRepository;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.RevenueBucket;
+import com.soundbar91.payment.domain.vo.RevenueDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RevenueRollupAggregator 테스트")
+class RevenueRollupAggregatorTest {
+
+    private final List<List<RevenueDelta>> flushedBatches = new ArrayList<>();
+
+    private RevenueRollupRepository revenueRollupRepository;
+    private TransactionTemplate transactionTemplate;
+    private RevenueRollupAggregator aggregator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        revenueRollupRepository = mock(RevenueRollupRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        willAnswer(inv -> {
+            ((Consumer<Object>) inv.getArgument(0)).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(inv -> flushedBatches.add(List.copyOf((Collection<RevenueDelta>) inv.getArgument(0))))
+                .given(revenueRollupRepository).addAll(any());
+        aggregator = new RevenueRollupAggregator(revenueRollupRepository, transactionTemplate,
+                new RevenueRollupProperties(true, Duration.ofSeconds(5), 2));
+    }
+
+    private static PaymentCompletedEvent completed(Long shopId, PaymentMethod method, long amount) {
+        return new PaymentCompletedEvent(1L, 1L, 1L, shopId, method, BigDecimal.valueOf(amount), "TXN-1");
+    }
+
+    @Nested
+    @DisplayName("증분 합치기")
+    class Coalesce {
+
+        @Test
+        @DisplayName("같은 버킷의 결제와 환불은 하나의 증분으로 합쳐 한 번만 반영한다")
+        void flush_CoalescesSameBucket() {
+            // given
+            aggregator.onPaymentCompleted(completed(42L, PaymentMethod.CREDIT_CARD, 10_000));
+            aggregator.onPaymentCompleted(completed(42L, PaymentMethod.CREDIT_CARD, 5_000));
+            aggregator.onRefundCompleted(new RefundCompletedEvent(1L, 1L, 1L, 42L, PaymentMethod.CREDIT_CARD,
+                    BigDecimal.valueOf(5_000)));
+
+            // when
+            aggregator.flush();
+
+            // then
+            assertThat(flushedBatches).hasSize(1);
+            RevenueDelta delta = flushedBatches.get(0).get(0);
+            assertThat(delta.bucket().shopId()).isEqualTo(42L);
+            assertThat(delta.paymentCount()).isEqualTo(2);
+            assertThat(delta.grossAmount()).isEqualByComparingTo("15000");
+            assertThat(delta.refundCount()).isEqualTo(1);
+            assertThat(delta.refundAmount()).isEqualByComparingTo("5000");
+            assertThat(aggregator.getPendingBucketCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("상점 정보가 없는 결제는 UNKNOWN_SHOP_ID 버킷으로 집계하고 버킷을 batch-size 단위로 나눠 반영한다")
+        void flush_SplitsBatchesAndMapsUnknownShop() {
+            // given
+            aggregator.onPaymentCompleted(completed(null, PaymentMethod.CREDIT_CARD, 1_000));
+            aggregator.onPaymentCompleted(completed(1L, PaymentMethod.CREDIT_CARD, 1_000));
+            aggregator.onPaymentCompleted(completed(1L, PaymentMethod.BANK_TRANSFER, 1_000));
+
+            // when
+            aggregator.flush();
+
+            // then
+            assertThat(flushedBatches).extracting(List::size).containsExactly(2, 1);
+            assertThat(flushedBatches.stream().flatMap(List::stream).map(d -> d.bucket().shopId()))
+                    .contains(RevenueBucket.UNKNOWN_SHOP_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("반영 실패")
+    class Failure {
+
+        @Test
+        @DisplayName("반영에 실패한 증분은 보관했다가 다음 주기에 다시 반영한다")
+        void flush_WhenRepositoryFails_RetainsDeltas() {
+            // given
+            aggregator.onPaymentCompleted(completed(42L, PaymentMethod.CREDIT_CARD, 10_000));
+            willThrow(new IllegalStateException("duplicate key")).given(revenueRollupRepository).addAll(any());
+
+            // when
+            aggregator.flush();
+
+            // then
+            assertThat(aggregator.getPendingBucketCount()).isEqualTo(1);
+
+            // when
+            aggregator.onPaymentCompleted(completed(42L, PaymentMethod.CREDIT_CARD, 1_000));
+            willAnswer(inv -> flushedBatches.add(List.copyOf(inv.<Collection<RevenueDelta>>getArgument(0))))
+                    .given(revenueRollupRepository).addAll(any());
+            aggregator.flush();
+
+            // then
+            assertThat(flushedBatches).hasSize(1);
+            assertThat(flushedBatches.get(0).get(0).grossAmount()).isEqualByComparingTo("11000");
+            assertThat(flushedBatches.get(0).get(0).paymentCount()).isEqualTo(2);
+        }
+    }
+}
@@ -4,14 +4,32 @@ import com.soundbar91.security.jwt.JwtAccessDeniedHandler;
 import com.soundbar91.security.jwt.JwtAuthenticationEntryPoint;
 import com.soundbar91.security.jwt.JwtProperties;
 import com.soundbar91.security.jwt.JwtTokenProvider;
+import com.soundbar91.security.ratelimit.RateLimitFilter;
+import com.soundbar91.security.ratelimit.RateLimitProperties;
+import com.soundbar91.security.revocation.InMemoryRevokedTokenStore;
+import com.soundbar91.security.revocation.JdbcRevokedTokenStore;
+import com.soundbar91.security.revocation.RevokedTokenStore;
+import com.soundbar91.security.revocation.TokenRevocationList;
+import com.soundbar91.security.revocation.TokenRevocationProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
 
 @AutoConfiguration
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, RateLimitProperties.class, TokenRevocationProperties.class})
 @Import(SecurityConfig.class)
 public class SecurityAutoConfiguration {
 
@@ -32,4 +50,51 @@ public class SecurityAutoConfiguration {
     public JwtAccessDeniedHandler jwtAccessDeniedHandler() {
         return new JwtAccessDeniedHandler();
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "security.rate-limit", name = "enabled", havingValue = "true")
+    public RateLimitFilter rateLimitFilter(RateLimitProperties rateLimitProperties) {
+        return new RateLimitFilter(rateLimitProperties);
+    }
+
+    /**
+     * RateLimitFilter는 SecurityFilterChain 안에서만 실행되도록 서블릿 필터 자동 등록을 끕니다.
+     */
+    @Bean
+    @ConditionalOnBean(RateLimitFilter.class)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * JWT 폐기 목록 (security.revocation.enabled=true)
+     * DataSource가 있으면 revoked_tokens 테이블을, 없으면 메모리를 저장소로 사용합니다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "security.revocation", name = "enabled", havingValue = "true")
+    @EnableScheduling
+    static class TokenRevocationConfiguration {
+
+        private static final String JDBC_TEMPLATE_CLASS = "org.springframework.jdbc.core.JdbcTemplate";
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RevokedTokenStore revokedTokenStore(ObjectProvider<DataSource> dataSource) {
+            DataSource available = dataSource.getIfAvailable();
+            if (available != null && ClassUtils.isPresent(JDBC_TEMPLATE_CLASS, getClass().getClassLoader())) {
+                return new JdbcRevokedTokenStore(new JdbcTemplate(available));
+            }
+            return new InMemoryRevokedTokenStore();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TokenRevocationList tokenRevocationList(RevokedTokenStore revokedTokenStore,
+                                                       TokenRevocationProperties properties) {
+            return new TokenRevocationList(revokedTokenStore, properties, Clock.systemUTC());
+        }
+    }
 }
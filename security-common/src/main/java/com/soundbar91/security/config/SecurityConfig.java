@@ -4,6 +4,9 @@ import com.soundbar91.security.jwt.JwtAccessDeniedHandler;
 import com.soundbar91.security.jwt.JwtAuthenticationEntryPoint;
 import com.soundbar91.security.jwt.JwtAuthenticationFilter;
 import com.soundbar91.security.jwt.JwtTokenProvider;
+import com.soundbar91.security.ratelimit.RateLimitFilter;
+import com.soundbar91.security.revocation.TokenRevocationList;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,15 +34,21 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final ObjectProvider<RateLimitFilter> rateLimitFilter;
+    private final ObjectProvider<TokenRevocationList> tokenRevocationList;
 
     public SecurityConfig(
             JwtTokenProvider jwtTokenProvider,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-            JwtAccessDeniedHandler jwtAccessDeniedHandler
+            JwtAccessDeniedHandler jwtAccessDeniedHandler,
+            ObjectProvider<RateLimitFilter> rateLimitFilter,
+            ObjectProvider<TokenRevocationList> tokenRevocationList
     ) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
+        this.rateLimitFilter = rateLimitFilter;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Bean
@@ -66,10 +75,13 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationList.getIfAvailable()),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
+        // 속도 제한은 JWT subject를 키로 쓰기 위해 인증 필터 다음에 실행 (security.rate-limit.enabled=true)
+        rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, JwtAuthenticationFilter.class));
+
         return http.build();
     }
 
@@ -1,6 +1,7 @@
 package com.soundbar91.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soundbar91.common.exception.ErrorBodyTemplate;
+import com.soundbar91.common.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
@@ -8,13 +9,14 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * 인가 실패(403) 응답 처리
+ * 미리 직렬화한 에러 본문 템플릿에 경로만 채워 기록합니다.
+ */
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ErrorBodyTemplate TEMPLATE = ErrorBodyTemplate.of(ErrorCode.FORBIDDEN);
 
     @Override
     public void handle(
@@ -22,17 +24,11 @@ public class JwtAccessDeniedHandler implements AccessDeniedHandler {
             HttpServletResponse response,
             AccessDeniedException accessDeniedException
     ) throws IOException {
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        byte[] body = TEMPLATE.render(null, request.getRequestURI());
+        response.setStatus(TEMPLATE.status());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now().toString());
-        errorResponse.put("status", HttpServletResponse.SC_FORBIDDEN);
-        errorResponse.put("error", "Forbidden");
-        errorResponse.put("message", "접근 권한이 없습니다.");
-        errorResponse.put("path", request.getRequestURI());
-
-        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
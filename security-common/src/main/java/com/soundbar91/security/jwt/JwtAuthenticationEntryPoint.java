@@ -1,6 +1,7 @@
 package com.soundbar91.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soundbar91.common.exception.ErrorBodyTemplate;
+import com.soundbar91.common.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
@@ -8,13 +9,14 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * 인증 실패(401) 응답 처리
+ * 미리 직렬화한 에러 본문 템플릿에 경로만 채워 기록합니다.
+ */
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ErrorBodyTemplate TEMPLATE = ErrorBodyTemplate.of(ErrorCode.UNAUTHORIZED);
 
     @Override
     public void commence(
@@ -22,17 +24,11 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
             HttpServletResponse response,
             AuthenticationException authException
     ) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        byte[] body = TEMPLATE.render(null, request.getRequestURI());
+        response.setStatus(TEMPLATE.status());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now().toString());
-        errorResponse.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-        errorResponse.put("error", "Unauthorized");
-        errorResponse.put("message", "인증이 필요합니다.");
-        errorResponse.put("path", request.getRequestURI());
-
-        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
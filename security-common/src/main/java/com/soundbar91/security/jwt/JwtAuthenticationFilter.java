@@ -1,5 +1,7 @@
 package com.soundbar91.security.jwt;
 
+import com.soundbar91.security.revocation.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,9 +19,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this(jwtTokenProvider, null);
+    }
+
+    /**
+     * @param tokenRevocationList 폐기 목록 (security.revocation.enabled=false이면 null)
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationList tokenRevocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     @Override
@@ -30,14 +41,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.parseValidClaims(token) : null;
+        if (claims != null && !isRevoked(claims)) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims, token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationList != null && tokenRevocationList.isRevoked(claims.getId());
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
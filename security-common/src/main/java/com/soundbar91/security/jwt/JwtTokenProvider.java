@@ -1,33 +1,45 @@
 package com.soundbar91.security.jwt;
 
+import com.soundbar91.security.principal.JwtAuthenticationToken;
+import com.soundbar91.security.principal.JwtPrincipal;
+import com.soundbar91.security.principal.SecurityRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 public class JwtTokenProvider {
 
+    /**
+     * 이전 형식의 권한 클레임 (콤마로 구분한 권한명). 발급된 토큰 호환을 위해 읽기만 합니다.
+     */
     private static final String AUTHORITIES_KEY = "auth";
 
+    /**
+     * 역할 비트마스크 클레임 (SecurityRole.mask()의 OR)
+     */
+    private static final String ROLES_KEY = "rol";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final JwtProperties jwtProperties;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String createAccessToken(Authentication authentication) {
@@ -39,16 +51,15 @@ public class JwtTokenProvider {
     }
 
     private String createToken(Authentication authentication, long expiration) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        int roles = SecurityRole.maskOf(authentication.getAuthorities());
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
+                .claim(ROLES_KEY, roles)
                 .issuer(jwtProperties.issuer())
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -57,25 +68,46 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token), token);
+    }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY, String.class).split(","))
-                        .filter(auth -> !auth.isBlank())
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+    /**
+     * 이미 검증한 클레임으로 Authentication 생성 (토큰을 다시 파싱하지 않음)
+     * 권한 목록은 역할 조합별 공유 인스턴스를 사용합니다.
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
+        return new JwtAuthenticationToken(new JwtPrincipal(claims.getSubject(), roleMaskOf(claims)), token);
+    }
 
-        User principal = new User(claims.getSubject(), "", authorities);
+    private static int roleMaskOf(Claims claims) {
+        Integer roles = claims.get(ROLES_KEY, Integer.class);
+        if (roles != null) {
+            return roles;
+        }
+        String authorities = claims.get(AUTHORITIES_KEY, String.class);
+        if (authorities == null || authorities.isBlank()) {
+            return 0;
+        }
+        return SecurityRole.maskOf(Arrays.stream(authorities.split(","))
+                .map(String::trim)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList());
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * 서명과 만료를 검증하고 클레임 반환 (유효하지 않으면 null)
+     */
+    public Claims parseValidClaims(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -97,13 +129,20 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    /**
+     * 토큰 ID (jti 클레임, 폐기 목록의 키)
+     */
+    public String getTokenId(String token) {
+        return parseClaims(token).getId();
+    }
+
+    public Instant getExpiration(String token) {
+        return parseClaims(token).getExpiration().toInstant();
+    }
+
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
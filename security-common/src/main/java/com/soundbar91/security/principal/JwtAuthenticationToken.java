@@ -0,0 +1,71 @@
+package com.soundbar91.security.principal;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증 결과
+ *
+ * 권한 목록은 SecurityRole이 역할 조합별로 미리 만든 공유 인스턴스를 사용하므로 요청마다 할당하지 않습니다.
+ * 생성 시점에 이미 검증된 토큰만 담으므로 항상 인증된 상태입니다.
+ */
+public final class JwtAuthenticationToken implements Authentication {
+
+    private final JwtPrincipal principal;
+    private final String token;
+    private Object details;
+
+    public JwtAuthenticationToken(JwtPrincipal principal, String token) {
+        this.principal = principal;
+        this.token = token;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return SecurityRole.authoritiesOf(principal.roleMask());
+    }
+
+    @Override
+    public String getCredentials() {
+        return token;
+    }
+
+    @Override
+    public Object getDetails() {
+        return details;
+    }
+
+    public void setDetails(Object details) {
+        this.details = details;
+    }
+
+    @Override
+    public JwtPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            return;
+        }
+        throw new IllegalArgumentException("JWT 인증 결과는 미인증 상태로 바꿀 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return principal.subject();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthenticationToken[subject=" + principal.subject() + ", roles=" + getAuthorities() + "]";
+    }
+}
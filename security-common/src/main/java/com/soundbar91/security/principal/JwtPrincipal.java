@@ -0,0 +1,25 @@
+package com.soundbar91.security.principal;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 주체 (subject와 역할 비트마스크)
+ */
+public record JwtPrincipal(String subject, int roleMask) implements Principal {
+
+    @Override
+    public String getName() {
+        return subject;
+    }
+
+    public boolean hasRole(SecurityRole role) {
+        return (roleMask & role.mask()) != 0;
+    }
+
+    /**
+     * mask에 포함된 역할 중 하나라도 있는지 확인 (mask는 SecurityRole.mask()의 OR)
+     */
+    public boolean hasAnyRole(int mask) {
+        return (roleMask & mask) != 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.soundbar91.security.principal;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰에 비트마스크로 담는 역할
+ *
+ * user-domain의 UserRole과 같은 이름을 사용합니다(security-common은 도메인 모듈에 의존하지 않음).
+ * 비트 위치는 발급된 토큰과의 호환을 위해 바꾸지 말고, 새 역할은 빈 비트에 추가합니다.
+ * 권한 객체와 역할 조합별 권한 목록은 미리 만들어 모든 요청이 공유합니다.
+ */
+public enum SecurityRole {
+    ADMIN(0),
+    USER(1),
+    SELLER(2),
+    MANAGER(3);
+
+    private static final SecurityRole[] VALUES = values();
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK;
+
+    static {
+        int combinations = 1 << VALUES.length;
+        List<List<GrantedAuthority>> byMask = new ArrayList<>(combinations);
+        for (int mask = 0; mask < combinations; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (SecurityRole role : VALUES) {
+                if ((mask & role.mask) != 0) {
+                    authorities.add(role.authority);
+                }
+            }
+            byMask.add(List.copyOf(authorities));
+        }
+        AUTHORITIES_BY_MASK = List.copyOf(byMask);
+    }
+
+    private final int mask;
+    private final GrantedAuthority authority;
+
+    SecurityRole(int bit) {
+        this.mask = 1 << bit;
+        this.authority = new SimpleGrantedAuthority("ROLE_" + name());
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    public GrantedAuthority authority() {
+        return authority;
+    }
+
+    /**
+     * 역할명 또는 권한명("ADMIN", "ROLE_ADMIN")으로 역할 조회 (문자열 결합 없이 비교)
+     *
+     * @return 알 수 없는 이름이면 null
+     */
+    public static SecurityRole fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        int offset = name.startsWith("ROLE_") ? 5 : 0;
+        for (SecurityRole role : VALUES) {
+            String roleName = role.name();
+            if (name.length() - offset == roleName.length() && name.startsWith(roleName, offset)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 권한 목록을 비트마스크로 변환 (알 수 없는 권한은 무시)
+     */
+    public static int maskOf(Iterable<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            SecurityRole role = fromName(authority.getAuthority());
+            if (role != null) {
+                mask |= role.mask;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크에 해당하는 공유 권한 목록 (불변)
+     */
+    public static List<GrantedAuthority> authoritiesOf(int mask) {
+        return AUTHORITIES_BY_MASK.get(mask & (AUTHORITIES_BY_MASK.size() - 1));
+    }
+}
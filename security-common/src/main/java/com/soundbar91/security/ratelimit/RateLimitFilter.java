@@ -0,0 +1,148 @@
+package com.soundbar91.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soundbar91.common.exception.ErrorBodyTemplate;
+import com.soundbar91.common.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 기반 요청 속도 제한 필터
+ *
+ * JwtAuthenticationFilter 다음에 실행되어, 인증된 요청은 JWT subject로, 그 외에는 클라이언트 IP로 버킷을 구분합니다.
+ * 버킷은 (규칙, 키) 단위로 생성되며 max-keys로 크기를 제한하고 idle-timeout 동안 요청이 없으면 제거합니다.
+ * 한도를 넘은 요청은 429와 Retry-After(초)로 응답합니다.
+ *
+ * 앞단에 리버스 프록시가 있으면 remoteAddr이 모두 프록시 주소가 되므로, trusted-proxies 만큼의 홉을
+ * X-Forwarded-For 오른쪽에서부터 건너뛴 항목을 클라이언트 IP로 사용합니다.
+ * 클라이언트가 임의로 넣은 왼쪽 항목은 신뢰하지 않습니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private static final String DEFAULT_RULE = "default";
+    private static final ErrorBodyTemplate TEMPLATE = ErrorBodyTemplate.of(ErrorCode.TOO_MANY_REQUESTS);
+
+    private final List<Rule> rules;
+    private final Rule defaultRule;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+    private final int trustedProxies;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, LongSupplier nanoClock) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = properties.routes().stream()
+                .map(route -> new Rule((route.method() == null ? "*" : route.method()) + " " + route.pattern(), route.method(),
+                        parser.parse(route.pattern()), route.limit()))
+                .toList();
+        this.defaultRule = new Rule(DEFAULT_RULE, null, null, properties.defaultLimit());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+        this.trustedProxies = properties.trustedProxies();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Rule rule = resolveRule(request);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(rule.id() + '|' + resolveClientKey(request),
+                key -> new TokenBucket(rule.limit().capacity(), rule.limit().period().toNanos(), now));
+
+        long result = bucket.tryConsume(now);
+        if (result >= 0) {
+            response.setHeader(REMAINING_HEADER, Long.toString(result));
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, -result);
+    }
+
+    private Rule resolveRule(HttpServletRequest request) {
+        if (rules.isEmpty()) {
+            return defaultRule;
+        }
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        for (Rule rule : rules) {
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(request.getMethod()))
+                    && rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "sub:" + authentication.getName();
+        }
+        return "ip:" + resolveClientIp(request);
+    }
+
+    /**
+     * X-Forwarded-For 오른쪽에서 trusted-proxies 번째 항목(가장 바깥 프록시가 직접 본 주소)을 반환
+     * 헤더 항목이 trusted-proxies보다 적으면 가장 왼쪽 항목을 사용합니다.
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (trustedProxies == 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        String[] hops = forwardedFor.split(",");
+        String clientIp = hops[Math.max(0, hops.length - trustedProxies)].trim();
+        return clientIp.isEmpty() ? request.getRemoteAddr() : clientIp;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        byte[] body = TEMPLATE.render(
+                "요청 한도를 초과했습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.", request.getRequestURI());
+        response.setStatus(TEMPLATE.status());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    long getBucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private record Rule(String id, String method, PathPattern pattern, RateLimitProperties.Limit limit) {
+    }
+}
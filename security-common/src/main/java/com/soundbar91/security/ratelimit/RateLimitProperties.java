@@ -0,0 +1,89 @@
+package com.soundbar91.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 속성
+ * application.yml에서 'security.rate-limit' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * security:
+ *   rate-limit:
+ *     enabled: true
+ *     default-limit:
+ *       capacity: 100      # 최대 연속 요청 수 (버킷 크기)
+ *       period: 1s         # capacity개가 모두 충전되는 시간
+ *     routes:              # 위에서부터 처음 일치하는 규칙 적용, 없으면 default-limit
+ *       - method: POST
+ *         pattern: /api/v2/orders
+ *         capacity: 10
+ *         period: 1m
+ *     max-keys: 100000     # 보관할 최대 버킷 수
+ *     idle-timeout: 10m    # 이 시간 동안 요청이 없는 버킷 제거
+ *     trusted-proxies: 1   # 앞단 리버스 프록시(LB) 수, 0이면 X-Forwarded-For를 무시하고 remoteAddr 사용
+ */
+@ConfigurationProperties(prefix = "security.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        Limit defaultLimit,
+        List<Route> routes,
+        long maxKeys,
+        Duration idleTimeout,
+        int trustedProxies
+) {
+
+    public RateLimitProperties {
+        if (defaultLimit == null) {
+            defaultLimit = new Limit(100, Duration.ofSeconds(1));
+        }
+        if (routes == null) {
+            routes = List.of();
+        }
+        if (maxKeys <= 0) {
+            maxKeys = 100_000;
+        }
+        if (idleTimeout == null) {
+            idleTimeout = Duration.ofMinutes(10);
+        }
+        if (trustedProxies < 0) {
+            trustedProxies = 0;
+        }
+    }
+
+    public record Limit(long capacity, Duration period) {
+
+        public Limit {
+            if (capacity <= 0) {
+                capacity = 100;
+            }
+            if (period == null || period.isZero() || period.isNegative()) {
+                period = Duration.ofSeconds(1);
+            }
+        }
+    }
+
+    /**
+     * 경로별 제한 규칙 (method가 없으면 모든 메서드에 적용)
+     */
+    public record Route(String method, String pattern, long capacity, Duration period) {
+
+        public Route {
+            if (pattern == null || pattern.isBlank()) {
+                throw new IllegalArgumentException("security.rate-limit.routes[].pattern은 필수입니다.");
+            }
+            if (capacity <= 0) {
+                capacity = 10;
+            }
+            if (period == null || period.isZero() || period.isNegative()) {
+                period = Duration.ofSeconds(1);
+            }
+        }
+
+        Limit limit() {
+            return new Limit(capacity, period);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.soundbar91.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ *
+ * 남은 토큰 수 대신 "다음 토큰이 도착할 이론적 시각(TAT)" 하나만 AtomicLong으로 보관하고 CAS로 갱신합니다.
+ * 충전 스레드나 타이머 없이 요청 시점에 경과 시간만큼 충전된 것으로 계산하며(lazy refill),
+ * capacity개 연속 요청(burst) 후에는 period / capacity 간격으로 토큰이 하나씩 충전되는 것과 같습니다.
+ */
+final class TokenBucket {
+
+    private final long capacity;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.periodNanos = periodNanos;
+        this.intervalNanos = Math.max(1, periodNanos / capacity);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 소비 시도
+     *
+     * @return 허용되면 소비 후 남은 토큰 수(0 이상), 거부되면 다음 토큰까지 기다려야 할 시간(ns)의 음수
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long debt = next - nowNanos;
+            if (debt > periodNanos) {
+                return -(debt - periodNanos);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Math.min(capacity - 1, (periodNanos - debt) / intervalNanos);
+            }
+        }
+    }
+}
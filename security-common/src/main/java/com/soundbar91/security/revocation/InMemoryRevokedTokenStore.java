@@ -0,0 +1,34 @@
+package com.soundbar91.security.revocation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 폐기 토큰 저장소 (DataSource가 없는 단일 인스턴스/테스트용)
+ */
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RevokedToken token) {
+        tokens.merge(token.tokenId(), token.expiresAt(), (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Override
+    public List<RevokedToken> findActive(Instant now) {
+        return tokens.entrySet().stream()
+                .filter(entry -> entry.getValue().isAfter(now))
+                .map(entry -> new RevokedToken(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        int before = tokens.size();
+        tokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return before - tokens.size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.soundbar91.security.revocation;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC 폐기 토큰 저장소 (revoked_tokens 테이블)
+ * 테이블은 Flyway 마이그레이션(db/migration/V3_2__create_revoked_tokens.sql)으로 생성합니다.
+ */
+public class JdbcRevokedTokenStore implements RevokedTokenStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRevokedTokenStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(RevokedToken token) {
+        try {
+            jdbcTemplate.update("INSERT INTO revoked_tokens (token_id, expires_at) VALUES (?, ?)",
+                    token.tokenId(), Timestamp.from(token.expiresAt()));
+        } catch (DuplicateKeyException e) {
+            // 이미 폐기된 토큰 (같은 jti는 만료 시각도 같다)
+        }
+    }
+
+    @Override
+    public List<RevokedToken> findActive(Instant now) {
+        return jdbcTemplate.query("SELECT token_id, expires_at FROM revoked_tokens WHERE expires_at > ?",
+                (rs, rowNum) -> new RevokedToken(rs.getString(1), rs.getTimestamp(2).toInstant()),
+                Timestamp.from(now));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", Timestamp.from(now));
+    }
+}
@@ -0,0 +1,9 @@
+package com.soundbar91.security.revocation;
+
+import java.time.Instant;
+
+/**
+ * 폐기된 토큰 (jti와 원래 만료 시각)
+ */
+public record RevokedToken(String tokenId, Instant expiresAt) {
+}
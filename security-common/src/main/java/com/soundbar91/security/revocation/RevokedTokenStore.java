@@ -0,0 +1,25 @@
+package com.soundbar91.security.revocation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 폐기 토큰 영속 저장소
+ * 인스턴스 간 폐기 목록을 공유하는 원본이며, 요청 처리 중에는 조회하지 않고 주기적 동기화에만 사용합니다.
+ */
+public interface RevokedTokenStore {
+
+    void save(RevokedToken token);
+
+    /**
+     * now 시점에 아직 만료되지 않은 폐기 토큰 전체
+     */
+    List<RevokedToken> findActive(Instant now);
+
+    /**
+     * 만료된 항목 삭제
+     *
+     * @return 삭제한 항목 수
+     */
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,79 @@
+package com.soundbar91.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 ID(문자열) 전용 Bloom 필터
+ * 조회와 추가가 동시에 일어나므로 비트 배열은 AtomicLongArray로 두고, 추가는 CAS로 비트를 설정합니다.
+ */
+final class TokenBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int numHashes;
+    private final long numBits;
+
+    private TokenBloomFilter(int wordCount, int numHashes) {
+        this.words = new AtomicLongArray(wordCount);
+        this.numHashes = numHashes;
+        this.numBits = (long) wordCount * Long.SIZE;
+    }
+
+    /**
+     * 예상 원소 수와 허용 오탐률로 필터 생성
+     */
+    static TokenBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+        int hashes = Math.max(1, (int) Math.round((double) wordCount * Long.SIZE / n * Math.log(2)));
+        return new TokenBloomFilter(wordCount, hashes);
+    }
+
+    void add(String tokenId) {
+        long hash1 = hash(tokenId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+            } while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    boolean mightContain(String tokenId) {
+        long hash1 = hash(tokenId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64비트 해시 후 SplitMix64로 섞음
+     */
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,125 @@
+package com.soundbar91.security.revocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 목록 (jti denylist)
+ *
+ * 요청마다 호출되는 isRevoked()는 DB를 조회하지 않습니다. Bloom 필터로 대부분의 정상 토큰을 즉시 통과시키고,
+ * 필터가 "있을 수 있음"으로 판단한 경우에만 메모리의 jti → 만료 시각 맵으로 확인합니다(오탐 제거).
+ * 폐기 항목은 토큰의 원래 만료 시각이 지나면 폐기 여부와 무관하게 무시되며, 동기화 때 메모리와 저장소에서 제거됩니다.
+ *
+ * 다른 인스턴스에서 폐기한 토큰은 sync-interval 이내에 반영됩니다.
+ */
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenStore store;
+    private final TokenRevocationProperties properties;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationList(RevokedTokenStore store, TokenRevocationProperties properties, Clock clock) {
+        this.store = store;
+        this.properties = properties;
+        this.clock = clock;
+        this.snapshot = new Snapshot(TokenBloomFilter.create(properties.expectedEntries(), properties.falsePositiveRate()));
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (jti가 없는 토큰은 폐기 대상이 아님)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        if (!current.bloom().mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = current.entries().get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(clock.instant());
+    }
+
+    /**
+     * 토큰 폐기 (저장소에 기록하고 이 인스턴스에는 즉시 반영)
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        RevokedToken token = new RevokedToken(tokenId, expiresAt);
+        store.save(token);
+        synchronized (this) {
+            snapshot.add(token);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sync();
+    }
+
+    /**
+     * 저장소와 동기화
+     * 만료 항목을 제외한 (저장소 ∪ 현재 메모리) 항목으로 Bloom 필터를 새로 만들어 교체합니다.
+     * Bloom 필터는 삭제를 지원하지 않으므로 만료 항목은 재생성으로만 제거됩니다.
+     * 첫 동기화는 ApplicationReadyEvent에서 실행하므로 스케줄은 sync-interval 뒤부터 시작합니다.
+     */
+    @Scheduled(initialDelayString = "${security.revocation.sync-interval:30s}",
+            fixedDelayString = "${security.revocation.sync-interval:30s}")
+    public void sync() {
+        Instant now = clock.instant();
+        List<RevokedToken> active;
+        try {
+            store.deleteExpired(now);
+            active = store.findActive(now);
+        } catch (RuntimeException e) {
+            log.error("[TokenRevocation] 폐기 목록 동기화 실패 - 기존 목록을 유지합니다.", e);
+            return;
+        }
+
+        synchronized (this) {
+            Snapshot previous = snapshot;
+            int expected = Math.max(properties.expectedEntries(), (active.size() + previous.entries().size()) * 2);
+            Snapshot next = new Snapshot(TokenBloomFilter.create(expected, properties.falsePositiveRate()));
+            active.forEach(next::add);
+            // 동기화 도중 이 인스턴스에서 폐기한 항목이 누락되지 않도록 기존 항목도 옮긴다
+            previous.entries().forEach((tokenId, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    next.add(new RevokedToken(tokenId, expiresAt));
+                }
+            });
+            snapshot = next;
+        }
+        log.debug("[TokenRevocation] 폐기 목록 동기화 완료 - entries: {}", snapshot.entries().size());
+    }
+
+    int size() {
+        return snapshot.entries().size();
+    }
+
+    private record Snapshot(TokenBloomFilter bloom, Map<String, Instant> entries) {
+
+        Snapshot(TokenBloomFilter bloom) {
+            this(bloom, new ConcurrentHashMap<>());
+        }
+
+        void add(RevokedToken token) {
+            // Bloom 필터를 통과한 항목은 맵에서도 찾을 수 있도록 맵에 먼저 넣는다
+            entries.put(token.tokenId(), token.expiresAt());
+            bloom.add(token.tokenId());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.soundbar91.security.revocation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JWT 폐기 목록 설정 속성
+ * application.yml에서 'security.revocation' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * security:
+ *   revocation:
+ *     enabled: true
+ *     sync-interval: 30s              # 저장소 동기화 주기 (@Scheduled에서 직접 참조)
+ *     expected-entries: 10000         # Bloom 필터 최소 크기
+ *     false-positive-rate: 0.001
+ */
+@ConfigurationProperties(prefix = "security.revocation")
+public record TokenRevocationProperties(
+        boolean enabled,
+        Duration syncInterval,
+        int expectedEntries,
+        double falsePositiveRate
+) {
+
+    public TokenRevocationProperties {
+        if (syncInterval == null) {
+            syncInterval = Duration.ofSeconds(30);
+        }
+        if (expectedEntries <= 0) {
+            expectedEntries = 10_000;
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            falsePositiveRate = 0.001;
+        }
+    }
+}
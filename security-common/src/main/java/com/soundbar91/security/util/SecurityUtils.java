@@ -1,5 +1,7 @@
 package com.soundbar91.security.util;
 
+import com.soundbar91.security.principal.JwtPrincipal;
+import com.soundbar91.security.principal.SecurityRole;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +23,10 @@ public final class SecurityUtils {
 
         Object principal = authentication.getPrincipal();
 
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return Optional.of(jwtPrincipal.subject());
+        }
+
         if (principal instanceof UserDetails userDetails) {
             return Optional.of(userDetails.getUsername());
         }
@@ -44,6 +50,10 @@ public final class SecurityUtils {
                 && !"anonymousUser".equals(authentication.getPrincipal());
     }
 
+    /**
+     * 현재 사용자의 역할 확인
+     * JWT 인증이면 비트 연산 한 번으로 판별하고, 그 외 인증은 권한 목록을 순회합니다.
+     */
     public static boolean hasRole(String role) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -51,6 +61,11 @@ public final class SecurityUtils {
             return false;
         }
 
+        if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            SecurityRole securityRole = SecurityRole.fromName(role);
+            return securityRole != null && jwtPrincipal.hasRole(securityRole);
+        }
+
         String roleWithPrefix = role.startsWith("ROLE_") ? role : "ROLE_" + role;
 
         return authentication.getAuthorities().stream()
@@ -66,6 +81,28 @@ public final class SecurityUtils {
         return false;
     }
 
+    public static boolean hasRole(SecurityRole role) {
+        return hasAnyRole(role.mask());
+    }
+
+    /**
+     * mask(SecurityRole.mask()의 OR)에 포함된 역할 중 하나라도 있는지 확인
+     * 자주 호출되는 검사는 mask를 상수로 만들어 두면 가변 인자 배열도 생기지 않습니다.
+     */
+    public static boolean hasAnyRole(int mask) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null) {
+            return false;
+        }
+
+        if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.hasAnyRole(mask);
+        }
+
+        return (SecurityRole.maskOf(authentication.getAuthorities()) & mask) != 0;
+    }
+
     public static Optional<Authentication> getCurrentAuthentication() {
         return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication());
     }
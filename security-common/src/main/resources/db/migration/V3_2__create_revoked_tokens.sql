@@ -0,0 +1,8 @@
+-- JWT 폐기 목록 (security.revocation, JdbcRevokedTokenStore)
+-- 토큰의 원래 만료 시각이 지난 행은 TokenRevocationList 동기화 때 삭제된다.
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   VARCHAR(64) NOT NULL PRIMARY KEY,
+    expires_at TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,100 @@
+package com.soundbar91.security.jwt;
+
+import com.soundbar91.security.principal.JwtPrincipal;
+import com.soundbar91.security.revocation.InMemoryRevokedTokenStore;
+import com.soundbar91.security.revocation.TokenRevocationList;
+import com.soundbar91.security.revocation.TokenRevocationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-test-0123456789";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(new JwtProperties(SECRET, 60_000L, 120_000L, "nuga"));
+    private final TokenRevocationList revocationList = new TokenRevocationList(new InMemoryRevokedTokenStore(),
+            new TokenRevocationProperties(true, null, 100, 0.01), Clock.systemUTC());
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, revocationList);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String issueToken() {
+        return jwtTokenProvider.createAccessToken(UsernamePasswordAuthenticationToken.authenticated("user-1", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private Authentication perform(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Nested
+    @DisplayName("폐기 목록 확인")
+    class Revocation {
+
+        @Test
+        @DisplayName("폐기되지 않은 토큰은 인증 정보를 설정한다")
+        void doFilter_WithValidToken_SetsAuthentication() throws Exception {
+            // given
+            String token = issueToken();
+
+            // when
+            Authentication authentication = perform(token);
+
+            // then
+            assertThat(authentication).isNotNull();
+            assertThat(((JwtPrincipal) authentication.getPrincipal()).subject()).isEqualTo("user-1");
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰은 서명이 유효해도 인증 정보를 설정하지 않는다")
+        void doFilter_WithRevokedToken_LeavesUnauthenticated() throws Exception {
+            // given
+            String token = issueToken();
+            revocationList.revoke(jwtTokenProvider.getTokenId(token), jwtTokenProvider.getExpiration(token));
+
+            // when
+            Authentication authentication = perform(token);
+
+            // then
+            assertThat(authentication).isNull();
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 다른 토큰은 폐기 영향을 받지 않는다")
+        void doFilter_WithOtherTokenOfSameUser_SetsAuthentication() throws Exception {
+            // given
+            String revoked = issueToken();
+            String other = issueToken();
+            revocationList.revoke(jwtTokenProvider.getTokenId(revoked), jwtTokenProvider.getExpiration(revoked));
+
+            // when
+            Authentication authentication = perform(other);
+
+            // then
+            assertThat(authentication).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.soundbar91.security.jwt;
+
+import com.soundbar91.security.principal.JwtPrincipal;
+import com.soundbar91.security.principal.SecurityRole;
+import com.soundbar91.security.util.SecurityUtils;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-test-0123456789";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(new JwtProperties(SECRET, 60_000L, 120_000L, "nuga"));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static Authentication login(String username, String... authorities) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null,
+                AuthorityUtils.createAuthorityList(authorities));
+    }
+
+    @Nested
+    @DisplayName("토큰 발급")
+    class CreateToken {
+
+        @Test
+        @DisplayName("발급한 토큰마다 서로 다른 jti가 포함된다")
+        void createAccessToken_ContainsUniqueTokenId() {
+            // when
+            String first = jwtTokenProvider.createAccessToken(login("user-1", "ROLE_USER"));
+            String second = jwtTokenProvider.createAccessToken(login("user-1", "ROLE_USER"));
+
+            // then
+            assertThat(jwtTokenProvider.getTokenId(first)).isNotBlank();
+            assertThat(jwtTokenProvider.getTokenId(first)).isNotEqualTo(jwtTokenProvider.getTokenId(second));
+        }
+    }
+
+    @Nested
+    @DisplayName("인증 정보 변환")
+    class GetAuthentication {
+
+        @Test
+        @DisplayName("역할 비트마스크를 주체와 공유 권한 목록으로 복원한다")
+        void getAuthentication_RestoresRoleMask() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(login("seller-1", "ROLE_SELLER", "ROLE_ADMIN"));
+
+            // when
+            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+            // then
+            JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+            assertThat(principal.subject()).isEqualTo("seller-1");
+            assertThat(principal.hasRole(SecurityRole.SELLER)).isTrue();
+            assertThat(principal.hasRole(SecurityRole.USER)).isFalse();
+            assertThat(authentication.getAuthorities())
+                    .isSameAs(SecurityRole.authoritiesOf(SecurityRole.ADMIN.mask() | SecurityRole.SELLER.mask()))
+                    .extracting(authority -> authority.getAuthority())
+                    .containsExactly("ROLE_ADMIN", "ROLE_SELLER");
+        }
+
+        @Test
+        @DisplayName("이전 형식(auth 클레임) 토큰도 역할을 복원한다")
+        void getAuthentication_WithLegacyAuthoritiesClaim_RestoresRoles() {
+            // given
+            String legacyToken = Jwts.builder()
+                    .subject("user-1")
+                    .claim("auth", "ROLE_USER,ROLE_ADMIN")
+                    .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+
+            // when
+            JwtPrincipal principal = (JwtPrincipal) jwtTokenProvider.getAuthentication(legacyToken).getPrincipal();
+
+            // then
+            assertThat(principal.roleMask()).isEqualTo(SecurityRole.USER.mask() | SecurityRole.ADMIN.mask());
+        }
+    }
+
+    @Nested
+    @DisplayName("역할 확인")
+    class HasRole {
+
+        @Test
+        @DisplayName("SecurityUtils는 JWT 인증의 역할을 비트마스크로 확인한다")
+        void hasRole_WithJwtAuthentication_ChecksBits() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(login("user-1", "ROLE_USER"));
+            SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(token));
+
+            // when & then
+            assertThat(SecurityUtils.hasRole("USER")).isTrue();
+            assertThat(SecurityUtils.hasRole("ROLE_USER")).isTrue();
+            assertThat(SecurityUtils.hasRole("ADMIN")).isFalse();
+            assertThat(SecurityUtils.hasAnyRole("ADMIN", "USER")).isTrue();
+            assertThat(SecurityUtils.hasAnyRole(SecurityRole.ADMIN.mask() | SecurityRole.SELLER.mask())).isFalse();
+            assertThat(SecurityUtils.getCurrentUsername()).contains("user-1");
+        }
+    }
+}
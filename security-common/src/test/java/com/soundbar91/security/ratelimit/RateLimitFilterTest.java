@@ -0,0 +1,211 @@
+package com.soundbar91.security.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Route... routes) {
+        return filter(0, routes);
+    }
+
+    private RateLimitFilter filter(int trustedProxies, RateLimitProperties.Route... routes) {
+        RateLimitProperties properties = new RateLimitProperties(true,
+                new RateLimitProperties.Limit(3, Duration.ofSeconds(3)), List.of(routes), 0, null, trustedProxies);
+        return new RateLimitFilter(properties, clock::get);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri, String remoteAddr) throws Exception {
+        return perform(filter, method, uri, remoteAddr, null);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri, String remoteAddr,
+                                            String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(RateLimitFilter.FORWARDED_FOR_HEADER, forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Nested
+    @DisplayName("토큰 버킷")
+    class Bucket {
+
+        @Test
+        @DisplayName("버킷 크기만큼 연속 요청을 허용하고 초과하면 429와 Retry-After를 반환한다")
+        void doFilter_WhenBucketExhausted_Returns429WithRetryAfter() throws Exception {
+            // given
+            RateLimitFilter filter = filter();
+            for (int i = 0; i < 3; i++) {
+                assertThat(perform(filter, "GET", "/api/v2/shops", "10.0.0.1").getStatus()).isEqualTo(200);
+            }
+
+            // when
+            MockHttpServletResponse response = perform(filter, "GET", "/api/v2/shops", "10.0.0.1");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        }
+
+        @Test
+        @DisplayName("충전 간격이 지나면 토큰이 하나씩 다시 충전된다")
+        void doFilter_AfterRefillInterval_AllowsAgain() throws Exception {
+            // given
+            RateLimitFilter filter = filter();
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0.1");
+            }
+
+            // when
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            MockHttpServletResponse allowed = perform(filter, "GET", "/api/v2/shops", "10.0.0.1");
+            MockHttpServletResponse rejected = perform(filter, "GET", "/api/v2/shops", "10.0.0.1");
+
+            // then
+            assertThat(allowed.getStatus()).isEqualTo(200);
+            assertThat(rejected.getStatus()).isEqualTo(429);
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 키")
+    class Key {
+
+        @Test
+        @DisplayName("인증되지 않은 요청은 클라이언트 IP별로 제한한다")
+        void doFilter_WithoutAuthentication_LimitsPerClientIp() throws Exception {
+            // given
+            RateLimitFilter filter = filter();
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0.1");
+            }
+
+            // when
+            MockHttpServletResponse response = perform(filter, "GET", "/api/v2/shops", "10.0.0.2");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(filter.getBucketCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("인증된 요청은 IP가 달라도 JWT subject 기준으로 제한한다")
+        void doFilter_WithAuthentication_LimitsPerSubject() throws Exception {
+            // given
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    "user-1", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+            RateLimitFilter filter = filter();
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0." + i);
+            }
+
+            // when
+            MockHttpServletResponse response = perform(filter, "GET", "/api/v2/shops", "10.0.0.9");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+        }
+
+        @Test
+        @DisplayName("신뢰하는 프록시 뒤에서는 X-Forwarded-For의 클라이언트 IP별로 제한한다")
+        void doFilter_BehindTrustedProxy_LimitsPerForwardedClientIp() throws Exception {
+            // given
+            RateLimitFilter filter = filter(1);
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0.254", "203.0.113.1");
+            }
+
+            // when
+            MockHttpServletResponse rejected = perform(filter, "GET", "/api/v2/shops", "10.0.0.254", "203.0.113.1");
+            MockHttpServletResponse otherClient = perform(filter, "GET", "/api/v2/shops", "10.0.0.254", "203.0.113.2");
+
+            // then
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(otherClient.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("클라이언트가 위조한 X-Forwarded-For 왼쪽 항목으로는 제한을 우회할 수 없다")
+        void doFilter_WithSpoofedForwardedFor_UsesProxyAppendedHop() throws Exception {
+            // given
+            RateLimitFilter filter = filter(1);
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0.254", "198.51.100." + i + ", 203.0.113.1");
+            }
+
+            // when
+            MockHttpServletResponse response = perform(filter, "GET", "/api/v2/shops", "10.0.0.254", "198.51.100.9, 203.0.113.1");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(filter.getBucketCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("trusted-proxies가 0이면 X-Forwarded-For를 무시하고 remoteAddr로 제한한다")
+        void doFilter_WithoutTrustedProxies_IgnoresForwardedFor() throws Exception {
+            // given
+            RateLimitFilter filter = filter();
+            for (int i = 0; i < 3; i++) {
+                perform(filter, "GET", "/api/v2/shops", "10.0.0.1", "203.0.113." + i);
+            }
+
+            // when
+            MockHttpServletResponse response = perform(filter, "GET", "/api/v2/shops", "10.0.0.1", "203.0.113.9");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+        }
+    }
+
+    @Nested
+    @DisplayName("경로별 규칙")
+    class Routes {
+
+        @Test
+        @DisplayName("일치하는 경로 규칙이 있으면 해당 한도를 기본 한도와 별도로 적용한다")
+        void doFilter_WithMatchingRoute_AppliesRouteLimit() throws Exception {
+            // given
+            RateLimitFilter filter = filter(new RateLimitProperties.Route("POST", "/api/v2/orders", 1, Duration.ofMinutes(1)));
+            perform(filter, "POST", "/api/v2/orders", "10.0.0.1");
+
+            // when
+            MockHttpServletResponse rejected = perform(filter, "POST", "/api/v2/orders", "10.0.0.1");
+            MockHttpServletResponse otherMethod = perform(filter, "GET", "/api/v2/orders", "10.0.0.1");
+
+            // then
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("60");
+            assertThat(otherMethod.getStatus()).isEqualTo(200);
+        }
+    }
+}
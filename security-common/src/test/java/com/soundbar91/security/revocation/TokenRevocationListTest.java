@@ -0,0 +1,140 @@
+package com.soundbar91.security.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenRevocationList 테스트")
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private MutableClock clock;
+    private InMemoryRevokedTokenStore store;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        store = new InMemoryRevokedTokenStore();
+        revocationList = new TokenRevocationList(store, new TokenRevocationProperties(true, null, 100, 0.01), clock);
+    }
+
+    @Nested
+    @DisplayName("폐기 여부 확인")
+    class IsRevoked {
+
+        @Test
+        @DisplayName("폐기한 토큰은 즉시 폐기된 것으로 판단한다")
+        void isRevoked_AfterRevoke_ReturnsTrue() {
+            // when
+            revocationList.revoke("jti-1", NOW.plus(Duration.ofHours(1)));
+
+            // then
+            assertThat(revocationList.isRevoked("jti-1")).isTrue();
+            assertThat(revocationList.isRevoked("jti-2")).isFalse();
+            assertThat(revocationList.isRevoked(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("토큰의 원래 만료 시각이 지나면 폐기 항목은 무시되고 동기화 때 제거된다")
+        void isRevoked_AfterTokenExpiry_ReturnsFalse() {
+            // given
+            revocationList.revoke("jti-1", NOW.plus(Duration.ofMinutes(5)));
+
+            // when
+            clock.advance(Duration.ofMinutes(5));
+
+            // then
+            assertThat(revocationList.isRevoked("jti-1")).isFalse();
+            revocationList.sync();
+            assertThat(revocationList.size()).isZero();
+            assertThat(store.findActive(clock.instant())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("이미 만료된 토큰은 폐기 목록에 추가하지 않는다")
+        void revoke_WithExpiredToken_Ignored() {
+            // when
+            revocationList.revoke("jti-1", NOW.minusSeconds(1));
+
+            // then
+            assertThat(revocationList.size()).isZero();
+            assertThat(store.findActive(NOW.minusSeconds(10))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("저장소 동기화")
+    class Sync {
+
+        @Test
+        @DisplayName("다른 인스턴스가 저장소에 기록한 폐기 항목을 동기화 후 반영한다")
+        void sync_LoadsEntriesFromStore() {
+            // given
+            store.save(new RevokedToken("jti-remote", NOW.plus(Duration.ofHours(1))));
+            assertThat(revocationList.isRevoked("jti-remote")).isFalse();
+
+            // when
+            revocationList.sync();
+
+            // then
+            assertThat(revocationList.isRevoked("jti-remote")).isTrue();
+        }
+
+        @Test
+        @DisplayName("동기화로 필터를 다시 만들어도 이 인스턴스에서 폐기한 항목은 유지된다")
+        void sync_KeepsLocallyRevokedEntries() {
+            // given
+            for (int i = 0; i < 500; i++) {
+                revocationList.revoke("jti-" + i, NOW.plus(Duration.ofHours(1)));
+            }
+
+            // when
+            revocationList.sync();
+
+            // then
+            for (int i = 0; i < 500; i++) {
+                assertThat(revocationList.isRevoked("jti-" + i)).isTrue();
+            }
+            assertThat(revocationList.isRevoked("jti-unknown")).isFalse();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
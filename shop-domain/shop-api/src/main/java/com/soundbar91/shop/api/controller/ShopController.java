@@ -1,11 +1,15 @@
 package com.soundbar91.shop.api.controller;
 
+import com.soundbar91.common.projection.FieldSelection;
 import com.soundbar91.shop.api.dto.request.CreateShopRequest;
 import com.soundbar91.shop.api.dto.request.UpdateShopRequest;
 import com.soundbar91.shop.api.dto.response.ShopResponse;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.domain.vo.ShopField;
 import com.soundbar91.shop.service.ShopService;
+import com.soundbar91.web.etag.ConditionalGet;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,15 +18,22 @@ import java.util.List;
 
 /**
  * 상점 API 컨트롤러
+ *
+ * 목록 조회는 fields 파라미터(예: fields=id,name,category)로 필요한 필드만 조회·응답할 수 있습니다.
+ * 카테고리별 조회에 fields를 지정하면 ETag 조건부 처리는 적용되지 않습니다.
  */
 @RestController
 @RequestMapping("/api/v2/shops")
 public class ShopController {
 
+    private static final String RESOURCE = "shop";
+
     private final ShopService shopService;
+    private final ConditionalGet conditionalGet;
 
-    public ShopController(ShopService shopService) {
+    public ShopController(ShopService shopService, ConditionalGet conditionalGet) {
         this.shopService = shopService;
+        this.conditionalGet = conditionalGet;
     }
 
     /**
@@ -45,16 +56,20 @@ public class ShopController {
      * 상점 조회
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShopResponse> getShop(@PathVariable Long id) {
-        Shop shop = shopService.getShopById(id);
-        return ResponseEntity.ok(ShopResponse.from(shop));
+    public ResponseEntity<ShopResponse> getShop(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet.single(RESOURCE, id, ifNoneMatch,
+                () -> shopService.getShopById(id), Shop::getUpdatedAt, ShopResponse::from);
     }
 
     /**
      * 모든 상점 조회
      */
     @GetMapping
-    public ResponseEntity<List<ShopResponse>> getAllShops() {
+    public ResponseEntity<List<?>> getAllShops(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(shopService.getAllShops(FieldSelection.parse(ShopField.class, fields)));
+        }
         List<ShopResponse> shops = shopService.getAllShops().stream()
                 .map(ShopResponse::from)
                 .toList();
@@ -65,11 +80,14 @@ public class ShopController {
      * 카테고리별 상점 조회
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<ShopResponse>> getShopsByCategory(@PathVariable ShopCategory category) {
-        List<ShopResponse> shops = shopService.getShopsByCategory(category).stream()
-                .map(ShopResponse::from)
-                .toList();
-        return ResponseEntity.ok(shops);
+    public ResponseEntity<List<?>> getShopsByCategory(@PathVariable ShopCategory category,
+                                                      @RequestParam(required = false) String fields,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (fields != null) {
+            return ResponseEntity.ok(shopService.getShopsByCategory(category, FieldSelection.parse(ShopField.class, fields)));
+        }
+        return conditionalGet.list(RESOURCE + "-category-" + category.name(), ifNoneMatch,
+                () -> shopService.getShopsByCategory(category), Shop::getId, Shop::getUpdatedAt, ShopResponse::from);
     }
 
     /**
@@ -78,7 +96,9 @@ public class ShopController {
     @PutMapping("/{id}")
     public ResponseEntity<ShopResponse> updateShop(@PathVariable Long id, @RequestBody UpdateShopRequest request) {
         Shop shop = shopService.updateShopInfo(id, request.name(), request.description(), request.address(), request.phoneNumber());
-        return ResponseEntity.ok(ShopResponse.from(shop));
+        return ResponseEntity.ok()
+                .eTag(conditionalGet.remember(RESOURCE, id, shop.getUpdatedAt()))
+                .body(ShopResponse.from(shop));
     }
 
     /**
@@ -87,7 +107,9 @@ public class ShopController {
     @PatchMapping("/{id}/activate")
     public ResponseEntity<ShopResponse> activateShop(@PathVariable Long id) {
         Shop shop = shopService.activateShop(id);
-        return ResponseEntity.ok(ShopResponse.from(shop));
+        return ResponseEntity.ok()
+                .eTag(conditionalGet.remember(RESOURCE, id, shop.getUpdatedAt()))
+                .body(ShopResponse.from(shop));
     }
 
     /**
@@ -96,7 +118,9 @@ public class ShopController {
     @PatchMapping("/{id}/deactivate")
     public ResponseEntity<ShopResponse> deactivateShop(@PathVariable Long id) {
         Shop shop = shopService.deactivateShop(id);
-        return ResponseEntity.ok(ShopResponse.from(shop));
+        return ResponseEntity.ok()
+                .eTag(conditionalGet.remember(RESOURCE, id, shop.getUpdatedAt()))
+                .body(ShopResponse.from(shop));
     }
 
     /**
@@ -105,6 +129,7 @@ public class ShopController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteShop(@PathVariable Long id) {
         shopService.deleteShop(id);
+        conditionalGet.evict(RESOURCE, id);
         return ResponseEntity.noContent().build();
     }
 }
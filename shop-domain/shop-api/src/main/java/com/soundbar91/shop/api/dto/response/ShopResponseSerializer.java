@@ -0,0 +1,50 @@
+package com.soundbar91.shop.api.dto.response;
+
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.soundbar91.web.json.JsonFields.*;
+
+/**
+ * ShopResponse 스트리밍 직렬화기 (리플렉션 기반 BeanSerializer 대체)
+ */
+@JacksonComponent
+public class ShopResponseSerializer extends StdSerializer<ShopResponse> {
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString NAME = name("name");
+    private static final SerializedString CATEGORY = name("category");
+    private static final SerializedString DESCRIPTION = name("description");
+    private static final SerializedString ADDRESS = name("address");
+    private static final SerializedString PHONE_NUMBER = name("phoneNumber");
+    private static final SerializedString OWNER_ID = name("ownerId");
+    private static final SerializedString IS_ACTIVE = name("isActive");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+
+    private static final SerializedString[] CATEGORIES = enumNames(ShopCategory.class);
+
+    public ShopResponseSerializer() {
+        super(ShopResponse.class);
+    }
+
+    @Override
+    public void serialize(ShopResponse value, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.id());
+        writeString(gen, NAME, value.name());
+        writeEnum(gen, CATEGORY, CATEGORIES, value.category());
+        writeString(gen, DESCRIPTION, value.description());
+        writeString(gen, ADDRESS, value.address());
+        writeString(gen, PHONE_NUMBER, value.phoneNumber());
+        writeLong(gen, OWNER_ID, value.ownerId());
+        writeBoolean(gen, IS_ACTIVE, value.isActive());
+        writeDateTime(gen, CREATED_AT, value.createdAt());
+        writeDateTime(gen, UPDATED_AT, value.updatedAt());
+        gen.writeEndObject();
+    }
+}
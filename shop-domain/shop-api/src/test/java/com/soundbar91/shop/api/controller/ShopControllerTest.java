@@ -1,10 +1,13 @@
 package com.soundbar91.shop.api.controller;
 
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.shop.api.dto.request.CreateShopRequest;
 import com.soundbar91.shop.api.dto.request.UpdateShopRequest;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.domain.vo.ShopField;
 import com.soundbar91.shop.service.ShopService;
 import com.soundbar91.test.fixture.ShopFixture;
 import org.junit.jupiter.api.DisplayName;
@@ -27,9 +30,12 @@ import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -130,6 +136,36 @@ class ShopControllerTest {
             mockMvc.perform(get("/api/v2/shops/{id}", shopId))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("응답에 updatedAt 기반 약한 ETag를 포함한다")
+        void getShop_ReturnsWeakETag() throws Exception {
+            // given
+            Long shopId = 41L;
+            given(shopService.getShopById(shopId)).willReturn(ShopFixture.create().withId(shopId).build());
+
+            // when & then
+            mockMvc.perform(get("/api/v2/shops/{id}", shopId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", startsWith("W/\"shop-41-")));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 일치하면 304를 반환하고, 검증자가 캐시되어 있으면 상점을 다시 조회하지 않는다")
+        void getShop_WithMatchingIfNoneMatch_Returns304WithoutLoading() throws Exception {
+            // given
+            Long shopId = 42L;
+            given(shopService.getShopById(shopId)).willReturn(ShopFixture.create().withId(shopId).build());
+            String etag = mockMvc.perform(get("/api/v2/shops/{id}", shopId))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(get("/api/v2/shops/{id}", shopId).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+            then(shopService).should(times(1)).getShopById(shopId);
+        }
     }
 
     @Nested
@@ -154,6 +190,24 @@ class ShopControllerTest {
                     .andExpect(jsonPath("$[0].id").value(1))
                     .andExpect(jsonPath("$[1].id").value(2));
         }
+
+        @Test
+        @DisplayName("fields 파라미터를 지정하면 id와 선택한 필드만 반환한다")
+        void getAllShops_WithFields_ReturnsSelectedFieldsOnly() throws Exception {
+            // given
+            FieldSelection<ShopField> fields = FieldSelection.parse(ShopField.class, "name,category");
+            List<ProjectedRow> rows = fields.toRows(List.<Object[]>of(new Object[]{3L, "테스트 카페", ShopCategory.CAFE}));
+
+            given(shopService.getAllShops(any(FieldSelection.class))).willReturn(rows);
+
+            // when & then
+            mockMvc.perform(get("/api/v2/shops").param("fields", "name,category"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(3))
+                    .andExpect(jsonPath("$[0].name").value("테스트 카페"))
+                    .andExpect(jsonPath("$[0].category").value("CAFE"))
+                    .andExpect(jsonPath("$[0].address").doesNotExist());
+        }
     }
 
     @Nested
@@ -176,6 +230,24 @@ class ShopControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(2));
         }
+
+        @Test
+        @DisplayName("목록이 바뀌지 않았으면 If-None-Match 요청에 304를 반환한다")
+        void getShopsByCategory_WithMatchingIfNoneMatch_Returns304() throws Exception {
+            // given
+            List<Shop> cafes = List.of(
+                    ShopFixture.create().withId(1L).withCategory(ShopCategory.CAFE).build(),
+                    ShopFixture.create().withId(2L).withCategory(ShopCategory.CAFE).build()
+            );
+            given(shopService.getShopsByCategory(ShopCategory.CAFE)).willReturn(cafes);
+            String etag = mockMvc.perform(get("/api/v2/shops/category/{category}", "CAFE"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(get("/api/v2/shops/category/{category}", "CAFE").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
     }
 
     @Nested
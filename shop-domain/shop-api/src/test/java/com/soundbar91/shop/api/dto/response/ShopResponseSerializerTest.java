@@ -0,0 +1,48 @@
+package com.soundbar91.shop.api.dto.response;
+
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShopResponseSerializer 테스트")
+class ShopResponseSerializerTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(ShopResponse.class, new ShopResponseSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("기본 Jackson 직렬화와 같은 JSON을 생성한다")
+    void serialize_MatchesReflectiveOutput() {
+        // given
+        ShopResponse response = new ShopResponse(1L, "테스트 \"상점\"", ShopCategory.CAFE, "설명", "서울시 강남구",
+                "02-1234-5678", 7L, true, LocalDateTime.of(2026, 1, 2, 3, 4, 5, 120_000_000), LocalDateTime.of(2026, 1, 2, 3, 4));
+
+        // when
+        String json = streaming.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflective.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("null 필드도 기본 직렬화와 같이 null로 기록한다")
+    void serialize_WithNullFields_MatchesReflectiveOutput() {
+        // given
+        ShopResponse response = new ShopResponse(1L, "상점", null, null, null, null, null, null, null, null);
+
+        // when
+        JsonNode tree = streaming.readTree(streaming.writeValueAsString(response));
+
+        // then
+        assertThat(tree).isEqualTo(reflective.readTree(reflective.writeValueAsString(response)));
+    }
+}
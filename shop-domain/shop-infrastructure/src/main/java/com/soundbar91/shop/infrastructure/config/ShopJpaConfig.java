@@ -1,14 +1,88 @@
 package com.soundbar91.shop.infrastructure.config;
 
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.isolation.DomainPersistenceFactory;
+import com.soundbar91.datasource.isolation.TransactionManagerAliasRegistrar;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.soundbar91.shop.service.ShopService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
  * Shop 도메인 JPA 설정
+ *
+ * 기본적으로 공용 DataSource와 EntityManagerFactory를 사용하며,
+ * datasource.domains.shop.isolated=true 이면 Shop 전용 커넥션 풀, EntityManagerFactory,
+ * 트랜잭션 매니저를 구성합니다.
  */
 @Configuration
-@EntityScan(basePackages = "com.soundbar91.shop.domain.entity")
-@EnableJpaRepositories(basePackages = "com.soundbar91.shop.infrastructure.repository")
 public class ShopJpaConfig {
+
+    static final String DOMAIN = "shop";
+    static final String ENTITY_PACKAGE = "com.soundbar91.shop.domain.entity";
+    static final String REPOSITORY_PACKAGE = "com.soundbar91.shop.infrastructure.repository";
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.shop", name = "isolated", havingValue = "false", matchIfMissing = true)
+    @EntityScan(basePackages = ENTITY_PACKAGE)
+    @EnableJpaRepositories(basePackages = REPOSITORY_PACKAGE)
+    static class SharedPersistenceConfig {
+
+        @Bean
+        static TransactionManagerAliasRegistrar shopTransactionManagerAlias() {
+            return new TransactionManagerAliasRegistrar(ShopService.TRANSACTION_MANAGER);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.shop", name = "isolated", havingValue = "true")
+    @EnableJpaRepositories(
+            basePackages = REPOSITORY_PACKAGE,
+            entityManagerFactoryRef = "shopEntityManagerFactory",
+            transactionManagerRef = ShopService.TRANSACTION_MANAGER
+    )
+    static class IsolatedPersistenceConfig {
+
+        @Bean
+        public HikariDataSource shopDataSource(DomainDataSourceProperties properties, Environment environment) {
+            return DomainPersistenceFactory.createDataSource(DOMAIN, properties.domain(DOMAIN), environment);
+        }
+
+        @Bean
+        public ReplicationRoutingDataSource shopRoutingDataSource(
+                @Qualifier("shopDataSource") HikariDataSource dataSource,
+                DomainDataSourceProperties properties,
+                ObjectProvider<DataSourceRoutingProperties> routingProperties) {
+            return DomainPersistenceFactory.createRoutingDataSource(
+                    DOMAIN, dataSource, properties.domain(DOMAIN), routingProperties.getIfAvailable());
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean shopEntityManagerFactory(
+                @Qualifier("shopRoutingDataSource") ReplicationRoutingDataSource routingDataSource,
+                DomainDataSourceProperties properties,
+                Environment environment) {
+            return DomainPersistenceFactory.createEntityManagerFactory(
+                    DOMAIN, new LazyConnectionDataSourceProxy(routingDataSource), properties.domain(DOMAIN),
+                    environment, ENTITY_PACKAGE);
+        }
+
+        @Bean(ShopService.TRANSACTION_MANAGER)
+        public JpaTransactionManager shopTransactionManager(
+                @Qualifier("shopEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return DomainPersistenceFactory.createTransactionManager(entityManagerFactory);
+        }
+    }
 }
@@ -9,7 +9,7 @@ import java.util.List;
 /**
  * Spring Data JPA Repository
  */
-public interface ShopJpaRepository extends JpaRepository<Shop, Long> {
+public interface ShopJpaRepository extends JpaRepository<Shop, Long>, ShopJpaRepositoryCustom {
 
     List<Shop> findByCategory(ShopCategory category);
 
@@ -0,0 +1,17 @@
+package com.soundbar91.shop.infrastructure.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShopJpaRepository 사용자 정의 조회 (Spring Data 프래그먼트)
+ */
+public interface ShopJpaRepositoryCustom {
+
+    /**
+     * 선택한 속성만 조회 (동등 조건 AND 결합)
+     *
+     * @return attributes 순서의 Object[] 행 목록
+     */
+    List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities);
+}
@@ -0,0 +1,26 @@
+package com.soundbar91.shop.infrastructure.repository;
+
+import com.soundbar91.datasource.projection.ProjectionQuery;
+import com.soundbar91.shop.domain.entity.Shop;
+import org.springframework.data.jpa.repository.JpaContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShopJpaRepositoryCustom 구현체
+ * 도메인 격리 시에도 Shop를 관리하는 EntityManager를 사용하도록 JpaContext로 조회합니다.
+ */
+public class ShopJpaRepositoryCustomImpl implements ShopJpaRepositoryCustom {
+
+    private final ProjectionQuery<Shop> projectionQuery;
+
+    public ShopJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.projectionQuery = new ProjectionQuery<>(Shop.class, jpaContext.getEntityManagerByManagedType(Shop.class));
+    }
+
+    @Override
+    public List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities) {
+        return projectionQuery.select(attributes, equalities);
+    }
+}
@@ -1,11 +1,15 @@
 package com.soundbar91.shop.infrastructure.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.repository.ShopRepository;
 import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.domain.vo.ShopField;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -51,6 +55,16 @@ public class ShopRepositoryImpl implements ShopRepository {
         return shopJpaRepository.findByIsActiveTrue();
     }
 
+    @Override
+    public List<ProjectedRow> findAllProjected(FieldSelection<ShopField> fields) {
+        return fields.toRows(shopJpaRepository.findProjected(fields.attributes(), Map.of()));
+    }
+
+    @Override
+    public List<ProjectedRow> findByCategoryProjected(ShopCategory category, FieldSelection<ShopField> fields) {
+        return fields.toRows(shopJpaRepository.findProjected(fields.attributes(), Map.of("category", category)));
+    }
+
     @Override
     public void delete(Shop shop) {
         shopJpaRepository.delete(shop);
@@ -0,0 +1,16 @@
+-- shops 기준 스키마 (PostgreSQL)
+-- 기존 DB에는 이미 테이블이 있으므로 IF NOT EXISTS 로 건너뜁니다. (spring.flyway.baseline-on-migrate)
+
+CREATE TABLE IF NOT EXISTS shops (
+    id           BIGINT       NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    category     VARCHAR(20)  NOT NULL,
+    description  VARCHAR(500),
+    address      VARCHAR(200) NOT NULL,
+    phone_number VARCHAR(20),
+    owner_id     BIGINT       NOT NULL,
+    is_active    BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id)
+);
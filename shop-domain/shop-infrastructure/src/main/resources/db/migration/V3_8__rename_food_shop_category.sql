@@ -0,0 +1,5 @@
+-- v1 상점 카테고리 FOOD를 상점 도메인의 같은 카테고리인 RESTAURANT로 이름만 변경
+-- v1 API(LegacyShopCategory)는 RESTAURANT를 다시 FOOD로 응답하므로 v1 클라이언트가 보는 값은 바뀌지 않습니다.
+-- 나머지 v1 카테고리(SERVICE, ENTERTAINMENT 포함)는 도메인에 같은 이름으로 있어 그대로 둡니다.
+
+UPDATE shops SET category = 'RESTAURANT' WHERE category = 'FOOD';
@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -135,6 +136,28 @@ class ShopJpaRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findProjected 메서드")
+    class FindProjected {
+
+        @Test
+        @DisplayName("선택한 속성만 동등 조건으로 조회한다")
+        void findProjected_ReturnsSelectedAttributesOnly() {
+            // given
+            Shop cafe = shopJpaRepository.save(new Shop("카페", ShopCategory.CAFE, "설명", "주소1", "010-1111-1111", 1L));
+            shopJpaRepository.save(new Shop("음식점", ShopCategory.RESTAURANT, "설명", "주소2", "010-2222-2222", 2L));
+            shopJpaRepository.flush();
+
+            // when
+            List<Object[]> rows = shopJpaRepository.findProjected(
+                    new String[]{"id", "name", "category"}, Map.of("category", ShopCategory.CAFE));
+
+            // then
+            assertThat(rows).singleElement()
+                    .satisfies(row -> assertThat(row).containsExactly(cafe.getId(), "카페", ShopCategory.CAFE));
+        }
+    }
+
     @Nested
     @DisplayName("findByIsActiveTrue 메서드")
     class FindByIsActiveTrue {
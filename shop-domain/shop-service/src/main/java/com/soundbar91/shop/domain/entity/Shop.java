@@ -1,5 +1,6 @@
 package com.soundbar91.shop.domain.entity;
 
+import com.soundbar91.common.id.SnowflakeId;
 import com.soundbar91.shop.domain.vo.ShopCategory;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 public class Shop {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 100)
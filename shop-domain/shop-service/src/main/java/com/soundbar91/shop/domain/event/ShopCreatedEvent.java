@@ -16,11 +16,19 @@ public class ShopCreatedEvent {
     private final LocalDateTime occurredAt;
 
     public ShopCreatedEvent(Long shopId, String name, ShopCategory category, Long ownerId) {
+        this(shopId, name, category, ownerId, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public ShopCreatedEvent(Long shopId, String name, ShopCategory category, Long ownerId,
+            LocalDateTime occurredAt) {
         this.shopId = shopId;
         this.name = name;
         this.category = category;
         this.ownerId = ownerId;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getShopId() {
@@ -0,0 +1,86 @@
+package com.soundbar91.shop.domain.event;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 상점 도메인 이벤트 저널 코덱 (타입 ID 10번대)
+ */
+public final class ShopEventCodecs {
+
+    public static final int SHOP_CREATED = 10;
+    public static final int SHOP_RENAMED = 11;
+
+    private ShopEventCodecs() {
+    }
+
+    @Component
+    public static class ShopCreatedEventCodec implements EventCodec<ShopCreatedEvent> {
+
+        @Override
+        public int typeId() {
+            return SHOP_CREATED;
+        }
+
+        @Override
+        public Class<ShopCreatedEvent> eventType() {
+            return ShopCreatedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(ShopCreatedEvent event) {
+            return Objects.requireNonNullElse(event.getShopId(), 0L);
+        }
+
+        @Override
+        public void encode(ShopCreatedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getShopId())
+                    .writeString(event.getName())
+                    .writeEnum(event.getCategory())
+                    .writeNullableLong(event.getOwnerId())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public ShopCreatedEvent decode(BinaryDecoder in) {
+            return new ShopCreatedEvent(in.readNullableLong(), in.readString(), in.readEnum(ShopCategory.class),
+                    in.readNullableLong(), in.readDateTime());
+        }
+    }
+
+    @Component
+    public static class ShopRenamedEventCodec implements EventCodec<ShopRenamedEvent> {
+
+        @Override
+        public int typeId() {
+            return SHOP_RENAMED;
+        }
+
+        @Override
+        public Class<ShopRenamedEvent> eventType() {
+            return ShopRenamedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(ShopRenamedEvent event) {
+            return Objects.requireNonNullElse(event.getShopId(), 0L);
+        }
+
+        @Override
+        public void encode(ShopRenamedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getShopId())
+                    .writeString(event.getName())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public ShopRenamedEvent decode(BinaryDecoder in) {
+            return new ShopRenamedEvent(in.readNullableLong(), in.readString(), in.readDateTime());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.soundbar91.shop.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상점 이름 변경 이벤트
+ * 상점 이름을 복제해 둔 조회 모델(주문 이력 등)을 갱신하는 데 사용
+ */
+public class ShopRenamedEvent {
+
+    private final Long shopId;
+    private final String name;
+    private final LocalDateTime occurredAt;
+
+    public ShopRenamedEvent(Long shopId, String name) {
+        this(shopId, name, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public ShopRenamedEvent(Long shopId, String name, LocalDateTime occurredAt) {
+        this.shopId = shopId;
+        this.name = name;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ShopRenamedEvent{" +
+                "shopId=" + shopId +
+                ", name='" + name + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -1,7 +1,10 @@
 package com.soundbar91.shop.domain.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.domain.vo.ShopField;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +27,12 @@ public interface ShopRepository {
 
     List<Shop> findByIsActiveTrue();
 
+    // 선택 컬럼 조회 (sparse fieldset): 선택한 컬럼만 SELECT 하고 엔티티는 로드하지 않음
+
+    List<ProjectedRow> findAllProjected(FieldSelection<ShopField> fields);
+
+    List<ProjectedRow> findByCategoryProjected(ShopCategory category, FieldSelection<ShopField> fields);
+
     void delete(Shop shop);
 
     void deleteById(Long id);
@@ -10,6 +10,8 @@ public enum ShopCategory {
     FASHION("패션"),
     ELECTRONICS("전자제품"),
     GROCERY("식료품"),
+    SERVICE("서비스"),
+    ENTERTAINMENT("엔터테인먼트"),
     OTHER("기타");
 
     private final String description;
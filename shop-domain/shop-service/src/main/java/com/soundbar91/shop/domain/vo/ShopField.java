@@ -0,0 +1,30 @@
+package com.soundbar91.shop.domain.vo;
+
+import com.soundbar91.common.projection.SelectableField;
+
+/**
+ * 상점 선택 조회 필드 (선언 순서 = 응답 필드 순서, ID는 항상 포함)
+ */
+public enum ShopField implements SelectableField {
+    ID("id"),
+    NAME("name"),
+    CATEGORY("category"),
+    DESCRIPTION("description"),
+    ADDRESS("address"),
+    PHONE_NUMBER("phoneNumber"),
+    OWNER_ID("ownerId"),
+    IS_ACTIVE("isActive"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String attribute;
+
+    ShopField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+}
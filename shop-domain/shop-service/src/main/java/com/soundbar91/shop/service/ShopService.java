@@ -1,24 +1,34 @@
 package com.soundbar91.shop.service;
 
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.event.ShopCreatedEvent;
+import com.soundbar91.shop.domain.event.ShopRenamedEvent;
 import com.soundbar91.shop.domain.repository.ShopRepository;
 import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.shop.domain.vo.ShopField;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 상점 서비스
  * 도메인 이벤트를 발행하여 다른 도메인과 느슨하게 결합
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, transactionManager = ShopService.TRANSACTION_MANAGER)
 public class ShopService {
 
+    /**
+     * Shop 도메인 트랜잭션 매니저 이름 (전용 풀을 쓰지 않으면 공용 매니저의 별칭)
+     */
+    public static final String TRANSACTION_MANAGER = "shopTransactionManager";
+
     private final ShopRepository shopRepository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -31,7 +41,7 @@ public class ShopService {
      * 상점 생성
      * 생성 후 ShopCreatedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Shop createShop(String name, ShopCategory category, String description, String address, String phoneNumber, Long ownerId) {
         Shop shop = new Shop(name, category, description, address, phoneNumber, ownerId);
         Shop savedShop = shopRepository.save(shop);
@@ -69,6 +79,20 @@ public class ShopService {
         return shopRepository.findByCategory(category);
     }
 
+    /**
+     * 모든 상점의 선택 필드 조회
+     */
+    public List<ProjectedRow> getAllShops(FieldSelection<ShopField> fields) {
+        return shopRepository.findAllProjected(fields);
+    }
+
+    /**
+     * 카테고리별 상점의 선택 필드 조회
+     */
+    public List<ProjectedRow> getShopsByCategory(ShopCategory category, FieldSelection<ShopField> fields) {
+        return shopRepository.findByCategoryProjected(category, fields);
+    }
+
     /**
      * 소유자별 상점 조회
      */
@@ -85,18 +109,25 @@ public class ShopService {
 
     /**
      * 상점 정보 수정
+     * 이름이 바뀌면 ShopRenamedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Shop updateShopInfo(Long id, String name, String description, String address, String phoneNumber) {
         Shop shop = getShopById(id);
+        boolean renamed = !Objects.equals(shop.getName(), name);
         shop.updateInfo(name, description, address, phoneNumber);
+
+        if (renamed) {
+            eventPublisher.publishEvent(new ShopRenamedEvent(shop.getId(), shop.getName()));
+        }
+
         return shop;
     }
 
     /**
      * 상점 카테고리 변경
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Shop updateShopCategory(Long id, ShopCategory category) {
         Shop shop = getShopById(id);
         shop.updateCategory(category);
@@ -106,7 +137,7 @@ public class ShopService {
     /**
      * 상점 활성화
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Shop activateShop(Long id) {
         Shop shop = getShopById(id);
         shop.activate();
@@ -116,7 +147,7 @@ public class ShopService {
     /**
      * 상점 비활성화
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public Shop deactivateShop(Long id) {
         Shop shop = getShopById(id);
         shop.deactivate();
@@ -126,7 +157,7 @@ public class ShopService {
     /**
      * 상점 삭제
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public void deleteShop(Long id) {
         Shop shop = getShopById(id);
         shopRepository.delete(shop);
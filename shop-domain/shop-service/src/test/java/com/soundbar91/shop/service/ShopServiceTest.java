@@ -3,6 +3,7 @@ package com.soundbar91.shop.service;
 import com.soundbar91.common.exception.NotFoundException;
 import com.soundbar91.shop.domain.entity.Shop;
 import com.soundbar91.shop.domain.event.ShopCreatedEvent;
+import com.soundbar91.shop.domain.event.ShopRenamedEvent;
 import com.soundbar91.shop.domain.repository.ShopRepository;
 import com.soundbar91.shop.domain.vo.ShopCategory;
 import com.soundbar91.test.fixture.ShopFixture;
@@ -239,6 +240,47 @@ class ShopServiceTest {
             assertThat(result.getAddress()).isEqualTo(newAddress);
             assertThat(result.getPhoneNumber()).isEqualTo(newPhone);
         }
+
+        @Test
+        @DisplayName("이름이 바뀌면 ShopRenamedEvent를 발행한다")
+        void updateShopInfo_WithNewName_PublishesShopRenamedEvent() {
+            // given
+            Long shopId = 1L;
+            Shop existingShop = ShopFixture.create()
+                    .withId(shopId)
+                    .withName("기존 상점")
+                    .build();
+
+            given(shopRepository.findById(shopId)).willReturn(Optional.of(existingShop));
+
+            // when
+            shopService.updateShopInfo(shopId, "수정된 상점", "설명", "주소", "02-1234-5678");
+
+            // then
+            ArgumentCaptor<ShopRenamedEvent> eventCaptor = ArgumentCaptor.forClass(ShopRenamedEvent.class);
+            then(eventPublisher).should().publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getShopId()).isEqualTo(shopId);
+            assertThat(eventCaptor.getValue().getName()).isEqualTo("수정된 상점");
+        }
+
+        @Test
+        @DisplayName("이름이 그대로면 이벤트를 발행하지 않는다")
+        void updateShopInfo_WithSameName_DoesNotPublishEvent() {
+            // given
+            Long shopId = 1L;
+            Shop existingShop = ShopFixture.create()
+                    .withId(shopId)
+                    .withName("기존 상점")
+                    .build();
+
+            given(shopRepository.findById(shopId)).willReturn(Optional.of(existingShop));
+
+            // when
+            shopService.updateShopInfo(shopId, "기존 상점", "새 설명", "주소", "02-1234-5678");
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -0,0 +1,268 @@
+package com.soundbar91.test.dataset;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.vo.PaymentMethod;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import com.soundbar91.shop.domain.vo.ShopCategory;
+import com.soundbar91.user.domain.vo.UserRole;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 참조 무결성을 지키는 대량 데이터셋 생성기
+ *
+ * - 엔티티를 만들지 않고 컬럼 값 배열을 바로 DatasetSink로 흘려보내 수천만 행도 일정한 메모리로 생성합니다.
+ * - 상점 인기도와 사용자 주문 빈도는 Zipf 분포를 따르며, 순위는 시드 기반 순열로 섞어 ID 순서와 무관하게 합니다.
+ * - 주문 상태는 실제 운영 비율에 가깝게 분포시키고, 결제 상태는 주문 상태와 일관되게 파생합니다.
+ * - 같은 시드와 설정이면 배치 크기나 Sink 종류와 관계없이 항상 같은 데이터가 생성됩니다.
+ *
+ * ID는 테이블별 1부터 순차 할당합니다. 애플리케이션의 Snowflake ID는 시각 기반의 큰 값이므로 충돌하지 않습니다.
+ *
+ * 사용 예시:
+ * try (JdbcBatchSink sink = new JdbcBatchSink(dataSource, 1_000)) {
+ *     DatasetSummary summary = new DatasetGenerator(DatasetSpec.create(42L).withOrders(10_000_000)).generate(sink);
+ * }
+ */
+public class DatasetGenerator {
+
+    private static final long USER_STREAM = 0x5553455253L;
+    private static final long SHOP_STREAM = 0x53484F5053L;
+    private static final long ORDER_STREAM = 0x4F52444552L;
+
+    private static final ShopCategory[] CATEGORIES = ShopCategory.values();
+    private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+    // 누적 백분율 기준 주문 상태 분포
+    private static final OrderStatus[] ORDER_STATUSES = {
+            OrderStatus.DELIVERED, OrderStatus.CANCELLED, OrderStatus.SHIPPED,
+            OrderStatus.PREPARING, OrderStatus.CONFIRMED, OrderStatus.PENDING
+    };
+    private static final int[] ORDER_STATUS_CUMULATIVE = {70, 78, 84, 89, 94, 100};
+
+    private static final String[] DISTRICTS = {"강남구", "서초구", "송파구", "마포구", "용산구", "성동구", "영등포구", "관악구"};
+    private static final String[] PRODUCTS = {"아메리카노", "김치찌개", "운동화", "무선 이어폰", "유기농 사과", "티셔츠", "노트북 거치대", "비빔밥"};
+    private static final long UNIT_PRICE_STEP = 500;
+
+    private final DatasetSpec spec;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    public DatasetSummary generate(DatasetSink sink) throws Exception {
+        long started = System.nanoTime();
+        generateUsers(sink);
+        generateShops(sink);
+        Map<OrderStatus, Long> orderStatusCounts = new EnumMap<>(OrderStatus.class);
+        Map<PaymentStatus, Long> paymentStatusCounts = new EnumMap<>(PaymentStatus.class);
+        generateOrdersAndPayments(sink, orderStatusCounts, paymentStatusCounts);
+        return new DatasetSummary(spec.users(), spec.shops(), spec.orders(), spec.orders(),
+                orderStatusCounts, paymentStatusCounts, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void generateUsers(DatasetSink sink) throws Exception {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ USER_STREAM);
+        long signupSeconds = ChronoUnit.SECONDS.between(spec.from().minusYears(1), spec.from());
+        Object[] row = new Object[DatasetTable.USERS.getColumns().size()];
+        sink.begin(DatasetTable.USERS);
+        for (long id = 1; id <= spec.users(); id++) {
+            // 가입 시각은 주문 기간 시작 이전 1년 ~ 기간 시작 사이
+            LocalDateTime createdAt = spec.from().minusSeconds(random.nextLong(signupSeconds));
+            int roleRoll = random.nextInt(100);
+            row[0] = id;
+            row[1] = "사용자" + id;
+            row[2] = "user" + id + "@example.com";
+            row[3] = phoneNumber(random);
+            row[4] = roleRoll < 90 ? UserRole.USER : roleRoll < 98 ? UserRole.SELLER : UserRole.ADMIN;
+            row[5] = createdAt;
+            row[6] = createdAt;
+            sink.row(DatasetTable.USERS, row);
+        }
+        sink.end(DatasetTable.USERS);
+    }
+
+    private void generateShops(DatasetSink sink) throws Exception {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ SHOP_STREAM);
+        Object[] row = new Object[DatasetTable.SHOPS.getColumns().size()];
+        sink.begin(DatasetTable.SHOPS);
+        for (long id = 1; id <= spec.shops(); id++) {
+            ShopCategory category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            LocalDateTime createdAt = spec.from().minusDays(random.nextInt(1, 365));
+            row[0] = id;
+            row[1] = category.getDescription() + " " + id + "호점";
+            row[2] = category;
+            row[3] = "생성된 상점 설명 " + id;
+            row[4] = address(random);
+            row[5] = phoneNumber(random);
+            row[6] = 1 + random.nextLong(spec.users());
+            row[7] = random.nextInt(100) < 95;
+            row[8] = createdAt;
+            row[9] = createdAt;
+            sink.row(DatasetTable.SHOPS, row);
+        }
+        sink.end(DatasetTable.SHOPS);
+    }
+
+    private void generateOrdersAndPayments(DatasetSink sink, Map<OrderStatus, Long> orderStatusCounts,
+                                           Map<PaymentStatus, Long> paymentStatusCounts) throws Exception {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ ORDER_STREAM);
+        int[] shopByRank = permutation(spec.shops(), random);
+        int[] userByRank = permutation(spec.users(), random);
+        ZipfianGenerator shopPopularity = new ZipfianGenerator(spec.shops(), spec.shopSkew());
+        ZipfianGenerator userActivity = new ZipfianGenerator(spec.users(), spec.userSkew());
+        OrderFactory orders = new OrderFactory(random.nextLong(), shopByRank, userByRank, shopPopularity, userActivity);
+
+        Object[] orderRow = new Object[DatasetTable.ORDERS.getColumns().size()];
+        sink.begin(DatasetTable.ORDERS);
+        for (long id = 1; id <= spec.orders(); id++) {
+            OrderValues order = orders.create(id);
+            orderRow[0] = id;
+            orderRow[1] = order.userId;
+            orderRow[2] = order.shopId;
+            orderRow[3] = order.productName;
+            orderRow[4] = order.quantity;
+            orderRow[5] = order.totalAmount;
+            orderRow[6] = order.status;
+            orderRow[7] = order.deliveryAddress;
+            orderRow[8] = order.createdAt;
+            orderRow[9] = order.updatedAt;
+            sink.row(DatasetTable.ORDERS, orderRow);
+            orderStatusCounts.merge(order.status, 1L, Long::sum);
+        }
+        sink.end(DatasetTable.ORDERS);
+
+        // 주문 값은 ID별 시드로 다시 계산할 수 있으므로 메모리에 보관하지 않고 결제를 파생한다
+        SplittableRandom paymentRandom = new SplittableRandom(random.nextLong());
+        Object[] paymentRow = new Object[DatasetTable.PAYMENTS.getColumns().size()];
+        sink.begin(DatasetTable.PAYMENTS);
+        for (long id = 1; id <= spec.orders(); id++) {
+            OrderValues order = orders.create(id);
+            PaymentStatus status = paymentStatus(order.status, paymentRandom);
+            LocalDateTime createdAt = order.createdAt.plusSeconds(paymentRandom.nextInt(1, 30));
+            LocalDateTime completedAt = status == PaymentStatus.COMPLETED || status == PaymentStatus.REFUNDED
+                    ? createdAt.plusSeconds(paymentRandom.nextInt(1, 10)) : null;
+            LocalDateTime refundedAt = status == PaymentStatus.REFUNDED ? order.updatedAt : null;
+            paymentRow[0] = id;
+            paymentRow[1] = id;
+            paymentRow[2] = order.userId;
+            paymentRow[3] = order.shopId;
+            paymentRow[4] = order.totalAmount;
+            paymentRow[5] = PAYMENT_METHODS[paymentRandom.nextInt(PAYMENT_METHODS.length)];
+            paymentRow[6] = status;
+            paymentRow[7] = completedAt != null ? String.format("TXN-%012X", id) : null;
+            paymentRow[8] = status == PaymentStatus.FAILED ? "결제 처리 실패: 카드사 승인 거부" : null;
+            paymentRow[9] = createdAt;
+            paymentRow[10] = refundedAt != null ? refundedAt : completedAt != null ? completedAt : createdAt;
+            paymentRow[11] = completedAt;
+            paymentRow[12] = refundedAt;
+            sink.row(DatasetTable.PAYMENTS, paymentRow);
+            paymentStatusCounts.merge(status, 1L, Long::sum);
+        }
+        sink.end(DatasetTable.PAYMENTS);
+    }
+
+    private static OrderStatus orderStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < ORDER_STATUS_CUMULATIVE.length; i++) {
+            if (roll < ORDER_STATUS_CUMULATIVE[i]) {
+                return ORDER_STATUSES[i];
+            }
+        }
+        return OrderStatus.PENDING;
+    }
+
+    /**
+     * 주문 상태와 모순되지 않는 결제 상태
+     */
+    private static PaymentStatus paymentStatus(OrderStatus orderStatus, SplittableRandom random) {
+        return switch (orderStatus) {
+            case PENDING -> random.nextInt(100) < 80 ? PaymentStatus.PENDING : PaymentStatus.FAILED;
+            case CANCELLED -> random.nextInt(100) < 60 ? PaymentStatus.REFUNDED : PaymentStatus.CANCELLED;
+            default -> PaymentStatus.COMPLETED;
+        };
+    }
+
+    private static int[] permutation(int size, SplittableRandom random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    private static String phoneNumber(SplittableRandom random) {
+        return String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+    }
+
+    private static String address(SplittableRandom random) {
+        return "서울시 " + DISTRICTS[random.nextInt(DISTRICTS.length)] + " 테스트로 " + random.nextInt(1, 500);
+    }
+
+    /**
+     * 주문 ID별 독립 난수열로 주문 값을 생성 (같은 ID면 항상 같은 값)
+     */
+    private final class OrderFactory {
+
+        private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+        private final long seed;
+        private final int[] shopByRank;
+        private final int[] userByRank;
+        private final ZipfianGenerator shopPopularity;
+        private final ZipfianGenerator userActivity;
+        private final long periodSeconds;
+
+        OrderFactory(long seed, int[] shopByRank, int[] userByRank,
+                     ZipfianGenerator shopPopularity, ZipfianGenerator userActivity) {
+            this.seed = seed;
+            this.shopByRank = shopByRank;
+            this.userByRank = userByRank;
+            this.shopPopularity = shopPopularity;
+            this.userActivity = userActivity;
+            this.periodSeconds = ChronoUnit.SECONDS.between(spec.from(), spec.to());
+        }
+
+        OrderValues create(long id) {
+            SplittableRandom random = new SplittableRandom(seed + id * GOLDEN_GAMMA);
+            OrderValues order = new OrderValues();
+            order.shopId = shopByRank[(int) shopPopularity.next(random)] + 1L;
+            order.userId = userByRank[(int) userActivity.next(random)] + 1L;
+            // 수량은 1개가 대부분인 지수 분포 (최대 10개)
+            order.quantity = 1 + (int) Math.min(9, -Math.log(1 - random.nextDouble()) * 1.2);
+            long unitPrice = UNIT_PRICE_STEP * random.nextInt(6, 120);
+            order.totalAmount = BigDecimal.valueOf(unitPrice * order.quantity).setScale(2);
+            order.productName = PRODUCTS[random.nextInt(PRODUCTS.length)];
+            order.deliveryAddress = address(random);
+            order.status = orderStatus(random);
+            order.createdAt = spec.from().plusSeconds(random.nextLong(periodSeconds));
+            order.updatedAt = order.status == OrderStatus.PENDING
+                    ? order.createdAt
+                    : order.createdAt.plusMinutes(random.nextInt(5, 60 * 72));
+            return order;
+        }
+    }
+
+    private static final class OrderValues {
+        long userId;
+        long shopId;
+        String productName;
+        int quantity;
+        BigDecimal totalAmount;
+        OrderStatus status;
+        String deliveryAddress;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.soundbar91.test.dataset;
+
+/**
+ * 생성된 행을 받아 저장하는 대상 (JDBC 배치, CSV 파일 등)
+ * 테이블은 USERS → SHOPS → ORDERS → PAYMENTS 순서로 전달됩니다.
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    void begin(DatasetTable table) throws Exception;
+
+    /**
+     * values는 DatasetTable.getColumns() 순서이며 호출이 끝나면 재사용되므로 보관하지 않습니다.
+     */
+    void row(DatasetTable table, Object[] values) throws Exception;
+
+    void end(DatasetTable table) throws Exception;
+
+    @Override
+    default void close() throws Exception {
+    }
+}
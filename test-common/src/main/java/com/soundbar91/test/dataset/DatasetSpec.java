@@ -0,0 +1,109 @@
+package com.soundbar91.test.dataset;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 데이터셋 생성 설정
+ *
+ * 사용 예시:
+ * DatasetSpec spec = DatasetSpec.create(42L)
+ *         .withUsers(1_000_000)
+ *         .withShops(20_000)
+ *         .withOrders(10_000_000);
+ */
+public class DatasetSpec {
+
+    private static final LocalDateTime DEFAULT_END = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final long seed;
+    private int users = 1_000;
+    private int shops = 100;
+    private long orders = 10_000;
+    private double shopSkew = 0.99;
+    private double userSkew = 0.6;
+    private LocalDateTime from = DEFAULT_END.minusYears(1);
+    private LocalDateTime to = DEFAULT_END;
+
+    private DatasetSpec(long seed) {
+        this.seed = seed;
+    }
+
+    public static DatasetSpec create(long seed) {
+        return new DatasetSpec(seed);
+    }
+
+    public DatasetSpec withUsers(int users) {
+        this.users = users;
+        return this;
+    }
+
+    public DatasetSpec withShops(int shops) {
+        this.shops = shops;
+        return this;
+    }
+
+    public DatasetSpec withOrders(long orders) {
+        this.orders = orders;
+        return this;
+    }
+
+    /**
+     * 상점 인기도 Zipf 지수 (0 < theta < 1, 클수록 소수 상점에 주문 집중)
+     */
+    public DatasetSpec withShopSkew(double shopSkew) {
+        this.shopSkew = shopSkew;
+        return this;
+    }
+
+    /**
+     * 사용자 주문 빈도 Zipf 지수 (0 < theta < 1)
+     */
+    public DatasetSpec withUserSkew(double userSkew) {
+        this.userSkew = userSkew;
+        return this;
+    }
+
+    /**
+     * 주문 생성 시각 범위 [from, to)
+     */
+    public DatasetSpec withPeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from은 to보다 앞서야 합니다.");
+        }
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public int users() {
+        return users;
+    }
+
+    public int shops() {
+        return shops;
+    }
+
+    public long orders() {
+        return orders;
+    }
+
+    public double shopSkew() {
+        return shopSkew;
+    }
+
+    public double userSkew() {
+        return userSkew;
+    }
+
+    public LocalDateTime from() {
+        return from;
+    }
+
+    public LocalDateTime to() {
+        return to;
+    }
+}
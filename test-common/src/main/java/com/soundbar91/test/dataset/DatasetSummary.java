@@ -0,0 +1,29 @@
+package com.soundbar91.test.dataset;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 데이터셋 생성 결과 요약
+ */
+public record DatasetSummary(
+        long users,
+        long shops,
+        long orders,
+        long payments,
+        Map<OrderStatus, Long> orderStatusCounts,
+        Map<PaymentStatus, Long> paymentStatusCounts,
+        Duration elapsed
+) {
+
+    public long totalRows() {
+        return users + shops + orders + payments;
+    }
+
+    public double rowsPerSecond() {
+        return elapsed.isZero() ? 0 : totalRows() * 1_000.0 / Math.max(1, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,39 @@
+package com.soundbar91.test.dataset;
+
+import java.util.List;
+
+/**
+ * 데이터셋 대상 테이블과 컬럼 순서
+ * 컬럼 이름은 JPA 물리 명명 규칙(CamelCaseToUnderscores)을 따릅니다.
+ */
+public enum DatasetTable {
+
+    USERS("users", List.of("id", "name", "email", "phone_number", "role", "created_at", "updated_at")),
+    SHOPS("shops", List.of("id", "name", "category", "description", "address", "phone_number", "owner_id",
+            "is_active", "created_at", "updated_at")),
+    ORDERS("orders", List.of("id", "user_id", "shop_id", "product_name", "quantity", "total_amount", "status",
+            "delivery_address", "created_at", "updated_at")),
+    PAYMENTS("payments", List.of("id", "order_id", "user_id", "shop_id", "amount", "payment_method", "status", "transaction_id",
+            "failure_reason", "created_at", "updated_at", "completed_at", "refunded_at"));
+
+    private final String tableName;
+    private final List<String> columns;
+
+    DatasetTable(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+}
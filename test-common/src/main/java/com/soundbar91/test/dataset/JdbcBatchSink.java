@@ -0,0 +1,86 @@
+package com.soundbar91.test.dataset;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 배치 INSERT 대상
+ *
+ * batchSize 행마다 executeBatch 후 커밋합니다.
+ * PostgreSQL은 JDBC URL에 reWriteBatchedInserts=true를 주면 다중 VALUES INSERT로 합쳐져 훨씬 빠릅니다.
+ */
+public class JdbcBatchSink implements DatasetSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final boolean previousAutoCommit;
+    private PreparedStatement statement;
+    private int pending;
+
+    public JdbcBatchSink(DataSource dataSource, int batchSize) throws SQLException {
+        this.connection = dataSource.getConnection();
+        this.batchSize = batchSize;
+        this.previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void begin(DatasetTable table) throws SQLException {
+        statement = connection.prepareStatement(table.insertSql());
+        pending = 0;
+    }
+
+    @Override
+    public void row(DatasetTable table, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            bind(i + 1, values[i]);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void end(DatasetTable table) throws SQLException {
+        flush();
+        statement.close();
+        statement = null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            connection.setAutoCommit(previousAutoCommit);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pending > 0) {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+
+    private void bind(int index, Object value) throws SQLException {
+        switch (value) {
+            case null -> statement.setNull(index, Types.NULL);
+            case Long v -> statement.setLong(index, v);
+            case Integer v -> statement.setInt(index, v);
+            case Boolean v -> statement.setBoolean(index, v);
+            case BigDecimal v -> statement.setBigDecimal(index, v);
+            case LocalDateTime v -> statement.setTimestamp(index, Timestamp.valueOf(v));
+            case Enum<?> v -> statement.setString(index, v.name());
+            default -> statement.setString(index, value.toString());
+        }
+    }
+}
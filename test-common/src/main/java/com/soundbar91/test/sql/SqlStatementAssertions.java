@@ -0,0 +1,43 @@
+package com.soundbar91.test.sql;
+
+import com.soundbar91.datasource.statement.SqlStatementCounter;
+import com.soundbar91.datasource.statement.StatementCounts;
+
+/**
+ * SQL 실행 횟수 검증 진입점
+ *
+ * datasource.statement-count.enabled=true 로 DataSource가 프록시된 컨텍스트에서 사용합니다.
+ * JPA 쓰기는 flush 시점에 실행되므로, INSERT/UPDATE까지 세려면 블록 안에서 flush 해야 합니다.
+ *
+ * 사용 예시:
+ * assertThatStatements(() -> {
+ *     orderService.createOrder(...);
+ *     entityManager.flush();
+ * }).hasTotalAtMost(3);
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    public static StatementCountAssert assertThatStatements(ThrowingRunnable action) {
+        return new StatementCountAssert(countStatements(action));
+    }
+
+    public static StatementCounts countStatements(ThrowingRunnable action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.run();
+            return scope.counts();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("SQL 실행 횟수 측정 중 예외가 발생했습니다.", e);
+        }
+    }
+}
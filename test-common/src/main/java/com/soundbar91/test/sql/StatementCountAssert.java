@@ -0,0 +1,62 @@
+package com.soundbar91.test.sql;
+
+import com.soundbar91.datasource.statement.StatementCounts;
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * SQL 실행 횟수 AssertJ 검증
+ */
+public class StatementCountAssert extends AbstractAssert<StatementCountAssert, StatementCounts> {
+
+    StatementCountAssert(StatementCounts actual) {
+        super(actual, StatementCountAssert.class);
+    }
+
+    public StatementCountAssert hasTotalAtMost(long expected) {
+        isNotNull();
+        if (actual.total() > expected) {
+            failWithMessage("SQL 실행 횟수가 최대 <%d>회여야 하지만 <%d>회였습니다. %s", expected, actual.total(), actual);
+        }
+        return this;
+    }
+
+    public StatementCountAssert hasTotal(long expected) {
+        isNotNull();
+        if (actual.total() != expected) {
+            failWithMessage("SQL 실행 횟수가 <%d>회여야 하지만 <%d>회였습니다. %s", expected, actual.total(), actual);
+        }
+        return this;
+    }
+
+    public StatementCountAssert hasSelectCount(long expected) {
+        return hasCount("SELECT", actual.select(), expected);
+    }
+
+    public StatementCountAssert hasSelectCountAtMost(long expected) {
+        isNotNull();
+        if (actual.select() > expected) {
+            failWithMessage("SELECT 실행 횟수가 최대 <%d>회여야 하지만 <%d>회였습니다. %s", expected, actual.select(), actual);
+        }
+        return this;
+    }
+
+    public StatementCountAssert hasInsertCount(long expected) {
+        return hasCount("INSERT", actual.insert(), expected);
+    }
+
+    public StatementCountAssert hasUpdateCount(long expected) {
+        return hasCount("UPDATE", actual.update(), expected);
+    }
+
+    public StatementCountAssert hasDeleteCount(long expected) {
+        return hasCount("DELETE", actual.delete(), expected);
+    }
+
+    private StatementCountAssert hasCount(String type, long count, long expected) {
+        isNotNull();
+        if (count != expected) {
+            failWithMessage("%s 실행 횟수가 <%d>회여야 하지만 <%d>회였습니다. %s", type, expected, count, actual);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,129 @@
+package com.soundbar91.test.dataset;
+
+import com.soundbar91.order.domain.vo.OrderStatus;
+import com.soundbar91.payment.domain.vo.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DatasetGenerator 테스트")
+class DatasetGeneratorTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.create(42L).withUsers(2_000).withShops(200).withOrders(20_000);
+
+    private static Map<DatasetTable, List<Object[]>> generate(DatasetSpec spec) throws Exception {
+        CollectingSink sink = new CollectingSink();
+        new DatasetGenerator(spec).generate(sink);
+        return sink.rows;
+    }
+
+    @Nested
+    @DisplayName("재현성")
+    class Reproducibility {
+
+        @Test
+        @DisplayName("같은 시드면 같은 데이터를 생성한다")
+        void sameSeed_GeneratesSameRows() throws Exception {
+            // when
+            Map<DatasetTable, List<Object[]>> first = generate(SPEC);
+            Map<DatasetTable, List<Object[]>> second = generate(
+                    DatasetSpec.create(42L).withUsers(2_000).withShops(200).withOrders(20_000));
+
+            // then
+            for (DatasetTable table : DatasetTable.values()) {
+                assertThat(second.get(table)).hasSameSizeAs(first.get(table));
+                for (int i = 0; i < first.get(table).size(); i++) {
+                    assertThat(second.get(table).get(i)).containsExactly(first.get(table).get(i));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("데이터 일관성")
+    class Consistency {
+
+        @Test
+        @DisplayName("주문과 결제는 존재하는 사용자/상점/주문만 참조한다")
+        void references_AreConsistent() throws Exception {
+            // when
+            Map<DatasetTable, List<Object[]>> rows = generate(SPEC);
+
+            // then
+            assertThat(rows.get(DatasetTable.ORDERS)).allSatisfy(order -> {
+                assertThat((Long) order[1]).isBetween(1L, (long) SPEC.users());
+                assertThat((Long) order[2]).isBetween(1L, (long) SPEC.shops());
+            });
+            List<Object[]> orders = rows.get(DatasetTable.ORDERS);
+            List<Object[]> payments = rows.get(DatasetTable.PAYMENTS);
+            for (int i = 0; i < payments.size(); i++) {
+                Object[] order = orders.get(i);
+                Object[] payment = payments.get(i);
+                assertThat(payment[1]).isEqualTo(order[0]);
+                assertThat(payment[2]).isEqualTo(order[1]);
+                assertThat(payment[3]).isEqualTo(order[2]);
+                assertThat(payment[4]).isEqualTo(order[5]);
+                if (order[6] == OrderStatus.DELIVERED) {
+                    assertThat(payment[6]).isEqualTo(PaymentStatus.COMPLETED);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("상점 인기도는 Zipf 분포로 소수 상점에 주문이 집중된다")
+        void shopPopularity_IsSkewed() throws Exception {
+            // when
+            Map<Long, Integer> ordersPerShop = new HashMap<>();
+            for (Object[] order : generate(SPEC).get(DatasetTable.ORDERS)) {
+                ordersPerShop.merge((Long) order[2], 1, Integer::sum);
+            }
+
+            // then
+            int[] counts = ordersPerShop.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int top10Percent = Arrays.stream(counts, counts.length - SPEC.shops() / 10, counts.length).sum();
+            assertThat(top10Percent).isGreaterThan((int) (SPEC.orders() * 0.4));
+        }
+
+        @Test
+        @DisplayName("주문 상태는 배송 완료가 가장 많다")
+        void orderStatus_FollowsDistribution() throws Exception {
+            // when
+            Map<OrderStatus, Integer> counts = new EnumMap<>(OrderStatus.class);
+            for (Object[] order : generate(SPEC).get(DatasetTable.ORDERS)) {
+                counts.merge((OrderStatus) order[6], 1, Integer::sum);
+            }
+
+            // then
+            assertThat(counts.get(OrderStatus.DELIVERED)).isBetween(13_000, 15_000);
+            assertThat(counts).containsKeys(OrderStatus.values());
+        }
+    }
+
+    private static final class CollectingSink implements DatasetSink {
+
+        private final Map<DatasetTable, List<Object[]>> rows = new EnumMap<>(DatasetTable.class);
+
+        @Override
+        public void begin(DatasetTable table) {
+            rows.put(table, new ArrayList<>());
+        }
+
+        @Override
+        public void row(DatasetTable table, Object[] values) {
+            rows.get(table).add(values.clone());
+        }
+
+        @Override
+        public void end(DatasetTable table) {
+        }
+    }
+}
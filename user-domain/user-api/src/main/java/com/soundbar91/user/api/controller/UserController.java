@@ -1,10 +1,14 @@
 package com.soundbar91.user.api.controller;
 
+import com.soundbar91.common.projection.FieldSelection;
 import com.soundbar91.user.api.dto.request.CreateUserRequest;
 import com.soundbar91.user.api.dto.request.UpdateUserRequest;
 import com.soundbar91.user.api.dto.response.UserResponse;
 import com.soundbar91.user.domain.entity.User;
+import com.soundbar91.user.domain.vo.UserField;
 import com.soundbar91.user.service.UserService;
+import com.soundbar91.web.etag.ConditionalGet;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,15 +17,21 @@ import java.util.List;
 
 /**
  * 사용자 API 컨트롤러
+ *
+ * 목록 조회는 fields 파라미터(예: fields=id,name,email)로 필요한 필드만 조회·응답할 수 있습니다.
  */
 @RestController
 @RequestMapping("/api/v2/users")
 public class UserController {
 
+    private static final String RESOURCE = "user";
+
     private final UserService userService;
+    private final ConditionalGet conditionalGet;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ConditionalGet conditionalGet) {
         this.userService = userService;
+        this.conditionalGet = conditionalGet;
     }
 
     /**
@@ -42,16 +52,20 @@ public class UserController {
      * 사용자 조회
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
-        User user = userService.getUserById(id);
-        return ResponseEntity.ok(UserResponse.from(user));
+    public ResponseEntity<UserResponse> getUser(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet.single(RESOURCE, id, ifNoneMatch,
+                () -> userService.getUserById(id), User::getUpdatedAt, UserResponse::from);
     }
 
     /**
      * 모든 사용자 조회
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
+    public ResponseEntity<List<?>> getAllUsers(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(userService.getAllUsers(FieldSelection.parse(UserField.class, fields)));
+        }
         List<UserResponse> users = userService.getAllUsers().stream()
                 .map(UserResponse::from)
                 .toList();
@@ -64,7 +78,9 @@ public class UserController {
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(@PathVariable Long id, @RequestBody UpdateUserRequest request) {
         User user = userService.updateUserProfile(id, request.name(), request.phoneNumber());
-        return ResponseEntity.ok(UserResponse.from(user));
+        return ResponseEntity.ok()
+                .eTag(conditionalGet.remember(RESOURCE, id, user.getUpdatedAt()))
+                .body(UserResponse.from(user));
     }
 
     /**
@@ -73,6 +89,7 @@ public class UserController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
+        conditionalGet.evict(RESOURCE, id);
         return ResponseEntity.noContent().build();
     }
 }
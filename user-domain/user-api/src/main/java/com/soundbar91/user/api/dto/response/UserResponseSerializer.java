@@ -0,0 +1,44 @@
+package com.soundbar91.user.api.dto.response;
+
+import com.soundbar91.user.domain.vo.UserRole;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static com.soundbar91.web.json.JsonFields.*;
+
+/**
+ * UserResponse 스트리밍 직렬화기 (리플렉션 기반 BeanSerializer 대체)
+ */
+@JacksonComponent
+public class UserResponseSerializer extends StdSerializer<UserResponse> {
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString NAME = name("name");
+    private static final SerializedString EMAIL = name("email");
+    private static final SerializedString PHONE_NUMBER = name("phoneNumber");
+    private static final SerializedString ROLE = name("role");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+
+    private static final SerializedString[] ROLES = enumNames(UserRole.class);
+
+    public UserResponseSerializer() {
+        super(UserResponse.class);
+    }
+
+    @Override
+    public void serialize(UserResponse value, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.id());
+        writeString(gen, NAME, value.name());
+        writeString(gen, EMAIL, value.email());
+        writeString(gen, PHONE_NUMBER, value.phoneNumber());
+        writeEnum(gen, ROLE, ROLES, value.role());
+        writeDateTime(gen, CREATED_AT, value.createdAt());
+        writeDateTime(gen, UPDATED_AT, value.updatedAt());
+        gen.writeEndObject();
+    }
+}
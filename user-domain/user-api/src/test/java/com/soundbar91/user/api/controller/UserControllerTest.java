@@ -1,10 +1,13 @@
 package com.soundbar91.user.api.controller;
 
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.test.fixture.UserFixture;
 import com.soundbar91.user.api.dto.request.CreateUserRequest;
 import com.soundbar91.user.api.dto.request.UpdateUserRequest;
 import com.soundbar91.user.domain.entity.User;
+import com.soundbar91.user.domain.vo.UserField;
 import com.soundbar91.user.domain.vo.UserRole;
 import com.soundbar91.user.service.UserService;
 import org.junit.jupiter.api.DisplayName;
@@ -168,6 +171,24 @@ class UserControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(0));
         }
+
+        @Test
+        @DisplayName("fields 파라미터를 지정하면 id와 선택한 필드만 반환한다")
+        void getAllUsers_WithFields_ReturnsSelectedFieldsOnly() throws Exception {
+            // given
+            FieldSelection<UserField> fields = FieldSelection.parse(UserField.class, "name,role");
+            List<ProjectedRow> rows = fields.toRows(List.<Object[]>of(new Object[]{5L, "홍길동", UserRole.SELLER}));
+
+            given(userService.getAllUsers(any(FieldSelection.class))).willReturn(rows);
+
+            // when & then
+            mockMvc.perform(get("/api/v2/users").param("fields", "name,role"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(5))
+                    .andExpect(jsonPath("$[0].name").value("홍길동"))
+                    .andExpect(jsonPath("$[0].role").value("SELLER"))
+                    .andExpect(jsonPath("$[0].email").doesNotExist());
+        }
     }
 
     @Nested
@@ -0,0 +1,48 @@
+package com.soundbar91.user.api.dto.response;
+
+import com.soundbar91.user.domain.vo.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserResponseSerializer 테스트")
+class UserResponseSerializerTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(UserResponse.class, new UserResponseSerializer()))
+            .build();
+
+    @Test
+    @DisplayName("기본 Jackson 직렬화와 같은 JSON을 생성한다")
+    void serialize_MatchesReflectiveOutput() {
+        // given
+        UserResponse response = new UserResponse(1L, "홍길동", "hong@example.com", "010-1234-5678", UserRole.SELLER,
+                LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789), LocalDateTime.of(2026, 1, 2, 3, 4));
+
+        // when
+        String json = streaming.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflective.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("null 필드도 기본 직렬화와 같이 null로 기록한다")
+    void serialize_WithNullFields_MatchesReflectiveOutput() {
+        // given
+        UserResponse response = new UserResponse(1L, null, null, null, null, null, null);
+
+        // when
+        JsonNode tree = streaming.readTree(streaming.writeValueAsString(response));
+
+        // then
+        assertThat(tree).isEqualTo(reflective.readTree(reflective.writeValueAsString(response)));
+    }
+}
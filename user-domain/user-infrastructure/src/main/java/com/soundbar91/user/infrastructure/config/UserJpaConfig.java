@@ -1,14 +1,88 @@
 package com.soundbar91.user.infrastructure.config;
 
+import com.soundbar91.config.properties.DomainDataSourceProperties;
+import com.soundbar91.datasource.isolation.DomainPersistenceFactory;
+import com.soundbar91.datasource.isolation.TransactionManagerAliasRegistrar;
+import com.soundbar91.datasource.routing.DataSourceRoutingProperties;
+import com.soundbar91.datasource.routing.ReplicationRoutingDataSource;
+import com.soundbar91.user.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
  * User 도메인 JPA 설정
+ *
+ * 기본적으로 공용 DataSource와 EntityManagerFactory를 사용하며,
+ * datasource.domains.user.isolated=true 이면 User 전용 커넥션 풀, EntityManagerFactory,
+ * 트랜잭션 매니저를 구성합니다.
  */
 @Configuration
-@EntityScan(basePackages = "com.soundbar91.user.domain.entity")
-@EnableJpaRepositories(basePackages = "com.soundbar91.user.infrastructure.repository")
 public class UserJpaConfig {
+
+    static final String DOMAIN = "user";
+    static final String ENTITY_PACKAGE = "com.soundbar91.user.domain.entity";
+    static final String REPOSITORY_PACKAGE = "com.soundbar91.user.infrastructure.repository";
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.user", name = "isolated", havingValue = "false", matchIfMissing = true)
+    @EntityScan(basePackages = ENTITY_PACKAGE)
+    @EnableJpaRepositories(basePackages = REPOSITORY_PACKAGE)
+    static class SharedPersistenceConfig {
+
+        @Bean
+        static TransactionManagerAliasRegistrar userTransactionManagerAlias() {
+            return new TransactionManagerAliasRegistrar(UserService.TRANSACTION_MANAGER);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "datasource.domains.user", name = "isolated", havingValue = "true")
+    @EnableJpaRepositories(
+            basePackages = REPOSITORY_PACKAGE,
+            entityManagerFactoryRef = "userEntityManagerFactory",
+            transactionManagerRef = UserService.TRANSACTION_MANAGER
+    )
+    static class IsolatedPersistenceConfig {
+
+        @Bean
+        public HikariDataSource userDataSource(DomainDataSourceProperties properties, Environment environment) {
+            return DomainPersistenceFactory.createDataSource(DOMAIN, properties.domain(DOMAIN), environment);
+        }
+
+        @Bean
+        public ReplicationRoutingDataSource userRoutingDataSource(
+                @Qualifier("userDataSource") HikariDataSource dataSource,
+                DomainDataSourceProperties properties,
+                ObjectProvider<DataSourceRoutingProperties> routingProperties) {
+            return DomainPersistenceFactory.createRoutingDataSource(
+                    DOMAIN, dataSource, properties.domain(DOMAIN), routingProperties.getIfAvailable());
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean userEntityManagerFactory(
+                @Qualifier("userRoutingDataSource") ReplicationRoutingDataSource routingDataSource,
+                DomainDataSourceProperties properties,
+                Environment environment) {
+            return DomainPersistenceFactory.createEntityManagerFactory(
+                    DOMAIN, new LazyConnectionDataSourceProxy(routingDataSource), properties.domain(DOMAIN),
+                    environment, ENTITY_PACKAGE);
+        }
+
+        @Bean(UserService.TRANSACTION_MANAGER)
+        public JpaTransactionManager userTransactionManager(
+                @Qualifier("userEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return DomainPersistenceFactory.createTransactionManager(entityManagerFactory);
+        }
+    }
 }
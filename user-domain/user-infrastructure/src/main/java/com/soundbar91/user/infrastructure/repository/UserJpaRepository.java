@@ -8,7 +8,7 @@ import java.util.Optional;
 /**
  * Spring Data JPA Repository
  */
-public interface UserJpaRepository extends JpaRepository<User, Long> {
+public interface UserJpaRepository extends JpaRepository<User, Long>, UserJpaRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
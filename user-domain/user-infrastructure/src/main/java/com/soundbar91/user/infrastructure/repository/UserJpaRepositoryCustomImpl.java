@@ -0,0 +1,26 @@
+package com.soundbar91.user.infrastructure.repository;
+
+import com.soundbar91.datasource.projection.ProjectionQuery;
+import com.soundbar91.user.domain.entity.User;
+import org.springframework.data.jpa.repository.JpaContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserJpaRepositoryCustom 구현체
+ * 도메인 격리 시에도 User를 관리하는 EntityManager를 사용하도록 JpaContext로 조회합니다.
+ */
+public class UserJpaRepositoryCustomImpl implements UserJpaRepositoryCustom {
+
+    private final ProjectionQuery<User> projectionQuery;
+
+    public UserJpaRepositoryCustomImpl(JpaContext jpaContext) {
+        this.projectionQuery = new ProjectionQuery<>(User.class, jpaContext.getEntityManagerByManagedType(User.class));
+    }
+
+    @Override
+    public List<Object[]> findProjected(String[] attributes, Map<String, ?> equalities) {
+        return projectionQuery.select(attributes, equalities);
+    }
+}
@@ -1,10 +1,14 @@
 package com.soundbar91.user.infrastructure.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.user.domain.entity.User;
 import com.soundbar91.user.domain.repository.UserRepository;
+import com.soundbar91.user.domain.vo.UserField;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,6 +49,11 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.existsByEmail(email);
     }
 
+    @Override
+    public List<ProjectedRow> findAllProjected(FieldSelection<UserField> fields) {
+        return fields.toRows(userJpaRepository.findProjected(fields.attributes(), Map.of()));
+    }
+
     @Override
     public void delete(User user) {
         userJpaRepository.delete(user);
@@ -0,0 +1,14 @@
+-- users 기준 스키마 (PostgreSQL)
+-- 기존 DB에는 이미 테이블이 있으므로 IF NOT EXISTS 로 건너뜁니다. (spring.flyway.baseline-on-migrate)
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT       NOT NULL,
+    name         VARCHAR(50)  NOT NULL,
+    email        VARCHAR(100) NOT NULL,
+    phone_number VARCHAR(20),
+    role         VARCHAR(20)  NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
@@ -14,10 +14,17 @@ public class UserCreatedEvent {
     private final LocalDateTime occurredAt;
 
     public UserCreatedEvent(Long userId, String email, String name) {
+        this(userId, email, name, LocalDateTime.now());
+    }
+
+    /**
+     * 저널 재생 등으로 발생 시각을 복원할 때 사용
+     */
+    public UserCreatedEvent(Long userId, String email, String name, LocalDateTime occurredAt) {
         this.userId = userId;
         this.email = email;
         this.name = name;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public Long getUserId() {
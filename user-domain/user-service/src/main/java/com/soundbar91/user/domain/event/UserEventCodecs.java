@@ -0,0 +1,51 @@
+package com.soundbar91.user.domain.event;
+
+import com.soundbar91.common.event.BinaryDecoder;
+import com.soundbar91.common.event.BinaryEncoder;
+import com.soundbar91.common.event.EventCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 사용자 도메인 이벤트 저널 코덱 (타입 ID 1번대)
+ */
+public final class UserEventCodecs {
+
+    public static final int USER_CREATED = 1;
+
+    private UserEventCodecs() {
+    }
+
+    @Component
+    public static class UserCreatedEventCodec implements EventCodec<UserCreatedEvent> {
+
+        @Override
+        public int typeId() {
+            return USER_CREATED;
+        }
+
+        @Override
+        public Class<UserCreatedEvent> eventType() {
+            return UserCreatedEvent.class;
+        }
+
+        @Override
+        public long aggregateId(UserCreatedEvent event) {
+            return Objects.requireNonNullElse(event.getUserId(), 0L);
+        }
+
+        @Override
+        public void encode(UserCreatedEvent event, BinaryEncoder out) {
+            out.writeNullableLong(event.getUserId())
+                    .writeString(event.getEmail())
+                    .writeString(event.getName())
+                    .writeDateTime(event.getOccurredAt());
+        }
+
+        @Override
+        public UserCreatedEvent decode(BinaryDecoder in) {
+            return new UserCreatedEvent(in.readNullableLong(), in.readString(), in.readString(), in.readDateTime());
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.soundbar91.user.domain.repository;
 
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.user.domain.entity.User;
+import com.soundbar91.user.domain.vo.UserField;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,10 @@ public interface UserRepository {
 
     boolean existsByEmail(String email);
 
+    // 선택 컬럼 조회 (sparse fieldset): 선택한 컬럼만 SELECT 하고 엔티티는 로드하지 않음
+
+    List<ProjectedRow> findAllProjected(FieldSelection<UserField> fields);
+
     void delete(User user);
 
     void deleteById(Long id);
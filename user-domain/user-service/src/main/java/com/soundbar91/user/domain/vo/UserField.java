@@ -0,0 +1,27 @@
+package com.soundbar91.user.domain.vo;
+
+import com.soundbar91.common.projection.SelectableField;
+
+/**
+ * 사용자 선택 조회 필드 (선언 순서 = 응답 필드 순서, ID는 항상 포함)
+ */
+public enum UserField implements SelectableField {
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    PHONE_NUMBER("phoneNumber"),
+    ROLE("role"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String attribute;
+
+    UserField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public String attribute() {
+        return attribute;
+    }
+}
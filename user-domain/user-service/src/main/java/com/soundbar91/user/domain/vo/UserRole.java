@@ -6,7 +6,8 @@ package com.soundbar91.user.domain.vo;
 public enum UserRole {
     ADMIN("관리자"),
     USER("일반 사용자"),
-    SELLER("판매자");
+    SELLER("판매자"),
+    MANAGER("매니저");
 
     private final String description;
 
@@ -3,9 +3,12 @@ package com.soundbar91.user.service;
 import com.soundbar91.common.exception.BusinessException;
 import com.soundbar91.common.exception.ErrorCode;
 import com.soundbar91.common.exception.NotFoundException;
+import com.soundbar91.common.projection.FieldSelection;
+import com.soundbar91.common.projection.ProjectedRow;
 import com.soundbar91.user.domain.entity.User;
 import com.soundbar91.user.domain.event.UserCreatedEvent;
 import com.soundbar91.user.domain.repository.UserRepository;
+import com.soundbar91.user.domain.vo.UserField;
 import com.soundbar91.user.domain.vo.UserRole;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -18,9 +21,14 @@ import java.util.List;
  * 도메인 이벤트를 발행하여 다른 도메인과 느슨하게 결합
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, transactionManager = UserService.TRANSACTION_MANAGER)
 public class UserService {
 
+    /**
+     * User 도메인 트랜잭션 매니저 이름 (전용 풀을 쓰지 않으면 공용 매니저의 별칭)
+     */
+    public static final String TRANSACTION_MANAGER = "userTransactionManager";
+
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -33,7 +41,7 @@ public class UserService {
      * 사용자 생성
      * 생성 후 UserCreatedEvent 발행
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public User createUser(String name, String email, String phoneNumber, UserRole role) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(email)) {
@@ -72,10 +80,17 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * 모든 사용자의 선택 필드 조회
+     */
+    public List<ProjectedRow> getAllUsers(FieldSelection<UserField> fields) {
+        return userRepository.findAllProjected(fields);
+    }
+
     /**
      * 사용자 프로필 수정
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public User updateUserProfile(Long id, String name, String phoneNumber) {
         User user = getUserById(id);
         user.updateProfile(name, phoneNumber);
@@ -85,7 +100,7 @@ public class UserService {
     /**
      * 사용자 역할 변경
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public User updateUserRole(Long id, UserRole role) {
         User user = getUserById(id);
         user.updateRole(role);
@@ -95,7 +110,7 @@ public class UserService {
     /**
      * 사용자 삭제
      */
-    @Transactional
+    @Transactional(transactionManager = TRANSACTION_MANAGER)
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
@@ -0,0 +1,39 @@
+package com.soundbar91.web.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.IOException;
+
+/**
+ * brotli4j 기반 Brotli 인코더
+ * 클래스패스와 네이티브 라이브러리가 모두 있을 때만 생성해야 합니다. (isAvailable 참조)
+ */
+final class BrotliContentEncoder implements ContentEncoder {
+
+    static final String NAME = "br";
+
+    private final Encoder.Parameters parameters;
+
+    BrotliContentEncoder(int quality) {
+        this.parameters = new Encoder.Parameters().setQuality(quality);
+    }
+
+    static boolean isAvailable() {
+        try {
+            return Brotli4jLoader.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(byte[] body) throws IOException {
+        return Encoder.compress(body, parameters);
+    }
+}
@@ -0,0 +1,49 @@
+package com.soundbar91.web.compression;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * 응답 압축 설정 속성
+ * application.yml에서 'web.compression' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * web:
+ *   compression:
+ *     enabled: true
+ *     min-response-size: 2KB       # 이보다 작은 응답은 압축하지 않음
+ *     mime-types: application/json
+ *     path-prefixes: /api/
+ *     gzip-level: 6                # 1 ~ 9
+ *     brotli-quality: 5            # 0 ~ 11, 네이티브 라이브러리가 없으면 gzip만 사용
+ */
+@ConfigurationProperties(prefix = "web.compression")
+public record CompressionProperties(
+        boolean enabled,
+        DataSize minResponseSize,
+        List<String> mimeTypes,
+        List<String> pathPrefixes,
+        int gzipLevel,
+        int brotliQuality
+) {
+
+    public CompressionProperties {
+        if (minResponseSize == null) {
+            minResponseSize = DataSize.ofKilobytes(2);
+        }
+        if (mimeTypes == null || mimeTypes.isEmpty()) {
+            mimeTypes = List.of("application/json");
+        }
+        if (pathPrefixes == null || pathPrefixes.isEmpty()) {
+            pathPrefixes = List.of("/api/");
+        }
+        if (gzipLevel < 1 || gzipLevel > 9) {
+            gzipLevel = 6;
+        }
+        if (brotliQuality < 0 || brotliQuality > 11) {
+            brotliQuality = 5;
+        }
+    }
+}
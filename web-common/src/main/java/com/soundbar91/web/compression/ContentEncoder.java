@@ -0,0 +1,16 @@
+package com.soundbar91.web.compression;
+
+import java.io.IOException;
+
+/**
+ * Content-Encoding 인코더
+ */
+interface ContentEncoder {
+
+    /**
+     * Content-Encoding 토큰 (gzip, br)
+     */
+    String name();
+
+    byte[] encode(byte[] body) throws IOException;
+}
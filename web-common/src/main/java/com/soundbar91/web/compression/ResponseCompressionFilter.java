@@ -0,0 +1,186 @@
+package com.soundbar91.web.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 큰 응답 본문 압축 필터 (Brotli 우선, gzip 대체)
+ *
+ * 대상 경로의 응답을 버퍼링한 뒤 크기와 Content-Type이 조건을 만족하면 압축합니다.
+ * 압축 결과가 원본보다 크거나 같으면 원본을 그대로 보냅니다.
+ * 절감량은 http.server.compression.saved / http.server.compression.original (bytes)로 기록합니다.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressionFilter.class);
+
+    private static final String BROTLI_LOADER_CLASS = "com.aayushatharva.brotli4j.Brotli4jLoader";
+
+    private final long minResponseSize;
+    private final List<MediaType> mimeTypes;
+    private final List<String> pathPrefixes;
+    private final List<ContentEncoder> encoders;
+    // 인코딩별 카운터 (생성 시 한 번만 등록, MeterRegistry가 없으면 비어 있음)
+    private final Map<String, EncodingCounters> counters;
+
+    public ResponseCompressionFilter(CompressionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, isBrotliAvailable());
+    }
+
+    ResponseCompressionFilter(CompressionProperties properties, MeterRegistry meterRegistry, boolean brotliAvailable) {
+        this.minResponseSize = properties.minResponseSize().toBytes();
+        this.mimeTypes = properties.mimeTypes().stream().map(MediaType::parseMediaType).toList();
+        this.pathPrefixes = properties.pathPrefixes();
+        this.encoders = brotliAvailable
+                ? List.of(new BrotliContentEncoder(properties.brotliQuality()), new GzipContentEncoder(properties.gzipLevel()))
+                : List.of(new GzipContentEncoder(properties.gzipLevel()));
+        this.counters = meterRegistry == null ? Map.of() : encoders.stream().collect(Collectors.toUnmodifiableMap(
+                ContentEncoder::name, encoder -> EncodingCounters.register(encoder.name(), meterRegistry)));
+        log.info("[ResponseCompression] 활성화 - encodings: {}, minResponseSize: {}B",
+                encoders.stream().map(ContentEncoder::name).toList(), minResponseSize);
+    }
+
+    private static boolean isBrotliAvailable() {
+        return ClassUtils.isPresent(BROTLI_LOADER_CLASS, ResponseCompressionFilter.class.getClassLoader())
+                && BrotliContentEncoder.isAvailable();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return pathPrefixes.stream().noneMatch(uri::startsWith)
+                || select(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (!isCompressible(wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        ContentEncoder encoder = select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (body.length < minResponseSize || encoder == null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] encoded = encoder.encode(body);
+        if (encoded.length >= body.length) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        // 래퍼가 보관한 원본 Content-Length는 버리고 압축 본문을 원 응답에 직접 기록
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoder.name());
+        response.setContentLength(encoded.length);
+        response.getOutputStream().write(encoded);
+        record(encoder.name(), body.length, encoded.length);
+    }
+
+    private boolean isCompressible(ContentCachingResponseWrapper wrapper) {
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || wrapper.getContentType() == null) {
+            return false;
+        }
+        MediaType contentType = MediaType.parseMediaType(wrapper.getContentType());
+        return mimeTypes.stream().anyMatch(type -> type.includes(contentType));
+    }
+
+    /**
+     * Accept-Encoding의 q 값이 가장 높은 인코더 선택 (동률이면 등록 순서, 즉 Brotli 우선)
+     */
+    ContentEncoder select(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        ContentEncoder best = null;
+        double bestQuality = 0;
+        for (ContentEncoder encoder : encoders) {
+            double quality = qualityOf(acceptEncoding, encoder.name());
+            if (quality > bestQuality) {
+                best = encoder;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static double qualityOf(String acceptEncoding, String coding) {
+        double wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(coding)) {
+                return quality;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+
+    private void record(String encoding, int originalBytes, int encodedBytes) {
+        EncodingCounters encodingCounters = counters.get(encoding);
+        if (encodingCounters == null) {
+            return;
+        }
+        encodingCounters.original().increment(originalBytes);
+        encodingCounters.saved().increment(originalBytes - encodedBytes);
+    }
+
+    private record EncodingCounters(Counter original, Counter saved) {
+
+        static EncodingCounters register(String encoding, MeterRegistry meterRegistry) {
+            return new EncodingCounters(
+                    counter("http.server.compression.original", encoding, meterRegistry),
+                    counter("http.server.compression.saved", encoding, meterRegistry));
+        }
+
+        private static Counter counter(String name, String encoding, MeterRegistry meterRegistry) {
+            return Counter.builder(name)
+                    .baseUnit("bytes")
+                    .tag("encoding", encoding)
+                    .register(meterRegistry);
+        }
+    }
+}
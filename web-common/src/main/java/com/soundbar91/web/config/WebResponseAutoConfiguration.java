@@ -0,0 +1,65 @@
+package com.soundbar91.web.config;
+
+import com.soundbar91.common.projection.ProjectedRow;
+import com.soundbar91.web.compression.CompressionProperties;
+import com.soundbar91.web.compression.ResponseCompressionFilter;
+import com.soundbar91.web.etag.ConditionalGet;
+import com.soundbar91.web.etag.EntityTagProperties;
+import com.soundbar91.web.error.ErrorHandlingProperties;
+import com.soundbar91.web.error.GlobalExceptionHandler;
+import com.soundbar91.web.json.ProjectedRowSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * HTTP 응답 최적화 자동 설정
+ * 조건부 GET(ConditionalGet), 선택 조회 결과 직렬화기, 전역 예외 처리기는 항상 등록되고,
+ * 응답 압축은 web.compression.enabled=true 일 때만 등록됩니다.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({EntityTagProperties.class, ErrorHandlingProperties.class})
+public class WebResponseAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConditionalGet conditionalGet(EntityTagProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConditionalGet(properties, meterRegistry);
+    }
+
+    /**
+     * 선택 조회 결과 직렬화기 모듈 (JacksonModule 빈은 JsonMapper에 자동 등록됨)
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "projectedRowModule")
+    public JacksonModule projectedRowModule() {
+        return new SimpleModule("projected-row").addSerializer(ProjectedRow.class, new ProjectedRowSerializer());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GlobalExceptionHandler globalExceptionHandler(ErrorHandlingProperties properties) {
+        return new GlobalExceptionHandler(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "web.compression", name = "enabled", havingValue = "true")
+    @EnableConfigurationProperties(CompressionProperties.class)
+    static class CompressionConfiguration {
+
+        @Bean
+        public ResponseCompressionFilter responseCompressionFilter(CompressionProperties properties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+            return new ResponseCompressionFilter(properties, meterRegistry.getIfAvailable());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.soundbar91.web.error;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 전역 예외 처리 설정 속성
+ * application.yml에서 'web.error' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * web:
+ *   error:
+ *     stack-trace: false   # true면 비즈니스 예외도 스택 트레이스를 기록 (디버깅용)
+ *
+ * stack-trace를 지정하지 않으면 -Dnuga.exception.stack-trace 시스템 프로퍼티 값을 그대로 사용합니다.
+ */
+@ConfigurationProperties(prefix = "web.error")
+public record ErrorHandlingProperties(
+        Boolean stackTrace
+) {
+}
@@ -0,0 +1,128 @@
+package com.soundbar91.web.error;
+
+import com.soundbar91.common.exception.BusinessException;
+import com.soundbar91.common.exception.ErrorBodyTemplate;
+import com.soundbar91.common.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 전역 예외 처리기
+ *
+ * ErrorCode의 상태 코드로 응답하며, 본문은 ErrorBodyTemplate으로 미리 직렬화된 바이트를 사용합니다.
+ * 도메인별 핸들러가 먼저 처리할 수 있도록 가장 낮은 우선순위로 등록됩니다.
+ * 생성 시 web.error.stack-trace 설정이 지정되어 있으면 비즈니스 예외에 반영합니다.
+ *
+ * 처리되지 않은 예외 중 Spring MVC 표준 예외(ErrorResponse)는 자신의 상태 코드로 응답하고,
+ * Spring Security 예외는 ExceptionTranslationFilter가 401/403으로 처리하도록 다시 던집니다.
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.access.AccessDeniedException", GlobalExceptionHandler.class.getClassLoader());
+
+    private static final Map<Integer, ErrorCode> ERROR_CODES_BY_STATUS = new HashMap<>();
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ERROR_CODES_BY_STATUS.putIfAbsent(errorCode.getStatus(), errorCode);
+        }
+    }
+
+    public GlobalExceptionHandler(ErrorHandlingProperties properties) {
+        if (properties.stackTrace() != null) {
+            BusinessException.setStackTraceEnabled(properties.stackTrace());
+        }
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e, HttpServletRequest request) {
+        return respond(e.getErrorCode(), e.getMessage(), request);
+    }
+
+    @ExceptionHandler({
+            MethodArgumentTypeMismatchException.class,
+            MissingServletRequestParameterException.class,
+            HttpMessageNotReadableException.class
+    })
+    public ResponseEntity<byte[]> handleInvalidInput(Exception e, HttpServletRequest request) {
+        return respond(ErrorCode.INVALID_INPUT, null, request);
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<byte[]> handleNoResourceFound(NoResourceFoundException e, HttpServletRequest request) {
+        return respond(ErrorCode.NOT_FOUND, null, request);
+    }
+
+    /**
+     * 나머지 예외 처리
+     * 다시 던진 예외는 다음 HandlerExceptionResolver(DefaultHandlerExceptionResolver)나 서블릿 필터가 처리합니다.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<byte[]> handleException(Exception e, HttpServletRequest request) throws Exception {
+        if (SECURITY_PRESENT && SecurityExceptions.isSecurityException(e)) {
+            throw e;
+        }
+        if (e instanceof ErrorResponse errorResponse) {
+            return handleErrorResponse(e, errorResponse, request);
+        }
+        log.error("[GlobalExceptionHandler] 처리되지 않은 예외 - path: {}", request.getRequestURI(), e);
+        return respond(ErrorCode.INTERNAL_SERVER_ERROR, null, request);
+    }
+
+    /**
+     * 같은 상태 코드의 ErrorCode가 있으면 그 본문으로 응답하고(Allow 등 예외가 지정한 헤더 포함),
+     * 없으면 Spring 기본 처리(DefaultHandlerExceptionResolver)에 맡깁니다.
+     */
+    private static ResponseEntity<byte[]> handleErrorResponse(Exception e, ErrorResponse errorResponse,
+                                                             HttpServletRequest request) throws Exception {
+        ErrorCode errorCode = ERROR_CODES_BY_STATUS.get(errorResponse.getStatusCode().value());
+        if (errorCode == null || errorCode == ErrorCode.INTERNAL_SERVER_ERROR) {
+            throw e;
+        }
+        ErrorBodyTemplate template = ErrorBodyTemplate.of(errorCode);
+        return ResponseEntity.status(template.status())
+                .headers(errorResponse.getHeaders())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(template.render(null, request.getRequestURI()));
+    }
+
+    private static ResponseEntity<byte[]> respond(ErrorCode errorCode, String message, HttpServletRequest request) {
+        ErrorBodyTemplate template = ErrorBodyTemplate.of(errorCode);
+        return ResponseEntity.status(template.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(template.render(message, request.getRequestURI()));
+    }
+
+    /**
+     * Spring Security 클래스 참조를 분리 (클래스패스에 없으면 로드되지 않음)
+     */
+    private static final class SecurityExceptions {
+
+        static boolean isSecurityException(Exception e) {
+            return e instanceof AccessDeniedException || e instanceof AuthenticationException;
+        }
+    }
+}
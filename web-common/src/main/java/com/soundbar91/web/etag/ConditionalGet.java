@@ -0,0 +1,160 @@
+package com.soundbar91.web.etag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * ETag 기반 조건부 GET 처리기
+ *
+ * 단건 조회는 최근 발급한 검증자를 (resource, id) 단위로 캐시해, 일치하는 If-None-Match 요청에는
+ * DB 조회 없이 304를 반환합니다. 캐시가 없거나 불일치하면 엔티티를 조회하되,
+ * 태그가 일치하면 응답 DTO 변환과 직렬화 없이 304를 반환합니다.
+ * 목록 조회는 항상 DB를 조회하고, 직렬화만 생략합니다.
+ *
+ * 같은 인스턴스의 쓰기 API는 remember()/evict()로 캐시를 갱신해야 하며,
+ * 다른 경로(배치, 다른 인스턴스)의 변경은 validator-ttl 이내에서만 늦게 반영됩니다.
+ */
+public class ConditionalGet {
+
+    private static final String METRIC_NAME = "http.server.conditional.requests";
+
+    private final String representationVersion;
+    private final Cache<String, Validator> validators;
+    private final MeterRegistry meterRegistry;
+    // (resource, outcome) 별 카운터 캐시: 요청마다 빌더로 레지스트리를 조회하지 않음
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ConditionalGet(EntityTagProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.representationVersion = properties.representationVersion();
+        this.validators = properties.validatorTtl().isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(properties.validatorTtl())
+                .maximumSize(properties.maxValidators())
+                .build();
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    /**
+     * 단건 리소스 조건부 조회
+     */
+    public <E, R> ResponseEntity<R> single(String resource, Object id, String ifNoneMatch,
+                                           Supplier<E> loader,
+                                           Function<E, LocalDateTime> updatedAt,
+                                           Function<E, R> mapper) {
+        if (ifNoneMatch != null && validators != null) {
+            Validator cached = validators.getIfPresent(key(resource, id));
+            if (cached != null && !cached.isTombstone() && EntityTags.matches(ifNoneMatch, cached.etag())) {
+                count(resource, "validator_hit");
+                return notModified(cached.etag());
+            }
+        }
+
+        E entity = loader.get();
+        LocalDateTime version = updatedAt.apply(entity);
+        String etag = remember(resource, id, version);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            count(resource, "not_modified");
+            return notModified(etag);
+        }
+        count(resource, "modified");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(mapper.apply(entity));
+    }
+
+    /**
+     * 목록 조건부 조회 (DB 조회는 수행하고 직렬화만 생략)
+     */
+    public <E, R> ResponseEntity<List<R>> list(String resource, String ifNoneMatch,
+                                               Supplier<List<E>> loader,
+                                               ToLongFunction<E> idOf,
+                                               Function<E, LocalDateTime> updatedAt,
+                                               Function<E, R> mapper) {
+        List<E> entities = loader.get();
+        long[] ids = new long[entities.size()];
+        long[] versions = new long[entities.size()];
+        for (int i = 0; i < ids.length; i++) {
+            E entity = entities.get(i);
+            ids[i] = idOf.applyAsLong(entity);
+            versions[i] = EntityTags.toEpochMicros(updatedAt.apply(entity));
+        }
+        String etag = EntityTags.forList(representationVersion, resource, ids, versions);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            count(resource, "not_modified");
+            return notModified(etag);
+        }
+        count(resource, "modified");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(entities.stream().map(mapper).toList());
+    }
+
+    /**
+     * 리소스의 현재 버전으로 검증자를 갱신하고 태그를 반환
+     * 동시에 조회된 이전 버전이 최신 검증자를 덮어쓰지 않도록 더 최근 버전만 반영합니다.
+     */
+    public String remember(String resource, Object id, LocalDateTime updatedAt) {
+        String etag = EntityTags.forEntity(representationVersion, resource, id, updatedAt);
+        if (validators != null) {
+            Validator candidate = new Validator(etag, EntityTags.toEpochMicros(updatedAt));
+            validators.asMap().merge(key(resource, id), candidate,
+                    (current, next) -> next.version() >= current.version() ? next : current);
+        }
+        return etag;
+    }
+
+    /**
+     * 삭제된 리소스의 검증자 무효화
+     * 삭제 직전에 시작된 조회가 검증자를 되살리지 않도록 TTL 동안 tombstone을 남깁니다.
+     */
+    public void evict(String resource, Object id) {
+        if (validators != null) {
+            validators.put(key(resource, id), Validator.TOMBSTONE);
+        }
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .build();
+    }
+
+    private void count(String resource, String outcome) {
+        if (meterRegistry != null) {
+            counters.computeIfAbsent(resource + ' ' + outcome, key -> Counter.builder(METRIC_NAME)
+                            .tag("resource", resource)
+                            .tag("outcome", outcome)
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    private static String key(String resource, Object id) {
+        return resource + ':' + id;
+    }
+
+    private record Validator(String etag, long version) {
+
+        static final Validator TOMBSTONE = new Validator(null, Long.MAX_VALUE);
+
+        boolean isTombstone() {
+            return etag == null;
+        }
+    }
+}
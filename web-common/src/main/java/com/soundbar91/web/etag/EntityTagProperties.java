@@ -0,0 +1,36 @@
+package com.soundbar91.web.etag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 조건부 GET(ETag) 설정 속성
+ * application.yml에서 'web.etag' prefix로 시작하는 설정을 바인딩합니다.
+ *
+ * 사용 예시:
+ * web:
+ *   etag:
+ *     representation-version: "1"   # 응답 DTO 구조가 바뀌면 올려서 기존 태그를 무효화
+ *     validator-ttl: 30s            # 검증자 캐시 유지 시간 (0이면 캐시 미사용, 항상 DB 조회)
+ *     max-validators: 100000
+ */
+@ConfigurationProperties(prefix = "web.etag")
+public record EntityTagProperties(
+        String representationVersion,
+        Duration validatorTtl,
+        long maxValidators
+) {
+
+    public EntityTagProperties {
+        if (representationVersion == null || representationVersion.isBlank()) {
+            representationVersion = "1";
+        }
+        if (validatorTtl == null || validatorTtl.isNegative()) {
+            validatorTtl = Duration.ofSeconds(30);
+        }
+        if (maxValidators <= 0) {
+            maxValidators = 100_000;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.soundbar91.web.etag;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 약한(weak) ETag 생성 및 If-None-Match 비교 유틸리티
+ *
+ * 응답 본문이 아니라 엔티티의 수정 시각(updatedAt)과 표현 버전으로 태그를 만들기 때문에
+ * 직렬화 없이 계산할 수 있습니다. 압축 여부와 무관하게 같은 표현을 가리키므로 약한 태그를 사용합니다.
+ */
+public final class EntityTags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 단건 리소스 태그: W/"{resource}-{id}-{updatedAt(µs, hex)}-v{representationVersion}"
+     */
+    public static String forEntity(String representationVersion, String resource, Object id, LocalDateTime updatedAt) {
+        return WEAK_PREFIX + '"' + resource + '-' + id + '-' + Long.toHexString(toEpochMicros(updatedAt))
+                + "-v" + representationVersion + '"';
+    }
+
+    /**
+     * 목록 태그: 각 원소의 (id, updatedAt)을 순서대로 누적한 64비트 해시와 원소 수로 구성
+     */
+    public static String forList(String representationVersion, String resource, long[] ids, long[] updatedAtMicros) {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < ids.length; i++) {
+            hash = mix(hash ^ mix(ids[i]) ^ Long.rotateLeft(updatedAtMicros[i], 17));
+        }
+        return WEAK_PREFIX + '"' + resource + "-n" + ids.length + '-' + Long.toHexString(hash)
+                + "-v" + representationVersion + '"';
+    }
+
+    /**
+     * If-None-Match 헤더가 주어진 태그와 일치하는지 확인 (RFC 9110 약한 비교)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaqueTag(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
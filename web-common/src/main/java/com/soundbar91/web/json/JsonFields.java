@@ -0,0 +1,153 @@
+package com.soundbar91.web.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 스트리밍 직렬화기용 필드 쓰기 유틸리티
+ *
+ * 필드 이름과 enum 값은 미리 인코딩된 SerializedString으로 캐시해 쓰고,
+ * LocalDateTime은 DateTimeFormatter 없이 char 버퍼에 직접 포맷합니다.
+ * 출력은 Jackson 기본 직렬화(ISO_LOCAL_DATE_TIME, BigDecimal.toString, Enum.name)와 동일합니다.
+ */
+public final class JsonFields {
+
+    private static final int DATE_TIME_MAX_LENGTH = 29; // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+
+    private JsonFields() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static SerializedString name(String name) {
+        return new SerializedString(name);
+    }
+
+    /**
+     * ordinal 순서의 enum 이름 캐시
+     */
+    public static <E extends Enum<E>> SerializedString[] enumNames(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        SerializedString[] names = new SerializedString[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return names;
+    }
+
+    public static void writeLong(JsonGenerator gen, SerializableString name, Long value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    public static void writeInt(JsonGenerator gen, SerializableString name, Integer value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    public static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+
+    public static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    public static void writeDecimal(JsonGenerator gen, SerializableString name, BigDecimal value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    public static void writeEnum(JsonGenerator gen, SerializableString name, SerializableString[] names, Enum<?> value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    public static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        char[] buffer = new char[DATE_TIME_MAX_LENGTH];
+        int length = formatDateTime(value, buffer);
+        if (length < 0) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    /**
+     * ISO_LOCAL_DATE_TIME과 동일한 형식으로 포맷 (초는 항상, 소수부는 0이 아닐 때 뒤쪽 0을 제거해 출력)
+     * 0 ~ 9999년 범위를 벗어나면 -1을 반환하며, 호출자는 DateTimeFormatter로 대체해야 합니다.
+     */
+    static int formatDateTime(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = 0;
+        pos = writeDigits(buffer, pos, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            pos = writeDigits(buffer, pos, nano, digits);
+        }
+        return pos;
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
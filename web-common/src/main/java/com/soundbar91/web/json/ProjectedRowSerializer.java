@@ -0,0 +1,56 @@
+package com.soundbar91.web.json;
+
+import com.soundbar91.common.projection.ProjectedRow;
+import com.soundbar91.common.projection.SelectableField;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선택 조회 결과(ProjectedRow) 직렬화기
+ * 선택된 필드만 응답 DTO와 같은 이름·형식으로 기록합니다.
+ * WebResponseAutoConfiguration이 JacksonModule로 한 번만 등록합니다. (컴포넌트 스캔 대상 아님)
+ */
+public class ProjectedRowSerializer extends StdSerializer<ProjectedRow> {
+
+    private final Map<SelectableField, SerializedString> names = new ConcurrentHashMap<>();
+
+    public ProjectedRowSerializer() {
+        super(ProjectedRow.class);
+    }
+
+    @Override
+    public void serialize(ProjectedRow row, JsonGenerator gen, SerializationContext context) {
+        List<? extends SelectableField> fields = row.fields();
+        gen.writeStartObject(row);
+        for (int i = 0; i < fields.size(); i++) {
+            SerializedString name = names.computeIfAbsent(fields.get(i), field -> JsonFields.name(field.attribute()));
+            Object value = row.get(i);
+            switch (value) {
+                case null -> {
+                    gen.writeName(name);
+                    gen.writeNull();
+                }
+                case Long number -> JsonFields.writeLong(gen, name, number);
+                case Integer number -> JsonFields.writeInt(gen, name, number);
+                case BigDecimal number -> JsonFields.writeDecimal(gen, name, number);
+                case Boolean bool -> JsonFields.writeBoolean(gen, name, bool);
+                case String text -> JsonFields.writeString(gen, name, text);
+                case LocalDateTime dateTime -> JsonFields.writeDateTime(gen, name, dateTime);
+                case Enum<?> constant -> JsonFields.writeString(gen, name, constant.name());
+                default -> {
+                    gen.writeName(name);
+                    context.writeValue(gen, value);
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+}
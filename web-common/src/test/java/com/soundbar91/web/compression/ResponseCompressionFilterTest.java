@@ -0,0 +1,103 @@
+package com.soundbar91.web.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCompressionFilter 테스트")
+class ResponseCompressionFilterTest {
+
+    private static final String LARGE_JSON = "[" + "{\"id\":1,\"name\":\"테스트 상점\",\"category\":\"CAFE\"},".repeat(200) + "{}]";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CompressionProperties properties = new CompressionProperties(
+                true, DataSize.ofKilobytes(1), List.of("application/json"), List.of("/api/"), 6, 5);
+        filter = new ResponseCompressionFilter(properties, meterRegistry, false);
+    }
+
+    private MockHttpServletResponse perform(String uri, String acceptEncoding, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("큰 JSON 응답은 gzip으로 압축하고 절감량을 기록한다")
+    void largeResponse_IsGzipped() throws Exception {
+        // when
+        MockHttpServletResponse response = perform("/api/v2/shops", "gzip, deflate, br", LARGE_JSON);
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        byte[] decoded = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertThat(new String(decoded, StandardCharsets.UTF_8)).isEqualTo(LARGE_JSON);
+        assertThat(meterRegistry.get("http.server.compression.saved").tag("encoding", "gzip").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 응답은 압축하지 않는다")
+    void smallResponse_IsNotCompressed() throws Exception {
+        // when
+        MockHttpServletResponse response = perform("/api/v2/shops/1", "gzip", "{\"id\":1}");
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하지 않거나 대상 경로가 아니면 압축하지 않는다")
+    void notAcceptedOrOutOfPath_IsNotCompressed() throws Exception {
+        // when
+        MockHttpServletResponse refused = perform("/api/v2/shops", "gzip;q=0, identity", LARGE_JSON);
+        MockHttpServletResponse outOfPath = perform("/actuator/metrics", "gzip", LARGE_JSON);
+
+        // then
+        assertThat(refused.getHeader("Content-Encoding")).isNull();
+        assertThat(outOfPath.getHeader("Content-Encoding")).isNull();
+        assertThat(outOfPath.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    @DisplayName("압축 카운터는 생성 시 한 번 등록하고 요청마다 누적한다")
+    void counters_AreRegisteredOnceAndAccumulate() throws Exception {
+        // given
+        int meters = meterRegistry.getMeters().size();
+
+        // when
+        perform("/api/v2/shops", "gzip", LARGE_JSON);
+        perform("/api/v2/shops", "gzip", LARGE_JSON);
+
+        // then
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("http.server.compression.original").tag("encoding", "gzip").counter().count())
+                .isEqualTo(2.0 * LARGE_JSON.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
@@ -0,0 +1,129 @@
+package com.soundbar91.web.error;
+
+import com.soundbar91.common.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GlobalExceptionHandler 테스트")
+class GlobalExceptionHandlerTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v2/orders");
+
+    @Nested
+    @DisplayName("스택 트레이스 설정")
+    class StackTrace {
+
+        @AfterEach
+        void tearDown() {
+            BusinessException.setStackTraceEnabled(false);
+        }
+
+        @Test
+        @DisplayName("web.error.stack-trace를 지정하지 않으면 기존 설정(-Dnuga.exception.stack-trace)을 유지한다")
+        void constructor_WithoutStackTraceProperty_KeepsCurrentSetting() {
+            // given
+            BusinessException.setStackTraceEnabled(true);
+
+            // when
+            new GlobalExceptionHandler(new ErrorHandlingProperties(null));
+
+            // then
+            assertThat(BusinessException.isStackTraceEnabled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("web.error.stack-trace를 지정하면 그 값으로 덮어쓴다")
+        void constructor_WithStackTraceProperty_OverridesSetting() {
+            // given
+            BusinessException.setStackTraceEnabled(true);
+
+            // when
+            new GlobalExceptionHandler(new ErrorHandlingProperties(false));
+
+            // then
+            assertThat(BusinessException.isStackTraceEnabled()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("처리되지 않은 예외")
+    class Unhandled {
+
+        private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new ErrorHandlingProperties(null));
+
+        @Test
+        @DisplayName("지원하지 않는 메서드는 405와 Allow 헤더로 응답한다")
+        void handleException_WithMethodNotSupported_Returns405() throws Exception {
+            // when
+            ResponseEntity<byte[]> response = handler.handleException(
+                    new HttpRequestMethodNotSupportedException("POST", List.of("GET")), request);
+
+            // then
+            assertThat(response.getStatusCode().value()).isEqualTo(405);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.ALLOW)).isEqualTo("GET");
+            assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"code\":\"E004\"");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 미디어 타입은 415로 응답한다")
+        void handleException_WithMediaTypeNotSupported_Returns415() throws Exception {
+            // when
+            ResponseEntity<byte[]> response = handler.handleException(
+                    new HttpMediaTypeNotSupportedException(MediaType.TEXT_PLAIN, List.of(MediaType.APPLICATION_JSON)),
+                    request);
+
+            // then
+            assertThat(response.getStatusCode().value()).isEqualTo(415);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("대응하는 ErrorCode가 없는 표준 예외는 Spring 기본 처리에 맡긴다")
+        void handleException_WithUnmappedErrorResponse_Rethrows() {
+            // given
+            AsyncRequestTimeoutException exception = new AsyncRequestTimeoutException();
+
+            // when & then
+            assertThatThrownBy(() -> handler.handleException(exception, request)).isSameAs(exception);
+        }
+
+        @Test
+        @DisplayName("Spring Security 예외는 다시 던진다")
+        void handleException_WithSecurityException_Rethrows() {
+            // given
+            AccessDeniedException accessDenied = new AccessDeniedException("denied");
+            BadCredentialsException badCredentials = new BadCredentialsException("bad");
+
+            // when & then
+            assertThatThrownBy(() -> handler.handleException(accessDenied, request)).isSameAs(accessDenied);
+            assertThatThrownBy(() -> handler.handleException(badCredentials, request)).isSameAs(badCredentials);
+        }
+
+        @Test
+        @DisplayName("그 외 예외는 500으로 응답한다")
+        void handleException_WithUnknownException_Returns500() throws Exception {
+            // when
+            ResponseEntity<byte[]> response = handler.handleException(new IllegalStateException("boom"), request);
+
+            // then
+            assertThat(response.getStatusCode().value()).isEqualTo(500);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.soundbar91.web.etag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ConditionalGet 테스트")
+class ConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+
+    private ConditionalGet conditionalGet;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        conditionalGet = new ConditionalGet(
+                new EntityTagProperties("1", Duration.ofMinutes(1), 100),
+                mock(ObjectProvider.class));
+        loads = new AtomicInteger();
+    }
+
+    private ResponseEntity<String> getItem(String ifNoneMatch, LocalDateTime updatedAt) {
+        return conditionalGet.single("item", 1L, ifNoneMatch,
+                () -> {
+                    loads.incrementAndGet();
+                    return updatedAt;
+                },
+                at -> at, at -> "body-" + at);
+    }
+
+    @Nested
+    @DisplayName("단건 조회")
+    class Single {
+
+        @Test
+        @DisplayName("If-None-Match가 없으면 200과 약한 ETag를 반환한다")
+        void withoutIfNoneMatch_Returns200WithWeakETag() {
+            // when
+            ResponseEntity<String> response = getItem(null, UPDATED_AT);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).startsWith("W/\"item-1-");
+            assertThat(response.getBody()).isEqualTo("body-" + UPDATED_AT);
+        }
+
+        @Test
+        @DisplayName("캐시된 검증자와 일치하면 엔티티를 조회하지 않고 304를 반환한다")
+        void withCachedValidator_Returns304WithoutLoading() {
+            // given
+            String etag = getItem(null, UPDATED_AT).getHeaders().getETag();
+
+            // when
+            ResponseEntity<String> response = getItem(etag, UPDATED_AT);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("수정 후 remember()로 갱신되면 이전 태그는 200을 반환한다")
+        void afterRemember_OldTagReturns200() {
+            // given
+            String oldTag = getItem(null, UPDATED_AT).getHeaders().getETag();
+            LocalDateTime modified = UPDATED_AT.plusSeconds(1);
+            conditionalGet.remember("item", 1L, modified);
+
+            // when
+            ResponseEntity<String> response = getItem(oldTag, modified);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(oldTag);
+        }
+
+        @Test
+        @DisplayName("이전 버전이 늦게 기록되어도 최신 검증자를 덮어쓰지 않는다")
+        void staleRemember_DoesNotOverwriteNewerValidator() {
+            // given
+            LocalDateTime modified = UPDATED_AT.plusSeconds(1);
+            String newTag = conditionalGet.remember("item", 1L, modified);
+
+            // when
+            conditionalGet.remember("item", 1L, UPDATED_AT);
+            ResponseEntity<String> response = getItem(newTag, modified);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("evict() 이후에는 캐시된 검증자를 사용하지 않는다")
+        void afterEvict_LoadsEntity() {
+            // given
+            String etag = getItem(null, UPDATED_AT).getHeaders().getETag();
+            conditionalGet.evict("item", 1L);
+
+            // when
+            getItem(etag, UPDATED_AT);
+
+            // then
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 조회")
+    class ListQuery {
+
+        private ResponseEntity<List<String>> getList(String ifNoneMatch, List<Long> ids) {
+            return conditionalGet.list("items", ifNoneMatch, () -> ids,
+                    id -> id, id -> UPDATED_AT.plusSeconds(id), String::valueOf);
+        }
+
+        @Test
+        @DisplayName("같은 목록에 대한 If-None-Match 요청은 304를 반환한다")
+        void sameList_Returns304() {
+            // given
+            String etag = getList(null, List.of(1L, 2L)).getHeaders().getETag();
+
+            // when
+            ResponseEntity<List<String>> response = getList(etag, List.of(1L, 2L));
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+
+        @Test
+        @DisplayName("원소가 추가되거나 순서가 바뀌면 태그가 달라진다")
+        void changedList_ProducesDifferentTag() {
+            // when
+            String original = getList(null, List.of(1L, 2L)).getHeaders().getETag();
+            String added = getList(null, List.of(1L, 2L, 3L)).getHeaders().getETag();
+            String reordered = getList(null, List.of(2L, 1L)).getHeaders().getETag();
+
+            // then
+            assertThat(added).isNotEqualTo(original);
+            assertThat(reordered).isNotEqualTo(original);
+        }
+    }
+
+    @Nested
+    @DisplayName("EntityTags.matches")
+    class Matches {
+
+        @Test
+        @DisplayName("약한 비교로 여러 태그와 와일드카드를 처리한다")
+        void weakComparison() {
+            // given
+            String etag = "W/\"item-1-abc-v1\"";
+
+            // then
+            assertThat(EntityTags.matches("\"item-1-abc-v1\"", etag)).isTrue();
+            assertThat(EntityTags.matches("W/\"other\", W/\"item-1-abc-v1\"", etag)).isTrue();
+            assertThat(EntityTags.matches("*", etag)).isTrue();
+            assertThat(EntityTags.matches("W/\"item-1-abc-v2\"", etag)).isFalse();
+            assertThat(EntityTags.matches(null, etag)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.soundbar91.web.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonFields 테스트")
+class JsonFieldsTest {
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "2026-01-01T00:00:00",
+            "2026-12-31T23:59:59.5",
+            "2026-03-09T07:05:03.120",
+            "2026-06-15T12:30:45.123456",
+            "2026-06-15T12:30:45.000000001",
+            "0001-02-03T04:05:06.999999999",
+            "9999-12-31T23:59"
+    })
+    @DisplayName("LocalDateTime 포맷이 ISO_LOCAL_DATE_TIME과 동일하다")
+    void formatDateTime_MatchesIsoLocalDateTime(String text) {
+        // given
+        LocalDateTime value = LocalDateTime.parse(text);
+        char[] buffer = new char[29];
+
+        // when
+        int length = JsonFields.formatDateTime(value, buffer);
+
+        // then
+        assertThat(new String(buffer, 0, length)).isEqualTo(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"+10000-01-01T00:00:00", "-0001-01-01T00:00:00"})
+    @DisplayName("0 ~ 9999년 범위를 벗어나면 -1을 반환한다")
+    void formatDateTime_OutOfRange_ReturnsMinusOne(String text) {
+        // when
+        int length = JsonFields.formatDateTime(LocalDateTime.parse(text), new char[29]);
+
+        // then
+        assertThat(length).isEqualTo(-1);
+    }
+}